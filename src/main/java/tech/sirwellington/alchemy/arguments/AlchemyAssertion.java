@@ -53,4 +53,50 @@ public interface AlchemyAssertion<Argument>
      */
     void check(@Optional Argument argument) throws FailedAssertionException;
 
+    /**
+     * Evaluates the argument without throwing, for callers that only want to know whether it is valid.
+     * <p>
+     * By default this runs {@link #check(Object)} and catches the failure. The built-in assertions
+     * override it so that a failing argument does not create an exception at all.
+     *
+     * @param argument The argument to validate
+     * @return {@link ValidationResult#valid()} if the argument passes, otherwise a result describing why it failed.
+     * @see #test(Object)
+     */
+    default ValidationResult evaluate(@Optional Argument argument)
+    {
+        try
+        {
+            check(argument);
+            return ValidationResult.valid();
+        }
+        catch (FailedAssertionException ex)
+        {
+            return ValidationResult.failedWith(ex);
+        }
+    }
+
+    /**
+     * Tests the argument without throwing, for when only a pass or fail is needed, such as in
+     * {@code not(...)}, where the inner assertion failing is the expected outcome.
+     * <p>
+     * By default this runs {@link #check(Object)} and catches the failure. The built-in assertions
+     * override it so that no exception is created.
+     *
+     * @param argument The argument to test
+     * @return true if the argument passes, false otherwise.
+     */
+    default boolean test(@Optional Argument argument)
+    {
+        try
+        {
+            check(argument);
+            return true;
+        }
+        catch (FailedAssertionException ex)
+        {
+            return false;
+        }
+    }
+
 }
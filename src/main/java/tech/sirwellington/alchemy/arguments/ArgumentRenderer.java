@@ -0,0 +1,312 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+
+import tech.sirwellington.alchemy.annotations.access.Internal;
+import tech.sirwellington.alchemy.annotations.access.NonInstantiable;
+import tech.sirwellington.alchemy.annotations.arguments.Optional;
+
+/**
+ * Renders the arguments put into failure messages, so that a failed check on a 20 MB String or a
+ * million-entry Map still builds a short message, in time that does not grow with the argument.
+ * <p>
+ * Each argument is cut to {@linkplain #setMaxLength(int) a maximum length}. Collections, Maps and arrays are
+ * rendered like their {@code toString()}, but only up to {@linkplain #setMaxElements(int) a number of elements},
+ * and only {@linkplain #setMaxDepth(int) so deep}. For example:
+ * <pre>
+ * {@code
+ * [1, 2, 3, ... (1000000 elements)]
+ * abcdefgh... (20971520 chars)
+ * }
+ * </pre>
+ * Other objects are rendered with their own {@code toString()}, and then cut.
+ * <p>
+ * The limits apply to every message rendered from now on, and can also be set with the
+ * {@code tech.sirwellington.alchemy.arguments.render.maxLength}, {@code .maxElements} and {@code .maxDepth}
+ * system properties. Messages are still only rendered when they are read.
+ *
+ * @author SirWellington
+ */
+@NonInstantiable
+public final class ArgumentRenderer
+{
+
+    public static final int DEFAULT_MAX_LENGTH = 1024;
+    public static final int DEFAULT_MAX_ELEMENTS = 64;
+    public static final int DEFAULT_MAX_DEPTH = 4;
+
+    static final String MAX_LENGTH_PROPERTY = "tech.sirwellington.alchemy.arguments.render.maxLength";
+    static final String MAX_ELEMENTS_PROPERTY = "tech.sirwellington.alchemy.arguments.render.maxElements";
+    static final String MAX_DEPTH_PROPERTY = "tech.sirwellington.alchemy.arguments.render.maxDepth";
+
+    private static volatile int maxLength = positiveProperty(MAX_LENGTH_PROPERTY, DEFAULT_MAX_LENGTH);
+    private static volatile int maxElements = positiveProperty(MAX_ELEMENTS_PROPERTY, DEFAULT_MAX_ELEMENTS);
+    private static volatile int maxDepth = positiveProperty(MAX_DEPTH_PROPERTY, DEFAULT_MAX_DEPTH);
+
+    ArgumentRenderer() throws IllegalAccessException
+    {
+        throw new IllegalAccessException("cannot instantiate");
+    }
+
+    /**
+     * @param maxLength How many characters of each argument to render. Must be positive.
+     */
+    public static void setMaxLength(int maxLength)
+    {
+        Checks.checkThat(maxLength > 0, "maxLength must be > 0");
+
+        ArgumentRenderer.maxLength = maxLength;
+    }
+
+    /**
+     * @param maxElements How many elements of each Collection, Map or array to render. Must be positive.
+     */
+    public static void setMaxElements(int maxElements)
+    {
+        Checks.checkThat(maxElements > 0, "maxElements must be > 0");
+
+        ArgumentRenderer.maxElements = maxElements;
+    }
+
+    /**
+     * @param maxDepth How many levels of nested Collections, Maps and arrays to render. Must be positive.
+     */
+    public static void setMaxDepth(int maxDepth)
+    {
+        Checks.checkThat(maxDepth > 0, "maxDepth must be > 0");
+
+        ArgumentRenderer.maxDepth = maxDepth;
+    }
+
+    public static int getMaxLength()
+    {
+        return maxLength;
+    }
+
+    public static int getMaxElements()
+    {
+        return maxElements;
+    }
+
+    public static int getMaxDepth()
+    {
+        return maxDepth;
+    }
+
+    /**
+     * @return The argument, rendered within the current limits.
+     */
+    public static String render(@Optional Object argument)
+    {
+        return render(argument, maxLength);
+    }
+
+    @Internal
+    static String render(Object argument, int maxLength)
+    {
+        StringBuilder builder = new StringBuilder();
+        append(builder, argument, maxLength);
+        return builder.toString();
+    }
+
+    @Internal
+    static void append(StringBuilder builder, Object argument)
+    {
+        append(builder, argument, maxLength);
+    }
+
+    private static void append(StringBuilder builder, Object argument, int maxLength)
+    {
+        new Rendering(builder, maxLength, maxElements, maxDepth).append(argument, 0);
+    }
+
+    private static int positiveProperty(String property, int defaultValue)
+    {
+        Integer value = Integer.getInteger(property);
+
+        return value != null && value > 0 ? value : defaultValue;
+    }
+
+    /**
+     * Renders one argument into a builder, stopping once it has used up the maximum length.
+     */
+    private static final class Rendering
+    {
+
+        private final StringBuilder builder;
+        private final int end;
+        private final int maxElements;
+        private final int maxDepth;
+
+        private Rendering(StringBuilder builder, int maxLength, int maxElements, int maxDepth)
+        {
+            this.builder = builder;
+            this.end = builder.length() + maxLength;
+            this.maxElements = maxElements;
+            this.maxDepth = maxDepth;
+        }
+
+        private void append(Object value, int depth)
+        {
+            if (value == null)
+            {
+                appendText("null");
+            }
+            else if (value instanceof CharSequence)
+            {
+                appendText((CharSequence) value);
+            }
+            else if (value.getClass().isArray())
+            {
+                appendArray(value, depth);
+            }
+            else if (value instanceof Collection)
+            {
+                appendCollection((Collection<?>) value, depth);
+            }
+            else if (value instanceof Map)
+            {
+                appendMap((Map<?, ?>) value, depth);
+            }
+            else
+            {
+                appendText(String.valueOf(value));
+            }
+        }
+
+        private void appendText(CharSequence text)
+        {
+            int remaining = Math.max(end - builder.length(), 0);
+
+            if (text.length() <= remaining)
+            {
+                builder.append(text);
+                return;
+            }
+
+            builder.append(text, 0, remaining)
+                   .append("... (")
+                   .append(text.length())
+                   .append(" chars)");
+        }
+
+        private void appendArray(Object array, int depth)
+        {
+            int length = Array.getLength(array);
+
+            if (depth >= maxDepth)
+            {
+                builder.append("[...]");
+                return;
+            }
+
+            builder.append('[');
+
+            for (int i = 0; i < length; i++)
+            {
+                if (!appendSeparator(i, length))
+                {
+                    break;
+                }
+
+                append(Array.get(array, i), depth + 1);
+            }
+
+            builder.append(']');
+        }
+
+        private void appendCollection(Collection<?> collection, int depth)
+        {
+            if (depth >= maxDepth)
+            {
+                builder.append("[...]");
+                return;
+            }
+
+            int size = collection.size();
+            Iterator<?> iterator = collection.iterator();
+
+            builder.append('[');
+
+            for (int i = 0; iterator.hasNext(); i++)
+            {
+                if (!appendSeparator(i, size))
+                {
+                    break;
+                }
+
+                Object element = iterator.next();
+                append(element == collection ? "(this Collection)" : element, depth + 1);
+            }
+
+            builder.append(']');
+        }
+
+        private void appendMap(Map<?, ?> map, int depth)
+        {
+            if (depth >= maxDepth)
+            {
+                builder.append("{...}");
+                return;
+            }
+
+            int size = map.size();
+            Iterator<? extends Map.Entry<?, ?>> iterator = map.entrySet().iterator();
+
+            builder.append('{');
+
+            for (int i = 0; iterator.hasNext(); i++)
+            {
+                if (!appendSeparator(i, size))
+                {
+                    break;
+                }
+
+                Map.Entry<?, ?> entry = iterator.next();
+                append(entry.getKey() == map ? "(this Map)" : entry.getKey(), depth + 1);
+                builder.append('=');
+                append(entry.getValue() == map ? "(this Map)" : entry.getValue(), depth + 1);
+            }
+
+            builder.append('}');
+        }
+
+        /**
+         * @return false if no more elements should be rendered, in which case it says how many there were.
+         */
+        private boolean appendSeparator(int index, int size)
+        {
+            if (index > 0)
+            {
+                builder.append(", ");
+            }
+
+            if (index >= maxElements || builder.length() >= end)
+            {
+                builder.append("... (").append(size).append(" elements)");
+                return false;
+            }
+
+            return true;
+        }
+
+    }
+
+}
@@ -15,8 +15,6 @@
 
 package tech.sirwellington.alchemy.arguments;
 
-import java.util.*;
-
 import tech.sirwellington.alchemy.annotations.access.NonInstantiable;
 import tech.sirwellington.alchemy.annotations.arguments.Optional;
 import tech.sirwellington.alchemy.annotations.designs.FluidAPIDesign;
@@ -50,19 +48,130 @@ public final class Arguments
 
     public static <Argument> AssertionBuilder<Argument, FailedAssertionException> checkThat(@Optional Argument argument)
     {
-        return AssertionBuilderImpl.checkThat(Collections.singletonList(argument));
+        return SingleArgumentAssertionBuilder.checkThat(argument);
+    }
+
+    /**
+     * Checks an {@code int} without boxing it, when used with {@linkplain IntAssertion IntAssertions}
+     * such as {@code greaterThan(int)} or {@code validPort()}.
+     */
+    public static IntAssertionBuilder<FailedAssertionException> checkThat(int argument)
+    {
+        return IntAssertionBuilderImpl.checkThat(argument);
+    }
+
+    /**
+     * Checks a {@code long} without boxing it, when used with {@linkplain LongAssertion LongAssertions}
+     * such as {@code greaterThan(long)} or {@code positiveLong()}.
+     */
+    public static LongAssertionBuilder<FailedAssertionException> checkThat(long argument)
+    {
+        return LongAssertionBuilderImpl.checkThat(argument);
+    }
+
+    /**
+     * Checks a {@code double} without boxing it, when used with {@linkplain DoubleAssertion DoubleAssertions}
+     * such as {@code greaterThan(double)} or {@code validLatitude()}.
+     */
+    public static DoubleAssertionBuilder<FailedAssertionException> checkThat(double argument)
+    {
+        return DoubleAssertionBuilderImpl.checkThat(argument);
+    }
+
+    /*
+     * Without these, Java would widen a char, byte or short to checkThat(int), and a float to checkThat(double),
+     * instead of boxing it for the generic checkThat() as it did before the primitive overloads were added.
+     */
+
+    public static AssertionBuilder<Character, FailedAssertionException> checkThat(char argument)
+    {
+        return SingleArgumentAssertionBuilder.checkThat(argument);
+    }
+
+    public static AssertionBuilder<Byte, FailedAssertionException> checkThat(byte argument)
+    {
+        return SingleArgumentAssertionBuilder.checkThat(argument);
+    }
+
+    public static AssertionBuilder<Short, FailedAssertionException> checkThat(short argument)
+    {
+        return SingleArgumentAssertionBuilder.checkThat(argument);
+    }
+
+    public static AssertionBuilder<Float, FailedAssertionException> checkThat(float argument)
+    {
+        return SingleArgumentAssertionBuilder.checkThat(argument);
+    }
+
+    /**
+     * Checks two arguments against the same assertions, without allocating a varargs array.
+     */
+    public static <Argument> AssertionBuilder<Argument, FailedAssertionException> checkThat(@Optional Argument first,
+                                                                                            @Optional Argument second)
+    {
+        return AssertionBuilderImpl.checkThat(first, second);
+    }
+
+    /**
+     * Checks three arguments against the same assertions, without allocating a varargs array.
+     */
+    public static <Argument> AssertionBuilder<Argument, FailedAssertionException> checkThat(@Optional Argument first,
+                                                                                            @Optional Argument second,
+                                                                                            @Optional Argument third)
+    {
+        return AssertionBuilderImpl.checkThat(first, second, third);
+    }
+
+    /**
+     * Checks four arguments against the same assertions, without allocating a varargs array.
+     */
+    public static <Argument> AssertionBuilder<Argument, FailedAssertionException> checkThat(@Optional Argument first,
+                                                                                            @Optional Argument second,
+                                                                                            @Optional Argument third,
+                                                                                            @Optional Argument fourth)
+    {
+        return AssertionBuilderImpl.checkThat(first, second, third, fourth);
     }
 
     public static <Argument> AssertionBuilder<Argument, FailedAssertionException> checkThat(@Optional Argument argument, @Optional Argument... others)
     {
-        List<Argument> listOfArguments = new ArrayList<>();
-        listOfArguments.add(argument);
+        return AssertionBuilderImpl.checkThat(argument, others);
+    }
 
-        if (others.length > 0)
-        {
-            listOfArguments.addAll(Arrays.asList(others));
-        }
+    /**
+     * Tests an argument without throwing. Use this instead of {@link #checkThat(Object)} when invalid
+     * arguments are expected, and only need to be filtered out.
+     * <pre>
+     * {@code
+     * if (Arguments.test(record).is(validRecord()).isValid())
+     * {
+     *      //...
+     * }
+     * }
+     * </pre>
+     *
+     * @see TestBuilder
+     */
+    public static <Argument> TestBuilder<Argument> test(@Optional Argument argument)
+    {
+        return TestBuilderImpl.test(argument);
+    }
 
-        return AssertionBuilderImpl.checkThat(listOfArguments);
+    /**
+     * Begins building a reusable {@link Validator}.
+     * <pre>
+     * {@code
+     * Validator<String, FailedAssertionException> validator = Arguments.<String>validator()
+     *      .is(nonEmptyString())
+     *      .is(stringWithLengthLessThan(100))
+     *      .build();
+     * }
+     * </pre>
+     *
+     * @see Validator
+     */
+    public static <Argument> ValidatorBuilder<Argument, FailedAssertionException> validator()
+    {
+        return ValidatorBuilderImpl.newInstance();
     }
 }
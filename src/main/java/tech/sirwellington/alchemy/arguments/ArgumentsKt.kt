@@ -26,10 +26,65 @@ fun <Argument : Any?> checkThat(@Optional argument: Argument): AssertionBuilder<
     return Arguments.checkThat(argument)
 }
 
+/**
+ * Kotlin shortcut for [Arguments.checkThat], which does not box the [argument].
+ */
+fun checkThat(argument: Int): IntAssertionBuilder<FailedAssertionException>
+{
+    return Arguments.checkThat(argument)
+}
+
+/**
+ * Kotlin shortcut for [Arguments.checkThat], which does not box the [argument].
+ */
+fun checkThat(argument: Long): LongAssertionBuilder<FailedAssertionException>
+{
+    return Arguments.checkThat(argument)
+}
+
+/**
+ * Kotlin shortcut for [Arguments.checkThat], which does not box the [argument].
+ */
+fun checkThat(argument: Double): DoubleAssertionBuilder<FailedAssertionException>
+{
+    return Arguments.checkThat(argument)
+}
+
+/**
+ * Kotlin shortcut for [Arguments.checkThat], for two arguments.
+ */
+fun <Argument : Any?> checkThat(@Optional first: Argument, @Optional second: Argument): AssertionBuilder<Argument, FailedAssertionException>
+{
+    return Arguments.checkThat(first, second)
+}
+
+/**
+ * Kotlin shortcut for [Arguments.checkThat], for three arguments.
+ */
+fun <Argument : Any?> checkThat(@Optional first: Argument,
+                                @Optional second: Argument,
+                                @Optional third: Argument): AssertionBuilder<Argument, FailedAssertionException>
+{
+    return Arguments.checkThat(first, second, third)
+}
+
+/**
+ * Kotlin shortcut for [Arguments.checkThat], for four arguments.
+ */
+fun <Argument : Any?> checkThat(@Optional first: Argument,
+                                @Optional second: Argument,
+                                @Optional third: Argument,
+                                @Optional fourth: Argument): AssertionBuilder<Argument, FailedAssertionException>
+{
+    return Arguments.checkThat(first, second, third, fourth)
+}
+
 /**
  * Kotlin shortcut for [Arguments.checkThat].
  */
 fun <Argument : Any?> checkThat(@Optional argument: Argument, vararg others: Argument): AssertionBuilder<Argument, FailedAssertionException>
 {
-    return Arguments.checkThat(argument, *others)
+    //Passes the vararg array along directly, since spreading it into Arguments.checkThat() would copy it
+    @Suppress("UNCHECKED_CAST")
+    return AssertionBuilderImpl.checkThat(argument, others as Array<Argument>)
 }
\ No newline at end of file
@@ -128,4 +128,23 @@ public interface AssertionBuilder<Argument, Ex extends Throwable>
      */
     <Ex extends Throwable> AssertionBuilder<Argument, Ex> throwing(@Required Class<Ex> exceptionClass);
 
+    /**
+     * Skips filling in stack traces for the exceptions created when an argument fails an assertion.
+     * This makes failures considerably cheaper, and is useful where invalid arguments are common and expected.
+     * <p>
+     * This applies to any {@link FailedAssertionException}, and to exceptions created from a
+     * {@linkplain #throwing(Class) class} that has a public {@code (String, Throwable, boolean, boolean)} constructor.
+     * <p>
+     * The builders in this library override this. Other implementations keep their stack traces, and return
+     * themselves unchanged.
+     *
+     * @return
+     *
+     * @see FailedAssertionException#setStackTracesEnabled(boolean)
+     */
+    default AssertionBuilder<Argument, Ex> withoutStackTraces()
+    {
+        return this;
+    }
+
 }
@@ -16,19 +16,22 @@ package tech.sirwellington.alchemy.arguments;
 
 import java.util.List;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import tech.sirwellington.alchemy.annotations.access.Internal;
 import tech.sirwellington.alchemy.annotations.concurrency.Immutable;
 import tech.sirwellington.alchemy.annotations.designs.FluidAPIDesign;
 import tech.sirwellington.alchemy.annotations.designs.patterns.StrategyPattern;
 
 import static tech.sirwellington.alchemy.annotations.designs.patterns.StrategyPattern.Role.CLIENT;
-import static tech.sirwellington.alchemy.arguments.Checks.isNullOrEmpty;
-import static tech.sirwellington.alchemy.arguments.ExceptionMapper.IDENTITY;
 
 /**
+ * Checks multiple arguments at once.
+ * <p>
+ * Up to four arguments are held in fields rather than in a collection, so that the common
+ * {@code checkThat(firstName, middleName, lastName)} does not allocate anything but the builder.
+ * Any further arguments are kept in the array they were passed in.
+ *
  * @author SirWellington
+ * @see SingleArgumentAssertionBuilder
  */
 @FluidAPIDesign
 @StrategyPattern(role = CLIENT)
@@ -37,159 +40,155 @@ import static tech.sirwellington.alchemy.arguments.ExceptionMapper.IDENTITY;
 final class AssertionBuilderImpl<Argument, Ex extends Throwable> implements AssertionBuilder<Argument, Ex>
 {
 
-    private final static Logger LOG = LoggerFactory.getLogger(AssertionBuilderImpl.class);
+    private static final Object[] NO_OTHERS = new Object[0];
 
-    private final AlchemyAssertion<Argument> assertion;
-    private final ExceptionMapper<Ex> exceptionMapper;
-    @Immutable
-    private final List<Argument> arguments;
-    private final String overrideMessage;
+    private final AssertionRunner<Ex> runner;
 
-    private AssertionBuilderImpl(AlchemyAssertion<Argument> assertion,
-                                 ExceptionMapper<Ex> exceptionMapper,
-                                 String overrideMessage,
-                                 List<Argument> arguments)
+    /**
+     * How many of {@link #first}, {@link #second}, {@link #third} and {@link #fourth} are in use.
+     */
+    private final int count;
+    private final Argument first;
+    private final Argument second;
+    private final Argument third;
+    private final Argument fourth;
+    @Immutable
+    private final Argument[] others;
+
+    private AssertionBuilderImpl(AssertionRunner<Ex> runner,
+                                 int count,
+                                 Argument first,
+                                 Argument second,
+                                 Argument third,
+                                 Argument fourth,
+                                 Argument[] others)
     {
-        this.assertion = assertion;
-        this.exceptionMapper = exceptionMapper;
-        this.overrideMessage = overrideMessage;
-        this.arguments = arguments;
+        this.runner = runner;
+        this.count = count;
+        this.first = first;
+        this.second = second;
+        this.third = third;
+        this.fourth = fourth;
+        this.others = others;
     }
 
-    @Override
-    public AssertionBuilder<Argument, Ex> usingMessage(String message)
+    @SuppressWarnings("unchecked")
+    static <Argument> AssertionBuilderImpl<Argument, FailedAssertionException> checkThat(List<Argument> arguments)
     {
-        Checks.checkThat(!isNullOrEmpty(message), "error message is empty");
+        Argument[] others = arguments != null ? (Argument[]) arguments.toArray() : noOthers();
 
-        ExceptionMapper<Ex> newExceptionMapper;
-        if (exceptionMapper instanceof DynamicExceptionSupplier)
-        {
-            newExceptionMapper = createUpdatedDynamicExceptionMapperWithMessage(message);
-        }
-        else
-        {
-            newExceptionMapper = this.exceptionMapper;
-        }
+        return new AssertionBuilderImpl<>(AssertionRunner.DEFAULT, 0, null, null, null, null, others);
+    }
+
+    /**
+     * The {@code others} array is used as-is, and not copied.
+     */
+    static <Argument> AssertionBuilderImpl<Argument, FailedAssertionException> checkThat(Argument first, Argument[] others)
+    {
+        Checks.checkNotNull(others, "others is null");
 
-        return new AssertionBuilderImpl<>(assertion, newExceptionMapper, message, arguments);
+        return new AssertionBuilderImpl<>(AssertionRunner.DEFAULT, 1, first, null, null, null, others);
     }
 
-    static <Argument> AssertionBuilderImpl<Argument, FailedAssertionException> checkThat(List<Argument> arguments)
+    static <Argument> AssertionBuilderImpl<Argument, FailedAssertionException> checkThat(Argument first, Argument second)
     {
-        return new AssertionBuilderImpl<>(null, IDENTITY, "", arguments);
+        return new AssertionBuilderImpl<>(AssertionRunner.DEFAULT, 2, first, second, null, null, noOthers());
     }
 
-    @Override
-    public <Ex extends Throwable> AssertionBuilderImpl<Argument, Ex> throwing(ExceptionMapper<Ex> exceptionMapper)
+    static <Argument> AssertionBuilderImpl<Argument, FailedAssertionException> checkThat(Argument first,
+                                                                                         Argument second,
+                                                                                         Argument third)
     {
-        Checks.checkNotNull(exceptionMapper, "exceptionMapper is null");
+        return new AssertionBuilderImpl<>(AssertionRunner.DEFAULT, 3, first, second, third, null, noOthers());
+    }
 
-        return new AssertionBuilderImpl<>(null, exceptionMapper, overrideMessage, arguments);
+    static <Argument> AssertionBuilderImpl<Argument, FailedAssertionException> checkThat(Argument first,
+                                                                                         Argument second,
+                                                                                         Argument third,
+                                                                                         Argument fourth)
+    {
+        return new AssertionBuilderImpl<>(AssertionRunner.DEFAULT, 4, first, second, third, fourth, noOthers());
     }
 
-    @Override
-    public <Ex extends Throwable> AssertionBuilder<Argument, Ex> throwing(Class<Ex> exceptionClass)
+    @SuppressWarnings("unchecked")
+    private static <Argument> Argument[] noOthers()
     {
-        Checks.checkNotNull(exceptionClass);
+        return (Argument[]) NO_OTHERS;
+    }
 
-        return this.throwing(new DynamicExceptionSupplier<>(exceptionClass, overrideMessage));
+    private <E extends Throwable> AssertionBuilderImpl<Argument, E> withRunner(AssertionRunner<E> runner)
+    {
+        return new AssertionBuilderImpl<>(runner, count, first, second, third, fourth, others);
     }
 
     @Override
-    public AssertionBuilderImpl<Argument, Ex> is(AlchemyAssertion<Argument> assertion) throws Ex
+    public AssertionBuilder<Argument, Ex> usingMessage(String message)
     {
-        Checks.checkNotNull(assertion, "assertion is null");
-
-        AssertionBuilderImpl<Argument, Ex> newBuilder = new AssertionBuilderImpl<>(assertion, exceptionMapper, overrideMessage, arguments);
-
-        //Check this assertion
-        newBuilder.checkAssertion();
-        //Return the new one to allow further assertions on this argument
-        return newBuilder;
+        return withRunner(runner.usingMessage(message));
     }
 
     @Override
-    public AssertionBuilder<Argument, Ex> isA(AlchemyAssertion<Argument> assertion) throws Ex
+    public <Ex extends Throwable> AssertionBuilderImpl<Argument, Ex> throwing(ExceptionMapper<Ex> exceptionMapper)
     {
-        return is(assertion);
+        return withRunner(runner.throwing(exceptionMapper));
     }
 
     @Override
-    public AssertionBuilder<Argument, Ex> are(AlchemyAssertion<Argument> assertion) throws Ex
+    public <Ex extends Throwable> AssertionBuilder<Argument, Ex> throwing(Class<Ex> exceptionClass)
     {
-        return is(assertion);
+        return withRunner(runner.throwing(exceptionClass));
     }
 
-    private void checkAssertion() throws Ex
+    @Override
+    public AssertionBuilder<Argument, Ex> withoutStackTraces()
     {
-        Checks.checkState(assertion != null, "no assertion found");
-        Checks.checkState(exceptionMapper != null, "no exceptionMapper found");
+        return withRunner(runner.withoutStackTraces());
+    }
 
-        FailedAssertionException caught = null;
+    @Override
+    public AssertionBuilderImpl<Argument, Ex> is(AlchemyAssertion<Argument> assertion) throws Ex
+    {
+        Checks.checkNotNull(assertion, "assertion is null");
 
-        try
+        if (count > 0)
         {
-            for (Argument argument : arguments)
-            {
-                assertion.check(argument);
-            }
+            runner.run(assertion, first);
         }
-        catch (FailedAssertionException ex)
+
+        if (count > 1)
         {
-            caught = ex;
-            if (!Checks.isNullOrEmpty(overrideMessage))
-            {
-                caught.changeMessage(overrideMessage);
-            }
+            runner.run(assertion, second);
         }
-        catch (RuntimeException ex)
+
+        if (count > 2)
         {
-            handleUnexpectedException(ex);
+            runner.run(assertion, third);
         }
 
-        if (exceptionOccurred(caught))
+        if (count > 3)
         {
-            handleFailedAssertion(caught);
+            runner.run(assertion, fourth);
         }
 
-    }
-
-    private boolean exceptionOccurred(FailedAssertionException caught)
-    {
-        return caught != null;
-    }
-
-    private void handleUnexpectedException(RuntimeException ex) throws Ex
-    {
-        LOG.warn("Assertion {} threw an unexpected exception. Only {} Exceptions are acceptable for Assertions.",
-                 assertion,
-                 FailedAssertionException.class.getSimpleName(),
-                 ex);
+        for (int i = 0; i < others.length; i++)
+        {
+            runner.run(assertion, others[i]);
+        }
 
-        FailedAssertionException wrappedException = new FailedAssertionException("wrapping unexpected exception", ex);
-        handleFailedAssertion(wrappedException);
+        //Nothing about this builder changes, so it can be used for further assertions on these arguments
+        return this;
     }
 
-    private void handleFailedAssertion(FailedAssertionException caught) throws Ex
+    @Override
+    public AssertionBuilder<Argument, Ex> isA(AlchemyAssertion<Argument> assertion) throws Ex
     {
-        Ex mappedEx = exceptionMapper.apply(caught);
-
-        if (mappedEx != null)
-        {
-            throw mappedEx;
-        }
-        else
-        {
-            LOG.warn("Exception Mapper did not return a throwable. Swallowing exception", caught);
-        }
+        return is(assertion);
     }
 
-    private ExceptionMapper<Ex> createUpdatedDynamicExceptionMapperWithMessage(String message)
+    @Override
+    public AssertionBuilder<Argument, Ex> are(AlchemyAssertion<Argument> assertion) throws Ex
     {
-        DynamicExceptionSupplier<Ex> dynamicExceptionMapper = (DynamicExceptionSupplier<Ex>) exceptionMapper;
-        Class<Ex> exceptionClass = dynamicExceptionMapper.getExceptionClass();
-
-        return new DynamicExceptionSupplier<>(exceptionClass, message);
+        return is(assertion);
     }
 
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments;
+
+/**
+ * The statistics that {@link AssertionMetrics} publishes over JMX, for one kind of assertion or one
+ * {@linkplain ValidatorBuilder#named(String) named validator}.
+ * <p>
+ * Latencies are in nanoseconds, and each percentile is accurate to within about 6%.
+ *
+ * @author SirWellington
+ * @see AssertionMetrics#registerMBeans()
+ */
+public interface AssertionCounterMXBean
+{
+
+    /**
+     * @return The kind of assertion, such as {@code StringAssertions.nonEmptyString}, or the name of the validator.
+     */
+    String getName();
+
+    /**
+     * @return How many arguments were checked.
+     */
+    long getChecks();
+
+    /**
+     * @return How many arguments failed.
+     */
+    long getFailures();
+
+    /**
+     * @return How many times an assertion threw something other than a {@link FailedAssertionException}.
+     */
+    long getUnexpectedExceptions();
+
+    /**
+     * @return How many arguments a sampled validator skipped without checking them.
+     */
+    long getSkipped();
+
+    long getLatencyP50Nanos();
+
+    long getLatencyP99Nanos();
+
+    long getLatencyP999Nanos();
+
+}
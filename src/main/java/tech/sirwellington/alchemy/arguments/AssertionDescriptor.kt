@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.arguments
+
+import tech.sirwellington.alchemy.annotations.access.Internal
+
+/**
+ * Describes what a built-in [AlchemyAssertion] accepts, so that the [optimizer][optimize]
+ * can combine it with the assertions next to it.
+ *
+ * Every kind except [AllOf] also rejects `null`.
+ *
+ * @author SirWellington
+ */
+@Internal
+internal sealed class AssertionDescriptor
+{
+
+    /**
+     * Accepts any argument that is not `null`.
+     */
+    object NotNull : AssertionDescriptor()
+
+    /**
+     * Accepts integers within [min] and [max], inclusive.
+     */
+    data class IntBounds(val min: Int, val max: Int) : AssertionDescriptor()
+    {
+        fun intersect(other: IntBounds) = IntBounds(maxOf(min, other.min), minOf(max, other.max))
+    }
+
+    /**
+     * Accepts longs within [min] and [max], inclusive.
+     */
+    data class LongBounds(val min: Long, val max: Long) : AssertionDescriptor()
+    {
+        fun intersect(other: LongBounds) = LongBounds(maxOf(min, other.min), minOf(max, other.max))
+    }
+
+    /**
+     * Accepts strings whose length is within [min] and [max], inclusive.
+     */
+    data class StringLengthBounds(val min: Int, val max: Int) : AssertionDescriptor()
+    {
+        fun intersect(other: StringLengthBounds) = StringLengthBounds(maxOf(min, other.min), minOf(max, other.max))
+    }
+
+    /**
+     * Accepts arguments that pass every one of the [parts].
+     */
+    class AllOf(val parts: List<AlchemyAssertion<*>>) : AssertionDescriptor()
+
+}
+
+/**
+ * Implemented by the built-in assertions, which the [optimizer][optimize] can combine
+ * when they have a [descriptor]. They also [evaluate][AlchemyAssertion.evaluate] arguments
+ * without creating an exception, so the [AssertionRunner] evaluates them instead of checking them.
+ */
+@Internal
+internal interface DescribedAssertion
+{
+    val descriptor: AssertionDescriptor?
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments;
+
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tech.sirwellington.alchemy.annotations.access.Internal;
+import tech.sirwellington.alchemy.annotations.access.NonInstantiable;
+
+/**
+ * Emits JDK Flight Recorder events for failed assertions, and for assertions that are slow to check an argument:
+ * <ul>
+ * <li>{@code tech.sirwellington.alchemy.arguments.AssertionFailure}, with the kind of assertion and the type of
+ * exception thrown.</li>
+ * <li>{@code tech.sirwellington.alchemy.arguments.SlowAssertion}, with the kind of assertion and how long it took,
+ * when that is at least {@value #DEFAULT_SLOW_CHECK_THRESHOLD_MICROS} microseconds, or the number set in the
+ * {@value #SLOW_CHECK_THRESHOLD_PROPERTY} system property.</li>
+ * </ul>
+ * While no recording has these events enabled, the only cost is checking that they are disabled. Checks are not
+ * timed at all then, so the clock is only read while slow checks are being recorded.
+ * This class does not refer to {@code jdk.jfr} itself, so it is safe to use on JVMs without Flight Recorder,
+ * where no events are ever emitted.
+ *
+ * @author SirWellington
+ */
+@Internal
+@NonInstantiable
+final class AssertionEvents
+{
+
+    private static final Logger LOG = LoggerFactory.getLogger(AssertionEvents.class);
+
+    static final String SLOW_CHECK_THRESHOLD_PROPERTY = "tech.sirwellington.alchemy.arguments.slowCheckThresholdMicros";
+    static final long DEFAULT_SLOW_CHECK_THRESHOLD_MICROS = 1_000;
+
+    static final boolean AVAILABLE = isFlightRecorderAvailable();
+
+    static final long SLOW_CHECK_THRESHOLD_NANOS =
+            TimeUnit.MICROSECONDS.toNanos(Long.getLong(SLOW_CHECK_THRESHOLD_PROPERTY, DEFAULT_SLOW_CHECK_THRESHOLD_MICROS));
+
+    AssertionEvents() throws IllegalAccessException
+    {
+        throw new IllegalAccessException("cannot instantiate");
+    }
+
+    private static boolean isFlightRecorderAvailable()
+    {
+        try
+        {
+            Class.forName("jdk.jfr.Event", false, AssertionEvents.class.getClassLoader());
+            return FlightRecorderEvents.isAvailable();
+        }
+        catch (ClassNotFoundException | LinkageError ex)
+        {
+            LOG.debug("Flight Recorder is not available. No events will be emitted.");
+            return false;
+        }
+    }
+
+    static boolean isFailureEnabled()
+    {
+        return AVAILABLE && FlightRecorderEvents.isFailureEnabled();
+    }
+
+    static boolean isSlowCheckEnabled()
+    {
+        return AVAILABLE && FlightRecorderEvents.isSlowCheckEnabled();
+    }
+
+    /**
+     * Emits a failure event, if they are enabled.
+     *
+     * @param exceptionType The type of exception thrown, or {@code null} if none was.
+     */
+    static void failed(AlchemyAssertion<?> assertion, Class<?> exceptionType)
+    {
+        if (isFailureEnabled())
+        {
+            FlightRecorderEvents.failed(assertion, exceptionType);
+        }
+    }
+
+    /**
+     * Emits a slow check event, if they are enabled and the assertion took at least the threshold.
+     */
+    static void checked(AlchemyAssertion<?> assertion, long elapsedNanos)
+    {
+        if (elapsedNanos >= SLOW_CHECK_THRESHOLD_NANOS && isSlowCheckEnabled())
+        {
+            FlightRecorderEvents.slowCheck(assertion, elapsedNanos);
+        }
+    }
+
+}
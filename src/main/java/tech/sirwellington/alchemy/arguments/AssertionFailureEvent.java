@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import tech.sirwellington.alchemy.annotations.access.Internal;
+
+/**
+ * A Flight Recorder event for an argument that failed an assertion.
+ *
+ * @author SirWellington
+ * @see AssertionEvents
+ */
+@Internal
+@Name(AssertionFailureEvent.NAME)
+@Label("Assertion Failure")
+@Category({ "Alchemy", "Arguments" })
+@Description("An argument failed an assertion")
+final class AssertionFailureEvent extends Event
+{
+
+    static final String NAME = "tech.sirwellington.alchemy.arguments.AssertionFailure";
+
+    @Label("Assertion")
+    @Description("The kind of assertion, such as StringAssertions.nonEmptyString")
+    String assertion;
+
+    @Label("Exception Type")
+    @Description("The class of the exception thrown, if any")
+    Class<?> exceptionType;
+
+}
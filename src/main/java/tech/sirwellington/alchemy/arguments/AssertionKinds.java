@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments;
+
+import java.lang.reflect.Method;
+
+import tech.sirwellington.alchemy.annotations.access.Internal;
+import tech.sirwellington.alchemy.annotations.access.NonInstantiable;
+
+/**
+ * Names the kind of an assertion, for metrics and events.
+ * <p>
+ * An assertion's kind is the function that created it, such as {@code StringAssertions.nonEmptyString},
+ * or otherwise its class name. Each class is only looked at once.
+ *
+ * @author SirWellington
+ */
+@Internal
+@NonInstantiable
+final class AssertionKinds
+{
+
+    private static final ClassValue<String> KINDS = new ClassValue<String>()
+    {
+        @Override
+        protected String computeValue(Class<?> assertionClass)
+        {
+            Method method = assertionClass.getEnclosingMethod();
+
+            if (method != null)
+            {
+                return method.getDeclaringClass().getSimpleName() + "." + method.getName();
+            }
+
+            return assertionClass.getName();
+        }
+    };
+
+    AssertionKinds() throws IllegalAccessException
+    {
+        throw new IllegalAccessException("cannot instantiate");
+    }
+
+    static String kindOf(AlchemyAssertion<?> assertion)
+    {
+        return KINDS.get(assertion.getClass());
+    }
+
+    static String kindOf(Class<?> assertionClass)
+    {
+        return KINDS.get(assertionClass);
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments;
+
+import tech.sirwellington.alchemy.annotations.arguments.NonEmpty;
+import tech.sirwellington.alchemy.annotations.arguments.Required;
+
+/**
+ * Observes the {@linkplain AlchemyAssertion assertions} run by {@linkplain AssertionBuilder assertion builders}
+ * and {@linkplain Validator validators}, for example to count how often each one fails.
+ * <p>
+ * Listeners are found with a {@link java.util.ServiceLoader} when the library is first used. To register one,
+ * list its class in {@code META-INF/services/tech.sirwellington.alchemy.arguments.AssertionListener}. When none
+ * are registered, the checks for listeners are constant, and the JIT removes them entirely.
+ * <p>
+ * Listeners are called on the thread that runs the assertion, so they should be fast and thread-safe.
+ * Anything they throw is logged and ignored.
+ *
+ * @author SirWellington
+ * @see AssertionMetrics
+ */
+public interface AssertionListener
+{
+
+    /**
+     * Called before an assertion runs.
+     */
+    default void onCheck(@Required AlchemyAssertion<?> assertion)
+    {
+    }
+
+    /**
+     * Called when an argument passes an assertion.
+     */
+    default void onPass(@Required AlchemyAssertion<?> assertion)
+    {
+    }
+
+    /**
+     * Called when an argument fails an assertion, before the exception is thrown.
+     *
+     * @param failure Why the argument failed. Its message is only rendered if it is read.
+     */
+    default void onFail(@Required AlchemyAssertion<?> assertion, @Required ValidationResult failure)
+    {
+    }
+
+    /**
+     * Called when an assertion throws something other than a {@link FailedAssertionException}.
+     */
+    default void onUnexpectedException(@Required AlchemyAssertion<?> assertion, @Required RuntimeException ex)
+    {
+    }
+
+    /**
+     * Called after an assertion runs, whether the argument passed or not.
+     *
+     * @param elapsedNanos How long the assertion took, including creating the exception when it failed.
+     */
+    default void onComplete(@Required AlchemyAssertion<?> assertion, long elapsedNanos)
+    {
+    }
+
+    /**
+     * Called after a {@linkplain ValidatorBuilder#named(String) named validator} checks an argument.
+     *
+     * @param validatorName The name given to the validator.
+     * @param passed        Whether the argument passed every assertion.
+     * @param elapsedNanos  How long the validator took.
+     */
+    default void onValidation(@NonEmpty String validatorName, boolean passed, long elapsedNanos)
+    {
+    }
+
+    /**
+     * Called when a named, {@linkplain ValidatorBuilder#sampled(int, int) sampled} validator skips an argument
+     * without checking it.
+     *
+     * @param validatorName The name given to the validator.
+     */
+    default void onSkippedValidation(@NonEmpty String validatorName)
+    {
+    }
+
+}
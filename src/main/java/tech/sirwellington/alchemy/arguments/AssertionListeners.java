@@ -0,0 +1,225 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tech.sirwellington.alchemy.annotations.access.Internal;
+import tech.sirwellington.alchemy.annotations.access.NonInstantiable;
+
+/**
+ * Holds the registered {@linkplain AssertionListener listeners}, and notifies each of them.
+ * <p>
+ * The listeners are loaded once, so {@link #ENABLED} is a constant. Callers check it before notifying,
+ * and when no listeners are registered, the JIT removes those checks altogether.
+ *
+ * @author SirWellington
+ */
+@Internal
+@NonInstantiable
+final class AssertionListeners
+{
+
+    private static final Logger LOG = LoggerFactory.getLogger(AssertionListeners.class);
+
+    private static final LogThrottle LISTENER_EXCEPTIONS = new LogThrottle();
+
+    /**
+     * Set to {@code true} to register the built-in {@link AssertionMetrics}, without listing it in
+     * {@code META-INF/services}.
+     */
+    static final String METRICS_PROPERTY = "tech.sirwellington.alchemy.arguments.metrics";
+
+    /**
+     * Set to {@code true} to register the built-in {@link AssertionMetrics}, and publish them over JMX.
+     *
+     * @see AssertionMetrics#registerMBeans()
+     */
+    static final String JMX_PROPERTY = "tech.sirwellington.alchemy.arguments.jmx";
+
+    private static final AssertionListener[] LISTENERS = load();
+
+    static final boolean ENABLED = LISTENERS.length > 0;
+
+    AssertionListeners() throws IllegalAccessException
+    {
+        throw new IllegalAccessException("cannot instantiate");
+    }
+
+    private static AssertionListener[] load()
+    {
+        List<AssertionListener> listeners = new ArrayList<>();
+
+        try
+        {
+            for (AssertionListener listener : ServiceLoader.load(AssertionListener.class))
+            {
+                listeners.add(listener);
+            }
+        }
+        catch (ServiceConfigurationError ex)
+        {
+            LOG.error("Failed to load {} implementations", AssertionListener.class.getSimpleName(), ex);
+        }
+
+        boolean jmx = Boolean.getBoolean(JMX_PROPERTY);
+
+        if ((jmx || Boolean.getBoolean(METRICS_PROPERTY)) && !containsMetrics(listeners))
+        {
+            listeners.add(new AssertionMetrics());
+        }
+
+        if (jmx)
+        {
+            AssertionMetrics.registerMBeans();
+        }
+
+        return listeners.toArray(new AssertionListener[0]);
+    }
+
+    private static boolean containsMetrics(List<AssertionListener> listeners)
+    {
+        for (AssertionListener listener : listeners)
+        {
+            if (listener instanceof AssertionMetrics)
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    static void onCheck(AlchemyAssertion<?> assertion)
+    {
+        for (AssertionListener listener : LISTENERS)
+        {
+            try
+            {
+                listener.onCheck(assertion);
+            }
+            catch (RuntimeException ex)
+            {
+                logListenerException(listener, ex);
+            }
+        }
+    }
+
+    static void onPass(AlchemyAssertion<?> assertion)
+    {
+        for (AssertionListener listener : LISTENERS)
+        {
+            try
+            {
+                listener.onPass(assertion);
+            }
+            catch (RuntimeException ex)
+            {
+                logListenerException(listener, ex);
+            }
+        }
+    }
+
+    static void onFail(AlchemyAssertion<?> assertion, ValidationResult failure)
+    {
+        for (AssertionListener listener : LISTENERS)
+        {
+            try
+            {
+                listener.onFail(assertion, failure);
+            }
+            catch (RuntimeException ex)
+            {
+                logListenerException(listener, ex);
+            }
+        }
+    }
+
+    static void onUnexpectedException(AlchemyAssertion<?> assertion, RuntimeException unexpected)
+    {
+        for (AssertionListener listener : LISTENERS)
+        {
+            try
+            {
+                listener.onUnexpectedException(assertion, unexpected);
+            }
+            catch (RuntimeException ex)
+            {
+                logListenerException(listener, ex);
+            }
+        }
+    }
+
+    static void onComplete(AlchemyAssertion<?> assertion, long elapsedNanos)
+    {
+        for (AssertionListener listener : LISTENERS)
+        {
+            try
+            {
+                listener.onComplete(assertion, elapsedNanos);
+            }
+            catch (RuntimeException ex)
+            {
+                logListenerException(listener, ex);
+            }
+        }
+    }
+
+    static void onValidation(String validatorName, boolean passed, long startNanos)
+    {
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        for (AssertionListener listener : LISTENERS)
+        {
+            try
+            {
+                listener.onValidation(validatorName, passed, elapsedNanos);
+            }
+            catch (RuntimeException ex)
+            {
+                logListenerException(listener, ex);
+            }
+        }
+    }
+
+    static void onSkippedValidation(String validatorName)
+    {
+        for (AssertionListener listener : LISTENERS)
+        {
+            try
+            {
+                listener.onSkippedValidation(validatorName);
+            }
+            catch (RuntimeException ex)
+            {
+                logListenerException(listener, ex);
+            }
+        }
+    }
+
+    private static void logListenerException(AssertionListener listener, RuntimeException ex)
+    {
+        if (LISTENER_EXCEPTIONS.shouldLog(LOG, listener.getClass()))
+        {
+            LOG.warn("Assertion Listener {} threw an exception, which was ignored", listener, ex);
+        }
+    }
+
+}
@@ -0,0 +1,423 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import tech.sirwellington.alchemy.annotations.arguments.NonEmpty;
+import tech.sirwellington.alchemy.annotations.arguments.Required;
+
+/**
+ * An in-memory {@link AssertionListener} that counts how often each kind of assertion runs and fails, and how
+ * long it takes, for example to chart how many requests an endpoint rejects.
+ * <p>
+ * Register it by listing it in {@code META-INF/services/tech.sirwellington.alchemy.arguments.AssertionListener},
+ * or by setting the {@code tech.sirwellington.alchemy.arguments.metrics} system property to {@code true}.
+ * The counts are then available from {@link #getCounters()}.
+ * <p>
+ * An assertion's kind is the function that created it, such as {@code StringAssertions.nonEmptyString},
+ * or otherwise its class name. The counters are {@link LongAdder LongAdders}, which stay fast when many
+ * threads update them at once. {@linkplain ValidatorBuilder#named(String) Named validators} are counted
+ * separately, by name.
+ * <p>
+ * To inspect them from {@code jconsole}, call {@link #registerMBeans()}, or set the
+ * {@code tech.sirwellington.alchemy.arguments.jmx} system property to {@code true}.
+ *
+ * @author SirWellington
+ */
+public final class AssertionMetrics implements AssertionListener
+{
+
+    static final String ASSERTIONS = "Assertions";
+    static final String VALIDATORS = "Validators";
+    static final String TIMED_ASSERTIONS = "TimedAssertions";
+
+    private static final ConcurrentMap<String, Counter> COUNTERS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, Counter> VALIDATOR_COUNTERS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, Counter> TIMED_COUNTERS = new ConcurrentHashMap<>();
+
+    private static final ClassValue<Counter> COUNTERS_BY_CLASS = new ClassValue<Counter>()
+    {
+        @Override
+        protected Counter computeValue(Class<?> assertionClass)
+        {
+            return counterNamed(COUNTERS, ASSERTIONS, AssertionKinds.kindOf(assertionClass));
+        }
+    };
+
+    private static volatile boolean mbeansRegistered = false;
+
+    /**
+     * All instances share the same counters. This constructor is public for {@link java.util.ServiceLoader}.
+     */
+    public AssertionMetrics()
+    {
+    }
+
+    /**
+     * @return The counters for each kind of assertion that has run so far. The counters keep updating.
+     */
+    public static Map<String, Counter> getCounters()
+    {
+        return Collections.unmodifiableMap(COUNTERS);
+    }
+
+    /**
+     * @return The counter for the kind of assertion, or {@code null} if none has run yet.
+     */
+    public static Counter getCounter(@NonEmpty String kind)
+    {
+        Checks.checkNotNull(kind, "kind is null");
+
+        return COUNTERS.get(kind);
+    }
+
+    /**
+     * @return The counters for each {@linkplain ValidatorBuilder#named(String) named validator} that has run so far.
+     */
+    public static Map<String, Counter> getValidatorCounters()
+    {
+        return Collections.unmodifiableMap(VALIDATOR_COUNTERS);
+    }
+
+    /**
+     * @return The counter for the named validator, or {@code null} if it has not run yet.
+     */
+    public static Counter getValidatorCounter(@NonEmpty String validatorName)
+    {
+        Checks.checkNotNull(validatorName, "validatorName is null");
+
+        return VALIDATOR_COUNTERS.get(validatorName);
+    }
+
+    /**
+     * Wraps an assertion so that every argument it checks is counted and timed under {@code name},
+     * whether or not {@code AssertionMetrics} is registered as a listener. Use it for assertions whose cost
+     * depends on the argument, such as {@code stringThatMatches} or {@code validURL}, to find their slowest checks.
+     * <pre>
+     * {@code
+     * AlchemyAssertion<String> validTenantUrl = AssertionMetrics.timed(validURL(), "tenant.url");
+     * ...
+     * AssertionMetrics.getTimedCounter("tenant.url").getLatencyP999Nanos();
+     * }
+     * </pre>
+     * Wrappers given the same name share the same counter.
+     *
+     * @param assertion The assertion to time.
+     * @param name      The name to count it under.
+     * @see #getTimedCounter(String)
+     */
+    public static <A> AlchemyAssertion<A> timed(@Required AlchemyAssertion<A> assertion, @NonEmpty String name)
+    {
+        Checks.checkNotNull(assertion, "assertion is null");
+        Checks.checkNotNullOrEmpty(name, "name is empty");
+
+        return new TimedAssertion<>(assertion, counterNamed(TIMED_COUNTERS, TIMED_ASSERTIONS, name));
+    }
+
+    /**
+     * @return The counters for each {@linkplain #timed(AlchemyAssertion, String) timed assertion}.
+     */
+    public static Map<String, Counter> getTimedCounters()
+    {
+        return Collections.unmodifiableMap(TIMED_COUNTERS);
+    }
+
+    /**
+     * @return The counter for the {@linkplain #timed(AlchemyAssertion, String) timed assertion}, or {@code null} if
+     *         none has that name.
+     */
+    public static Counter getTimedCounter(@NonEmpty String name)
+    {
+        Checks.checkNotNull(name, "name is null");
+
+        return TIMED_COUNTERS.get(name);
+    }
+
+    /**
+     * @return The kind that the {@code assertion} is counted under.
+     */
+    public static String kindOf(@Required AlchemyAssertion<?> assertion)
+    {
+        Checks.checkNotNull(assertion, "assertion is null");
+
+        return counterFor(assertion).name;
+    }
+
+    /**
+     * Sets every counter back to zero.
+     */
+    public static void reset()
+    {
+        for (Counter counter : COUNTERS.values())
+        {
+            counter.reset();
+        }
+
+        for (Counter counter : VALIDATOR_COUNTERS.values())
+        {
+            counter.reset();
+        }
+
+        for (Counter counter : TIMED_COUNTERS.values())
+        {
+            counter.reset();
+        }
+    }
+
+    /**
+     * Publishes every counter, including those created later, as an {@link AssertionCounterMXBean} on the
+     * platform MBean server, under {@code tech.sirwellington.alchemy.arguments:type=Assertions},
+     * {@code type=Validators} and {@code type=TimedAssertions}. Calling this more than once has no further effect.
+     * <p>
+     * Until this is called, no JMX classes are loaded.
+     */
+    public static synchronized void registerMBeans()
+    {
+        if (mbeansRegistered)
+        {
+            return;
+        }
+
+        mbeansRegistered = true;
+
+        for (Counter counter : COUNTERS.values())
+        {
+            AssertionMetricsMBeans.register(ASSERTIONS, counter);
+        }
+
+        for (Counter counter : VALIDATOR_COUNTERS.values())
+        {
+            AssertionMetricsMBeans.register(VALIDATORS, counter);
+        }
+
+        for (Counter counter : TIMED_COUNTERS.values())
+        {
+            AssertionMetricsMBeans.register(TIMED_ASSERTIONS, counter);
+        }
+    }
+
+    @Override
+    public void onCheck(AlchemyAssertion<?> assertion)
+    {
+        counterFor(assertion).checks.increment();
+    }
+
+    @Override
+    public void onFail(AlchemyAssertion<?> assertion, ValidationResult failure)
+    {
+        counterFor(assertion).failures.increment();
+    }
+
+    @Override
+    public void onUnexpectedException(AlchemyAssertion<?> assertion, RuntimeException ex)
+    {
+        counterFor(assertion).unexpectedExceptions.increment();
+    }
+
+    @Override
+    public void onComplete(AlchemyAssertion<?> assertion, long elapsedNanos)
+    {
+        counterFor(assertion).latency.record(elapsedNanos);
+    }
+
+    @Override
+    public void onValidation(String validatorName, boolean passed, long elapsedNanos)
+    {
+        Counter counter = VALIDATOR_COUNTERS.get(validatorName);
+
+        if (counter == null)
+        {
+            counter = counterNamed(VALIDATOR_COUNTERS, VALIDATORS, validatorName);
+        }
+
+        counter.record(passed, elapsedNanos);
+    }
+
+    @Override
+    public void onSkippedValidation(String validatorName)
+    {
+        Counter counter = VALIDATOR_COUNTERS.get(validatorName);
+
+        if (counter == null)
+        {
+            counter = counterNamed(VALIDATOR_COUNTERS, VALIDATORS, validatorName);
+        }
+
+        counter.recordSkipped();
+    }
+
+    @Override
+    public String toString()
+    {
+        return "AssertionMetrics{" + "counters=" + COUNTERS.values() + ", validatorCounters=" + VALIDATOR_COUNTERS.values() + ", timedCounters=" + TIMED_COUNTERS.values() + '}';
+    }
+
+    private static Counter counterFor(AlchemyAssertion<?> assertion)
+    {
+        return COUNTERS_BY_CLASS.get(assertion.getClass());
+    }
+
+    private static Counter counterNamed(ConcurrentMap<String, Counter> counters, String type, String name)
+    {
+        Counter counter = counters.get(name);
+
+        if (counter != null)
+        {
+            return counter;
+        }
+
+        Counter newCounter = new Counter(name);
+        counter = counters.putIfAbsent(name, newCounter);
+
+        if (counter != null)
+        {
+            return counter;
+        }
+
+        if (mbeansRegistered)
+        {
+            AssertionMetricsMBeans.register(type, newCounter);
+        }
+
+        return newCounter;
+    }
+
+    /**
+     * Counts the runs of one kind of assertion, one named validator, or one timed assertion.
+     */
+    public static final class Counter implements AssertionCounterMXBean
+    {
+
+        private final String name;
+        private final LongAdder checks = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder unexpectedExceptions = new LongAdder();
+        private final LongAdder skipped = new LongAdder();
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        private Counter(String name)
+        {
+            this.name = name;
+        }
+
+        @Override
+        public String getName()
+        {
+            return name;
+        }
+
+        /**
+         * @return How many arguments were checked.
+         */
+        @Override
+        public long getChecks()
+        {
+            return checks.sum();
+        }
+
+        /**
+         * @return How many arguments failed the assertion.
+         */
+        @Override
+        public long getFailures()
+        {
+            return failures.sum();
+        }
+
+        /**
+         * @return How many times the assertion threw something other than a {@link FailedAssertionException}.
+         *         Validators count these as failures.
+         */
+        @Override
+        public long getUnexpectedExceptions()
+        {
+            return unexpectedExceptions.sum();
+        }
+
+        /**
+         * @return How many arguments a {@linkplain ValidatorBuilder#sampled(int, int) sampled validator}
+         *         skipped without checking them.
+         */
+        @Override
+        public long getSkipped()
+        {
+            return skipped.sum();
+        }
+
+        @Override
+        public long getLatencyP50Nanos()
+        {
+            return latency.getValueAtPercentile(50);
+        }
+
+        @Override
+        public long getLatencyP99Nanos()
+        {
+            return latency.getValueAtPercentile(99);
+        }
+
+        @Override
+        public long getLatencyP999Nanos()
+        {
+            return latency.getValueAtPercentile(99.9);
+        }
+
+        void record(boolean passed, long elapsedNanos)
+        {
+            checks.increment();
+
+            if (!passed)
+            {
+                failures.increment();
+            }
+
+            latency.record(elapsedNanos);
+        }
+
+        void recordUnexpectedException(long elapsedNanos)
+        {
+            checks.increment();
+            unexpectedExceptions.increment();
+            latency.record(elapsedNanos);
+        }
+
+        void recordSkipped()
+        {
+            skipped.increment();
+        }
+
+        private void reset()
+        {
+            checks.reset();
+            failures.reset();
+            unexpectedExceptions.reset();
+            skipped.reset();
+            latency.reset();
+        }
+
+        @Override
+        public String toString()
+        {
+            return "Counter{" + "name=" + name + ", checks=" + checks + ", failures=" + failures + ", unexpectedExceptions=" + unexpectedExceptions + ", skipped=" + skipped + '}';
+        }
+
+    }
+
+}
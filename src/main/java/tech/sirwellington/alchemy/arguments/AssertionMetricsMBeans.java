@@ -0,0 +1,73 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments;
+
+import java.lang.management.ManagementFactory;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tech.sirwellington.alchemy.annotations.access.Internal;
+import tech.sirwellington.alchemy.annotations.access.NonInstantiable;
+
+/**
+ * Publishes {@link AssertionMetrics} counters on the platform MBean server.
+ * <p>
+ * This is kept apart from {@link AssertionMetrics}, so that the JMX classes are only loaded once
+ * {@link AssertionMetrics#registerMBeans()} is called.
+ *
+ * @author SirWellington
+ */
+@Internal
+@NonInstantiable
+final class AssertionMetricsMBeans
+{
+
+    private static final Logger LOG = LoggerFactory.getLogger(AssertionMetricsMBeans.class);
+
+    static final String DOMAIN = "tech.sirwellington.alchemy.arguments";
+
+    AssertionMetricsMBeans() throws IllegalAccessException
+    {
+        throw new IllegalAccessException("cannot instantiate");
+    }
+
+    static ObjectName objectNameFor(String type, String name) throws JMException
+    {
+        return new ObjectName(DOMAIN + ":type=" + type + ",name=" + ObjectName.quote(name));
+    }
+
+    static void register(String type, AssertionMetrics.Counter counter)
+    {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        try
+        {
+            server.registerMBean(counter, objectNameFor(type, counter.getName()));
+        }
+        catch (InstanceAlreadyExistsException ex)
+        {
+            LOG.debug("MBean for {} {} is already registered", type, counter.getName());
+        }
+        catch (JMException | RuntimeException ex)
+        {
+            LOG.warn("Failed to register MBean for {} {}", type, counter.getName(), ex);
+        }
+    }
+
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+@file:JvmName("AssertionOptimizer")
+
+package tech.sirwellington.alchemy.arguments
+
+import tech.sirwellington.alchemy.annotations.access.Internal
+import tech.sirwellington.alchemy.arguments.AssertionDescriptor.AllOf
+import tech.sirwellington.alchemy.arguments.AssertionDescriptor.IntBounds
+import tech.sirwellington.alchemy.arguments.AssertionDescriptor.LongBounds
+import tech.sirwellington.alchemy.arguments.AssertionDescriptor.NotNull
+import tech.sirwellington.alchemy.arguments.AssertionDescriptor.StringLengthBounds
+
+/**
+ * Simplifies a chain of [assertions][AlchemyAssertion] once, when it is built, so that checking an
+ * argument against it does as little work as possible.
+ *
+ * + Nested [AllOf] assertions, such as those made by `and()` and `combine()`, are flattened into one list.
+ * + Adjacent [described][DescribedAssertion] built-ins are fused, so that their numeric or string-length
+ *   bounds become a single range check, and a `notNull()` before them is dropped.
+ *
+ * Other assertions are left as they are, and nothing is moved past them, so they still see exactly
+ * the arguments they would have otherwise. When a fused check fails, the original assertions are run
+ * in order, so the failure is the same one the chain would have reported without optimizing.
+ *
+ * @author SirWellington
+ */
+
+/**
+ * @return The optimized equivalent of running each of the [assertions] in order.
+ */
+@Internal
+internal fun <A> optimize(assertions: List<AlchemyAssertion<A>>): List<AlchemyAssertion<A>>
+{
+    val flattened = ArrayList<AlchemyAssertion<A>>(assertions.size)
+    flatten(assertions, flattened)
+
+    val optimized = ArrayList<AlchemyAssertion<A>>(flattened.size)
+    val run = ArrayList<AlchemyAssertion<A>>()
+
+    for (assertion in flattened)
+    {
+        if (assertion is DescribedAssertion && assertion.descriptor != null)
+        {
+            run.add(assertion)
+        }
+        else
+        {
+            fuse(run, optimized)
+            run.clear()
+            optimized.add(assertion)
+        }
+    }
+
+    fuse(run, optimized)
+
+    return optimized
+}
+
+/**
+ * @return A single assertion that passes only if all of the [assertions] pass, checking them in order.
+ */
+@Internal
+internal fun <A> allOf(assertions: List<AlchemyAssertion<A>>): AlchemyAssertion<A>
+{
+    val optimized = optimize(assertions)
+
+    return if (optimized.size == 1) optimized[0] else AllOfAssertion(optimized)
+}
+
+@Suppress("UNCHECKED_CAST")
+private fun <A> flatten(assertions: List<AlchemyAssertion<A>>, into: MutableList<AlchemyAssertion<A>>)
+{
+    for (assertion in assertions)
+    {
+        val descriptor = (assertion as? DescribedAssertion)?.descriptor
+
+        if (descriptor is AllOf)
+        {
+            flatten(descriptor.parts as List<AlchemyAssertion<A>>, into)
+        }
+        else
+        {
+            into.add(assertion)
+        }
+    }
+}
+
+private fun <A> fuse(run: List<AlchemyAssertion<A>>, into: MutableList<AlchemyAssertion<A>>)
+{
+    if (run.size < 2)
+    {
+        into.addAll(run)
+        return
+    }
+
+    val bounds = mergeBounds(run)
+
+    if (bounds.size < run.size)
+    {
+        into.add(FusedAssertion(run.toList(), bounds))
+    }
+    else
+    {
+        into.addAll(run)
+    }
+}
+
+private fun mergeBounds(run: List<AlchemyAssertion<*>>): List<AssertionDescriptor>
+{
+    var notNull = false
+    var ints: IntBounds? = null
+    var longs: LongBounds? = null
+    var lengths: StringLengthBounds? = null
+
+    for (assertion in run)
+    {
+        val descriptor = (assertion as DescribedAssertion).descriptor!!
+
+        when (descriptor)
+        {
+            is NotNull -> notNull = true
+            is IntBounds -> ints = ints?.intersect(descriptor) ?: descriptor
+            is LongBounds -> longs = longs?.intersect(descriptor) ?: descriptor
+            is StringLengthBounds -> lengths = lengths?.intersect(descriptor) ?: descriptor
+            is AllOf -> throw IllegalStateException("AllOf should have been flattened")
+        }
+    }
+
+    val bounds = listOfNotNull<AssertionDescriptor>(ints, longs, lengths)
+
+    //All of the bounds already reject null
+    return if (notNull && bounds.isEmpty()) listOf(NotNull) else bounds
+}
+
+private fun AssertionDescriptor.accepts(argument: Any?): Boolean
+{
+    return when (this)
+    {
+        is NotNull -> argument != null
+        is IntBounds -> argument is Int && argument >= min && argument <= max
+        is LongBounds -> argument is Long && argument >= min && argument <= max
+        is StringLengthBounds -> argument is String && argument.length >= min && argument.length <= max
+        is AllOf -> throw IllegalStateException("AllOf cannot be fused")
+    }
+}
+
+/**
+ * Checks each of the [parts] in order.
+ */
+private class AllOfAssertion<A>(private val parts: List<AlchemyAssertion<A>>) : AlchemyAssertion<A>, DescribedAssertion
+{
+
+    private val array = parts.toTypedArray<AlchemyAssertion<*>>()
+
+    override val descriptor = AllOf(parts)
+
+    @Suppress("UNCHECKED_CAST")
+    override fun check(argument: A?)
+    {
+        for (part in array)
+        {
+            (part as AlchemyAssertion<A>).check(argument)
+        }
+    }
+
+    @Suppress("UNCHECKED_CAST")
+    override fun evaluate(argument: A?): ValidationResult
+    {
+        for (part in array)
+        {
+            val result = (part as AlchemyAssertion<A>).evaluate(argument)
+
+            if (result.isInvalid)
+            {
+                return result
+            }
+        }
+
+        return ValidationResult.valid()
+    }
+
+    @Suppress("UNCHECKED_CAST")
+    override fun test(argument: A?): Boolean
+    {
+        for (part in array)
+        {
+            if (!(part as AlchemyAssertion<A>).test(argument))
+            {
+                return false
+            }
+        }
+
+        return true
+    }
+
+    override fun toString(): String
+    {
+        return "allOf$parts"
+    }
+}
+
+/**
+ * Decides whether an argument passes all of the [originals] with just the merged [bounds].
+ * Only when it does not are the [originals] run, to report the same failure they would have.
+ */
+private class FusedAssertion<A>(private val originals: List<AlchemyAssertion<A>>,
+                                bounds: List<AssertionDescriptor>) : AlchemyAssertion<A>, DescribedAssertion
+{
+
+    private val bounds = bounds.toTypedArray()
+
+    //Fusing again, such as when combined with another chain, starts over from the originals
+    override val descriptor = AllOf(originals)
+
+    override fun check(argument: A?)
+    {
+        if (!test(argument))
+        {
+            for (assertion in originals)
+            {
+                assertion.check(argument)
+            }
+        }
+    }
+
+    override fun evaluate(argument: A?): ValidationResult
+    {
+        if (test(argument))
+        {
+            return ValidationResult.valid()
+        }
+
+        for (assertion in originals)
+        {
+            val result = assertion.evaluate(argument)
+
+            if (result.isInvalid)
+            {
+                return result
+            }
+        }
+
+        return ValidationResult.valid()
+    }
+
+    override fun test(argument: A?): Boolean
+    {
+        for (bound in bounds)
+        {
+            if (!bound.accepts(argument))
+            {
+                return false
+            }
+        }
+
+        return true
+    }
+
+    override fun toString(): String
+    {
+        return "fused$originals"
+    }
+}
@@ -0,0 +1,577 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tech.sirwellington.alchemy.annotations.access.Internal;
+import tech.sirwellington.alchemy.annotations.concurrency.Immutable;
+
+import static tech.sirwellington.alchemy.arguments.Checks.isNullOrEmpty;
+import static tech.sirwellington.alchemy.arguments.ExceptionMapper.IDENTITY;
+
+/**
+ * Runs {@linkplain AlchemyAssertion Assertions} against arguments, and decides what to throw when they fail.
+ * <p>
+ * Runners hold no per-argument state, so the same instance can be shared by every
+ * {@link AssertionBuilder} that uses the same {@link ExceptionMapper} and message. Running an
+ * assertion that passes does not allocate.
+ * <p>
+ * The built-in assertions are {@linkplain AlchemyAssertion#evaluate(Object) evaluated} rather than
+ * checked, and their failures given to {@link ExceptionMapper#map(ValidationResult)}, so that a
+ * mapper such as {@code throwing(Class)} can create its exception without a
+ * {@link FailedAssertionException} being created first.
+ * <p>
+ * Every assertion run here is reported to the registered {@linkplain AssertionListener listeners}, if there are any,
+ * and failed assertions to Flight Recorder, if it is recording them. See {@link AssertionEvents}.
+ *
+ * @param <Ex> The type of Exception thrown when an assertion fails.
+ * @author SirWellington
+ */
+@Immutable
+@Internal
+final class AssertionRunner<Ex extends Throwable>
+{
+
+    private final static Logger LOG = LoggerFactory.getLogger(AssertionRunner.class);
+
+    private static final LogThrottle UNEXPECTED_EXCEPTIONS = new LogThrottle();
+    private static final LogThrottle MISSING_EXCEPTIONS = new LogThrottle();
+
+    /**
+     * Re-throws the original {@link FailedAssertionException}, without modifying its message.
+     */
+    static final AssertionRunner<FailedAssertionException> DEFAULT = new AssertionRunner<>(IDENTITY, "", true);
+
+    private final ExceptionMapper<Ex> exceptionMapper;
+    private final String overrideMessage;
+    private final boolean stackTraces;
+
+    private AssertionRunner(ExceptionMapper<Ex> exceptionMapper, String overrideMessage, boolean stackTraces)
+    {
+        this.exceptionMapper = exceptionMapper;
+        this.overrideMessage = overrideMessage;
+        this.stackTraces = stackTraces;
+    }
+
+    AssertionRunner<Ex> usingMessage(String message)
+    {
+        Checks.checkThat(!isNullOrEmpty(message), "error message is empty");
+
+        ExceptionMapper<Ex> newExceptionMapper;
+        if (exceptionMapper instanceof DynamicExceptionSupplier)
+        {
+            newExceptionMapper = createUpdatedDynamicExceptionMapper(message, stackTraces);
+        }
+        else
+        {
+            newExceptionMapper = this.exceptionMapper;
+        }
+
+        return new AssertionRunner<>(newExceptionMapper, message, stackTraces);
+    }
+
+    <E extends Throwable> AssertionRunner<E> throwing(ExceptionMapper<E> exceptionMapper)
+    {
+        Checks.checkNotNull(exceptionMapper, "exceptionMapper is null");
+
+        return new AssertionRunner<>(exceptionMapper, overrideMessage, stackTraces);
+    }
+
+    <E extends Throwable> AssertionRunner<E> throwing(Class<E> exceptionClass)
+    {
+        Checks.checkNotNull(exceptionClass);
+
+        return this.throwing(new DynamicExceptionSupplier<>(exceptionClass, overrideMessage, stackTraces));
+    }
+
+    AssertionRunner<Ex> withoutStackTraces()
+    {
+        ExceptionMapper<Ex> newExceptionMapper;
+        if (exceptionMapper instanceof DynamicExceptionSupplier)
+        {
+            newExceptionMapper = createUpdatedDynamicExceptionMapper(overrideMessage, false);
+        }
+        else
+        {
+            newExceptionMapper = this.exceptionMapper;
+        }
+
+        return new AssertionRunner<>(newExceptionMapper, overrideMessage, false);
+    }
+
+    /**
+     * Checks the argument against the assertion.
+     *
+     * @return true if the argument passed, or false if it failed and the {@link ExceptionMapper} swallowed the failure.
+     * @throws Ex If the assertion fails and the {@link ExceptionMapper} supplies an Exception.
+     */
+    <Argument> boolean run(AlchemyAssertion<Argument> assertion, Argument argument) throws Ex
+    {
+        if (!AssertionListeners.ENABLED && !AssertionEvents.isSlowCheckEnabled())
+        {
+            return check(assertion, argument);
+        }
+
+        long start = begin(assertion);
+        try
+        {
+            return check(assertion, argument);
+        }
+        finally
+        {
+            end(assertion, start);
+        }
+    }
+
+    private <Argument> boolean check(AlchemyAssertion<Argument> assertion, Argument argument) throws Ex
+    {
+        if (assertion instanceof DescribedAssertion)
+        {
+            return runEvaluating(assertion, argument);
+        }
+
+        boolean alreadySuppressed = suppressStackTracesIfNeeded();
+        try
+        {
+            assertion.check(argument);
+            return handlePassedAssertion(assertion);
+        }
+        catch (FailedAssertionException ex)
+        {
+            return handleFailedAssertion(assertion, ex);
+        }
+        catch (RuntimeException ex)
+        {
+            return handleUnexpectedException(assertion, ex);
+        }
+        finally
+        {
+            restoreStackTraces(alreadySuppressed);
+        }
+    }
+
+    /**
+     * Checks the argument against the assertion, without boxing it.
+     *
+     * @return true if the argument passed, or false if it failed and the {@link ExceptionMapper} swallowed the failure.
+     * @throws Ex If the assertion fails and the {@link ExceptionMapper} supplies an Exception.
+     */
+    boolean run(IntAssertion assertion, int argument) throws Ex
+    {
+        if (!AssertionListeners.ENABLED && !AssertionEvents.isSlowCheckEnabled())
+        {
+            return check(assertion, argument);
+        }
+
+        long start = begin(assertion);
+        try
+        {
+            return check(assertion, argument);
+        }
+        finally
+        {
+            end(assertion, start);
+        }
+    }
+
+    private boolean check(IntAssertion assertion, int argument) throws Ex
+    {
+        if (assertion instanceof DescribedAssertion)
+        {
+            return runEvaluating(assertion, argument);
+        }
+
+        boolean alreadySuppressed = suppressStackTracesIfNeeded();
+        try
+        {
+            assertion.checkInt(argument);
+            return handlePassedAssertion(assertion);
+        }
+        catch (FailedAssertionException ex)
+        {
+            return handleFailedAssertion(assertion, ex);
+        }
+        catch (RuntimeException ex)
+        {
+            return handleUnexpectedException(assertion, ex);
+        }
+        finally
+        {
+            restoreStackTraces(alreadySuppressed);
+        }
+    }
+
+    /**
+     * Checks the argument against the assertion, without boxing it.
+     *
+     * @return true if the argument passed, or false if it failed and the {@link ExceptionMapper} swallowed the failure.
+     * @throws Ex If the assertion fails and the {@link ExceptionMapper} supplies an Exception.
+     */
+    boolean run(LongAssertion assertion, long argument) throws Ex
+    {
+        if (!AssertionListeners.ENABLED && !AssertionEvents.isSlowCheckEnabled())
+        {
+            return check(assertion, argument);
+        }
+
+        long start = begin(assertion);
+        try
+        {
+            return check(assertion, argument);
+        }
+        finally
+        {
+            end(assertion, start);
+        }
+    }
+
+    private boolean check(LongAssertion assertion, long argument) throws Ex
+    {
+        if (assertion instanceof DescribedAssertion)
+        {
+            return runEvaluating(assertion, argument);
+        }
+
+        boolean alreadySuppressed = suppressStackTracesIfNeeded();
+        try
+        {
+            assertion.checkLong(argument);
+            return handlePassedAssertion(assertion);
+        }
+        catch (FailedAssertionException ex)
+        {
+            return handleFailedAssertion(assertion, ex);
+        }
+        catch (RuntimeException ex)
+        {
+            return handleUnexpectedException(assertion, ex);
+        }
+        finally
+        {
+            restoreStackTraces(alreadySuppressed);
+        }
+    }
+
+    /**
+     * Checks the argument against the assertion, without boxing it.
+     *
+     * @return true if the argument passed, or false if it failed and the {@link ExceptionMapper} swallowed the failure.
+     * @throws Ex If the assertion fails and the {@link ExceptionMapper} supplies an Exception.
+     */
+    boolean run(DoubleAssertion assertion, double argument) throws Ex
+    {
+        if (!AssertionListeners.ENABLED && !AssertionEvents.isSlowCheckEnabled())
+        {
+            return check(assertion, argument);
+        }
+
+        long start = begin(assertion);
+        try
+        {
+            return check(assertion, argument);
+        }
+        finally
+        {
+            end(assertion, start);
+        }
+    }
+
+    private boolean check(DoubleAssertion assertion, double argument) throws Ex
+    {
+        if (assertion instanceof DescribedAssertion)
+        {
+            return runEvaluating(assertion, argument);
+        }
+
+        boolean alreadySuppressed = suppressStackTracesIfNeeded();
+        try
+        {
+            assertion.checkDouble(argument);
+            return handlePassedAssertion(assertion);
+        }
+        catch (FailedAssertionException ex)
+        {
+            return handleFailedAssertion(assertion, ex);
+        }
+        catch (RuntimeException ex)
+        {
+            return handleUnexpectedException(assertion, ex);
+        }
+        finally
+        {
+            restoreStackTraces(alreadySuppressed);
+        }
+    }
+
+    private <Argument> boolean runEvaluating(AlchemyAssertion<Argument> assertion, Argument argument) throws Ex
+    {
+        ValidationResult result;
+        try
+        {
+            result = assertion.evaluate(argument);
+        }
+        catch (RuntimeException ex)
+        {
+            return handleUnexpectedException(assertion, ex);
+        }
+
+        return handleResult(assertion, result);
+    }
+
+    private boolean runEvaluating(IntAssertion assertion, int argument) throws Ex
+    {
+        ValidationResult result;
+        try
+        {
+            result = assertion.evaluateInt(argument);
+        }
+        catch (RuntimeException ex)
+        {
+            return handleUnexpectedException(assertion, ex);
+        }
+
+        return handleResult(assertion, result);
+    }
+
+    private boolean runEvaluating(LongAssertion assertion, long argument) throws Ex
+    {
+        ValidationResult result;
+        try
+        {
+            result = assertion.evaluateLong(argument);
+        }
+        catch (RuntimeException ex)
+        {
+            return handleUnexpectedException(assertion, ex);
+        }
+
+        return handleResult(assertion, result);
+    }
+
+    private boolean runEvaluating(DoubleAssertion assertion, double argument) throws Ex
+    {
+        ValidationResult result;
+        try
+        {
+            result = assertion.evaluateDouble(argument);
+        }
+        catch (RuntimeException ex)
+        {
+            return handleUnexpectedException(assertion, ex);
+        }
+
+        return handleResult(assertion, result);
+    }
+
+    /*
+     * Checks are only timed while there are listeners, or while Flight Recorder is recording slow checks.
+     * Timed assertions report their own slow checks, under the kind of the assertion they time.
+     */
+
+    private static long begin(AlchemyAssertion<?> assertion)
+    {
+        if (AssertionListeners.ENABLED)
+        {
+            AssertionListeners.onCheck(assertion);
+        }
+
+        return System.nanoTime();
+    }
+
+    private static void end(AlchemyAssertion<?> assertion, long start)
+    {
+        long elapsedNanos = System.nanoTime() - start;
+
+        if (AssertionListeners.ENABLED)
+        {
+            AssertionListeners.onComplete(assertion, elapsedNanos);
+        }
+
+        if (!(assertion instanceof TimedAssertion))
+        {
+            AssertionEvents.checked(assertion, elapsedNanos);
+        }
+    }
+
+    /**
+     * @return true if stack traces were already being suppressed, or if this runner keeps them,
+     *         in which case there is nothing to restore afterwards.
+     */
+    private boolean suppressStackTracesIfNeeded()
+    {
+        return stackTraces || FailedAssertionException.suppressStackTraces();
+    }
+
+    private void restoreStackTraces(boolean alreadySuppressed)
+    {
+        if (!alreadySuppressed)
+        {
+            FailedAssertionException.restoreStackTraces(false);
+        }
+    }
+
+    private boolean handlePassedAssertion(AlchemyAssertion<?> assertion)
+    {
+        if (AssertionListeners.ENABLED)
+        {
+            AssertionListeners.onPass(assertion);
+        }
+
+        return true;
+    }
+
+    private boolean handleUnexpectedException(AlchemyAssertion<?> assertion, RuntimeException ex) throws Ex
+    {
+        if (AssertionListeners.ENABLED)
+        {
+            AssertionListeners.onUnexpectedException(assertion, ex);
+        }
+
+        if (UNEXPECTED_EXCEPTIONS.shouldLog(LOG, assertion.getClass()))
+        {
+            LOG.warn("Assertion {} threw an unexpected exception. Only {} Exceptions are acceptable for Assertions.",
+                     assertion,
+                     FailedAssertionException.class.getSimpleName(),
+                     ex);
+        }
+
+        boolean alreadySuppressed = suppressStackTracesIfNeeded();
+        try
+        {
+            FailedAssertionException wrappedException = new FailedAssertionException("wrapping unexpected exception", ex);
+            return throwMappedException(assertion, wrappedException);
+        }
+        finally
+        {
+            restoreStackTraces(alreadySuppressed);
+        }
+    }
+
+    private boolean handleResult(AlchemyAssertion<?> assertion, ValidationResult result) throws Ex
+    {
+        if (result.isValid())
+        {
+            return handlePassedAssertion(assertion);
+        }
+
+        if (AssertionListeners.ENABLED)
+        {
+            AssertionListeners.onFail(assertion, result);
+        }
+
+        boolean alreadySuppressed = suppressStackTracesIfNeeded();
+        try
+        {
+            if (!isNullOrEmpty(overrideMessage))
+            {
+                result = result.withMessage(overrideMessage);
+            }
+
+            Ex mappedEx = mapFailure(assertion, result);
+            AssertionEvents.failed(assertion, typeOf(mappedEx));
+
+            if (mappedEx != null)
+            {
+                throw mappedEx;
+            }
+            else if (MISSING_EXCEPTIONS.shouldLog(LOG, exceptionMapper.getClass()))
+            {
+                LOG.warn("Exception Mapper did not return a throwable. Swallowing failure: {}", result);
+            }
+        }
+        finally
+        {
+            restoreStackTraces(alreadySuppressed);
+        }
+
+        return false;
+    }
+
+    private boolean handleFailedAssertion(AlchemyAssertion<?> assertion, FailedAssertionException caught) throws Ex
+    {
+        if (AssertionListeners.ENABLED)
+        {
+            AssertionListeners.onFail(assertion, ValidationResult.failedWith(caught));
+        }
+
+        if (!isNullOrEmpty(overrideMessage))
+        {
+            caught = caught.withMessage(overrideMessage);
+        }
+
+        return throwMappedException(assertion, caught);
+    }
+
+    /**
+     * @return false, if the {@link ExceptionMapper} did not supply an Exception and the failure was swallowed.
+     */
+    private boolean throwMappedException(AlchemyAssertion<?> assertion, FailedAssertionException caught) throws Ex
+    {
+        Ex mappedEx = mapException(assertion, caught);
+        AssertionEvents.failed(assertion, typeOf(mappedEx));
+
+        if (mappedEx != null)
+        {
+            throw mappedEx;
+        }
+        else if (MISSING_EXCEPTIONS.shouldLog(LOG, exceptionMapper.getClass()))
+        {
+            LOG.warn("Exception Mapper did not return a throwable. Swallowing exception", caught);
+        }
+
+        return false;
+    }
+
+    /*
+     * The stackless mapper shares one exception per kind of assertion, so it needs to know the assertion.
+     */
+
+    @SuppressWarnings("unchecked")
+    private Ex mapFailure(AlchemyAssertion<?> assertion, ValidationResult result)
+    {
+        if (exceptionMapper instanceof StacklessExceptionMapper)
+        {
+            return (Ex) StacklessExceptionMapper.exceptionFor(assertion, result.getMessageTemplate());
+        }
+
+        return exceptionMapper.map(result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Ex mapException(AlchemyAssertion<?> assertion, FailedAssertionException caught)
+    {
+        if (exceptionMapper instanceof StacklessExceptionMapper)
+        {
+            return (Ex) StacklessExceptionMapper.exceptionFor(assertion, caught.getMessageTemplate());
+        }
+
+        return exceptionMapper.apply(caught);
+    }
+
+    private static Class<?> typeOf(Throwable ex)
+    {
+        return ex != null ? ex.getClass() : null;
+    }
+
+    private ExceptionMapper<Ex> createUpdatedDynamicExceptionMapper(String message, boolean stackTraces)
+    {
+        DynamicExceptionSupplier<Ex> dynamicExceptionMapper = (DynamicExceptionSupplier<Ex>) exceptionMapper;
+        Class<Ex> exceptionClass = dynamicExceptionMapper.getExceptionClass();
+
+        return new DynamicExceptionSupplier<>(exceptionClass, message, stackTraces);
+    }
+
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments
+
+import tech.sirwellington.alchemy.annotations.access.Internal
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.LongAdder
+
+/**
+ * Remembers whether each argument passed another assertion, so that checking a value seen before is a single
+ * hash lookup. Create one with `cached()`.
+ *
+ * Only cache assertions that are pure functions of their argument, such as `stringThatMatches`, `validURL`
+ * or `validEmailAddress`, and only for arguments that are not changed afterwards. `null` arguments are never cached.
+ *
+ * The cache holds at most [maxEntries] results, and String arguments up to [maxBytes] in total, estimated
+ * from their length. When it is full, it evicts with the CLOCK algorithm: every hit marks its entry, and
+ * eviction sweeps past marked entries, clearing their mark, until it finds one that was not used since the
+ * last sweep. Values that keep coming back stay cached, while one-off values are evicted first.
+ *
+ * Hits do not lock or allocate. Misses run the assertion without holding a lock, and then take a lock to
+ * add the result.
+ *
+ * A failure is cached without its exception or cause, and its message is not rendered until it is read.
+ * Checking a value that failed before throws a new exception, so that no exception, stack trace or cause
+ * is shared between callers.
+ *
+ * @author SirWellington
+ */
+class CachedAssertion<A> internal constructor(private val assertion: AlchemyAssertion<A>,
+                                             val maxEntries: Int,
+                                             val maxBytes: Long) : AlchemyAssertion<A>
+{
+
+    private val entries = ConcurrentHashMap<Any, Entry>()
+
+    private val lock = Any()
+    private val clock = arrayOfNulls<Entry>(maxEntries)
+    private var hand = 0
+    private var count = 0
+
+    @Volatile
+    private var usedBytes = 0L
+
+    private val hitCount = LongAdder()
+    private val missCount = LongAdder()
+    private val evictionCount = LongAdder()
+
+    init
+    {
+        checkNotNull(assertion, "assertion is null")
+        checkThat(maxEntries > 0, "maxEntries must be > 0")
+        checkThat(maxBytes > 0, "maxBytes must be > 0")
+    }
+
+    /**
+     * How many checks were answered from the cache.
+     */
+    val hits: Long
+        get() = hitCount.sum()
+
+    /**
+     * How many checks ran the assertion.
+     */
+    val misses: Long
+        get() = missCount.sum()
+
+    /**
+     * How many results were evicted to make room for others.
+     */
+    val evictions: Long
+        get() = evictionCount.sum()
+
+    /**
+     * How many results are cached.
+     */
+    val size: Int
+        get() = entries.size
+
+    /**
+     * The estimated size of the String arguments cached.
+     */
+    val bytes: Long
+        get() = usedBytes
+
+    override fun check(argument: A?)
+    {
+        val result = evaluate(argument)
+
+        if (result.isInvalid)
+        {
+            throw result.toException()
+        }
+    }
+
+    override fun evaluate(argument: A?): ValidationResult
+    {
+        if (argument == null)
+        {
+            return assertion.evaluate(argument)
+        }
+
+        val entry = entries[argument]
+
+        if (entry != null)
+        {
+            if (!entry.referenced)
+            {
+                entry.referenced = true
+            }
+
+            hitCount.increment()
+            return entry.result
+        }
+
+        missCount.increment()
+
+        val result = assertion.evaluate(argument)
+        add(argument, result.withoutException())
+
+        return result
+    }
+
+    override fun test(argument: A?): Boolean
+    {
+        return evaluate(argument).isValid
+    }
+
+    private fun add(argument: Any, result: ValidationResult)
+    {
+        val size = bytesOf(argument)
+
+        if (size > maxBytes)
+        {
+            return
+        }
+
+        synchronized(lock)
+        {
+            if (entries.containsKey(argument))
+            {
+                return
+            }
+
+            while (count >= maxEntries || usedBytes + size > maxBytes)
+            {
+                evictOne()
+            }
+
+            while (clock[hand] != null)
+            {
+                advance()
+            }
+
+            val entry = Entry(argument, result, size)
+            clock[hand] = entry
+            advance()
+
+            count += 1
+            usedBytes += size
+            entries[argument] = entry
+        }
+    }
+
+    /**
+     * Evicts the first entry the hand reaches that was not used since the hand last passed it,
+     * and leaves the hand on its empty slot. Must hold the lock, and the cache must not be empty.
+     */
+    private fun evictOne()
+    {
+        while (true)
+        {
+            val entry = clock[hand]
+
+            if (entry == null)
+            {
+                advance()
+            }
+            else if (entry.referenced)
+            {
+                entry.referenced = false
+                advance()
+            }
+            else
+            {
+                entries.remove(entry.key)
+                clock[hand] = null
+
+                count -= 1
+                usedBytes -= entry.bytes
+                evictionCount.increment()
+                return
+            }
+        }
+    }
+
+    private fun advance()
+    {
+        hand = if (hand + 1 == maxEntries) 0 else hand + 1
+    }
+
+    override fun toString(): String
+    {
+        return "cached($assertion, maxEntries=$maxEntries, size=$size, hits=$hits, misses=$misses)"
+    }
+
+    private class Entry(val key: Any, val result: ValidationResult, val bytes: Long)
+    {
+        @Volatile
+        var referenced = false
+    }
+
+    @Internal
+    internal companion object
+    {
+        const val DEFAULT_BYTES_PER_ENTRY = 1024L
+
+        /**
+         * Estimates the memory a String argument takes, from its header and its characters.
+         * Other arguments are not counted.
+         */
+        fun bytesOf(argument: Any): Long
+        {
+            return if (argument is CharSequence) 40L + 2L * argument.length else 0L
+        }
+    }
+
+}
@@ -149,11 +149,6 @@ internal fun anyAreNull(vararg objects: Any?): Boolean
 @Internal
 internal fun allAreNull(vararg objects: Any?): Boolean
 {
-    if (isNullOrEmpty(objects.toList()))
-    {
-        return true
-    }
-
     return objects.all { isNull(it) }
 }
 
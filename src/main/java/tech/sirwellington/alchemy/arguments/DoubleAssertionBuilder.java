@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments;
+
+import tech.sirwellington.alchemy.annotations.arguments.NonEmpty;
+import tech.sirwellington.alchemy.annotations.arguments.Required;
+import tech.sirwellington.alchemy.annotations.designs.FluidAPIDesign;
+
+/**
+ * An {@link AssertionBuilder} for a single {@code double} argument, which runs {@linkplain DoubleAssertion DoubleAssertions}
+ * without boxing it.
+ *
+ * <pre>
+ * {@code
+ * checkThat(latitude)
+ *      .is(validLatitude());
+ * }
+ * </pre>
+ *
+ * Any other {@code AlchemyAssertion<Double>} can still be used, in which case the argument is boxed for it.
+ *
+ * @param <Ex> The type of {@link Exception} that will be thrown if the given assertion fails.
+ *
+ * @author SirWellington
+ * @see Arguments#checkThat(double)
+ */
+@FluidAPIDesign
+public interface DoubleAssertionBuilder<Ex extends Throwable> extends AssertionBuilder<Double, Ex>
+{
+
+    /**
+     * Runs the specified assertion on the argument, without boxing it.
+     *
+     * @param assertion The assertion to run the argument through. Must be non-null.
+     *
+     * @throws Ex Throws the desired exception if the assertion fails.
+     * @see #is(AlchemyAssertion)
+     */
+    DoubleAssertionBuilder<Ex> is(@Required DoubleAssertion assertion) throws Ex;
+
+    /**
+     * Kotlin-friendly alias for {@link #is(DoubleAssertion)}.
+     *
+     * @see #is(DoubleAssertion)
+     */
+    DoubleAssertionBuilder<Ex> isA(@Required DoubleAssertion assertion) throws Ex;
+
+    @Override
+    DoubleAssertionBuilder<Ex> is(@Required AlchemyAssertion<Double> assertion) throws Ex;
+
+    @Override
+    DoubleAssertionBuilder<Ex> isA(@Required AlchemyAssertion<Double> assertion) throws Ex;
+
+    @Override
+    DoubleAssertionBuilder<Ex> are(@Required AlchemyAssertion<Double> assertion) throws Ex;
+
+    @Override
+    DoubleAssertionBuilder<Ex> usingMessage(@NonEmpty String message);
+
+    @Override
+    <Ex extends Throwable> DoubleAssertionBuilder<Ex> throwing(@Required ExceptionMapper<Ex> exceptionMapper);
+
+    @Override
+    <Ex extends Throwable> DoubleAssertionBuilder<Ex> throwing(@Required Class<Ex> exceptionClass);
+
+    @Override
+    DoubleAssertionBuilder<Ex> withoutStackTraces();
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments;
+
+import tech.sirwellington.alchemy.annotations.access.Internal;
+import tech.sirwellington.alchemy.annotations.concurrency.Immutable;
+import tech.sirwellington.alchemy.annotations.designs.FluidAPIDesign;
+import tech.sirwellington.alchemy.annotations.designs.patterns.StrategyPattern;
+
+import static tech.sirwellington.alchemy.annotations.designs.patterns.StrategyPattern.Role.CLIENT;
+
+/**
+ * Checks a single {@code double} argument, holding it as a primitive.
+ *
+ * @author SirWellington
+ * @see SingleArgumentAssertionBuilder
+ */
+@FluidAPIDesign
+@StrategyPattern(role = CLIENT)
+@Immutable
+@Internal
+final class DoubleAssertionBuilderImpl<Ex extends Throwable> implements DoubleAssertionBuilder<Ex>
+{
+
+    private final AssertionRunner<Ex> runner;
+    private final double argument;
+
+    private DoubleAssertionBuilderImpl(AssertionRunner<Ex> runner, double argument)
+    {
+        this.runner = runner;
+        this.argument = argument;
+    }
+
+    static DoubleAssertionBuilderImpl<FailedAssertionException> checkThat(double argument)
+    {
+        return new DoubleAssertionBuilderImpl<>(AssertionRunner.DEFAULT, argument);
+    }
+
+    @Override
+    public DoubleAssertionBuilderImpl<Ex> usingMessage(String message)
+    {
+        return new DoubleAssertionBuilderImpl<>(runner.usingMessage(message), argument);
+    }
+
+    @Override
+    public <Ex extends Throwable> DoubleAssertionBuilderImpl<Ex> throwing(ExceptionMapper<Ex> exceptionMapper)
+    {
+        return new DoubleAssertionBuilderImpl<>(runner.throwing(exceptionMapper), argument);
+    }
+
+    @Override
+    public <Ex extends Throwable> DoubleAssertionBuilderImpl<Ex> throwing(Class<Ex> exceptionClass)
+    {
+        return new DoubleAssertionBuilderImpl<>(runner.throwing(exceptionClass), argument);
+    }
+
+    @Override
+    public DoubleAssertionBuilderImpl<Ex> withoutStackTraces()
+    {
+        return new DoubleAssertionBuilderImpl<>(runner.withoutStackTraces(), argument);
+    }
+
+    @Override
+    public DoubleAssertionBuilderImpl<Ex> is(DoubleAssertion assertion) throws Ex
+    {
+        Checks.checkNotNull(assertion, "assertion is null");
+
+        runner.run(assertion, argument);
+        return this;
+    }
+
+    @Override
+    public DoubleAssertionBuilderImpl<Ex> isA(DoubleAssertion assertion) throws Ex
+    {
+        return is(assertion);
+    }
+
+    @Override
+    public DoubleAssertionBuilderImpl<Ex> is(AlchemyAssertion<Double> assertion) throws Ex
+    {
+        Checks.checkNotNull(assertion, "assertion is null");
+
+        runner.run(assertion, argument);
+        return this;
+    }
+
+    @Override
+    public DoubleAssertionBuilderImpl<Ex> isA(AlchemyAssertion<Double> assertion) throws Ex
+    {
+        return is(assertion);
+    }
+
+    @Override
+    public DoubleAssertionBuilderImpl<Ex> are(AlchemyAssertion<Double> assertion) throws Ex
+    {
+        return is(assertion);
+    }
+
+}
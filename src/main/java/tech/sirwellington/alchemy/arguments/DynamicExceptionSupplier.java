@@ -14,6 +14,9 @@
  */
 package tech.sirwellington.alchemy.arguments;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
 import java.lang.reflect.Constructor;
 
 import org.slf4j.Logger;
@@ -26,6 +29,12 @@ import static tech.sirwellington.alchemy.arguments.Checks.isNullOrEmpty;
 
 /**
  * This class uses an Exception class to dynamically create an appropriate wrapper exception.
+ * <p>
+ * When stack traces are turned off, the {@code (String, Throwable, boolean, boolean)} constructor is
+ * preferred, if the Exception class makes it public, so that the new exception skips its stack trace.
+ * <p>
+ * The constructors of each Exception class are looked up once, and shared by every supplier for that
+ * class, so creating the exception costs about the same as calling its constructor directly.
  *
  * @author SirWellington
  */
@@ -36,142 +45,185 @@ final class DynamicExceptionSupplier<Ex extends Throwable> implements ExceptionM
 
     private static final Logger LOG = LoggerFactory.getLogger(DynamicExceptionSupplier.class);
 
+    private static final LogThrottle FAILED_CONSTRUCTORS = new LogThrottle();
+    private static final LogThrottle FAILED_DEFAULT_CONSTRUCTORS = new LogThrottle();
+
+    private static final ClassValue<Constructors> CONSTRUCTORS = new ClassValue<Constructors>()
+    {
+        @Override
+        protected Constructors computeValue(Class<?> exceptionClass)
+        {
+            return new Constructors(exceptionClass);
+        }
+    };
+
     private final Class<Ex> exceptionClass;
     private final String overrideMessage;
+    private final boolean stackTraces;
 
     DynamicExceptionSupplier(Class<Ex> exceptionClass, String overrideMessage)
+    {
+        this(exceptionClass, overrideMessage, true);
+    }
+
+    DynamicExceptionSupplier(Class<Ex> exceptionClass, String overrideMessage, boolean stackTraces)
     {
         checkNotNull(exceptionClass, "missing exceptionClass");
 
         this.exceptionClass = exceptionClass;
         this.overrideMessage = overrideMessage;
+        this.stackTraces = stackTraces;
     }
 
     @Override
     public Ex apply(FailedAssertionException cause)
     {
-        return tryToCreateInstance(cause);
+        return tryToCreateInstance(cause, null);
+    }
+
+    /**
+     * Creates the exception straight from the failure. A {@link FailedAssertionException} is only
+     * created if the exception takes a cause, and then without a stack trace, since the exception
+     * it is given to already has one.
+     */
+    @Override
+    public Ex map(ValidationResult failure)
+    {
+        return tryToCreateInstance(null, failure);
     }
 
-    private Ex tryToCreateInstance(FailedAssertionException cause)
+    /**
+     * Exactly one of {@code cause} or {@code failure} describes why the assertion failed, unless both are null.
+     */
+    private Ex tryToCreateInstance(FailedAssertionException cause, ValidationResult failure)
     {
+        Constructors constructors = constructorsOf(exceptionClass);
+        boolean hasCause = cause != null || failure != null;
+
         try
         {
-            if (haveOverrideMessageAndACause(overrideMessage, cause))
+            if (!stackTraces && constructors.stackless != null)
             {
-                if (throwableClassHasMessageAndCauseConstructor())
+                String message = isNullOrEmpty(overrideMessage) && hasCause ? messageOf(cause, failure) : overrideMessage;
+
+                return cast((Throwable) constructors.stackless.invokeExact(message, causeOf(cause, failure), true, false));
+            }
+
+            if (haveOverrideMessageAndACause(overrideMessage, hasCause))
+            {
+                if (constructors.messageAndCause != null)
                 {
-                    return exceptionClass.getConstructor(String.class, Throwable.class)
-                                         .newInstance(overrideMessage, cause);
+                    return cast((Throwable) constructors.messageAndCause.invokeExact(overrideMessage, causeOf(cause, failure)));
                 }
-                else if (throwableClassHasCauseConstructor())
+                else if (constructors.cause != null)
                 {
-                    return exceptionClass.getConstructor(Throwable.class)
-                                         .newInstance(cause);
+                    return cast((Throwable) constructors.cause.invokeExact(causeOf(cause, failure)));
                 }
-                else if (throwableClassHasMessageConstructor())
+                else if (constructors.message != null)
                 {
-                    return exceptionClass.getConstructor(String.class)
-                                         .newInstance(overrideMessage);
+                    return cast((Throwable) constructors.message.invokeExact(overrideMessage));
                 }
 
             }
 
-            if (haveOnlyACause(overrideMessage, cause))
+            if (haveOnlyACause(overrideMessage, hasCause))
             {
-                if (throwableClassHasCauseConstructor())
+                if (constructors.cause != null)
                 {
-                    return exceptionClass.getConstructor(Throwable.class).newInstance(cause);
+                    return cast((Throwable) constructors.cause.invokeExact(causeOf(cause, failure)));
                 }
 
-                if (throwableClassHasMessageConstructor())
+                if (constructors.message != null)
                 {
-                    String message = cause.getMessage();
-                    return exceptionClass.getConstructor(String.class).newInstance(message);
+                    String message = messageOf(cause, failure);
+                    return cast((Throwable) constructors.message.invokeExact(message));
                 }
             }
 
-            if (haveOnlyAnOverrideMessage(overrideMessage, cause))
+            if (haveOnlyAnOverrideMessage(overrideMessage, hasCause))
             {
-                if (throwableClassHasMessageConstructor())
+                if (constructors.message != null)
                 {
-                    return exceptionClass.getConstructor(String.class).newInstance(overrideMessage);
+                    return cast((Throwable) constructors.message.invokeExact(overrideMessage));
                 }
             }
 
         }
-        catch (Exception ex)
+        catch (Throwable ex)
         {
-            LOG.error("Failed to initialize instance of Exception type {}", exceptionClass, ex);
+            if (FAILED_CONSTRUCTORS.shouldLog(LOG, exceptionClass))
+            {
+                LOG.error("Failed to initialize instance of Exception type {}", exceptionClass, ex);
+            }
         }
 
         try
         {
-            if (hasDefaultConstructor())
+            if (constructors.noArguments != null)
             {
-                return exceptionClass.newInstance();
+                return cast((Throwable) constructors.noArguments.invokeExact());
             }
         }
-        catch (Exception ex)
+        catch (Throwable ex)
         {
-            LOG.warn("Failed to create instance of {} using default constructor", exceptionClass.getName());
+            if (FAILED_DEFAULT_CONSTRUCTORS.shouldLog(LOG, exceptionClass))
+            {
+                LOG.warn("Failed to create instance of {} using default constructor", exceptionClass.getName());
+            }
         }
 
         return null;
     }
 
-    @Override
-    public String toString()
+    @SuppressWarnings("unchecked")
+    private Ex cast(Throwable instance)
     {
-        return "DynamicExceptionSupplier{" + "exceptionClass=" + exceptionClass + ", overrideMessage=" + overrideMessage + '}';
+        return (Ex) instance;
     }
 
-    private boolean hasConstructorWithArguments(Class<?>... classes) throws NoSuchMethodException, SecurityException
+    @Override
+    public String toString()
     {
-        try
-        {
-            Constructor<Ex> constructor = exceptionClass.getConstructor(classes);
-            return constructor != null;
-        }
-        catch (NoSuchMethodException ex)
-        {
-            return false;
-        }
+        return "DynamicExceptionSupplier{" + "exceptionClass=" + exceptionClass + ", overrideMessage=" + overrideMessage + ", stackTraces=" + stackTraces + '}';
     }
 
-    private boolean hasDefaultConstructor() throws NoSuchMethodException, SecurityException
+    /**
+     * @return The public constructors of the exception class, which are looked up once per class and
+     *         shared by every supplier of that class.
+     */
+    static Constructors constructorsOf(Class<? extends Throwable> exceptionClass)
     {
-        return hasConstructorWithArguments();
+        return CONSTRUCTORS.get(exceptionClass);
     }
 
-    private boolean throwableClassHasCauseConstructor() throws NoSuchMethodException, SecurityException
+    private boolean haveOnlyAnOverrideMessage(String message, boolean hasCause)
     {
-        return hasConstructorWithArguments(Throwable.class);
+        return !isNullOrEmpty(message) && !hasCause;
     }
 
-    private boolean throwableClassHasMessageConstructor() throws NoSuchMethodException, SecurityException
+    private boolean haveOnlyACause(String message, boolean hasCause)
     {
-        return hasConstructorWithArguments(String.class);
+        return hasCause && isNullOrEmpty(message);
     }
 
-    private boolean throwableClassHasMessageAndCauseConstructor() throws NoSuchMethodException, SecurityException
+    private boolean haveOverrideMessageAndACause(String message, boolean hasCause)
     {
-        return hasConstructorWithArguments(String.class, Throwable.class);
+        return hasCause && !isNullOrEmpty(message);
     }
 
-    private boolean haveOnlyAnOverrideMessage(String message, FailedAssertionException cause)
+    private static String messageOf(FailedAssertionException cause, ValidationResult failure)
     {
-        return !isNullOrEmpty(message) && cause == null;
+        return cause != null ? cause.getMessage() : failure.getMessage();
     }
 
-    private boolean haveOnlyACause(String message, FailedAssertionException cause)
+    private static Throwable causeOf(FailedAssertionException cause, ValidationResult failure)
     {
-        return cause != null && isNullOrEmpty(message);
-    }
+        if (cause != null || failure == null)
+        {
+            return cause;
+        }
 
-    private boolean haveOverrideMessageAndACause(String message, FailedAssertionException cause)
-    {
-        return cause != null && !isNullOrEmpty(message);
+        return failure.toExceptionWithoutStackTrace();
     }
 
     @Internal
@@ -180,4 +232,47 @@ final class DynamicExceptionSupplier<Ex extends Throwable> implements ExceptionM
         return this.exceptionClass;
     }
 
+    /**
+     * The constructors that an exception class makes public, as {@link MethodHandle MethodHandles}
+     * that return a {@link Throwable}. A constructor that the class does not have is {@code null}.
+     */
+    @Internal
+    @Immutable
+    static final class Constructors
+    {
+
+        private static final Lookup LOOKUP = MethodHandles.lookup();
+
+        final MethodHandle stackless;
+        final MethodHandle messageAndCause;
+        final MethodHandle cause;
+        final MethodHandle message;
+        final MethodHandle noArguments;
+
+        private Constructors(Class<?> exceptionClass)
+        {
+            this.stackless = find(exceptionClass, String.class, Throwable.class, boolean.class, boolean.class);
+            this.messageAndCause = find(exceptionClass, String.class, Throwable.class);
+            this.cause = find(exceptionClass, Throwable.class);
+            this.message = find(exceptionClass, String.class);
+            this.noArguments = find(exceptionClass);
+        }
+
+        private static MethodHandle find(Class<?> exceptionClass, Class<?>... parameterTypes)
+        {
+            try
+            {
+                Constructor<?> constructor = exceptionClass.getConstructor(parameterTypes);
+                MethodHandle handle = LOOKUP.unreflectConstructor(constructor);
+
+                return handle.asType(handle.type().changeReturnType(Throwable.class));
+            }
+            catch (NoSuchMethodException | IllegalAccessException | SecurityException ex)
+            {
+                return null;
+            }
+        }
+
+    }
+
 }
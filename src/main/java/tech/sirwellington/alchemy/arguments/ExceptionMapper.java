@@ -47,6 +47,17 @@ public interface ExceptionMapper<Ex extends Throwable>
         }
     };
 
+    /**
+     * For paths that reject many arguments, such as a gateway turning away malformed tokens, this throws a
+     * {@link FailedAssertionException} with no stack trace and no cause, whose message is the kind of assertion and its
+     * message template, such as {@code "NumberAssertions.greaterThan: Expected a number greater than {}: {}"}.
+     * <p>
+     * The message is never rendered and the exception holds nothing from the argument, so only use this where the
+     * kind of failure is enough. The same exception is thrown each time an assertion fails, so a failure allocates
+     * nothing. Callers must not add suppressed exceptions to it.
+     */
+    ExceptionMapper<FailedAssertionException> STACKLESS = new StacklessExceptionMapper();
+
     /**
      * Decide how to map the causing exception. You can either return a new Exception that wraps the
      * causing exception, or ignore it all-together. You can use the {@link #IDENTITY} to just
@@ -60,4 +71,21 @@ public interface ExceptionMapper<Ex extends Throwable>
      */
     Ex apply(FailedAssertionException cause);
 
+    /**
+     * Decide how to map a failure that the {@link AlchemyAssertion} reported as a {@link ValidationResult},
+     * instead of throwing it.
+     * <p>
+     * By default, this creates the {@link FailedAssertionException} for the failure and passes it to
+     * {@link #apply(FailedAssertionException)}. Mappers that do not need it can override this, so that
+     * the only exception created is the one they return.
+     *
+     * @param failure The invalid result of the {@link AlchemyAssertion}
+     *
+     * @return Never return a null Exception
+     */
+    default Ex map(ValidationResult failure)
+    {
+        return apply(failure.toException());
+    }
+
 }
@@ -19,13 +19,35 @@ import tech.sirwellington.alchemy.annotations.access.Internal;
 /**
  * An exception that is thrown when an argument assertion fails. This exception is a sub-type of
  * {@link IllegalArgumentException}.
+ * <p>
+ * Filling in the stack trace is usually the most expensive part of a failed assertion. In cases where
+ * invalid arguments are common and expected, stack traces can be turned off, either
+ * {@linkplain #setStackTracesEnabled(boolean) globally}, or for a single
+ * {@linkplain AssertionBuilder#withoutStackTraces() assertion builder}.
+ * <p>
+ * Messages can also be given as a template with {@code {}} placeholders, and the arguments to put in
+ * them. The message is only rendered when {@link #getMessage()} is first called, so failures that are
+ * caught and handled never pay for building it.
  *
  * @author SirWellington
  */
 public class FailedAssertionException extends IllegalArgumentException
 {
 
+    private static volatile boolean stackTracesEnabled = true;
+
+    /**
+     * Set while a {@linkplain AssertionBuilder#withoutStackTraces() builder without stack traces} runs
+     * its assertions.
+     */
+    private static final ThreadLocal<Boolean> STACK_TRACES_SUPPRESSED = new ThreadLocal<>();
+
+    private static final String PLACEHOLDER = "{}";
+    private static final Object[] NO_ARGUMENTS = {};
+
     private String message = "";
+    private String messageTemplate;
+    private Object[] messageArguments = NO_ARGUMENTS;
 
     public FailedAssertionException()
     {
@@ -48,16 +70,185 @@ public class FailedAssertionException extends IllegalArgumentException
         super(cause);
     }
 
+    /**
+     * Creates an Exception whose message is rendered from a template when it is first read.
+     * Each {@code {}} in the template is replaced by the next argument; arrays are rendered by their contents.
+     * Each argument is kept short by the {@link ArgumentRenderer}.
+     *
+     * @param messageTemplate The message, with a {@code {}} for each argument.
+     * @param arguments       The arguments to put in the message.
+     */
+    public FailedAssertionException(String messageTemplate, Object... arguments)
+    {
+        this.message = null;
+        this.messageTemplate = messageTemplate;
+        this.messageArguments = arguments != null ? arguments : NO_ARGUMENTS;
+    }
+
+    /**
+     * Same as {@link #FailedAssertionException(String, Object...)}, with a cause.
+     */
+    public FailedAssertionException(Throwable cause, String messageTemplate, Object... arguments)
+    {
+        super(cause);
+        this.message = null;
+        this.messageTemplate = messageTemplate;
+        this.messageArguments = arguments != null ? arguments : NO_ARGUMENTS;
+    }
+
     @Override
     public String getMessage()
     {
+        if (message == null && messageTemplate != null)
+        {
+            message = render(messageTemplate, messageArguments);
+        }
+
         return message;
     }
 
+    /**
+     * @return The message before any arguments are put in it, or the message itself if it was not given as a template.
+     */
     @Internal
-    void changeMessage(String message)
+    String getMessageTemplate()
     {
-        this.message = message;
+        if (messageTemplate != null)
+        {
+            return messageTemplate;
+        }
+
+        return message != null ? message : "";
+    }
+
+    /**
+     * @return The arguments to be put into the {@linkplain #getMessageTemplate() message template}.
+     */
+    @Internal
+    Object[] getMessageArguments()
+    {
+        return messageArguments;
+    }
+
+    /**
+     * Creates a copy of this exception with a different message, leaving this one unchanged, so that
+     * an exception can be shared between threads. The copy is a plain {@link FailedAssertionException}
+     * that keeps this exception's cause and stack trace, without filling in a new one.
+     *
+     * @param message The new message.
+     * @return A new exception, with the given message.
+     */
+    @Internal
+    FailedAssertionException withMessage(String message)
+    {
+        FailedAssertionException copy;
+
+        boolean alreadySuppressed = suppressStackTraces();
+        try
+        {
+            copy = new FailedAssertionException(message, getCause());
+        }
+        finally
+        {
+            restoreStackTraces(alreadySuppressed);
+        }
+
+        copy.setStackTrace(getStackTrace());
+        return copy;
+    }
+
+    @Internal
+    static String render(String template, Object[] arguments)
+    {
+        if (arguments.length == 0)
+        {
+            return template;
+        }
+
+        StringBuilder builder = new StringBuilder(template.length() + 16 * arguments.length);
+
+        int start = 0;
+        int argumentIndex = 0;
+
+        while (argumentIndex < arguments.length)
+        {
+            int placeholder = template.indexOf(PLACEHOLDER, start);
+
+            if (placeholder < 0)
+            {
+                break;
+            }
+
+            builder.append(template, start, placeholder);
+            ArgumentRenderer.append(builder, arguments[argumentIndex]);
+
+            argumentIndex += 1;
+            start = placeholder + PLACEHOLDER.length();
+        }
+
+        builder.append(template, start, template.length());
+        return builder.toString();
+    }
+
+    /**
+     * {@link IllegalArgumentException} does not expose the {@code writableStackTrace} constructor, so
+     * the stack trace is skipped here instead.
+     */
+    @Override
+    public Throwable fillInStackTrace()
+    {
+        if (shouldFillInStackTrace())
+        {
+            return super.fillInStackTrace();
+        }
+
+        return this;
+    }
+
+    /**
+     * Turns stack traces on or off for every {@link FailedAssertionException} created from now on.
+     * Stack traces are enabled by default.
+     *
+     * @param enabled Whether new exceptions should fill in their stack trace.
+     */
+    public static void setStackTracesEnabled(boolean enabled)
+    {
+        stackTracesEnabled = enabled;
+    }
+
+    /**
+     * @return Whether stack traces are {@linkplain #setStackTracesEnabled(boolean) globally enabled}.
+     */
+    public static boolean areStackTracesEnabled()
+    {
+        return stackTracesEnabled;
+    }
+
+    /**
+     * Suppresses stack traces for exceptions created on the current thread, until
+     * {@link #restoreStackTraces(boolean)} is called.
+     *
+     * @return Whether stack traces were already suppressed, to be passed to {@link #restoreStackTraces(boolean)}.
+     */
+    @Internal
+    static boolean suppressStackTraces()
+    {
+        boolean alreadySuppressed = Boolean.TRUE.equals(STACK_TRACES_SUPPRESSED.get());
+        STACK_TRACES_SUPPRESSED.set(Boolean.TRUE);
+
+        return alreadySuppressed;
+    }
+
+    @Internal
+    static void restoreStackTraces(boolean suppressed)
+    {
+        STACK_TRACES_SUPPRESSED.set(suppressed);
+    }
+
+    @Internal
+    static boolean shouldFillInStackTrace()
+    {
+        return stackTracesEnabled && !Boolean.TRUE.equals(STACK_TRACES_SUPPRESSED.get());
     }
 
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments;
+
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import tech.sirwellington.alchemy.annotations.access.Internal;
+import tech.sirwellington.alchemy.annotations.access.NonInstantiable;
+
+/**
+ * Creates the Flight Recorder events. Only {@link AssertionEvents} may use this class, and only once it has
+ * found that Flight Recorder is available, since loading it on a JVM without {@code jdk.jfr} fails.
+ *
+ * @author SirWellington
+ */
+@Internal
+@NonInstantiable
+final class FlightRecorderEvents
+{
+
+    FlightRecorderEvents() throws IllegalAccessException
+    {
+        throw new IllegalAccessException("cannot instantiate");
+    }
+
+    static boolean isAvailable()
+    {
+        return FlightRecorder.isAvailable();
+    }
+
+    /*
+     * Until Flight Recorder has been started, no event can be enabled, and the event types are not looked up,
+     * so that applications that never record do not register them.
+     */
+
+    static boolean isFailureEnabled()
+    {
+        return FlightRecorder.isInitialized() && EventTypes.FAILURES.isEnabled();
+    }
+
+    static boolean isSlowCheckEnabled()
+    {
+        return FlightRecorder.isInitialized() && EventTypes.SLOW_CHECKS.isEnabled();
+    }
+
+    static void failed(AlchemyAssertion<?> assertion, Class<?> exceptionType)
+    {
+        AssertionFailureEvent event = new AssertionFailureEvent();
+        event.assertion = AssertionKinds.kindOf(assertion);
+        event.exceptionType = exceptionType;
+        event.commit();
+    }
+
+    static void slowCheck(AlchemyAssertion<?> assertion, long elapsedNanos)
+    {
+        SlowAssertionEvent event = new SlowAssertionEvent();
+        event.assertion = AssertionKinds.kindOf(assertion);
+        event.elapsed = elapsedNanos;
+        event.commit();
+    }
+
+    private static final class EventTypes
+    {
+
+        private static final EventType FAILURES = EventType.getEventType(AssertionFailureEvent.class);
+        private static final EventType SLOW_CHECKS = EventType.getEventType(SlowAssertionEvent.class);
+
+    }
+
+}
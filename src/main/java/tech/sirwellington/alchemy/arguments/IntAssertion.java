@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments;
+
+import tech.sirwellington.alchemy.annotations.arguments.Optional;
+import tech.sirwellington.alchemy.annotations.designs.patterns.StrategyPattern;
+
+import static tech.sirwellington.alchemy.annotations.designs.patterns.StrategyPattern.Role.INTERFACE;
+
+/**
+ * An {@link AlchemyAssertion} that checks {@code int} arguments without boxing them.
+ * <p>
+ * {@link Arguments#checkThat(int)} runs these against the primitive directly. They can still be used
+ * anywhere an {@code AlchemyAssertion<Integer>} is expected, in which case a {@code null} argument fails.
+ * <p>
+ * The primitive methods are named {@link #checkInt(int) checkInt()} rather than overloading
+ * {@link #check(Object) check()}, since Kotlin cannot tell the two apart when implementing them.
+ *
+ * @author SirWellington
+ * @see AlchemyAssertion
+ */
+@StrategyPattern(role = INTERFACE)
+public interface IntAssertion extends AlchemyAssertion<Integer>
+{
+
+    /**
+     * Asserts the validity of the argument.
+     *
+     * @param argument The argument to validate
+     * @throws FailedAssertionException When the argument-check fails.
+     */
+    void checkInt(int argument) throws FailedAssertionException;
+
+    /**
+     * Evaluates the argument without throwing.
+     *
+     * @param argument The argument to validate
+     * @return {@link ValidationResult#valid()} if the argument passes, otherwise a result describing why it failed.
+     * @see AlchemyAssertion#evaluate(Object)
+     */
+    default ValidationResult evaluateInt(int argument)
+    {
+        try
+        {
+            checkInt(argument);
+            return ValidationResult.valid();
+        }
+        catch (FailedAssertionException ex)
+        {
+            return ValidationResult.failedWith(ex);
+        }
+    }
+
+    /**
+     * Tests the argument without throwing.
+     *
+     * @param argument The argument to test
+     * @return true if the argument passes, false otherwise.
+     * @see AlchemyAssertion#test(Object)
+     */
+    default boolean testInt(int argument)
+    {
+        try
+        {
+            checkInt(argument);
+            return true;
+        }
+        catch (FailedAssertionException ex)
+        {
+            return false;
+        }
+    }
+
+    @Override
+    default void check(@Optional Integer argument) throws FailedAssertionException
+    {
+        if (argument == null)
+        {
+            throw ValidationResult.NULL_ARGUMENT.toException();
+        }
+
+        checkInt(argument);
+    }
+
+    @Override
+    default ValidationResult evaluate(@Optional Integer argument)
+    {
+        return argument == null ? ValidationResult.NULL_ARGUMENT : evaluateInt(argument);
+    }
+
+    @Override
+    default boolean test(@Optional Integer argument)
+    {
+        return argument != null && testInt(argument);
+    }
+
+}
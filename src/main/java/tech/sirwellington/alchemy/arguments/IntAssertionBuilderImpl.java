@@ -0,0 +1,111 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments;
+
+import tech.sirwellington.alchemy.annotations.access.Internal;
+import tech.sirwellington.alchemy.annotations.concurrency.Immutable;
+import tech.sirwellington.alchemy.annotations.designs.FluidAPIDesign;
+import tech.sirwellington.alchemy.annotations.designs.patterns.StrategyPattern;
+
+import static tech.sirwellington.alchemy.annotations.designs.patterns.StrategyPattern.Role.CLIENT;
+
+/**
+ * Checks a single {@code int} argument, holding it as a primitive.
+ *
+ * @author SirWellington
+ * @see SingleArgumentAssertionBuilder
+ */
+@FluidAPIDesign
+@StrategyPattern(role = CLIENT)
+@Immutable
+@Internal
+final class IntAssertionBuilderImpl<Ex extends Throwable> implements IntAssertionBuilder<Ex>
+{
+
+    private final AssertionRunner<Ex> runner;
+    private final int argument;
+
+    private IntAssertionBuilderImpl(AssertionRunner<Ex> runner, int argument)
+    {
+        this.runner = runner;
+        this.argument = argument;
+    }
+
+    static IntAssertionBuilderImpl<FailedAssertionException> checkThat(int argument)
+    {
+        return new IntAssertionBuilderImpl<>(AssertionRunner.DEFAULT, argument);
+    }
+
+    @Override
+    public IntAssertionBuilderImpl<Ex> usingMessage(String message)
+    {
+        return new IntAssertionBuilderImpl<>(runner.usingMessage(message), argument);
+    }
+
+    @Override
+    public <Ex extends Throwable> IntAssertionBuilderImpl<Ex> throwing(ExceptionMapper<Ex> exceptionMapper)
+    {
+        return new IntAssertionBuilderImpl<>(runner.throwing(exceptionMapper), argument);
+    }
+
+    @Override
+    public <Ex extends Throwable> IntAssertionBuilderImpl<Ex> throwing(Class<Ex> exceptionClass)
+    {
+        return new IntAssertionBuilderImpl<>(runner.throwing(exceptionClass), argument);
+    }
+
+    @Override
+    public IntAssertionBuilderImpl<Ex> withoutStackTraces()
+    {
+        return new IntAssertionBuilderImpl<>(runner.withoutStackTraces(), argument);
+    }
+
+    @Override
+    public IntAssertionBuilderImpl<Ex> is(IntAssertion assertion) throws Ex
+    {
+        Checks.checkNotNull(assertion, "assertion is null");
+
+        runner.run(assertion, argument);
+        return this;
+    }
+
+    @Override
+    public IntAssertionBuilderImpl<Ex> isA(IntAssertion assertion) throws Ex
+    {
+        return is(assertion);
+    }
+
+    @Override
+    public IntAssertionBuilderImpl<Ex> is(AlchemyAssertion<Integer> assertion) throws Ex
+    {
+        Checks.checkNotNull(assertion, "assertion is null");
+
+        runner.run(assertion, argument);
+        return this;
+    }
+
+    @Override
+    public IntAssertionBuilderImpl<Ex> isA(AlchemyAssertion<Integer> assertion) throws Ex
+    {
+        return is(assertion);
+    }
+
+    @Override
+    public IntAssertionBuilderImpl<Ex> are(AlchemyAssertion<Integer> assertion) throws Ex
+    {
+        return is(assertion);
+    }
+
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import tech.sirwellington.alchemy.annotations.access.Internal;
+
+/**
+ * A lock-free histogram of durations, in nanoseconds, that takes the same amount of memory however many
+ * values it records.
+ * <p>
+ * Like an HDR Histogram, the buckets are log-linear: each power of two is split into {@value #SUB_BUCKETS}
+ * equal buckets, so a percentile is never more than about 6% above the true value, from nanoseconds up to
+ * minutes. Recording a value is one atomic increment, and does not allocate.
+ *
+ * @author SirWellington
+ */
+@Internal
+final class LatencyHistogram
+{
+
+    private static final int SUB_BUCKET_BITS = 4;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    /**
+     * Records one duration. Negative durations, which a misbehaving clock can produce, are recorded as zero.
+     */
+    void record(long nanos)
+    {
+        counts.getAndIncrement(indexOf(Math.max(nanos, 0)));
+    }
+
+    /**
+     * @return How many values have been recorded.
+     */
+    long getCount()
+    {
+        long total = 0;
+
+        for (int i = 0; i < BUCKETS; i++)
+        {
+            total += counts.get(i);
+        }
+
+        return total;
+    }
+
+    /**
+     * @param percentile From 0 to 100, such as {@code 99.9}.
+     * @return The highest value in the bucket that holds the percentile, or 0 if no values have been recorded.
+     *         Values recorded while this runs may or may not be counted.
+     */
+    long getValueAtPercentile(double percentile)
+    {
+        Checks.checkThat(percentile >= 0 && percentile <= 100, "percentile must be from 0 to 100");
+
+        long total = getCount();
+        if (total == 0)
+        {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        int last = 0;
+
+        for (int i = 0; i < BUCKETS; i++)
+        {
+            long count = counts.get(i);
+            if (count == 0)
+            {
+                continue;
+            }
+
+            seen += count;
+            last = i;
+
+            if (seen >= rank)
+            {
+                break;
+            }
+        }
+
+        return highestValueIn(last);
+    }
+
+    void reset()
+    {
+        for (int i = 0; i < BUCKETS; i++)
+        {
+            counts.set(i, 0);
+        }
+    }
+
+    static int indexOf(long value)
+    {
+        if (value < SUB_BUCKETS)
+        {
+            return (int) value;
+        }
+
+        int magnitude = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int shift = magnitude - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long lowestValueIn(int index)
+    {
+        if (index < SUB_BUCKETS)
+        {
+            return index;
+        }
+
+        int shift = index / SUB_BUCKETS - 1;
+        long subBucket = index % SUB_BUCKETS;
+
+        return (SUB_BUCKETS + subBucket) << shift;
+    }
+
+    static long highestValueIn(int index)
+    {
+        if (index == BUCKETS - 1)
+        {
+            return Long.MAX_VALUE;
+        }
+
+        return lowestValueIn(index + 1) - 1;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "LatencyHistogram{" + "count=" + getCount() + ", p50=" + getValueAtPercentile(50) + ", p99=" + getValueAtPercentile(99) + '}';
+    }
+
+}
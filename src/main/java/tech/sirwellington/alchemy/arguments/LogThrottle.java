@@ -0,0 +1,149 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import tech.sirwellington.alchemy.annotations.access.Internal;
+
+/**
+ * Limits how often a warning is logged from one place in the code, so that a flood of bad arguments
+ * cannot make logging the bottleneck.
+ * <p>
+ * Each source, such as the class of the assertion that misbehaved, may log up to {@code burst} warnings
+ * per interval. Any more are only counted, using lock-free counters, and the count is reported along with
+ * the first warning allowed in a later interval.
+ * <pre>
+ * {@code
+ * if (THROTTLE.shouldLog(LOG, assertion.getClass()))
+ * {
+ *     LOG.warn("...");
+ * }
+ * }
+ * </pre>
+ *
+ * @author SirWellington
+ */
+@Internal
+final class LogThrottle
+{
+
+    static final int DEFAULT_BURST = 10;
+    static final long DEFAULT_INTERVAL_SECONDS = 60;
+
+    private final int burst;
+    private final long intervalNanos;
+    private final LongSupplier clock;
+
+    private final ClassValue<Window> windows = new ClassValue<Window>()
+    {
+        @Override
+        protected Window computeValue(Class<?> source)
+        {
+            return new Window(clock.getAsLong());
+        }
+    };
+
+    LogThrottle()
+    {
+        this(DEFAULT_BURST, DEFAULT_INTERVAL_SECONDS, TimeUnit.SECONDS, System::nanoTime);
+    }
+
+    LogThrottle(int burst, long interval, TimeUnit unit, LongSupplier clock)
+    {
+        Checks.checkThat(burst > 0, "burst must be > 0");
+        Checks.checkThat(interval > 0, "interval must be > 0");
+        Checks.checkNotNull(unit, "unit is null");
+        Checks.checkNotNull(clock, "clock is null");
+
+        this.burst = burst;
+        this.intervalNanos = unit.toNanos(interval);
+        this.clock = clock;
+    }
+
+    /**
+     * Decides whether a warning from the {@code source} should be logged, and if so, first logs how many
+     * were not.
+     *
+     * @param log    The logger the warning goes to.
+     * @param source Where the warning comes from.
+     * @return true if the warning should be logged.
+     */
+    boolean shouldLog(Logger log, Class<?> source)
+    {
+        if (!log.isWarnEnabled())
+        {
+            return false;
+        }
+
+        long suppressed = tryAcquire(source);
+
+        if (suppressed > 0)
+        {
+            log.warn("{} more warnings like the next one, from {}, were not logged", suppressed, source.getName());
+        }
+
+        return suppressed >= 0;
+    }
+
+    /**
+     * Decides whether a warning from the {@code source} should be logged.
+     *
+     * @param source Where the warning comes from.
+     * @return -1 if the warning should not be logged. Otherwise, the number of warnings from the same source
+     *         that were not logged since the last interval, which is 0 within the first burst.
+     */
+    long tryAcquire(Class<?> source)
+    {
+        Window window = windows.get(source);
+        long now = clock.getAsLong();
+        long start = window.start.get();
+
+        if (now - start >= intervalNanos && window.start.compareAndSet(start, now))
+        {
+            window.logged.set(1);
+            return window.suppressed.sumThenReset();
+        }
+
+        //Reading first keeps a flood of suppressed warnings from contending on the same counter
+        if (window.logged.get() < burst && window.logged.incrementAndGet() <= burst)
+        {
+            return 0;
+        }
+
+        window.suppressed.increment();
+        return -1;
+    }
+
+    private static final class Window
+    {
+
+        private final AtomicLong start;
+        private final AtomicInteger logged = new AtomicInteger();
+        private final LongAdder suppressed = new LongAdder();
+
+        private Window(long start)
+        {
+            this.start = new AtomicLong(start);
+        }
+
+    }
+
+}
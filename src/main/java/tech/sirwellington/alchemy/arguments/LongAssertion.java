@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments;
+
+import tech.sirwellington.alchemy.annotations.arguments.Optional;
+import tech.sirwellington.alchemy.annotations.designs.patterns.StrategyPattern;
+
+import static tech.sirwellington.alchemy.annotations.designs.patterns.StrategyPattern.Role.INTERFACE;
+
+/**
+ * An {@link AlchemyAssertion} that checks {@code long} arguments without boxing them.
+ * <p>
+ * {@link Arguments#checkThat(long)} runs these against the primitive directly. They can still be used
+ * anywhere an {@code AlchemyAssertion<Long>} is expected, in which case a {@code null} argument fails.
+ * <p>
+ * The primitive methods are named {@link #checkLong(long) checkLong()} rather than overloading
+ * {@link #check(Object) check()}, since Kotlin cannot tell the two apart when implementing them.
+ *
+ * @author SirWellington
+ * @see AlchemyAssertion
+ */
+@StrategyPattern(role = INTERFACE)
+public interface LongAssertion extends AlchemyAssertion<Long>
+{
+
+    /**
+     * Asserts the validity of the argument.
+     *
+     * @param argument The argument to validate
+     * @throws FailedAssertionException When the argument-check fails.
+     */
+    void checkLong(long argument) throws FailedAssertionException;
+
+    /**
+     * Evaluates the argument without throwing.
+     *
+     * @param argument The argument to validate
+     * @return {@link ValidationResult#valid()} if the argument passes, otherwise a result describing why it failed.
+     * @see AlchemyAssertion#evaluate(Object)
+     */
+    default ValidationResult evaluateLong(long argument)
+    {
+        try
+        {
+            checkLong(argument);
+            return ValidationResult.valid();
+        }
+        catch (FailedAssertionException ex)
+        {
+            return ValidationResult.failedWith(ex);
+        }
+    }
+
+    /**
+     * Tests the argument without throwing.
+     *
+     * @param argument The argument to test
+     * @return true if the argument passes, false otherwise.
+     * @see AlchemyAssertion#test(Object)
+     */
+    default boolean testLong(long argument)
+    {
+        try
+        {
+            checkLong(argument);
+            return true;
+        }
+        catch (FailedAssertionException ex)
+        {
+            return false;
+        }
+    }
+
+    @Override
+    default void check(@Optional Long argument) throws FailedAssertionException
+    {
+        if (argument == null)
+        {
+            throw ValidationResult.NULL_ARGUMENT.toException();
+        }
+
+        checkLong(argument);
+    }
+
+    @Override
+    default ValidationResult evaluate(@Optional Long argument)
+    {
+        return argument == null ? ValidationResult.NULL_ARGUMENT : evaluateLong(argument);
+    }
+
+    @Override
+    default boolean test(@Optional Long argument)
+    {
+        return argument != null && testLong(argument);
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments;
+
+import tech.sirwellington.alchemy.annotations.arguments.NonEmpty;
+import tech.sirwellington.alchemy.annotations.arguments.Required;
+import tech.sirwellington.alchemy.annotations.designs.FluidAPIDesign;
+
+/**
+ * An {@link AssertionBuilder} for a single {@code long} argument, which runs {@linkplain LongAssertion LongAssertions}
+ * without boxing it.
+ *
+ * <pre>
+ * {@code
+ * checkThat(timestamp)
+ *      .is(positiveLong());
+ * }
+ * </pre>
+ *
+ * Any other {@code AlchemyAssertion<Long>} can still be used, in which case the argument is boxed for it.
+ *
+ * @param <Ex> The type of {@link Exception} that will be thrown if the given assertion fails.
+ *
+ * @author SirWellington
+ * @see Arguments#checkThat(long)
+ */
+@FluidAPIDesign
+public interface LongAssertionBuilder<Ex extends Throwable> extends AssertionBuilder<Long, Ex>
+{
+
+    /**
+     * Runs the specified assertion on the argument, without boxing it.
+     *
+     * @param assertion The assertion to run the argument through. Must be non-null.
+     *
+     * @throws Ex Throws the desired exception if the assertion fails.
+     * @see #is(AlchemyAssertion)
+     */
+    LongAssertionBuilder<Ex> is(@Required LongAssertion assertion) throws Ex;
+
+    /**
+     * Kotlin-friendly alias for {@link #is(LongAssertion)}.
+     *
+     * @see #is(LongAssertion)
+     */
+    LongAssertionBuilder<Ex> isA(@Required LongAssertion assertion) throws Ex;
+
+    @Override
+    LongAssertionBuilder<Ex> is(@Required AlchemyAssertion<Long> assertion) throws Ex;
+
+    @Override
+    LongAssertionBuilder<Ex> isA(@Required AlchemyAssertion<Long> assertion) throws Ex;
+
+    @Override
+    LongAssertionBuilder<Ex> are(@Required AlchemyAssertion<Long> assertion) throws Ex;
+
+    @Override
+    LongAssertionBuilder<Ex> usingMessage(@NonEmpty String message);
+
+    @Override
+    <Ex extends Throwable> LongAssertionBuilder<Ex> throwing(@Required ExceptionMapper<Ex> exceptionMapper);
+
+    @Override
+    <Ex extends Throwable> LongAssertionBuilder<Ex> throwing(@Required Class<Ex> exceptionClass);
+
+    @Override
+    LongAssertionBuilder<Ex> withoutStackTraces();
+
+}
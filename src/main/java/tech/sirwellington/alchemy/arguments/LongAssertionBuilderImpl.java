@@ -0,0 +1,111 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments;
+
+import tech.sirwellington.alchemy.annotations.access.Internal;
+import tech.sirwellington.alchemy.annotations.concurrency.Immutable;
+import tech.sirwellington.alchemy.annotations.designs.FluidAPIDesign;
+import tech.sirwellington.alchemy.annotations.designs.patterns.StrategyPattern;
+
+import static tech.sirwellington.alchemy.annotations.designs.patterns.StrategyPattern.Role.CLIENT;
+
+/**
+ * Checks a single {@code long} argument, holding it as a primitive.
+ *
+ * @author SirWellington
+ * @see SingleArgumentAssertionBuilder
+ */
+@FluidAPIDesign
+@StrategyPattern(role = CLIENT)
+@Immutable
+@Internal
+final class LongAssertionBuilderImpl<Ex extends Throwable> implements LongAssertionBuilder<Ex>
+{
+
+    private final AssertionRunner<Ex> runner;
+    private final long argument;
+
+    private LongAssertionBuilderImpl(AssertionRunner<Ex> runner, long argument)
+    {
+        this.runner = runner;
+        this.argument = argument;
+    }
+
+    static LongAssertionBuilderImpl<FailedAssertionException> checkThat(long argument)
+    {
+        return new LongAssertionBuilderImpl<>(AssertionRunner.DEFAULT, argument);
+    }
+
+    @Override
+    public LongAssertionBuilderImpl<Ex> usingMessage(String message)
+    {
+        return new LongAssertionBuilderImpl<>(runner.usingMessage(message), argument);
+    }
+
+    @Override
+    public <Ex extends Throwable> LongAssertionBuilderImpl<Ex> throwing(ExceptionMapper<Ex> exceptionMapper)
+    {
+        return new LongAssertionBuilderImpl<>(runner.throwing(exceptionMapper), argument);
+    }
+
+    @Override
+    public <Ex extends Throwable> LongAssertionBuilderImpl<Ex> throwing(Class<Ex> exceptionClass)
+    {
+        return new LongAssertionBuilderImpl<>(runner.throwing(exceptionClass), argument);
+    }
+
+    @Override
+    public LongAssertionBuilderImpl<Ex> withoutStackTraces()
+    {
+        return new LongAssertionBuilderImpl<>(runner.withoutStackTraces(), argument);
+    }
+
+    @Override
+    public LongAssertionBuilderImpl<Ex> is(LongAssertion assertion) throws Ex
+    {
+        Checks.checkNotNull(assertion, "assertion is null");
+
+        runner.run(assertion, argument);
+        return this;
+    }
+
+    @Override
+    public LongAssertionBuilderImpl<Ex> isA(LongAssertion assertion) throws Ex
+    {
+        return is(assertion);
+    }
+
+    @Override
+    public LongAssertionBuilderImpl<Ex> is(AlchemyAssertion<Long> assertion) throws Ex
+    {
+        Checks.checkNotNull(assertion, "assertion is null");
+
+        runner.run(assertion, argument);
+        return this;
+    }
+
+    @Override
+    public LongAssertionBuilderImpl<Ex> isA(AlchemyAssertion<Long> assertion) throws Ex
+    {
+        return is(assertion);
+    }
+
+    @Override
+    public LongAssertionBuilderImpl<Ex> are(AlchemyAssertion<Long> assertion) throws Ex
+    {
+        return is(assertion);
+    }
+
+}
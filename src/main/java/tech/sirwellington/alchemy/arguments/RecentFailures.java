@@ -0,0 +1,371 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tech.sirwellington.alchemy.annotations.arguments.NonEmpty;
+import tech.sirwellington.alchemy.annotations.arguments.Optional;
+
+/**
+ * Keeps the last few arguments that a {@linkplain ValidatorBuilder#named(String) named validator} rejected, so that
+ * when rejections jump, there are examples to look at without turning on debug logging.
+ * <pre>
+ * {@code
+ * for (RecentFailures.Failure failure : RecentFailures.of("createUser.request").getFailures())
+ * {
+ *     LOG.info("{}", failure);
+ * }
+ * }
+ * </pre>
+ * Each validator keeps {@value #DEFAULT_CAPACITY} failures, or as many as the {@value #CAPACITY_PROPERTY} system
+ * property says, rounded up to a power of two. Setting it to {@code 0} keeps none.
+ * Set {@value #DUMP_AT_SHUTDOWN_PROPERTY} to {@code true} to log them all when the JVM shuts down.
+ * <p>
+ * Recording a failure is wait-free: it claims a slot with a single atomic increment, and overwrites the oldest
+ * failure. Neither the argument nor the exception is kept, and no message is rendered until the failures are read.
+ * Strings longer than {@value #MAX_PREVIEW_LENGTH} characters are cut, and numbers, booleans, characters and enums
+ * are kept as they are. Any other argument, including those of the exception's message, is rendered within
+ * {@value #MAX_PREVIEW_LENGTH} characters when it is recorded, since it may be large or change afterwards.
+ *
+ * @author SirWellington
+ */
+public final class RecentFailures
+{
+
+    private static final Logger LOG = LoggerFactory.getLogger(RecentFailures.class);
+
+    static final String CAPACITY_PROPERTY = "tech.sirwellington.alchemy.arguments.recentFailures";
+    static final String DUMP_AT_SHUTDOWN_PROPERTY = "tech.sirwellington.alchemy.arguments.dumpRecentFailuresAtShutdown";
+
+    static final int DEFAULT_CAPACITY = 16;
+    static final int MAX_CAPACITY = 1 << 16;
+    static final int MAX_PREVIEW_LENGTH = 256;
+
+    static final int CAPACITY = capacityFor(Integer.getInteger(CAPACITY_PROPERTY, DEFAULT_CAPACITY));
+
+    private static final Object[] NO_ARGUMENTS = {};
+
+    private static final ConcurrentMap<String, RecentFailures> BY_VALIDATOR = new ConcurrentHashMap<>();
+
+    static
+    {
+        if (Boolean.getBoolean(DUMP_AT_SHUTDOWN_PROPERTY))
+        {
+            Runtime.getRuntime().addShutdownHook(new Thread(RecentFailures::dumpAll, "RecentFailures-Dump"));
+        }
+    }
+
+    private final String validatorName;
+    private final AtomicReferenceArray<Failure> failures;
+    private final int mask;
+    private final AtomicLong next = new AtomicLong();
+
+    RecentFailures(String validatorName, int capacity)
+    {
+        Checks.checkThat(capacity > 0 && Integer.bitCount(capacity) == 1, "capacity must be a power of two");
+
+        this.validatorName = validatorName;
+        this.failures = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * @return The recent failures of the named validator, or {@code null} if it has not been built, or if no
+     *         failures are kept.
+     */
+    public static RecentFailures of(@NonEmpty String validatorName)
+    {
+        Checks.checkNotNull(validatorName, "validatorName is null");
+
+        return BY_VALIDATOR.get(validatorName);
+    }
+
+    /**
+     * @return The recent failures of every named validator.
+     */
+    public static Map<String, RecentFailures> all()
+    {
+        return Collections.unmodifiableMap(BY_VALIDATOR);
+    }
+
+    /**
+     * Logs the recent failures of every named validator.
+     */
+    public static void dumpAll()
+    {
+        for (RecentFailures recentFailures : BY_VALIDATOR.values())
+        {
+            for (Failure failure : recentFailures.getFailures())
+            {
+                LOG.info("Recent failure of Validator [{}]: {}", recentFailures.validatorName, failure);
+            }
+        }
+    }
+
+    /**
+     * @return Where the named validator should record its failures, or {@code null} if none are kept.
+     */
+    static RecentFailures forValidator(String validatorName)
+    {
+        if (CAPACITY == 0)
+        {
+            return null;
+        }
+
+        return BY_VALIDATOR.computeIfAbsent(validatorName, name -> new RecentFailures(name, CAPACITY));
+    }
+
+    static int capacityFor(int requested)
+    {
+        if (requested <= 0)
+        {
+            return 0;
+        }
+
+        int bounded = Math.min(requested, MAX_CAPACITY);
+        int capacity = Integer.highestOneBit(bounded);
+
+        return capacity < bounded ? capacity << 1 : capacity;
+    }
+
+    void record(AlchemyAssertion<?> assertion, Object argument, @Optional Throwable ex)
+    {
+        String messageTemplate = null;
+        Object[] messageArguments = NO_ARGUMENTS;
+
+        if (ex instanceof FailedAssertionException)
+        {
+            FailedAssertionException failedAssertion = (FailedAssertionException) ex;
+            messageTemplate = failedAssertion.getMessageTemplate();
+            messageArguments = snapshotOf(failedAssertion.getMessageArguments());
+        }
+        else if (ex != null)
+        {
+            messageTemplate = ex.getMessage();
+        }
+
+        if (messageArguments.length == 0)
+        {
+            messageTemplate = cut(messageTemplate);
+        }
+
+        Failure failure = new Failure(System.currentTimeMillis(),
+                                      AssertionKinds.kindOf(assertion),
+                                      snapshotOf(argument),
+                                      ex != null ? ex.getClass().getName() : null,
+                                      messageTemplate,
+                                      messageArguments);
+
+        failures.set((int) (next.getAndIncrement() & mask), failure);
+    }
+
+    /**
+     * A message without arguments may have been built from the argument, so it is kept within the
+     * {@linkplain ArgumentRenderer#getMaxLength() rendering limit}.
+     */
+    private static String cut(String message)
+    {
+        int maxLength = ArgumentRenderer.getMaxLength();
+
+        if (message == null || message.length() <= maxLength)
+        {
+            return message;
+        }
+
+        return ArgumentRenderer.render(message, maxLength);
+    }
+
+    private static Object[] snapshotOf(Object[] arguments)
+    {
+        if (arguments.length == 0)
+        {
+            return NO_ARGUMENTS;
+        }
+
+        Object[] snapshot = new Object[arguments.length];
+
+        for (int i = 0; i < arguments.length; i++)
+        {
+            snapshot[i] = snapshotOf(arguments[i]);
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * @return The value itself if it is small and immutable, or else a String of at most
+     *         {@value #MAX_PREVIEW_LENGTH} characters.
+     */
+    static Object snapshotOf(@Optional Object value)
+    {
+        if (value instanceof String && ((String) value).length() <= MAX_PREVIEW_LENGTH)
+        {
+            return value;
+        }
+
+        if (value == null ||
+            value instanceof Integer ||
+            value instanceof Long ||
+            value instanceof Double ||
+            value instanceof Float ||
+            value instanceof Short ||
+            value instanceof Byte ||
+            value instanceof Boolean ||
+            value instanceof Character ||
+            value instanceof Enum)
+        {
+            return value;
+        }
+
+        return ArgumentRenderer.render(value, MAX_PREVIEW_LENGTH);
+    }
+
+    public String getValidatorName()
+    {
+        return validatorName;
+    }
+
+    /**
+     * @return The failures still kept, oldest first. Failures recorded while this runs may or may not be included.
+     */
+    public List<Failure> getFailures()
+    {
+        long end = next.get();
+        long start = Math.max(0, end - failures.length());
+
+        List<Failure> result = new ArrayList<>((int) (end - start));
+
+        for (long i = start; i < end; i++)
+        {
+            Failure failure = failures.get((int) (i & mask));
+
+            if (failure != null)
+            {
+                result.add(failure);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * @return How many failures have been recorded, including those no longer kept.
+     */
+    public long getTotalRecorded()
+    {
+        return next.get();
+    }
+
+    @Override
+    public String toString()
+    {
+        return "RecentFailures{" + "validatorName=" + validatorName + ", totalRecorded=" + next.get() + '}';
+    }
+
+    /**
+     * One argument that a validator rejected.
+     */
+    public static final class Failure
+    {
+
+        private final long timestamp;
+        private final String assertion;
+        private final Object argument;
+        private final String exceptionType;
+        private final String messageTemplate;
+        private final Object[] messageArguments;
+
+        private String message;
+
+        private Failure(long timestamp,
+                        String assertion,
+                        Object argument,
+                        String exceptionType,
+                        String messageTemplate,
+                        Object[] messageArguments)
+        {
+            this.timestamp = timestamp;
+            this.assertion = assertion;
+            this.argument = argument;
+            this.exceptionType = exceptionType;
+            this.messageTemplate = messageTemplate;
+            this.messageArguments = messageArguments;
+        }
+
+        public Instant getTimestamp()
+        {
+            return Instant.ofEpochMilli(timestamp);
+        }
+
+        /**
+         * @return The kind of assertion the argument failed, such as {@code StringAssertions.nonEmptyString}.
+         */
+        public String getAssertion()
+        {
+            return assertion;
+        }
+
+        /**
+         * @return The message of the exception thrown.
+         */
+        @Optional
+        public String getMessage()
+        {
+            if (message == null && messageTemplate != null)
+            {
+                message = FailedAssertionException.render(messageTemplate, messageArguments);
+            }
+
+            return message;
+        }
+
+        /**
+         * @return The class name of the exception thrown, or {@code null} if the failure was not thrown.
+         */
+        @Optional
+        public String getExceptionType()
+        {
+            return exceptionType;
+        }
+
+        /**
+         * @return The argument, {@linkplain ArgumentRenderer rendered} within {@value RecentFailures#MAX_PREVIEW_LENGTH}
+         *         characters.
+         */
+        public String getArgumentPreview()
+        {
+            return String.valueOf(argument);
+        }
+
+        @Override
+        public String toString()
+        {
+            return "Failure{" + "timestamp=" + getTimestamp() + ", assertion=" + assertion + ", exceptionType=" + exceptionType + ", message=" + getMessage() + ", argument=" + getArgumentPreview() + '}';
+        }
+
+    }
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import tech.sirwellington.alchemy.annotations.access.Internal;
+import tech.sirwellington.alchemy.annotations.concurrency.Immutable;
+
+/**
+ * Decides which arguments a {@linkplain ValidatorBuilder#sampled(int, int) sampled validator} checks.
+ * Each argument is picked on its own, with probability {@code checked / outOf}, using the calling
+ * thread's {@link ThreadLocalRandom}, so deciding takes no locks and allocates nothing.
+ *
+ * @author SirWellington
+ */
+@Immutable
+@Internal
+final class Sampling
+{
+
+    private final int checked;
+    private final int outOf;
+
+    private Sampling(int checked, int outOf)
+    {
+        this.checked = checked;
+        this.outOf = outOf;
+    }
+
+    /**
+     * @return The sampling, or {@code null} if every argument would be checked.
+     */
+    static Sampling of(int checked, int outOf)
+    {
+        Checks.checkThat(checked > 0, "checked must be > 0");
+        Checks.checkThat(outOf >= checked, "outOf must be >= checked");
+
+        return checked == outOf ? null : new Sampling(checked, outOf);
+    }
+
+    boolean shouldCheck()
+    {
+        return ThreadLocalRandom.current().nextInt(outOf) < checked;
+    }
+
+    @Override
+    public String toString()
+    {
+        return checked + "/" + outOf;
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments;
+
+import tech.sirwellington.alchemy.annotations.access.Internal;
+import tech.sirwellington.alchemy.annotations.arguments.Optional;
+import tech.sirwellington.alchemy.annotations.concurrency.Immutable;
+import tech.sirwellington.alchemy.annotations.designs.FluidAPIDesign;
+import tech.sirwellington.alchemy.annotations.designs.patterns.StrategyPattern;
+
+import static tech.sirwellington.alchemy.annotations.designs.patterns.StrategyPattern.Role.CLIENT;
+
+/**
+ * Checks a single argument, which is by far the most common case.
+ * <p>
+ * The argument is held directly rather than in a {@link java.util.List}, and since running an
+ * assertion does not change the builder, {@link #is(AlchemyAssertion)} returns this same instance.
+ * An assertion chain that passes therefore allocates nothing beyond the builder itself.
+ *
+ * @author SirWellington
+ * @see AssertionBuilderImpl
+ */
+@FluidAPIDesign
+@StrategyPattern(role = CLIENT)
+@Immutable
+@Internal
+final class SingleArgumentAssertionBuilder<Argument, Ex extends Throwable> implements AssertionBuilder<Argument, Ex>
+{
+
+    private final AssertionRunner<Ex> runner;
+    private final Argument argument;
+
+    private SingleArgumentAssertionBuilder(AssertionRunner<Ex> runner, Argument argument)
+    {
+        this.runner = runner;
+        this.argument = argument;
+    }
+
+    static <Argument> SingleArgumentAssertionBuilder<Argument, FailedAssertionException> checkThat(@Optional Argument argument)
+    {
+        return new SingleArgumentAssertionBuilder<>(AssertionRunner.DEFAULT, argument);
+    }
+
+    @Override
+    public AssertionBuilder<Argument, Ex> usingMessage(String message)
+    {
+        return new SingleArgumentAssertionBuilder<>(runner.usingMessage(message), argument);
+    }
+
+    @Override
+    public <Ex extends Throwable> SingleArgumentAssertionBuilder<Argument, Ex> throwing(ExceptionMapper<Ex> exceptionMapper)
+    {
+        return new SingleArgumentAssertionBuilder<>(runner.throwing(exceptionMapper), argument);
+    }
+
+    @Override
+    public <Ex extends Throwable> SingleArgumentAssertionBuilder<Argument, Ex> throwing(Class<Ex> exceptionClass)
+    {
+        return new SingleArgumentAssertionBuilder<>(runner.throwing(exceptionClass), argument);
+    }
+
+    @Override
+    public SingleArgumentAssertionBuilder<Argument, Ex> withoutStackTraces()
+    {
+        return new SingleArgumentAssertionBuilder<>(runner.withoutStackTraces(), argument);
+    }
+
+    @Override
+    public SingleArgumentAssertionBuilder<Argument, Ex> is(AlchemyAssertion<Argument> assertion) throws Ex
+    {
+        Checks.checkNotNull(assertion, "assertion is null");
+
+        runner.run(assertion, argument);
+        return this;
+    }
+
+    @Override
+    public SingleArgumentAssertionBuilder<Argument, Ex> isA(AlchemyAssertion<Argument> assertion) throws Ex
+    {
+        return is(assertion);
+    }
+
+    @Override
+    public SingleArgumentAssertionBuilder<Argument, Ex> are(AlchemyAssertion<Argument> assertion) throws Ex
+    {
+        return is(assertion);
+    }
+
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import tech.sirwellington.alchemy.annotations.access.Internal;
+import tech.sirwellington.alchemy.annotations.concurrency.Immutable;
+
+/**
+ * Throws one shared {@link FailedAssertionException} for each kind of assertion and message template, with no
+ * stack trace and no cause. Its message names the kind and keeps the template, such as
+ * {@code "NumberAssertions.greaterThan: Expected a number greater than {}: {}"}.
+ * <p>
+ * The message is never rendered, and the exception holds nothing from the argument, so once an assertion
+ * has failed, its later failures allocate nothing.
+ * <p>
+ * The shared exceptions cannot be given a cause or a stack trace. {@link Throwable#addSuppressed(Throwable)} is
+ * the exception: {@link IllegalArgumentException} does not expose the constructor that turns it off.
+ * <p>
+ * At most {@value #MAX_TEMPLATES_PER_KIND} templates are kept for each kind. Assertions that build their message
+ * from the argument, without a template, soon fill that, and get a new exception for each failure after that.
+ *
+ * @author SirWellington
+ * @see ExceptionMapper#STACKLESS
+ */
+@Immutable
+@Internal
+final class StacklessExceptionMapper implements ExceptionMapper<FailedAssertionException>
+{
+
+    static final int MAX_TEMPLATES_PER_KIND = 64;
+
+    private static final ClassValue<Shared> BY_ASSERTION = new ClassValue<Shared>()
+    {
+        @Override
+        protected Shared computeValue(Class<?> assertionClass)
+        {
+            return new Shared(AssertionKinds.kindOf(assertionClass) + ": ");
+        }
+    };
+
+    /**
+     * Used when the assertion is not known, such as when this mapper is called directly.
+     */
+    private static final Shared WITHOUT_KIND = new Shared("");
+
+    @Override
+    public FailedAssertionException apply(FailedAssertionException cause)
+    {
+        return WITHOUT_KIND.exceptionFor(cause != null ? cause.getMessageTemplate() : "");
+    }
+
+    @Override
+    public FailedAssertionException map(ValidationResult failure)
+    {
+        return WITHOUT_KIND.exceptionFor(failure.getMessageTemplate());
+    }
+
+    static FailedAssertionException exceptionFor(AlchemyAssertion<?> assertion, String template)
+    {
+        return BY_ASSERTION.get(assertion.getClass()).exceptionFor(template);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "StacklessExceptionMapper{}";
+    }
+
+    private static final class Shared
+    {
+
+        private final String prefix;
+        private final ConcurrentMap<String, FailedAssertionException> exceptions = new ConcurrentHashMap<>();
+
+        Shared(String prefix)
+        {
+            this.prefix = prefix;
+        }
+
+        FailedAssertionException exceptionFor(String template)
+        {
+            FailedAssertionException exception = exceptions.get(template);
+
+            if (exception != null)
+            {
+                return exception;
+            }
+
+            exception = new SharedException(prefix + template);
+
+            if (exceptions.size() >= MAX_TEMPLATES_PER_KIND)
+            {
+                return exception;
+            }
+
+            FailedAssertionException existing = exceptions.putIfAbsent(template, exception);
+            return existing != null ? existing : exception;
+        }
+
+    }
+
+    /**
+     * Cannot be given a stack trace or a cause, since it is thrown by many threads at once.
+     */
+    @Immutable
+    private static final class SharedException extends FailedAssertionException
+    {
+
+        SharedException(String message)
+        {
+            super(message);
+        }
+
+        @Override
+        public Throwable fillInStackTrace()
+        {
+            return this;
+        }
+
+        @Override
+        public void setStackTrace(StackTraceElement[] stackTrace)
+        {
+        }
+
+        @Override
+        public Throwable initCause(Throwable cause)
+        {
+            throw new IllegalStateException("A shared exception cannot be given a cause");
+        }
+
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments;
+
+import tech.sirwellington.alchemy.annotations.arguments.Required;
+import tech.sirwellington.alchemy.annotations.designs.FluidAPIDesign;
+
+/**
+ * The {@link TestBuilder} runs a chain of {@linkplain AlchemyAssertion Assertions} like the
+ * {@link AssertionBuilder}, but reports the outcome as a {@link ValidationResult} instead of throwing.
+ * This suits filtering, where invalid arguments are expected and only need to be skipped.
+ *
+ * <pre>
+ * {@code
+ * boolean isValid = Arguments.test(email)
+ *      .is(nonEmptyString())
+ *      .is(validEmailAddress())
+ *      .isValid();
+ * }
+ * </pre>
+ *
+ * Assertions run in order, and stop at the first one that fails.
+ *
+ * @param <Argument> The type of the argument being tested
+ * @author SirWellington
+ * @see Arguments#test(Object)
+ */
+@FluidAPIDesign
+public interface TestBuilder<Argument>
+{
+
+    /**
+     * Evaluates the argument against the assertion, unless an earlier assertion already failed.
+     *
+     * @param assertion The assertion to evaluate. Must be non-null.
+     * @see AlchemyAssertion#evaluate(Object)
+     */
+    TestBuilder<Argument> is(@Required AlchemyAssertion<Argument> assertion);
+
+    /**
+     * Kotlin-friendly alias for {@link #is(AlchemyAssertion)}.
+     *
+     * @see #is(AlchemyAssertion)
+     */
+    TestBuilder<Argument> isA(@Required AlchemyAssertion<Argument> assertion);
+
+    /**
+     * @return The outcome of the assertions so far, describing the first failure, if any.
+     */
+    ValidationResult result();
+
+    /**
+     * @return Whether the argument passed all the assertions so far.
+     */
+    boolean isValid();
+
+}
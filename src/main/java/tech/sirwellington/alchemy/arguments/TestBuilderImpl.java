@@ -0,0 +1,119 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tech.sirwellington.alchemy.annotations.access.Internal;
+import tech.sirwellington.alchemy.annotations.arguments.Optional;
+import tech.sirwellington.alchemy.annotations.concurrency.Immutable;
+import tech.sirwellington.alchemy.annotations.designs.FluidAPIDesign;
+
+/**
+ * Holds the argument and the result so far. A new instance is only created when an assertion fails,
+ * so testing a valid argument allocates nothing beyond the builder itself.
+ *
+ * @author SirWellington
+ */
+@FluidAPIDesign
+@Immutable
+@Internal
+final class TestBuilderImpl<Argument> implements TestBuilder<Argument>
+{
+
+    private final static Logger LOG = LoggerFactory.getLogger(TestBuilderImpl.class);
+
+    private static final LogThrottle UNEXPECTED_EXCEPTIONS = new LogThrottle();
+
+    private final Argument argument;
+    private final ValidationResult result;
+
+    private TestBuilderImpl(Argument argument, ValidationResult result)
+    {
+        this.argument = argument;
+        this.result = result;
+    }
+
+    static <Argument> TestBuilderImpl<Argument> test(@Optional Argument argument)
+    {
+        return new TestBuilderImpl<>(argument, ValidationResult.valid());
+    }
+
+    @Override
+    public TestBuilderImpl<Argument> is(AlchemyAssertion<Argument> assertion)
+    {
+        Checks.checkNotNull(assertion, "assertion is null");
+
+        if (result.isInvalid())
+        {
+            return this;
+        }
+
+        ValidationResult newResult = evaluate(assertion);
+
+        if (newResult.isValid())
+        {
+            return this;
+        }
+
+        return new TestBuilderImpl<>(argument, newResult);
+    }
+
+    @Override
+    public TestBuilderImpl<Argument> isA(AlchemyAssertion<Argument> assertion)
+    {
+        return is(assertion);
+    }
+
+    @Override
+    public ValidationResult result()
+    {
+        return result;
+    }
+
+    @Override
+    public boolean isValid()
+    {
+        return result.isValid();
+    }
+
+    private ValidationResult evaluate(AlchemyAssertion<Argument> assertion)
+    {
+        try
+        {
+            ValidationResult evaluation = assertion.evaluate(argument);
+            return evaluation != null ? evaluation : ValidationResult.valid();
+        }
+        catch (RuntimeException ex)
+        {
+            if (UNEXPECTED_EXCEPTIONS.shouldLog(LOG, assertion.getClass()))
+            {
+                LOG.warn("Assertion {} threw an unexpected exception. Only {} Exceptions are acceptable for Assertions.",
+                         assertion,
+                         FailedAssertionException.class.getSimpleName(),
+                         ex);
+            }
+
+            return ValidationResult.invalid(ex, "wrapping unexpected exception");
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        return "TestBuilderImpl{" + "argument=" + argument + ", result=" + result + '}';
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments;
+
+import tech.sirwellington.alchemy.annotations.access.Internal;
+import tech.sirwellington.alchemy.annotations.concurrency.Immutable;
+
+/**
+ * Records how long another assertion takes, and whether it passes, in an {@link AssertionMetrics.Counter}.
+ * Recording takes two reads of {@link System#nanoTime()}, and does not allocate.
+ * <p>
+ * Checks that take longer than the {@linkplain AssertionEvents#SLOW_CHECK_THRESHOLD_PROPERTY threshold} are also
+ * reported to Flight Recorder, if it is recording them.
+ *
+ * @author SirWellington
+ * @see AssertionMetrics#timed(AlchemyAssertion, String)
+ */
+@Immutable
+@Internal
+final class TimedAssertion<A> implements AlchemyAssertion<A>
+{
+
+    private final AlchemyAssertion<A> assertion;
+    private final AssertionMetrics.Counter counter;
+
+    TimedAssertion(AlchemyAssertion<A> assertion, AssertionMetrics.Counter counter)
+    {
+        this.assertion = assertion;
+        this.counter = counter;
+    }
+
+    @Override
+    public void check(A argument) throws FailedAssertionException
+    {
+        long start = System.nanoTime();
+
+        try
+        {
+            assertion.check(argument);
+        }
+        catch (FailedAssertionException ex)
+        {
+            record(false, start);
+            throw ex;
+        }
+        catch (RuntimeException ex)
+        {
+            recordUnexpectedException(start);
+            throw ex;
+        }
+
+        record(true, start);
+    }
+
+    @Override
+    public ValidationResult evaluate(A argument)
+    {
+        long start = System.nanoTime();
+        ValidationResult result;
+
+        try
+        {
+            result = assertion.evaluate(argument);
+        }
+        catch (RuntimeException ex)
+        {
+            recordUnexpectedException(start);
+            throw ex;
+        }
+
+        record(result.isValid(), start);
+        return result;
+    }
+
+    @Override
+    public boolean test(A argument)
+    {
+        long start = System.nanoTime();
+        boolean passed;
+
+        try
+        {
+            passed = assertion.test(argument);
+        }
+        catch (RuntimeException ex)
+        {
+            recordUnexpectedException(start);
+            throw ex;
+        }
+
+        record(passed, start);
+        return passed;
+    }
+
+    private void record(boolean passed, long start)
+    {
+        long elapsedNanos = System.nanoTime() - start;
+
+        counter.record(passed, elapsedNanos);
+        AssertionEvents.checked(assertion, elapsedNanos);
+    }
+
+    private void recordUnexpectedException(long start)
+    {
+        long elapsedNanos = System.nanoTime() - start;
+
+        counter.recordUnexpectedException(elapsedNanos);
+        AssertionEvents.checked(assertion, elapsedNanos);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "timed(" + counter.getName() + ", " + assertion + ")";
+    }
+
+}
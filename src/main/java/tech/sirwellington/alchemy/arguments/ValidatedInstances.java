@@ -0,0 +1,140 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import tech.sirwellington.alchemy.annotations.access.Internal;
+
+/**
+ * The instances that have passed a {@link Validator} {@linkplain ValidatorBuilder#rememberingValidInstances() that
+ * remembers them}. Instances are compared by identity, not {@code equals()}, and are only weakly referenced, so
+ * remembering an instance never keeps it alive.
+ * <p>
+ * Entries whose instances have been collected are removed the next time an instance is added.
+ *
+ * @author SirWellington
+ */
+@Internal
+final class ValidatedInstances
+{
+
+    private final ConcurrentMap<Object, Boolean> instances = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+
+    boolean contains(Object instance)
+    {
+        return instance != null && instances.containsKey(new Lookup(instance));
+    }
+
+    void add(Object instance)
+    {
+        if (instance == null)
+        {
+            return;
+        }
+
+        expungeCollected();
+        instances.put(new Key(instance, collected), Boolean.TRUE);
+    }
+
+    int size()
+    {
+        expungeCollected();
+        return instances.size();
+    }
+
+    private void expungeCollected()
+    {
+        Reference<?> reference;
+
+        while ((reference = collected.poll()) != null)
+        {
+            instances.remove(reference);
+        }
+    }
+
+    /**
+     * Weakly references an instance that passed. Once the instance is collected, the key is only
+     * equal to itself, so that it can still be removed.
+     */
+    private static final class Key extends WeakReference<Object>
+    {
+
+        private final int hash;
+
+        Key(Object instance, ReferenceQueue<Object> queue)
+        {
+            super(instance, queue);
+            this.hash = System.identityHashCode(instance);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            if (this == other)
+            {
+                return true;
+            }
+
+            if (!(other instanceof Key))
+            {
+                return false;
+            }
+
+            Object instance = get();
+            return instance != null && instance == ((Key) other).get();
+        }
+
+    }
+
+    /**
+     * Strongly references the instance being looked up, for as long as the lookup takes.
+     */
+    private static final class Lookup
+    {
+
+        private final Object instance;
+
+        Lookup(Object instance)
+        {
+            this.instance = instance;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return System.identityHashCode(instance);
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            return other instanceof Key && ((Key) other).get() == instance;
+        }
+
+    }
+
+}
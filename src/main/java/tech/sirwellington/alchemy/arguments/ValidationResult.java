@@ -0,0 +1,250 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments;
+
+import tech.sirwellington.alchemy.annotations.access.Internal;
+import tech.sirwellington.alchemy.annotations.arguments.NonEmpty;
+import tech.sirwellington.alchemy.annotations.arguments.Optional;
+import tech.sirwellington.alchemy.annotations.arguments.Required;
+import tech.sirwellington.alchemy.annotations.concurrency.Immutable;
+
+/**
+ * The outcome of {@linkplain AlchemyAssertion#evaluate(Object) evaluating} an argument, as an alternative
+ * to catching a {@link FailedAssertionException}.
+ * <p>
+ * Passing arguments all share the {@linkplain #valid() same instance}. Failures keep their message as a
+ * template and its arguments, and only render it when {@link #getMessage()} is called.
+ *
+ * @author SirWellington
+ * @see AlchemyAssertion#evaluate(Object)
+ * @see Arguments#test(Object)
+ */
+@Immutable
+public final class ValidationResult
+{
+
+    private static final Object[] NO_ARGUMENTS = {};
+
+    private static final ValidationResult VALID = new ValidationResult(null, NO_ARGUMENTS, null, null);
+
+    /**
+     * Shared result for a {@code null} argument given to a primitive assertion.
+     */
+    @Internal
+    static final ValidationResult NULL_ARGUMENT = new ValidationResult("Argument is null", NO_ARGUMENTS, null, null);
+
+    private final String messageTemplate;
+    private final Object[] messageArguments;
+    private final Throwable cause;
+    private final FailedAssertionException exception;
+
+    private ValidationResult(String messageTemplate,
+                             Object[] messageArguments,
+                             Throwable cause,
+                             FailedAssertionException exception)
+    {
+        this.messageTemplate = messageTemplate;
+        this.messageArguments = messageArguments;
+        this.cause = cause;
+        this.exception = exception;
+    }
+
+    /**
+     * @return The result for an argument that passed.
+     */
+    public static ValidationResult valid()
+    {
+        return VALID;
+    }
+
+    /**
+     * @param message The reason the argument failed.
+     * @return The result for an argument that failed.
+     */
+    public static ValidationResult invalid(@NonEmpty String message)
+    {
+        Checks.checkNotNull(message, "message is null");
+
+        return new ValidationResult(message, NO_ARGUMENTS, null, null);
+    }
+
+    /**
+     * @param messageTemplate The reason the argument failed, with a {@code {}} for each argument.
+     * @param arguments       The arguments to put in the message, once it is rendered.
+     * @return The result for an argument that failed.
+     * @see FailedAssertionException#FailedAssertionException(String, Object...)
+     */
+    public static ValidationResult invalid(@NonEmpty String messageTemplate, @Optional Object... arguments)
+    {
+        Checks.checkNotNull(messageTemplate, "message is null");
+
+        return new ValidationResult(messageTemplate, arguments != null ? arguments : NO_ARGUMENTS, null, null);
+    }
+
+    /**
+     * Same as {@link #invalid(String, Object...)}, with a cause.
+     */
+    public static ValidationResult invalid(@Required Throwable cause, @NonEmpty String messageTemplate, @Optional Object... arguments)
+    {
+        Checks.checkNotNull(cause, "cause is null");
+        Checks.checkNotNull(messageTemplate, "message is null");
+
+        return new ValidationResult(messageTemplate, arguments != null ? arguments : NO_ARGUMENTS, cause, null);
+    }
+
+    /**
+     * Wraps an exception already thrown by an {@link AlchemyAssertion}.
+     *
+     * @param exception The exception thrown.
+     * @return The result for an argument that failed.
+     */
+    public static ValidationResult failedWith(@Required FailedAssertionException exception)
+    {
+        Checks.checkNotNull(exception, "exception is null");
+
+        return new ValidationResult(null, NO_ARGUMENTS, null, exception);
+    }
+
+    public boolean isValid()
+    {
+        return this == VALID;
+    }
+
+    public boolean isInvalid()
+    {
+        return this != VALID;
+    }
+
+    /**
+     * @return Why the argument failed, or an empty String if it passed.
+     */
+    public String getMessage()
+    {
+        if (exception != null)
+        {
+            return exception.getMessage();
+        }
+
+        if (messageTemplate == null)
+        {
+            return "";
+        }
+
+        return FailedAssertionException.render(messageTemplate, messageArguments);
+    }
+
+    /**
+     * @return The failure message before any arguments are put in it.
+     */
+    @Internal
+    String getMessageTemplate()
+    {
+        if (exception != null)
+        {
+            return exception.getMessageTemplate();
+        }
+
+        return messageTemplate != null ? messageTemplate : "";
+    }
+
+    /**
+     * Creates the exception that {@link AlchemyAssertion#check(Object)} throws for this result.
+     *
+     * @return The exception describing the failure.
+     * @throws IllegalStateException If the argument passed.
+     */
+    public FailedAssertionException toException() throws IllegalStateException
+    {
+        Checks.checkState(isInvalid(), "argument is valid");
+
+        if (exception != null)
+        {
+            return exception;
+        }
+
+        if (cause != null)
+        {
+            return new FailedAssertionException(cause, messageTemplate, messageArguments);
+        }
+
+        return new FailedAssertionException(messageTemplate, messageArguments);
+    }
+
+    /**
+     * Same as {@link #toException()}, but without filling in a stack trace, for when the exception is
+     * only the cause of another one.
+     */
+    @Internal
+    FailedAssertionException toExceptionWithoutStackTrace()
+    {
+        boolean alreadySuppressed = FailedAssertionException.suppressStackTraces();
+        try
+        {
+            return toException();
+        }
+        finally
+        {
+            FailedAssertionException.restoreStackTraces(alreadySuppressed);
+        }
+    }
+
+    /**
+     * @return The same failure, reported with a different message.
+     */
+    @Internal
+    ValidationResult withMessage(String message)
+    {
+        Checks.checkState(isInvalid(), "argument is valid");
+
+        if (exception != null)
+        {
+            return new ValidationResult(null, NO_ARGUMENTS, null, exception.withMessage(message));
+        }
+
+        return new ValidationResult(message, NO_ARGUMENTS, cause, null);
+    }
+
+    /**
+     * @return This result without its exception or cause, and with its message still unrendered, so that it can be
+     *         kept, and turned into a new exception each time it is used.
+     */
+    @Internal
+    ValidationResult withoutException()
+    {
+        if (exception != null)
+        {
+            return new ValidationResult(exception.getMessageTemplate(), exception.getMessageArguments(), null, null);
+        }
+
+        if (cause != null)
+        {
+            return new ValidationResult(messageTemplate, messageArguments, null, null);
+        }
+
+        return this;
+    }
+
+    @Override
+    public String toString()
+    {
+        if (isValid())
+        {
+            return "ValidationResult{valid}";
+        }
+
+        return "ValidationResult{invalid: " + getMessage() + "}";
+    }
+
+}
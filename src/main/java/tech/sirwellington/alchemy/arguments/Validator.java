@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments;
+
+import tech.sirwellington.alchemy.annotations.arguments.Optional;
+
+/**
+ * A {@code Validator} is a pre-built chain of {@linkplain AlchemyAssertion Assertions}, along with the
+ * {@link ExceptionMapper} and message to use when the chain fails.
+ * <p>
+ * Validators are immutable and thread-safe, so they can be built once and stored in a {@code static final}
+ * field, instead of re-building the same {@link AssertionBuilder} chain on every call.
+ *
+ * <pre>
+ * {@code
+ * private static final Validator<String, BadRequestException> PASSWORD =
+ *      Arguments.<String>validator()
+ *          .throwing(BadRequestException.class)
+ *          .usingMessage("Invalid Password")
+ *          .is(nonEmptyString())
+ *          .is(stringWithLengthGreaterThanOrEqualTo(10))
+ *          .build();
+ *
+ * PASSWORD.check(password);
+ * }
+ * </pre>
+ *
+ * @param <Argument> The type of argument being checked
+ * @param <Ex>       The type of {@link Exception} that will be thrown if the argument fails any of the assertions.
+ * @author SirWellington
+ * @see ValidatorBuilder
+ * @see Arguments#validator()
+ */
+public interface Validator<Argument, Ex extends Throwable>
+{
+
+    /**
+     * Runs each of the assertions, in order, against the argument.
+     *
+     * @param argument The argument to validate
+     * @throws Ex If the argument fails any of the assertions.
+     */
+    void check(@Optional Argument argument) throws Ex;
+
+    /**
+     * @return How many arguments this validator has checked, whether they passed or not. Validators that
+     *         do not count them return {@code 0}.
+     */
+    default long getCheckedCount()
+    {
+        return 0;
+    }
+
+    /**
+     * @return How many arguments this validator passed without checking them, because they were not
+     *         {@linkplain ValidatorBuilder#sampled(int, int) sampled}. Validators that do not count them return {@code 0}.
+     */
+    default long getSkippedCount()
+    {
+        return 0;
+    }
+
+}
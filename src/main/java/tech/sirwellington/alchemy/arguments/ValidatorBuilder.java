@@ -0,0 +1,118 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments;
+
+import tech.sirwellington.alchemy.annotations.arguments.NonEmpty;
+import tech.sirwellington.alchemy.annotations.arguments.Required;
+import tech.sirwellington.alchemy.annotations.designs.FluidAPIDesign;
+
+/**
+ * Builds {@linkplain Validator Validators}. This mirrors the {@link AssertionBuilder}, except that the assertions
+ * are collected instead of run, and are only run once the built {@link Validator} is used.
+ * <p>
+ * Builders are immutable; each operation returns a new builder.
+ *
+ * @param <Argument> The type of argument being checked
+ * @param <Ex>       The type of {@link Exception} that will be thrown if the argument fails an assertion.
+ * @author SirWellington
+ * @see Arguments#validator()
+ */
+@FluidAPIDesign
+public interface ValidatorBuilder<Argument, Ex extends Throwable>
+{
+
+    /**
+     * Overrides the {@linkplain FailedAssertionException#getMessage() error message} in the Exception thrown
+     * when an argument fails one of the assertions.
+     *
+     * @see AssertionBuilder#usingMessage(String)
+     */
+    ValidatorBuilder<Argument, Ex> usingMessage(@NonEmpty String message);
+
+    /**
+     * Provide the behavior that responds to an argument failing an {@link AlchemyAssertion}.
+     *
+     * @see AssertionBuilder#throwing(ExceptionMapper)
+     */
+    <Ex extends Throwable> ValidatorBuilder<Argument, Ex> throwing(@Required ExceptionMapper<Ex> exceptionMapper);
+
+    /**
+     * Throw an instance of {@code exceptionClass} when an argument fails an {@link AlchemyAssertion}.
+     *
+     * @see AssertionBuilder#throwing(Class)
+     */
+    <Ex extends Throwable> ValidatorBuilder<Argument, Ex> throwing(@Required Class<Ex> exceptionClass);
+
+    /**
+     * Skips filling in stack traces for the exceptions created when an argument fails an assertion.
+     *
+     * @see AssertionBuilder#withoutStackTraces()
+     */
+    ValidatorBuilder<Argument, Ex> withoutStackTraces();
+
+    /**
+     * Names the {@link Validator}, so that {@linkplain AssertionListener listeners} such as {@link AssertionMetrics}
+     * can report on it as a whole, for example to see how often an endpoint rejects its requests.
+     *
+     * @param name Identifies the validator, such as {@code "createUser.request"}.
+     */
+    ValidatorBuilder<Argument, Ex> named(@NonEmpty String name);
+
+    /**
+     * Remembers each instance that passes the {@link Validator}, so that checking the same instance again returns
+     * straight away. This helps when the same request is validated by several layers, such as a controller, then a
+     * service, then a repository, each sharing the same {@link Validator}.
+     * <p>
+     * Instances are remembered by identity, and only weakly, so this never keeps them alive. Only use it for
+     * immutable arguments: a remembered instance that is changed afterwards is not checked again.
+     */
+    ValidatorBuilder<Argument, Ex> rememberingValidInstances();
+
+    /**
+     * Only checks some of the arguments, picked at random: {@code checked} out of every {@code outOf}, on average.
+     * This is meant for boundaries where arguments come from trusted code, where checking every argument costs
+     * too much, but never checking them is too risky.
+     * <p>
+     * Arguments that are checked, and fail, still throw. If the validator is {@linkplain #named(String) named}, its
+     * {@linkplain AssertionListener listeners} are told about each argument that is skipped, so that
+     * {@link AssertionMetrics} can count them.
+     *
+     * @param checked How many arguments to check. Must be {@code > 0}.
+     * @param outOf   Out of how many arguments. Must be {@code >= checked}.
+     */
+    ValidatorBuilder<Argument, Ex> sampled(int checked, int outOf);
+
+    /**
+     * Adds an assertion to the chain. Assertions are run in the order they are added.
+     *
+     * @param assertion The assertion to add. Must be non-null.
+     */
+    ValidatorBuilder<Argument, Ex> is(@Required AlchemyAssertion<Argument> assertion);
+
+    /**
+     * Kotlin-friendly alias for {@link #is(AlchemyAssertion)}.
+     *
+     * @see #is(AlchemyAssertion)
+     */
+    ValidatorBuilder<Argument, Ex> isA(@Required AlchemyAssertion<Argument> assertion);
+
+    /**
+     * Creates the {@link Validator}.
+     *
+     * @throws IllegalStateException If no assertions have been added.
+     */
+    Validator<Argument, Ex> build() throws IllegalStateException;
+
+}
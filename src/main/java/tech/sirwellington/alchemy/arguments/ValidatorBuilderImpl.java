@@ -0,0 +1,133 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments;
+
+import java.util.Arrays;
+import java.util.List;
+
+import tech.sirwellington.alchemy.annotations.access.Internal;
+import tech.sirwellington.alchemy.annotations.concurrency.Immutable;
+import tech.sirwellington.alchemy.annotations.designs.FluidAPIDesign;
+
+/**
+ * @author SirWellington
+ */
+@FluidAPIDesign
+@Immutable
+@Internal
+final class ValidatorBuilderImpl<Argument, Ex extends Throwable> implements ValidatorBuilder<Argument, Ex>
+{
+
+    private final AssertionRunner<Ex> runner;
+    private final AlchemyAssertion<Argument>[] assertions;
+    private final String name;
+    private final boolean rememberingValidInstances;
+    private final Sampling sampling;
+
+    private ValidatorBuilderImpl(AssertionRunner<Ex> runner,
+                                 AlchemyAssertion<Argument>[] assertions,
+                                 String name,
+                                 boolean rememberingValidInstances,
+                                 Sampling sampling)
+    {
+        this.runner = runner;
+        this.assertions = assertions;
+        this.name = name;
+        this.rememberingValidInstances = rememberingValidInstances;
+        this.sampling = sampling;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <Argument> ValidatorBuilderImpl<Argument, FailedAssertionException> newInstance()
+    {
+        return new ValidatorBuilderImpl<>(AssertionRunner.DEFAULT, new AlchemyAssertion[0], null, false, null);
+    }
+
+    @Override
+    public ValidatorBuilder<Argument, Ex> usingMessage(String message)
+    {
+        return new ValidatorBuilderImpl<>(runner.usingMessage(message), assertions, name, rememberingValidInstances, sampling);
+    }
+
+    @Override
+    public <Ex extends Throwable> ValidatorBuilder<Argument, Ex> throwing(ExceptionMapper<Ex> exceptionMapper)
+    {
+        return new ValidatorBuilderImpl<>(runner.throwing(exceptionMapper), assertions, name, rememberingValidInstances, sampling);
+    }
+
+    @Override
+    public <Ex extends Throwable> ValidatorBuilder<Argument, Ex> throwing(Class<Ex> exceptionClass)
+    {
+        return new ValidatorBuilderImpl<>(runner.throwing(exceptionClass), assertions, name, rememberingValidInstances, sampling);
+    }
+
+    @Override
+    public ValidatorBuilder<Argument, Ex> withoutStackTraces()
+    {
+        return new ValidatorBuilderImpl<>(runner.withoutStackTraces(), assertions, name, rememberingValidInstances, sampling);
+    }
+
+    @Override
+    public ValidatorBuilder<Argument, Ex> named(String name)
+    {
+        Checks.checkNotNullOrEmpty(name, "name is empty");
+
+        return new ValidatorBuilderImpl<>(runner, assertions, name, rememberingValidInstances, sampling);
+    }
+
+    @Override
+    public ValidatorBuilder<Argument, Ex> rememberingValidInstances()
+    {
+        return new ValidatorBuilderImpl<>(runner, assertions, name, true, sampling);
+    }
+
+    @Override
+    public ValidatorBuilder<Argument, Ex> sampled(int checked, int outOf)
+    {
+        return new ValidatorBuilderImpl<>(runner, assertions, name, rememberingValidInstances, Sampling.of(checked, outOf));
+    }
+
+    @Override
+    public ValidatorBuilder<Argument, Ex> is(AlchemyAssertion<Argument> assertion)
+    {
+        Checks.checkNotNull(assertion, "assertion is null");
+
+        AlchemyAssertion<Argument>[] newAssertions = Arrays.copyOf(assertions, assertions.length + 1);
+        newAssertions[assertions.length] = assertion;
+
+        return new ValidatorBuilderImpl<>(runner, newAssertions, name, rememberingValidInstances, sampling);
+    }
+
+    @Override
+    public ValidatorBuilder<Argument, Ex> isA(AlchemyAssertion<Argument> assertion)
+    {
+        return is(assertion);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Validator<Argument, Ex> build() throws IllegalStateException
+    {
+        Checks.checkState(assertions.length > 0, "no assertions to validate with");
+
+        List<AlchemyAssertion<Argument>> optimized = AssertionOptimizer.optimize(Arrays.asList(assertions));
+        AlchemyAssertion<Argument>[] optimizedAssertions = optimized.toArray(new AlchemyAssertion[0]);
+
+        ValidatedInstances validated = rememberingValidInstances ? new ValidatedInstances() : null;
+
+        return new ValidatorImpl<>(runner, optimizedAssertions, name, validated, sampling);
+    }
+
+}
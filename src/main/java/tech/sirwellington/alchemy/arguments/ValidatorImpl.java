@@ -0,0 +1,174 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+import tech.sirwellington.alchemy.annotations.access.Internal;
+import tech.sirwellington.alchemy.annotations.concurrency.Immutable;
+
+/**
+ * The assertions are kept in a flat array, and the {@link AssertionRunner} is resolved once when the
+ * {@link Validator} is built, so {@link #check(Object)} does no more work than running each assertion.
+ * By then, {@code AssertionOptimizer} has already flattened and fused the assertions.
+ * <p>
+ * A {@linkplain ValidatorBuilder#named(String) named} validator also reports each argument it checks to the
+ * {@linkplain AssertionListener listeners}, if there are any, and keeps its {@linkplain RecentFailures recent failures}.
+ * <p>
+ * A validator {@linkplain ValidatorBuilder#rememberingValidInstances() that remembers valid instances} returns
+ * straight away for an instance that has already passed it.
+ * <p>
+ * A {@linkplain ValidatorBuilder#sampled(int, int) sampled} validator decides first whether to check the argument
+ * at all.
+ * <p>
+ * Every validator counts the arguments it checks and skips, whether or not it is named or there are listeners.
+ *
+ * @author SirWellington
+ */
+@Immutable
+@Internal
+final class ValidatorImpl<Argument, Ex extends Throwable> implements Validator<Argument, Ex>
+{
+
+    private final AssertionRunner<Ex> runner;
+    private final AlchemyAssertion<Argument>[] assertions;
+    private final String name;
+    private final RecentFailures recentFailures;
+    private final ValidatedInstances validated;
+    private final Sampling sampling;
+
+    private final LongAdder checked = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+
+    ValidatorImpl(AssertionRunner<Ex> runner, AlchemyAssertion<Argument>[] assertions, String name)
+    {
+        this(runner, assertions, name, null, null);
+    }
+
+    ValidatorImpl(AssertionRunner<Ex> runner,
+                  AlchemyAssertion<Argument>[] assertions,
+                  String name,
+                  ValidatedInstances validated,
+                  Sampling sampling)
+    {
+        this.runner = runner;
+        this.assertions = assertions;
+        this.name = name;
+        this.recentFailures = name != null ? RecentFailures.forValidator(name) : null;
+        this.validated = validated;
+        this.sampling = sampling;
+    }
+
+    @Override
+    public void check(Argument argument) throws Ex
+    {
+        if (sampling != null && !sampling.shouldCheck())
+        {
+            skipped.increment();
+
+            if (AssertionListeners.ENABLED && name != null)
+            {
+                AssertionListeners.onSkippedValidation(name);
+            }
+
+            return;
+        }
+
+        checked.increment();
+
+        if (!AssertionListeners.ENABLED || name == null)
+        {
+            runAll(argument);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean passed = false;
+        try
+        {
+            passed = runAll(argument);
+        }
+        finally
+        {
+            AssertionListeners.onValidation(name, passed, start);
+        }
+    }
+
+    /**
+     * @return true if the argument passed every assertion, or false if a failure was swallowed by the
+     *         {@link ExceptionMapper}.
+     */
+    private boolean runAll(Argument argument) throws Ex
+    {
+        if (validated != null && validated.contains(argument))
+        {
+            return true;
+        }
+
+        boolean passed = true;
+
+        for (AlchemyAssertion<Argument> assertion : assertions)
+        {
+            try
+            {
+                if (!runner.run(assertion, argument))
+                {
+                    passed = false;
+                    recordFailure(assertion, argument, null);
+                }
+            }
+            catch (Throwable ex)
+            {
+                recordFailure(assertion, argument, ex);
+                throw ex;
+            }
+        }
+
+        if (passed && validated != null)
+        {
+            validated.add(argument);
+        }
+
+        return passed;
+    }
+
+    @Override
+    public long getCheckedCount()
+    {
+        return checked.sum();
+    }
+
+    @Override
+    public long getSkippedCount()
+    {
+        return skipped.sum();
+    }
+
+    private void recordFailure(AlchemyAssertion<Argument> assertion, Argument argument, Throwable ex)
+    {
+        if (recentFailures != null)
+        {
+            recentFailures.record(assertion, argument, ex);
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        return "Validator{" + "name=" + name + ", sampling=" + sampling + ", assertions=" + Arrays.toString(assertions) + '}';
+    }
+
+}
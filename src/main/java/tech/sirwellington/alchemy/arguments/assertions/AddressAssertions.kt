@@ -19,7 +19,8 @@ package tech.sirwellington.alchemy.arguments.assertions
 
 
 import tech.sirwellington.alchemy.arguments.AlchemyAssertion
-import tech.sirwellington.alchemy.arguments.checkThat
+import tech.sirwellington.alchemy.arguments.ValidationResult.invalid
+import tech.sirwellington.alchemy.arguments.ValidationResult.valid
 
 
 /**
@@ -44,12 +45,18 @@ import tech.sirwellington.alchemy.arguments.checkThat
  */
 fun validZipCode(): AlchemyAssertion<String>
 {
-    return AlchemyAssertion { zip ->
+    return VALID_ZIP_CODE_ASSERTION.get {
+        evaluating { zip ->
 
-        checkThat(zip)
-                .usingMessage("zip must consist of 4-5 characters")
-                .isA(stringWithLengthGreaterThanOrEqualTo(4))
-                .isA(stringWithLengthLessThanOrEqualTo(5))
+            if (zip == null || zip.length < 4 || zip.length > 5)
+            {
+                invalid("zip must consist of 4-5 characters")
+            }
+            else
+            {
+                valid()
+            }
+        }
     }
 }
 
@@ -66,12 +73,10 @@ fun validZipCode(): AlchemyAssertion<String>
  */
 fun validZipCodeString(): AlchemyAssertion<String>
 {
-    return AlchemyAssertion { zip ->
-
-        nonEmptyString().check(zip)
-        integerString().check(zip)
-        stringWithLength(5)
-
-        validZipCode().check(zip)
+    return VALID_ZIP_CODE_STRING_ASSERTION.get {
+        combine(nonEmptyString(), integerString(), validZipCode())
     }
 }
+
+private val VALID_ZIP_CODE_ASSERTION = Canonical()
+private val VALID_ZIP_CODE_STRING_ASSERTION = Canonical()
@@ -17,10 +17,18 @@
 
 package tech.sirwellington.alchemy.arguments.assertions
 
+import tech.sirwellington.alchemy.annotations.arguments.NonEmpty
 import tech.sirwellington.alchemy.annotations.arguments.Optional
 import tech.sirwellington.alchemy.annotations.arguments.Required
 import tech.sirwellington.alchemy.arguments.AlchemyAssertion
+import tech.sirwellington.alchemy.arguments.AssertionDescriptor.NotNull
+import tech.sirwellington.alchemy.arguments.AssertionMetrics
+import tech.sirwellington.alchemy.arguments.CachedAssertion
 import tech.sirwellington.alchemy.arguments.FailedAssertionException
+import tech.sirwellington.alchemy.arguments.ValidationResult
+import tech.sirwellington.alchemy.arguments.ValidationResult.invalid
+import tech.sirwellington.alchemy.arguments.ValidationResult.valid
+import tech.sirwellington.alchemy.arguments.allOf
 import tech.sirwellington.alchemy.arguments.checkNotNull
 
 /**
@@ -42,10 +50,9 @@ import tech.sirwellington.alchemy.arguments.checkNotNull
 </A> */
 fun <A : Any?> notNull(): AlchemyAssertion<A>
 {
-    return AlchemyAssertion { reference ->
-        if (reference == null)
-        {
-            throw FailedAssertionException("Argument is null")
+    return NOT_NULL_ASSERTION.get {
+        evaluating(NotNull) { reference ->
+            if (reference == null) NULL_ARGUMENT else valid()
         }
     }
 }
@@ -69,11 +76,10 @@ fun <A : Any?> nonNullReference(): AlchemyAssertion<A>
 
 fun <A : Any?> nullObject(): AlchemyAssertion<A>
 {
-    return AlchemyAssertion { reference ->
+    return NULL_OBJECT_ASSERTION.get {
+        evaluating { reference ->
 
-        if (reference != null)
-        {
-            throw FailedAssertionException("Argument is not null: $reference")
+            if (reference != null) invalid("Argument is not null: {}", reference) else valid()
         }
     }
 }
@@ -91,17 +97,9 @@ fun <A : Any?> nullObject(): AlchemyAssertion<A>
 
 fun <A : Any?> sameInstanceAs(@Optional other: A): AlchemyAssertion<A>
 {
-    return AlchemyAssertion block@ { argument ->
-
-        if (argument == null && other == null)
-        {
-            return@block
-        }
+    return evaluating { argument ->
 
-        if (argument !== other)
-        {
-            throw FailedAssertionException("Expected $argument to be the same instance as $other")
-        }
+        if (argument !== other) invalid("Expected {} to be the same instance as {}", argument, other) else valid()
     }
 }
 
@@ -134,13 +132,13 @@ fun <A : Any?> instanceOf(classOfExpectedType: Class<*>): AlchemyAssertion<A>
 {
     checkNotNull(classOfExpectedType, "class cannot be null")
 
-    return AlchemyAssertion { argument ->
-
-        notNull<Any>().check(argument)
+    return evaluating { argument ->
 
-        if (!classOfExpectedType.isInstance(argument))
+        when
         {
-            throw FailedAssertionException("Expected Object of type: $classOfExpectedType")
+            argument == null -> NULL_ARGUMENT
+            !classOfExpectedType.isInstance(argument) -> invalid("Expected Object of type: {}", classOfExpectedType)
+            else -> valid()
         }
     }
 }
@@ -164,12 +162,9 @@ inline fun <reified A : Any> instanceOf(): AlchemyAssertion<A>
 
 fun <A> equalTo(@Optional other: A): AlchemyAssertion<A>
 {
-    return AlchemyAssertion { argument ->
+    return evaluating { argument ->
 
-        if (argument != other)
-        {
-            throw FailedAssertionException("Expected $argument to be equal to $other")
-        }
+        if (argument != other) invalid("Expected {} to be equal to {}", argument, other) else valid()
     }
 }
 
@@ -194,19 +189,32 @@ fun <A> not(@Required assertion: AlchemyAssertion<A>): AlchemyAssertion<A>
 {
     checkNotNull(assertion, "missing assertion")
 
-    return AlchemyAssertion block@ { argument ->
-
-        try
+    return object : AlchemyAssertion<A>
+    {
+        override fun check(argument: A?)
         {
-            assertion.check(argument)
+            if (assertion.test(argument))
+            {
+                throw FailedAssertionException("Expected assertion to fail, but it passed: {}", assertion)
+            }
         }
-        catch (ex: FailedAssertionException)
+
+        override fun evaluate(argument: A?): ValidationResult
         {
-            return@block
+            return if (assertion.test(argument))
+            {
+                invalid("Expected assertion to fail, but it passed: {}", assertion)
+            }
+            else
+            {
+                valid()
+            }
         }
 
-        throw FailedAssertionException("Expected assertion to fail, but it passed: $assertion")
-
+        override fun test(argument: A?): Boolean
+        {
+            return !assertion.test(argument)
+        }
     }
 }
 
@@ -246,10 +254,7 @@ fun <A> AlchemyAssertion<A>.and(@Required other: AlchemyAssertion<A>): AlchemyAs
 {
     checkNotNull(other, "assertion cannot be null")
 
-    return AlchemyAssertion { argument ->
-        this.check(argument)
-        other.check(argument)
-    }
+    return allOf(listOf(this, other))
 }
 
 
@@ -269,6 +274,9 @@ fun <A> AlchemyAssertion<A>.and(@Required other: AlchemyAssertion<A>): AlchemyAs
  * This allows you to **combine and store** [assertions][AlchemyAssertion] that are commonly
  * used together ot perform argument checks.
  *
+ * Combined assertions are simplified once, here: nested combinations are flattened, and built-in
+ * bounds that sit next to each other, such as `greaterThan(0)` and `lessThan(100)`, are checked as one range.
+ *
  * @param first The first assertion to include.
  * @param others The rest of the assertions to include.
  *
@@ -279,12 +287,174 @@ fun <T> combine(@Required first: AlchemyAssertion<T>, vararg others: AlchemyAsse
     checkNotNull(first, "the first AlchemyAssertion cannot be null")
     checkNotNull(others, "null varargs")
 
-    return AlchemyAssertion { argument ->
-        first.check(argument)
+    return allOf(listOf(first, *others))
+}
+
+/**
+ * Passes if the argument passes at least one of the [assertions][AlchemyAssertion]. This is the opposite
+ * of [combine], which requires all of them to pass.
+ *
+ * For example,
+ * ```
+ * AlchemyAssertion<String> identifier = anyOf(validUUID(),
+ *                                             integerString());
+ *
+ * checkThat(id).is(identifier);
+ * ```
+ *
+ * The assertions are [evaluated][AlchemyAssertion.evaluate] once each, in order, stopping at the first one that passes,
+ * and none of them throw along the way. Only when every assertion fails is a single failure built,
+ * listing why each of them failed.
+ *
+ * @param first The first assertion to try.
+ * @param others The rest of the assertions to try.
+ *
+ * @see combine
+ * @see or
+ */
+fun <T> anyOf(@Required first: AlchemyAssertion<T>, vararg others: AlchemyAssertion<T>): AlchemyAssertion<T>
+{
+    checkNotNull(first, "the first AlchemyAssertion cannot be null")
+    checkNotNull(others, "null varargs")
+
+    return object : AlchemyAssertion<T>
+    {
+        override fun check(argument: T?)
+        {
+            val result = evaluate(argument)
 
-        for (assertion in others)
+            if (result.isInvalid)
+            {
+                throw result.toException()
+            }
+        }
+
+        override fun evaluate(argument: T?): ValidationResult
         {
-            assertion.check(argument)
+            val firstResult = first.evaluate(argument)
+
+            if (firstResult.isValid)
+            {
+                return valid()
+            }
+
+            val reasons = arrayOfNulls<ValidationResult>(others.size + 1)
+            reasons[0] = firstResult
+
+            for (i in others.indices)
+            {
+                val result = others[i].evaluate(argument)
+
+                if (result.isValid)
+                {
+                    return valid()
+                }
+
+                reasons[i + 1] = result
+            }
+
+            val messages = arrayOfNulls<String>(reasons.size)
+
+            for (i in reasons.indices)
+            {
+                messages[i] = reasons[i]?.message
+            }
+
+            return invalid("Expected {} to pass at least one of {} assertions, but: {}", argument, messages.size, messages)
+        }
+
+        override fun test(argument: T?): Boolean
+        {
+            if (first.test(argument))
+            {
+                return true
+            }
+
+            for (assertion in others)
+            {
+                if (assertion.test(argument))
+                {
+                    return true
+                }
+            }
+
+            return false
         }
     }
-}
\ No newline at end of file
+}
+
+/**
+ * Allows you to combine two [assertions][AlchemyAssertion] into one, where the argument must pass
+ * at least one of them.
+ *
+ * For example,
+ * ```
+ * AlchemyAssertion<String> identifier = validUUID()
+ *                                       .or(integerString());
+ *
+ * checkThat(id).is(identifier);
+ * ```
+ *
+ * The second assertion is only tried if the first one fails.
+ *
+ * @param other The assertion to try if this one fails.
+ *
+ * @see anyOf
+ * @see and
+ */
+@Required
+@Throws(IllegalArgumentException::class)
+fun <A> AlchemyAssertion<A>.or(@Required other: AlchemyAssertion<A>): AlchemyAssertion<A>
+{
+    checkNotNull(other, "assertion cannot be null")
+
+    return anyOf(this, other)
+}
+
+/**
+ * Records how long the [assertion] takes for each argument, in a fixed-size latency histogram named [name].
+ *
+ * For example,
+ * ```
+ * checkThat(url).isA(timed(validURL(), "tenant.url"));
+ *
+ * AssertionMetrics.getTimedCounter("tenant.url").getLatencyP999Nanos();
+ * ```
+ *
+ * @param name Where the timings are recorded. Assertions timed under the same name share a histogram.
+ *
+ * @see AssertionMetrics.timed
+ */
+fun <A> timed(@Required assertion: AlchemyAssertion<A>, @NonEmpty name: String): AlchemyAssertion<A>
+{
+    return AssertionMetrics.timed(assertion, name)
+}
+
+/**
+ * Remembers whether each argument passed the [assertion], so that values seen again are checked with
+ * a single hash lookup. Use it for expensive assertions that are pure functions of their argument,
+ * when the same values come up again and again.
+ *
+ * For example,
+ * ```
+ * AlchemyAssertion<String> tenantUrl = cached(validURL(), 10_000);
+ *
+ * checkThat(url).is(tenantUrl);
+ * ```
+ *
+ * @param maxEntries How many results to keep.
+ * @param maxBytes How much memory the String arguments kept may take, estimated from their length.
+ *                 By default, 1 KB for each entry.
+ *
+ * @see CachedAssertion
+ */
+@JvmOverloads
+fun <A> cached(@Required assertion: AlchemyAssertion<A>,
+               maxEntries: Int,
+               maxBytes: Long = maxEntries * CachedAssertion.DEFAULT_BYTES_PER_ENTRY): CachedAssertion<A>
+{
+    return CachedAssertion(assertion, maxEntries, maxBytes)
+}
+
+private val NOT_NULL_ASSERTION = Canonical()
+private val NULL_OBJECT_ASSERTION = Canonical()
@@ -19,7 +19,8 @@ package tech.sirwellington.alchemy.arguments.assertions
 
 
 import tech.sirwellington.alchemy.arguments.AlchemyAssertion
-import tech.sirwellington.alchemy.arguments.FailedAssertionException
+import tech.sirwellington.alchemy.arguments.ValidationResult.invalid
+import tech.sirwellington.alchemy.arguments.ValidationResult.valid
 
 /**
 
@@ -29,13 +30,15 @@ import tech.sirwellington.alchemy.arguments.FailedAssertionException
 
 fun trueStatement(): AlchemyAssertion<Boolean>
 {
-    return AlchemyAssertion { b ->
+    return TRUE_STATEMENT_ASSERTION.get {
+        evaluating { b ->
 
-        notNull<Any>().check(b)
-
-        if ((!b))
-        {
-            throw FailedAssertionException("Condition not met")
+            when
+            {
+                b == null -> NULL_ARGUMENT
+                !b -> CONDITION_NOT_MET
+                else -> valid()
+            }
         }
     }
 }
@@ -43,10 +46,20 @@ fun trueStatement(): AlchemyAssertion<Boolean>
 
 fun falseStatement(): AlchemyAssertion<Boolean>
 {
-    return AlchemyAssertion { b ->
-
-        notNull<Any>().check(b)
+    return FALSE_STATEMENT_ASSERTION.get {
+        evaluating { b ->
 
-        trueStatement().check((!b))
+            when
+            {
+                b == null -> NULL_ARGUMENT
+                b -> CONDITION_NOT_MET
+                else -> valid()
+            }
+        }
     }
-}
\ No newline at end of file
+}
+
+private val CONDITION_NOT_MET = invalid("Condition not met")
+
+private val TRUE_STATEMENT_ASSERTION = Canonical()
+private val FALSE_STATEMENT_ASSERTION = Canonical()
@@ -0,0 +1,284 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+@file:JvmName("BuiltInAssertions")
+
+package tech.sirwellington.alchemy.arguments.assertions
+
+import tech.sirwellington.alchemy.annotations.access.Internal
+import tech.sirwellington.alchemy.arguments.AlchemyAssertion
+import tech.sirwellington.alchemy.arguments.AssertionDescriptor
+import tech.sirwellington.alchemy.arguments.DescribedAssertion
+import tech.sirwellington.alchemy.arguments.DoubleAssertion
+import tech.sirwellington.alchemy.arguments.IntAssertion
+import tech.sirwellington.alchemy.arguments.LongAssertion
+import tech.sirwellington.alchemy.arguments.ValidationResult
+import java.util.concurrent.atomic.AtomicReferenceArray
+import java.util.regex.Matcher
+import java.util.regex.Pattern
+
+/**
+ * Support for the built-in [assertions][AlchemyAssertion], which report failures as a [ValidationResult]
+ * rather than throwing them, so that [AlchemyAssertion.evaluate] never creates an exception.
+ *
+ * @author SirWellington
+ */
+
+/**
+ * Shared result for a null argument.
+ */
+@Internal
+internal val NULL_ARGUMENT: ValidationResult = ValidationResult.invalid("Argument is null")
+
+/**
+ * Holds the one instance of a built-in assertion that takes no parameters, so that calling its factory
+ * in a hot method does not allocate.
+ *
+ * The instance is created inside the factory, by [get], so that it still has the factory as its
+ * enclosing method, and its [kind][tech.sirwellington.alchemy.arguments.AssertionMetrics] is unchanged.
+ * Two threads may both create it the first time; they create equivalent assertions, and one of them is kept.
+ */
+@Internal
+internal class Canonical
+{
+    @Volatile
+    internal var instance: Any? = null
+
+    @Suppress("UNCHECKED_CAST")
+    internal inline fun <T : Any> get(create: () -> T): T
+    {
+        return (instance ?: create().also { instance = it }) as T
+    }
+}
+
+/**
+ * Holds the instances of a built-in assertion for the common values of its one parameter,
+ * from [MIN_VALUE] to [MAX_VALUE], such as `greaterThan(0)` or `stringWithLength(8)`.
+ * Other values create a new assertion each time.
+ *
+ * @see Canonical
+ */
+@Internal
+internal class CanonicalByValue
+{
+    internal val instances = AtomicReferenceArray<Any>(MAX_VALUE - MIN_VALUE + 1)
+
+    internal inline fun <T : Any> get(value: Int, create: () -> T): T
+    {
+        return get(value.toLong(), create)
+    }
+
+    @Suppress("UNCHECKED_CAST")
+    internal inline fun <T : Any> get(value: Long, create: () -> T): T
+    {
+        val index = if (value in MIN_VALUE..MAX_VALUE) (value - MIN_VALUE).toInt() else -1
+
+        if (index >= 0)
+        {
+            val existing = instances.get(index)
+
+            if (existing != null)
+            {
+                return existing as T
+            }
+        }
+
+        val created = create()
+
+        if (index >= 0)
+        {
+            instances.compareAndSet(index, null, created)
+        }
+
+        return created
+    }
+
+    internal companion object
+    {
+        const val MIN_VALUE = -1
+        const val MAX_VALUE = 16
+    }
+}
+
+/**
+ * Matches strings against a [pattern] with a [Matcher] kept for each thread, so that matching
+ * does not create a new [Matcher] each time.
+ *
+ * Each instance holds a [ThreadLocal], so only use it for patterns kept in a top-level constant.
+ * A new instance for each assertion would allocate more than it saves, and leave an entry behind in every thread.
+ */
+@Internal
+internal class ReusableMatcher(val pattern: Pattern)
+{
+    private val matchers = ThreadLocal.withInitial { pattern.matcher("") }
+
+    fun matches(input: CharSequence): Boolean
+    {
+        val matcher = matchers.get()
+
+        try
+        {
+            return matcher.reset(input).matches()
+        }
+        finally
+        {
+            //Don't keep the input alive
+            matcher.reset("")
+        }
+    }
+
+    override fun toString(): String
+    {
+        return pattern.toString()
+    }
+}
+
+/**
+ * Creates an [AlchemyAssertion] from an [evaluation] that returns a [ValidationResult] instead of throwing.
+ * [AlchemyAssertion.check] creates the exception only once the evaluation fails.
+ *
+ * The optional [descriptor] must accept exactly the arguments that the [evaluation] does.
+ */
+@Internal
+internal inline fun <A> evaluating(descriptor: AssertionDescriptor? = null,
+                                   crossinline evaluation: (A?) -> ValidationResult): AlchemyAssertion<A>
+{
+    return object : AlchemyAssertion<A>, DescribedAssertion
+    {
+        override val descriptor = descriptor
+
+        override fun check(argument: A?)
+        {
+            val result = evaluate(argument)
+
+            if (result.isInvalid)
+            {
+                throw result.toException()
+            }
+        }
+
+        override fun evaluate(argument: A?): ValidationResult
+        {
+            return evaluation(argument)
+        }
+
+        override fun test(argument: A?): Boolean
+        {
+            return evaluate(argument).isValid
+        }
+    }
+}
+
+/**
+ * Creates an [IntAssertion] from an [evaluation] of the primitive argument. A `null` argument fails
+ * before it reaches the [evaluation].
+ */
+@Internal
+internal inline fun evaluatingInt(descriptor: AssertionDescriptor? = null,
+                                  crossinline evaluation: (Int) -> ValidationResult): IntAssertion
+{
+    return object : IntAssertion, DescribedAssertion
+    {
+        override val descriptor = descriptor
+
+        override fun checkInt(argument: Int)
+        {
+            val result = evaluateInt(argument)
+
+            if (result.isInvalid)
+            {
+                throw result.toException()
+            }
+        }
+
+        override fun evaluateInt(argument: Int): ValidationResult
+        {
+            return evaluation(argument)
+        }
+
+        override fun testInt(argument: Int): Boolean
+        {
+            return evaluateInt(argument).isValid
+        }
+    }
+}
+
+/**
+ * Creates an [LongAssertion] from an [evaluation] of the primitive argument. A `null` argument fails
+ * before it reaches the [evaluation].
+ */
+@Internal
+internal inline fun evaluatingLong(descriptor: AssertionDescriptor? = null,
+                                   crossinline evaluation: (Long) -> ValidationResult): LongAssertion
+{
+    return object : LongAssertion, DescribedAssertion
+    {
+        override val descriptor = descriptor
+
+        override fun checkLong(argument: Long)
+        {
+            val result = evaluateLong(argument)
+
+            if (result.isInvalid)
+            {
+                throw result.toException()
+            }
+        }
+
+        override fun evaluateLong(argument: Long): ValidationResult
+        {
+            return evaluation(argument)
+        }
+
+        override fun testLong(argument: Long): Boolean
+        {
+            return evaluateLong(argument).isValid
+        }
+    }
+}
+
+/**
+ * Creates an [DoubleAssertion] from an [evaluation] of the primitive argument. A `null` argument fails
+ * before it reaches the [evaluation].
+ */
+@Internal
+internal inline fun evaluatingDouble(descriptor: AssertionDescriptor? = null,
+                                     crossinline evaluation: (Double) -> ValidationResult): DoubleAssertion
+{
+    return object : DoubleAssertion, DescribedAssertion
+    {
+        override val descriptor = descriptor
+
+        override fun checkDouble(argument: Double)
+        {
+            val result = evaluateDouble(argument)
+
+            if (result.isInvalid)
+            {
+                throw result.toException()
+            }
+        }
+
+        override fun evaluateDouble(argument: Double): ValidationResult
+        {
+            return evaluation(argument)
+        }
+
+        override fun testDouble(argument: Double): Boolean
+        {
+            return evaluateDouble(argument).isValid
+        }
+    }
+}
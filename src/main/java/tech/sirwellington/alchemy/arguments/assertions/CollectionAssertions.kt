@@ -22,10 +22,11 @@ import tech.sirwellington.alchemy.annotations.arguments.Optional
 import tech.sirwellington.alchemy.annotations.arguments.Positive
 import tech.sirwellington.alchemy.annotations.arguments.Required
 import tech.sirwellington.alchemy.arguments.AlchemyAssertion
-import tech.sirwellington.alchemy.arguments.FailedAssertionException
+import tech.sirwellington.alchemy.arguments.ValidationResult.invalid
+import tech.sirwellington.alchemy.arguments.ValidationResult.valid
 import tech.sirwellington.alchemy.arguments.checkNotNull
 import tech.sirwellington.alchemy.arguments.checkThat
-import java.util.Arrays
+
 
 
 /**
@@ -38,13 +39,15 @@ import java.util.Arrays
 </E> */
 fun <E> nonEmptyCollection(): AlchemyAssertion<Collection<E>>
 {
-    return AlchemyAssertion { collection ->
-
-        notNull<Any>().check(collection)
+    return NON_EMPTY_COLLECTION_ASSERTION.get {
+        evaluating { collection ->
 
-        if (collection.isEmpty())
-        {
-            throw FailedAssertionException("Collection is empty")
+            when
+            {
+                collection == null -> NULL_ARGUMENT
+                collection.isEmpty() -> EMPTY_COLLECTION
+                else -> valid()
+            }
         }
     }
 }
@@ -59,15 +62,18 @@ fun <E> nonEmptyCollection(): AlchemyAssertion<Collection<E>>
 </E> */
 fun <E> nonEmptyList(): AlchemyAssertion<List<E>>
 {
-    return AlchemyAssertion { list ->
-        notNull<Any>().check(list)
+    return NON_EMPTY_LIST_ASSERTION.get {
+        evaluating { list ->
 
-        if (list.isEmpty())
-        {
-            throw FailedAssertionException("List is empty")
+            when
+            {
+                list == null -> NULL_ARGUMENT
+                list.isEmpty() -> invalid("List is empty")
+                else -> valid()
+            }
         }
-    }
 
+    }
 }
 
 /**
@@ -79,12 +85,15 @@ fun <E> nonEmptyList(): AlchemyAssertion<List<E>>
 </E> */
 fun <E : Any> nonEmptySet(): AlchemyAssertion<Set<E>>
 {
-    return AlchemyAssertion { set ->
-        notNull<Any>().check(set)
+    return NON_EMPTY_SET_ASSERTION.get {
+        evaluating { set ->
 
-        if (set.isEmpty())
-        {
-            throw FailedAssertionException("Set is empty")
+            when
+            {
+                set == null -> NULL_ARGUMENT
+                set.isEmpty() -> invalid("Set is empty")
+                else -> valid()
+            }
         }
     }
 }
@@ -101,63 +110,75 @@ fun <E : Any> nonEmptySet(): AlchemyAssertion<Set<E>>
 </V></K> */
 fun <K, V> nonEmptyMap(): AlchemyAssertion<Map<K, V>>
 {
-    return AlchemyAssertion { map ->
-        notNull<Any>().check(map)
+    return NON_EMPTY_MAP_ASSERTION.get {
+        evaluating { map ->
 
-        if (map.isEmpty())
-        {
-            throw FailedAssertionException("Map is empty")
+            when
+            {
+                map == null -> NULL_ARGUMENT
+                map.isEmpty() -> invalid("Map is empty")
+                else -> valid()
+            }
         }
-
     }
 }
 
 fun <E> nonEmptyArray(): AlchemyAssertion<Array<E>>
 {
-    return AlchemyAssertion { array ->
-
-        notNull<Any>().check(array)
+    return NON_EMPTY_ARRAY_ASSERTION.get {
+        evaluating { array ->
 
-        if (array.isEmpty())
-        {
-            throw FailedAssertionException("Array is empty")
+            when
+            {
+                array == null -> NULL_ARGUMENT
+                array.isEmpty() -> invalid("Array is empty")
+                else -> valid()
+            }
         }
     }
 }
 
 fun <E> emptyCollection(): AlchemyAssertion<Collection<E>>
 {
-    return AlchemyAssertion { collection ->
+    return EMPTY_COLLECTION_ASSERTION.get {
+        evaluating { collection ->
 
-        notNull<Any>().check(collection)
-
-        if (!collection.isEmpty())
-        {
-            throw FailedAssertionException("Expected an empty collection, but it has size [${collection.size}]")
+            when
+            {
+                collection == null -> NULL_ARGUMENT
+                !collection.isEmpty() -> invalid("Expected an empty collection, but it has size [{}]", collection.size)
+                else -> valid()
+            }
         }
     }
 }
 
 fun <E> emptyList(): AlchemyAssertion<List<E>>
 {
-    return AlchemyAssertion {
-        emptyCollection<E>().check(it)
+    return EMPTY_LIST_ASSERTION.get {
+        evaluating { list -> emptyCollection<E>().evaluate(list) }
     }
 }
 
 
 fun <E> emptySet(): AlchemyAssertion<Set<E>>
 {
-    return AlchemyAssertion { set -> emptyCollection<E>().check(set) }
+    return EMPTY_SET_ASSERTION.get {
+        evaluating { set -> emptyCollection<E>().evaluate(set) }
+    }
 }
 
 fun <K, V> emptyMap(): AlchemyAssertion<Map<K, V>>
 {
-    return AlchemyAssertion {
+    return EMPTY_MAP_ASSERTION.get {
+        evaluating { map ->
 
-        if (it.isNotEmpty())
-        {
-            throw FailedAssertionException("Expected an empty map, but instead [$it]")
+            when
+            {
+                map == null -> NULL_ARGUMENT
+                map.isNotEmpty() -> invalid("Expected an empty map, but instead [{}]", map)
+                else -> valid()
+            }
         }
     }
 }
@@ -167,13 +188,13 @@ fun <E> listContaining(@Required element: E): AlchemyAssertion<List<E>>
 {
     checkNotNull(element, "cannot check for null")
 
-    return AlchemyAssertion { list ->
+    return evaluating { list ->
 
-        notNull<Any>().check(list)
-
-        if (!list.contains(element))
+        when
         {
-            throw FailedAssertionException("$element not found in List")
+            list == null -> NULL_ARGUMENT
+            !list.contains(element) -> invalid("{} not found in List", element)
+            else -> valid()
         }
     }
 }
@@ -183,12 +204,13 @@ fun <E, C : Collection<E>> collectionContaining(@Required element: E): AlchemyAs
 {
     checkNotNull(element, "cannot check for null")
 
-    return AlchemyAssertion { collection ->
-        notNull<Any>().check(collection)
+    return evaluating { collection ->
 
-        if (!collection.contains(element))
+        when
         {
-            throw FailedAssertionException("$element not found in Collection")
+            collection == null -> NULL_ARGUMENT
+            !collection.contains(element) -> invalid("{} not found in Collection", element)
+            else -> valid()
         }
     }
 }
@@ -218,16 +240,27 @@ fun <E, C : Collection<E>> collectionContainingAll(@Required first: E, @Optional
         return collectionContaining(first)
     }
 
-    return AlchemyAssertion { collection ->
+    return evaluating block@ { collection ->
 
-        notNull<Any>().check(collection)
+        if (collection == null)
+        {
+            return@block NULL_ARGUMENT
+        }
 
-        collectionContaining(first).check(collection)
+        if (!collection.contains(first))
+        {
+            return@block invalid("{} not found in Collection", first)
+        }
 
-        val arguments = Arrays.asList(*andOther)
+        for (element in andOther)
+        {
+            if (!collection.contains(element))
+            {
+                return@block invalid("Element not found in Collection: {}", element)
+            }
+        }
 
-        arguments.filterNot { collection.contains(it) }
-                .forEach { throw FailedAssertionException("Element not found in Collection: $it") }
+        valid()
     }
 }
 
@@ -256,22 +289,27 @@ fun <E, C : Collection<E>> collectionContainingAtLeastOneOf(@Required first: E,
         return collectionContaining(first)
     }
 
-    return AlchemyAssertion block@ { collection ->
+    return evaluating block@ { collection ->
 
-        if (collection.contains(first))
+        if (collection == null)
         {
-            return@block
+            return@block NULL_ARGUMENT
         }
 
-        orOthers.forEach { argument ->
+        if (collection.contains(first))
+        {
+            return@block valid()
+        }
 
+        for (argument in orOthers)
+        {
             if (collection.contains(argument))
             {
-                return@block
+                return@block valid()
             }
         }
 
-        throw FailedAssertionException("Collection does not contain any of : $first , ${Arrays.toString(orOthers)}")
+        invalid("Collection does not contain any of : {} , {}", first, orOthers)
     }
 }
 
@@ -280,13 +318,13 @@ fun <K, V> mapWithKey(@Required key: K): AlchemyAssertion<Map<K, V>>
 {
     checkNotNull(key, "key cannot be null")
 
-    return AlchemyAssertion { map ->
+    return evaluating { map ->
 
-        notNull<Any>().check(map)
-
-        if (!map.containsKey(key))
+        when
         {
-            throw FailedAssertionException("Expected Key [$key] in Map")
+            map == null -> NULL_ARGUMENT
+            !map.containsKey(key) -> invalid("Expected Key [{}] in Map", key)
+            else -> valid()
         }
     }
 }
@@ -296,17 +334,15 @@ fun <K, V> mapWithKeyValue(@Required key: K, value: V): AlchemyAssertion<Map<K,
 {
     checkNotNull(key, "key cannot be null")
 
-    return AlchemyAssertion { map ->
-
-        mapWithKey<K, V>(key).check(map)
+    return evaluating { map ->
 
-        val valueInMap = map[key]
-
-        if (value != valueInMap)
+        when
         {
-            throw FailedAssertionException("Value in Map [$valueInMap] does not match expected value $value")
+            map == null -> NULL_ARGUMENT
+            !map.containsKey(key) -> invalid("Expected Key [{}] in Map", key)
+            value != map[key] -> invalid("Value in Map [{}] does not match expected value {}", map[key], value)
+            else -> valid()
         }
-
     }
 }
 
@@ -315,13 +351,13 @@ fun <K, V> keyInMap(@Required map: Map<K, V>): AlchemyAssertion<K>
 {
     checkNotNull(map, "map cannot be null")
 
-    return AlchemyAssertion { key ->
-
-        notNull<Any>().check(key)
+    return evaluating { key ->
 
-        if (!map.containsKey(key))
+        when
         {
-            throw FailedAssertionException("Expected key [$key] to be in map")
+            key == null -> NULL_ARGUMENT
+            !map.containsKey(key) -> invalid("Expected key [{}] to be in map", key)
+            else -> valid()
         }
     }
 }
@@ -331,13 +367,13 @@ fun <K, V> valueInMap(@Required map: Map<K, V>): AlchemyAssertion<V>
 {
     checkNotNull(map, "map cannot be null")
 
-    return AlchemyAssertion { value ->
+    return evaluating { value ->
 
-        notNull<Any>().check(value)
-
-        if (!map.containsValue(value))
+        when
         {
-            throw FailedAssertionException("Expected value [$value] to be in map")
+            value == null -> NULL_ARGUMENT
+            !map.containsValue(value) -> invalid("Expected value [{}] to be in map", value)
+            else -> valid()
         }
     }
 }
@@ -347,12 +383,13 @@ fun <E> elementInCollection(@NonEmpty collection: Collection<E>): AlchemyAsserti
 {
     checkNotNull(collection, "collection cannot be null")
 
-    return AlchemyAssertion { element ->
-        notNull<Any>().check(element)
+    return evaluating { element ->
 
-        if (!collection.contains(element))
+        when
         {
-            throw FailedAssertionException("Expected element [$element] to be in collection")
+            element == null -> NULL_ARGUMENT
+            !collection.contains(element) -> invalid("Expected element [{}] to be in collection", element)
+            else -> valid()
         }
     }
 }
@@ -362,16 +399,29 @@ fun <C : Collection<*>> collectionOfSize(@Positive size: Int): AlchemyAssertion<
 {
     checkThat(size >= 0, "size must be >= 0")
 
-    return AlchemyAssertion { collection ->
-
-        nonEmptyCollection<Any?>().check(collection)
-
-        val actualSize = collection.size
+    return COLLECTION_OF_SIZE_ASSERTIONS.get(size) {
+        evaluating { collection ->
 
-        if (actualSize != size)
-        {
-            throw FailedAssertionException("Expected collection with size [$size] but is instead [$actualSize]")
+            when
+            {
+                collection == null -> NULL_ARGUMENT
+                collection.isEmpty() -> EMPTY_COLLECTION
+                collection.size != size -> invalid("Expected collection with size [{}] but is instead [{}]", size, collection.size)
+                else -> valid()
+            }
         }
     }
 }
 
+private val EMPTY_COLLECTION = invalid("Collection is empty")
+
+private val NON_EMPTY_COLLECTION_ASSERTION = Canonical()
+private val NON_EMPTY_LIST_ASSERTION = Canonical()
+private val NON_EMPTY_SET_ASSERTION = Canonical()
+private val NON_EMPTY_MAP_ASSERTION = Canonical()
+private val NON_EMPTY_ARRAY_ASSERTION = Canonical()
+private val EMPTY_COLLECTION_ASSERTION = Canonical()
+private val EMPTY_LIST_ASSERTION = Canonical()
+private val EMPTY_SET_ASSERTION = Canonical()
+private val EMPTY_MAP_ASSERTION = Canonical()
+private val COLLECTION_OF_SIZE_ASSERTIONS = CanonicalByValue()
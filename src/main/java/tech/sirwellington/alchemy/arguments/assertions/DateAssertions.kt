@@ -18,7 +18,8 @@ package tech.sirwellington.alchemy.arguments.assertions
 import tech.sirwellington.alchemy.annotations.access.NonInstantiable
 import tech.sirwellington.alchemy.annotations.arguments.Required
 import tech.sirwellington.alchemy.arguments.AlchemyAssertion
-import tech.sirwellington.alchemy.arguments.FailedAssertionException
+import tech.sirwellington.alchemy.arguments.ValidationResult.invalid
+import tech.sirwellington.alchemy.arguments.ValidationResult.valid
 import tech.sirwellington.alchemy.arguments.checkNotNull
 import java.util.Date
 
@@ -41,13 +42,14 @@ internal constructor()
 
         fun inThePast(): AlchemyAssertion<Date>
         {
-            return AlchemyAssertion { date ->
-                //Recalculate now each time we are called
-                val present = Date()
-                //Check that argument is before present
-                if (!date.before(present))
+            return evaluating { date ->
+
+                when
                 {
-                    throw FailedAssertionException("Expected Date [$date] to be in the past")
+                    date == null -> NULL_ARGUMENT
+                    //Recalculate now each time we are called
+                    date.time < System.currentTimeMillis() -> valid()
+                    else -> invalid("Expected Date [{}] to be in the past", date)
                 }
             }
         }
@@ -57,13 +59,13 @@ internal constructor()
         {
             checkNotNull(expected, "date cannot be null")
 
-            return AlchemyAssertion { date ->
-
-                notNull<Any>().check(date)
+            return evaluating { date ->
 
-                if (!date.before(expected))
+                when
                 {
-                    throw FailedAssertionException("Expected Date to be before $expected")
+                    date == null -> NULL_ARGUMENT
+                    date.before(expected) -> valid()
+                    else -> invalid("Expected Date to be before {}", expected)
                 }
             }
         }
@@ -71,14 +73,14 @@ internal constructor()
 
         fun inTheFuture(): AlchemyAssertion<Date>
         {
-            return AlchemyAssertion { date ->
-                //Now must stay current
-                val present = Date()
+            return evaluating { date ->
 
-                //Check that argument is after present
-                if (!date.after(present))
+                when
                 {
-                    throw FailedAssertionException("Expected Date [$date] to be in the future")
+                    date == null -> NULL_ARGUMENT
+                    //Now must stay current
+                    date.time > System.currentTimeMillis() -> valid()
+                    else -> invalid("Expected Date [{}] to be in the future", date)
                 }
             }
         }
@@ -88,13 +90,13 @@ internal constructor()
         {
             checkNotNull(expected, "date cannot be null")
 
-            return AlchemyAssertion { date ->
-
-                notNull<Any>().check(date)
+            return evaluating { date ->
 
-                if (!date.after(expected))
+                when
                 {
-                    throw FailedAssertionException("Expected Date [$date] to be after [$expected]")
+                    date == null -> NULL_ARGUMENT
+                    date.after(expected) -> valid()
+                    else -> invalid("Expected Date [{}] to be after [{}]", date, expected)
                 }
             }
         }
@@ -19,7 +19,9 @@ package tech.sirwellington.alchemy.arguments.assertions
 
 
 import tech.sirwellington.alchemy.arguments.AlchemyAssertion
-import tech.sirwellington.alchemy.arguments.checkThat
+import tech.sirwellington.alchemy.arguments.DoubleAssertion
+import tech.sirwellington.alchemy.arguments.ValidationResult.invalid
+import tech.sirwellington.alchemy.arguments.ValidationResult.valid
 
 /**
  * Assertions for testing Geo-Location data, like latitude and longitude.
@@ -33,16 +35,22 @@ import tech.sirwellington.alchemy.arguments.checkThat
  * @return
  */
 
-fun validLatitude(): AlchemyAssertion<Double>
+fun validLatitude(): DoubleAssertion
 {
-    return AlchemyAssertion { lat ->
+    return VALID_LATITUDE_ASSERTION.get {
+        evaluatingDouble { lat ->
 
-        checkThat(lat)
-                .usingMessage("Latitude must be between -90 and 90, but was " + lat!!)
-                .isA(lessThanOrEqualTo(90.0))
-                .isA(greaterThanOrEqualTo(-90.0))
-    }
+            if (lat < -90.0 || lat > 90.0)
+            {
+                invalid("Latitude must be between -90 and 90, but was {}", lat)
+            }
+            else
+            {
+                valid()
+            }
+        }
 
+    }
 }
 
 /**
@@ -50,13 +58,35 @@ fun validLatitude(): AlchemyAssertion<Double>
  *
  * @return
  */
-fun validLongitude(): AlchemyAssertion<Double>
+fun validLongitude(): DoubleAssertion
 {
-    return AlchemyAssertion { lon ->
+    return VALID_LONGITUDE_ASSERTION.get {
+        evaluatingDouble { lon ->
 
-        checkThat<Double>(lon)
-                .usingMessage("Longitude must be between -180 and 180, but was " + lon!!)
-                .isA(greaterThanOrEqualTo(-180.0))
-                .isA(lessThanOrEqualTo(180.0))
+            if (lon < -180.0 || lon > 180.0)
+            {
+                invalid("Longitude must be between -180 and 180, but was {}", lon)
+            }
+            else
+            {
+                valid()
+            }
+        }
     }
-}
\ No newline at end of file
+}
+
+/*
+ * These keep the signatures from before the primitive assertions, so that code compiled against
+ * an older version still links. They are hidden from the compiler, which picks the functions above.
+ */
+
+@Deprecated("Kept for binary compatibility", level = DeprecationLevel.HIDDEN)
+@JvmName("validLatitude")
+fun boxedValidLatitude(): AlchemyAssertion<Double> = validLatitude()
+
+@Deprecated("Kept for binary compatibility", level = DeprecationLevel.HIDDEN)
+@JvmName("validLongitude")
+fun boxedValidLongitude(): AlchemyAssertion<Double> = validLongitude()
+
+private val VALID_LATITUDE_ASSERTION = Canonical()
+private val VALID_LONGITUDE_ASSERTION = Canonical()
@@ -18,7 +18,10 @@
 package tech.sirwellington.alchemy.arguments.assertions
 
 import tech.sirwellington.alchemy.arguments.AlchemyAssertion
-import tech.sirwellington.alchemy.arguments.FailedAssertionException
+import tech.sirwellington.alchemy.arguments.AssertionDescriptor.IntBounds
+import tech.sirwellington.alchemy.arguments.IntAssertion
+import tech.sirwellington.alchemy.arguments.ValidationResult.invalid
+import tech.sirwellington.alchemy.arguments.ValidationResult.valid
 import java.net.URL
 
 /**
@@ -37,16 +40,27 @@ private val MAX_PORT = 65535
 
 fun validURL(): AlchemyAssertion<String>
 {
-    return AlchemyAssertion { string ->
-        nonEmptyString().check(string)
+    return VALID_URL_ASSERTION.get {
+        val nonEmptyString = nonEmptyString()
 
-        try
-        {
-            URL(string)
-        }
-        catch (ex: Exception)
-        {
-            throw FailedAssertionException("Invalid URL: " + string, ex)
+        evaluating block@ { string ->
+
+            val result = nonEmptyString.evaluate(string)
+            if (result.isInvalid)
+            {
+                return@block result
+            }
+
+            try
+            {
+                URL(string)
+            }
+            catch (ex: Exception)
+            {
+                return@block invalid(ex, "Invalid URL: {}", string)
+            }
+
+            valid()
         }
     }
 }
@@ -60,17 +74,28 @@ fun validURL(): AlchemyAssertion<String>
  * @see [https://en.wikipedia.org/wiki/List_of_TCP_and_UDP_port_numbers](https://en.wikipedia.org/wiki/List_of_TCP_and_UDP_port_numbers)
  */
 
-fun validPort(): AlchemyAssertion<Int>
+fun validPort(): IntAssertion
 {
-    return AlchemyAssertion { port ->
-        if (port <= 0)
-        {
-            throw FailedAssertionException("Network port must be > 0")
-        }
+    return VALID_PORT_ASSERTION.get {
+        evaluatingInt(IntBounds(1, MAX_PORT)) { port ->
 
-        if (port > MAX_PORT)
-        {
-            throw FailedAssertionException("Network port must <" + MAX_PORT)
+            when
+            {
+                port <= 0 -> invalid("Network port must be > 0")
+                port > MAX_PORT -> invalid("Network port must <{}", MAX_PORT)
+                else -> valid()
+            }
         }
     }
-}
\ No newline at end of file
+}
+
+/*
+ * This keeps the signature from before the primitive assertions, so that code compiled against
+ * an older version still links. It is hidden from the compiler, which picks the function above.
+ */
+@Deprecated("Kept for binary compatibility", level = DeprecationLevel.HIDDEN)
+@JvmName("validPort")
+fun boxedValidPort(): AlchemyAssertion<Int> = validPort()
+
+private val VALID_URL_ASSERTION = Canonical()
+private val VALID_PORT_ASSERTION = Canonical()
@@ -18,7 +18,13 @@
 package tech.sirwellington.alchemy.arguments.assertions
 
 import tech.sirwellington.alchemy.arguments.AlchemyAssertion
-import tech.sirwellington.alchemy.arguments.FailedAssertionException
+import tech.sirwellington.alchemy.arguments.AssertionDescriptor.IntBounds
+import tech.sirwellington.alchemy.arguments.AssertionDescriptor.LongBounds
+import tech.sirwellington.alchemy.arguments.DoubleAssertion
+import tech.sirwellington.alchemy.arguments.IntAssertion
+import tech.sirwellington.alchemy.arguments.LongAssertion
+import tech.sirwellington.alchemy.arguments.ValidationResult.invalid
+import tech.sirwellington.alchemy.arguments.ValidationResult.valid
 import tech.sirwellington.alchemy.arguments.checkThat
 import java.lang.Math.abs
 
@@ -37,17 +43,18 @@ import java.lang.Math.abs
  * @return
  */
 
-fun greaterThan(exclusiveLowerBound: Int): AlchemyAssertion<Int>
+fun greaterThan(exclusiveLowerBound: Int): IntAssertion
 {
     checkThat(exclusiveLowerBound != Integer.MAX_VALUE, "Integers cannot exceed ${Int.MAX_VALUE}")
 
-    return AlchemyAssertion { number ->
-        notNull<Any>().check(number)
+    return GREATER_THAN_INT_ASSERTIONS.get(exclusiveLowerBound) {
+        evaluatingInt(IntBounds(exclusiveLowerBound + 1, Int.MAX_VALUE)) { number ->
 
-        val isWithinBounds = number > exclusiveLowerBound
-        if (!isWithinBounds)
-        {
-            throw FailedAssertionException("Number must be > $exclusiveLowerBound")
+            when
+            {
+                number > exclusiveLowerBound -> valid()
+                else -> invalid("Number must be > {}", exclusiveLowerBound)
+            }
         }
     }
 }
@@ -60,18 +67,18 @@ fun greaterThan(exclusiveLowerBound: Int): AlchemyAssertion<Int>
  *
  * @return
  */
-fun greaterThan(exclusiveLowerBound: Long): AlchemyAssertion<Long>
+fun greaterThan(exclusiveLowerBound: Long): LongAssertion
 {
     checkThat(exclusiveLowerBound != Long.MAX_VALUE, "Longs cannot exceed ${Long.MAX_VALUE}")
 
-    return AlchemyAssertion { number ->
-
-        notNull<Any>().check(number)
+    return GREATER_THAN_LONG_ASSERTIONS.get(exclusiveLowerBound) {
+        evaluatingLong(LongBounds(exclusiveLowerBound + 1, Long.MAX_VALUE)) { number ->
 
-        val isWithinBounds = number > exclusiveLowerBound
-        if (!isWithinBounds)
-        {
-            throw FailedAssertionException("Number must be > $exclusiveLowerBound")
+            when
+            {
+                number > exclusiveLowerBound -> valid()
+                else -> invalid("Number must be > {}", exclusiveLowerBound)
+            }
         }
     }
 }
@@ -87,18 +94,16 @@ fun greaterThan(exclusiveLowerBound: Long): AlchemyAssertion<Long>
  * @return
  */
 @JvmOverloads
-fun greaterThan(exclusiveLowerBound: Double, delta: Double = 0.0): AlchemyAssertion<Double>
+fun greaterThan(exclusiveLowerBound: Double, delta: Double = 0.0): DoubleAssertion
 {
     checkThat(exclusiveLowerBound < Double.MAX_VALUE, "Doubles cannot exceed ${Double.MAX_VALUE}")
 
-    return AlchemyAssertion { number ->
-
-        notNull<Any>().check(number)
+    return evaluatingDouble { number ->
 
-        val isWithinBounds = number!! + abs(delta) > exclusiveLowerBound
-        if (!isWithinBounds)
+        when
         {
-            throw FailedAssertionException("Number must be > $exclusiveLowerBound +- $delta")
+            number + abs(delta) > exclusiveLowerBound -> valid()
+            else -> invalid("Number must be > {} +- {}", exclusiveLowerBound, delta)
         }
     }
 }
@@ -113,16 +118,16 @@ fun greaterThan(exclusiveLowerBound: Double, delta: Double = 0.0): AlchemyAssert
  * @return
  */
 
-fun greaterThanOrEqualTo(inclusiveLowerBound: Int): AlchemyAssertion<Int>
+fun greaterThanOrEqualTo(inclusiveLowerBound: Int): IntAssertion
 {
-    return AlchemyAssertion { number ->
-
-        notNull<Any>().check(number)
-
-        val isWithinBounds = number >= inclusiveLowerBound
-        if (!isWithinBounds)
-        {
-            throw FailedAssertionException("Number must be greater than or equal to $inclusiveLowerBound")
+    return GREATER_THAN_OR_EQUAL_TO_INT_ASSERTIONS.get(inclusiveLowerBound) {
+        evaluatingInt(IntBounds(inclusiveLowerBound, Int.MAX_VALUE)) { number ->
+
+            when
+            {
+                number >= inclusiveLowerBound -> valid()
+                else -> invalid("Number must be greater than or equal to {}", inclusiveLowerBound)
+            }
         }
     }
 }
@@ -136,16 +141,16 @@ fun greaterThanOrEqualTo(inclusiveLowerBound: Int): AlchemyAssertion<Int>
  * @return
  */
 
-fun greaterThanOrEqualTo(inclusiveLowerBound: Long): AlchemyAssertion<Long>
+fun greaterThanOrEqualTo(inclusiveLowerBound: Long): LongAssertion
 {
-    return AlchemyAssertion { number ->
-
-        notNull<Any>().check(number)
-
-        val isWithinBounds = number >= inclusiveLowerBound
-        if (!isWithinBounds)
-        {
-            throw FailedAssertionException("Number must be greater than or equal to $inclusiveLowerBound")
+    return GREATER_THAN_OR_EQUAL_TO_LONG_ASSERTIONS.get(inclusiveLowerBound) {
+        evaluatingLong(LongBounds(inclusiveLowerBound, Long.MAX_VALUE)) { number ->
+
+            when
+            {
+                number >= inclusiveLowerBound -> valid()
+                else -> invalid("Number must be greater than or equal to {}", inclusiveLowerBound)
+            }
         }
     }
 }
@@ -160,16 +165,14 @@ fun greaterThanOrEqualTo(inclusiveLowerBound: Long): AlchemyAssertion<Long>
  * @return
  */
 @JvmOverloads
-fun greaterThanOrEqualTo(inclusiveLowerBound: Double, delta: Double = 0.0): AlchemyAssertion<Double>
+fun greaterThanOrEqualTo(inclusiveLowerBound: Double, delta: Double = 0.0): DoubleAssertion
 {
-    return AlchemyAssertion { number ->
+    return evaluatingDouble { number ->
 
-        notNull<Any>().check(number)
-
-        val isWithinBounds = number + abs(delta) >= inclusiveLowerBound
-        if (!isWithinBounds)
+        when
         {
-            throw FailedAssertionException("Number must be >= $inclusiveLowerBound +- $delta")
+            number + abs(delta) >= inclusiveLowerBound -> valid()
+            else -> invalid("Number must be >= {} +- {}", inclusiveLowerBound, delta)
         }
     }
 }
@@ -180,15 +183,16 @@ fun greaterThanOrEqualTo(inclusiveLowerBound: Double, delta: Double = 0.0): Alch
  * @return
  */
 
-fun positiveInteger(): AlchemyAssertion<Int>
+fun positiveInteger(): IntAssertion
 {
-    return AlchemyAssertion { number ->
-
-        notNull<Any>().check(number)
-
-        if (number <= 0)
-        {
-            throw FailedAssertionException("Expected positive integer: $number")
+    return POSITIVE_INTEGER_ASSERTION.get {
+        evaluatingInt(IntBounds(1, Int.MAX_VALUE)) { number ->
+
+            when
+            {
+                number <= 0 -> invalid("Expected positive integer: {}", number)
+                else -> valid()
+            }
         }
     }
 }
@@ -199,7 +203,7 @@ fun positiveInteger(): AlchemyAssertion<Int>
  * @return
  */
 
-fun negativeInteger(): AlchemyAssertion<Int>
+fun negativeInteger(): IntAssertion
 {
     return lessThan(0)
 }
@@ -213,16 +217,16 @@ fun negativeInteger(): AlchemyAssertion<Int>
  * @return
  */
 
-fun lessThanOrEqualTo(inclusiveUpperBound: Int): AlchemyAssertion<Int>
+fun lessThanOrEqualTo(inclusiveUpperBound: Int): IntAssertion
 {
-    return AlchemyAssertion { number ->
-
-        notNull<Any>().check(number)
-
-        val isWithinBounds = number <= inclusiveUpperBound
-        if (!isWithinBounds)
-        {
-            throw FailedAssertionException("Number must be less than or equal to $inclusiveUpperBound")
+    return LESS_THAN_OR_EQUAL_TO_INT_ASSERTIONS.get(inclusiveUpperBound) {
+        evaluatingInt(IntBounds(Int.MIN_VALUE, inclusiveUpperBound)) { number ->
+
+            when
+            {
+                number <= inclusiveUpperBound -> valid()
+                else -> invalid("Number must be less than or equal to {}", inclusiveUpperBound)
+            }
         }
     }
 }
@@ -236,16 +240,16 @@ fun lessThanOrEqualTo(inclusiveUpperBound: Int): AlchemyAssertion<Int>
  * @return
  */
 
-fun lessThanOrEqualTo(inclusiveUpperBound: Long): AlchemyAssertion<Long>
+fun lessThanOrEqualTo(inclusiveUpperBound: Long): LongAssertion
 {
-    return AlchemyAssertion { number ->
-
-        notNull<Any>().check(number)
-
-        val isWithinBounds = number <= inclusiveUpperBound
-        if (!isWithinBounds)
-        {
-            throw FailedAssertionException("Number must be less than or equal to $inclusiveUpperBound")
+    return LESS_THAN_OR_EQUAL_TO_LONG_ASSERTIONS.get(inclusiveUpperBound) {
+        evaluatingLong(LongBounds(Long.MIN_VALUE, inclusiveUpperBound)) { number ->
+
+            when
+            {
+                number <= inclusiveUpperBound -> valid()
+                else -> invalid("Number must be less than or equal to {}", inclusiveUpperBound)
+            }
         }
     }
 }
@@ -260,16 +264,14 @@ fun lessThanOrEqualTo(inclusiveUpperBound: Long): AlchemyAssertion<Long>
  *
  * @return
  */
-@JvmOverloads fun lessThanOrEqualTo(inclusiveUpperBound: Double, delta: Double = 0.0): AlchemyAssertion<Double>
+@JvmOverloads fun lessThanOrEqualTo(inclusiveUpperBound: Double, delta: Double = 0.0): DoubleAssertion
 {
-    return AlchemyAssertion { number ->
+    return evaluatingDouble { number ->
 
-        notNull<Any>().check(number)
-
-        val isWithinBounds = number!! - abs(delta) <= inclusiveUpperBound
-        if (!isWithinBounds)
+        when
         {
-            throw FailedAssertionException("Number must be <= $inclusiveUpperBound +- $delta")
+            number - abs(delta) <= inclusiveUpperBound -> valid()
+            else -> invalid("Number must be <= {} +- {}", inclusiveUpperBound, delta)
         }
     }
 }
@@ -280,15 +282,16 @@ fun lessThanOrEqualTo(inclusiveUpperBound: Long): AlchemyAssertion<Long>
  * @return
  */
 
-fun positiveLong(): AlchemyAssertion<Long>
+fun positiveLong(): LongAssertion
 {
-    return AlchemyAssertion { number ->
-
-        notNull<Any>().check(number)
-
-        if (number <= 0)
-        {
-            throw FailedAssertionException("Expected positive long: $number")
+    return POSITIVE_LONG_ASSERTION.get {
+        evaluatingLong(LongBounds(1, Long.MAX_VALUE)) { number ->
+
+            when
+            {
+                number <= 0 -> invalid("Expected positive long: {}", number)
+                else -> valid()
+            }
         }
     }
 }
@@ -299,7 +302,7 @@ fun positiveLong(): AlchemyAssertion<Long>
  * @return
  */
 
-fun negativeLong(): AlchemyAssertion<Long>
+fun negativeLong(): LongAssertion
 {
     return lessThan(0L)
 }
@@ -313,18 +316,18 @@ fun negativeLong(): AlchemyAssertion<Long>
  * @return
  */
 
-fun lessThan(exclusiveUpperBound: Int): AlchemyAssertion<Int>
+fun lessThan(exclusiveUpperBound: Int): IntAssertion
 {
     checkThat(exclusiveUpperBound != Integer.MIN_VALUE, "Ints cannot be less than ${Int.MIN_VALUE}")
 
-    return AlchemyAssertion { number ->
-
-        notNull<Any>().check(number)
+    return LESS_THAN_INT_ASSERTIONS.get(exclusiveUpperBound) {
+        evaluatingInt(IntBounds(Int.MIN_VALUE, exclusiveUpperBound - 1)) { number ->
 
-        val isWithinBounds = number < exclusiveUpperBound
-        if (!isWithinBounds)
-        {
-            throw FailedAssertionException("Number must be < " + exclusiveUpperBound)
+            when
+            {
+                number < exclusiveUpperBound -> valid()
+                else -> invalid("Number must be < {}", exclusiveUpperBound)
+            }
         }
     }
 }
@@ -338,17 +341,17 @@ fun lessThan(exclusiveUpperBound: Int): AlchemyAssertion<Int>
  * @return
  */
 
-fun lessThan(exclusiveUpperBound: Long): AlchemyAssertion<Long>
+fun lessThan(exclusiveUpperBound: Long): LongAssertion
 {
     checkThat(exclusiveUpperBound != java.lang.Long.MIN_VALUE, "Longs cannot be less than " + java.lang.Long.MIN_VALUE)
-    return AlchemyAssertion { number ->
-
-        notNull<Any>().check(number)
-
-        val isWithinBounds = number < exclusiveUpperBound
-        if (!isWithinBounds)
-        {
-            throw FailedAssertionException("Number must be < " + exclusiveUpperBound)
+    return LESS_THAN_LONG_ASSERTIONS.get(exclusiveUpperBound) {
+        evaluatingLong(LongBounds(Long.MIN_VALUE, exclusiveUpperBound - 1)) { number ->
+
+            when
+            {
+                number < exclusiveUpperBound -> valid()
+                else -> invalid("Number must be < {}", exclusiveUpperBound)
+            }
         }
     }
 }
@@ -363,17 +366,16 @@ fun lessThan(exclusiveUpperBound: Long): AlchemyAssertion<Long>
  * @return
  */
 @JvmOverloads
-fun lessThan(exclusiveUpperBound: Double, delta: Double = 0.0): AlchemyAssertion<Double>
+fun lessThan(exclusiveUpperBound: Double, delta: Double = 0.0): DoubleAssertion
 {
     checkThat(exclusiveUpperBound > -java.lang.Double.MAX_VALUE, "Doubles cannot be less than " + -java.lang.Double.MAX_VALUE)
 
-    return AlchemyAssertion { number ->
-        notNull<Any>().check(number)
+    return evaluatingDouble { number ->
 
-        val isWithinBounds = number - abs(delta) < exclusiveUpperBound
-        if (!isWithinBounds)
+        when
         {
-            throw FailedAssertionException("Number must be < $exclusiveUpperBound")
+            number - abs(delta) < exclusiveUpperBound -> valid()
+            else -> invalid("Number must be < {}", exclusiveUpperBound)
         }
     }
 }
@@ -390,19 +392,16 @@ fun lessThan(exclusiveUpperBound: Double, delta: Double = 0.0): AlchemyAssertion
  */
 @Throws(IllegalArgumentException::class)
 
-fun numberBetween(min: Int, max: Int): AlchemyAssertion<Int>
+fun numberBetween(min: Int, max: Int): IntAssertion
 {
     checkThat(min < max, "Minimum must be less than Max.")
 
-    return AlchemyAssertion { number ->
-
-        notNull<Any>().check(number)
+    return evaluatingInt(IntBounds(min, max)) { number ->
 
-        val isWithinRange = number in min..max
-
-        if (!isWithinRange)
+        when
         {
-            throw FailedAssertionException("Expected a number between $min and $max but got $number instead")
+            number in min..max -> valid()
+            else -> invalid("Expected a number between {} and {} but got {} instead", min, max, number)
         }
     }
 }
@@ -422,19 +421,108 @@ fun numberBetween(min: Int, max: Int): AlchemyAssertion<Int>
  */
 @Throws(IllegalArgumentException::class)
 
-fun numberBetween(min: Long, max: Long): AlchemyAssertion<Long>
+fun numberBetween(min: Long, max: Long): LongAssertion
 {
     checkThat(min < max, "Minimum must be less than Max.")
 
-    return AlchemyAssertion { number ->
-
-        notNull<Any>().check(number)
-
-        val isWithinRange = number in min..max
+    return evaluatingLong(LongBounds(min, max)) { number ->
 
-        if (!isWithinRange)
+        when
         {
-            throw FailedAssertionException("Expected a number between $min and $max but got $number instead")
+            number in min..max -> valid()
+            else -> invalid("Expected a number between {} and {} but got {} instead", min, max, number)
         }
     }
 }
+
+/*
+ * These keep the signatures from before the primitive assertions, so that code compiled against
+ * an older version still links. They are hidden from the compiler, which picks the functions above.
+ */
+
+@Deprecated("Kept for binary compatibility", level = DeprecationLevel.HIDDEN)
+@JvmName("greaterThan")
+fun boxedGreaterThan(exclusiveLowerBound: Int): AlchemyAssertion<Int> = greaterThan(exclusiveLowerBound)
+
+@Deprecated("Kept for binary compatibility", level = DeprecationLevel.HIDDEN)
+@JvmName("greaterThan")
+fun boxedGreaterThan(exclusiveLowerBound: Long): AlchemyAssertion<Long> = greaterThan(exclusiveLowerBound)
+
+@Deprecated("Kept for binary compatibility", level = DeprecationLevel.HIDDEN)
+@JvmName("greaterThan")
+@JvmOverloads
+fun boxedGreaterThan(exclusiveLowerBound: Double, delta: Double = 0.0): AlchemyAssertion<Double> = greaterThan(exclusiveLowerBound, delta)
+
+@Deprecated("Kept for binary compatibility", level = DeprecationLevel.HIDDEN)
+@JvmName("greaterThanOrEqualTo")
+fun boxedGreaterThanOrEqualTo(inclusiveLowerBound: Int): AlchemyAssertion<Int> = greaterThanOrEqualTo(inclusiveLowerBound)
+
+@Deprecated("Kept for binary compatibility", level = DeprecationLevel.HIDDEN)
+@JvmName("greaterThanOrEqualTo")
+fun boxedGreaterThanOrEqualTo(inclusiveLowerBound: Long): AlchemyAssertion<Long> = greaterThanOrEqualTo(inclusiveLowerBound)
+
+@Deprecated("Kept for binary compatibility", level = DeprecationLevel.HIDDEN)
+@JvmName("greaterThanOrEqualTo")
+@JvmOverloads
+fun boxedGreaterThanOrEqualTo(inclusiveLowerBound: Double, delta: Double = 0.0): AlchemyAssertion<Double> = greaterThanOrEqualTo(inclusiveLowerBound, delta)
+
+@Deprecated("Kept for binary compatibility", level = DeprecationLevel.HIDDEN)
+@JvmName("lessThanOrEqualTo")
+fun boxedLessThanOrEqualTo(inclusiveUpperBound: Int): AlchemyAssertion<Int> = lessThanOrEqualTo(inclusiveUpperBound)
+
+@Deprecated("Kept for binary compatibility", level = DeprecationLevel.HIDDEN)
+@JvmName("lessThanOrEqualTo")
+fun boxedLessThanOrEqualTo(inclusiveUpperBound: Long): AlchemyAssertion<Long> = lessThanOrEqualTo(inclusiveUpperBound)
+
+@Deprecated("Kept for binary compatibility", level = DeprecationLevel.HIDDEN)
+@JvmName("lessThanOrEqualTo")
+@JvmOverloads
+fun boxedLessThanOrEqualTo(inclusiveUpperBound: Double, delta: Double = 0.0): AlchemyAssertion<Double> = lessThanOrEqualTo(inclusiveUpperBound, delta)
+
+@Deprecated("Kept for binary compatibility", level = DeprecationLevel.HIDDEN)
+@JvmName("lessThan")
+fun boxedLessThan(exclusiveUpperBound: Int): AlchemyAssertion<Int> = lessThan(exclusiveUpperBound)
+
+@Deprecated("Kept for binary compatibility", level = DeprecationLevel.HIDDEN)
+@JvmName("lessThan")
+fun boxedLessThan(exclusiveUpperBound: Long): AlchemyAssertion<Long> = lessThan(exclusiveUpperBound)
+
+@Deprecated("Kept for binary compatibility", level = DeprecationLevel.HIDDEN)
+@JvmName("lessThan")
+@JvmOverloads
+fun boxedLessThan(exclusiveUpperBound: Double, delta: Double = 0.0): AlchemyAssertion<Double> = lessThan(exclusiveUpperBound, delta)
+
+@Deprecated("Kept for binary compatibility", level = DeprecationLevel.HIDDEN)
+@JvmName("positiveInteger")
+fun boxedPositiveInteger(): AlchemyAssertion<Int> = positiveInteger()
+
+@Deprecated("Kept for binary compatibility", level = DeprecationLevel.HIDDEN)
+@JvmName("negativeInteger")
+fun boxedNegativeInteger(): AlchemyAssertion<Int> = negativeInteger()
+
+@Deprecated("Kept for binary compatibility", level = DeprecationLevel.HIDDEN)
+@JvmName("positiveLong")
+fun boxedPositiveLong(): AlchemyAssertion<Long> = positiveLong()
+
+@Deprecated("Kept for binary compatibility", level = DeprecationLevel.HIDDEN)
+@JvmName("negativeLong")
+fun boxedNegativeLong(): AlchemyAssertion<Long> = negativeLong()
+
+@Deprecated("Kept for binary compatibility", level = DeprecationLevel.HIDDEN)
+@JvmName("numberBetween")
+fun boxedNumberBetween(min: Int, max: Int): AlchemyAssertion<Int> = numberBetween(min, max)
+
+@Deprecated("Kept for binary compatibility", level = DeprecationLevel.HIDDEN)
+@JvmName("numberBetween")
+fun boxedNumberBetween(min: Long, max: Long): AlchemyAssertion<Long> = numberBetween(min, max)
+
+private val POSITIVE_INTEGER_ASSERTION = Canonical()
+private val POSITIVE_LONG_ASSERTION = Canonical()
+private val GREATER_THAN_INT_ASSERTIONS = CanonicalByValue()
+private val GREATER_THAN_LONG_ASSERTIONS = CanonicalByValue()
+private val GREATER_THAN_OR_EQUAL_TO_INT_ASSERTIONS = CanonicalByValue()
+private val GREATER_THAN_OR_EQUAL_TO_LONG_ASSERTIONS = CanonicalByValue()
+private val LESS_THAN_OR_EQUAL_TO_INT_ASSERTIONS = CanonicalByValue()
+private val LESS_THAN_OR_EQUAL_TO_LONG_ASSERTIONS = CanonicalByValue()
+private val LESS_THAN_INT_ASSERTIONS = CanonicalByValue()
+private val LESS_THAN_LONG_ASSERTIONS = CanonicalByValue()
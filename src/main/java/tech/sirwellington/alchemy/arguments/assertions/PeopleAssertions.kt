@@ -19,8 +19,8 @@ package tech.sirwellington.alchemy.arguments.assertions
 
 
 import tech.sirwellington.alchemy.arguments.AlchemyAssertion
-import tech.sirwellington.alchemy.arguments.FailedAssertionException
-import tech.sirwellington.alchemy.arguments.isNullOrEmpty
+import tech.sirwellington.alchemy.arguments.ValidationResult.invalid
+import tech.sirwellington.alchemy.arguments.ValidationResult.valid
 import java.util.regex.Pattern
 
 
@@ -34,7 +34,7 @@ import java.util.regex.Pattern
  * @author SirWellington
  */
 
-private val PATTERN = Pattern.compile("^.+@.+\\..+$")
+private val PATTERN = ReusableMatcher(Pattern.compile("^.+@.+\\..+$"))
 
 /**
  * This Assertion performs basic validation of Emails
@@ -48,16 +48,17 @@ private val PATTERN = Pattern.compile("^.+@.+\\..+$")
 fun validEmailAddress(): AlchemyAssertion<String>
 {
 
-    return AlchemyAssertion { email ->
+    return VALID_EMAIL_ADDRESS_ASSERTION.get {
+        evaluating { email ->
 
-        if (isNullOrEmpty(email))
-        {
-            throw FailedAssertionException("Email is null or empty")
-        }
-
-        if (!PATTERN.matcher(email).matches())
-        {
-            throw FailedAssertionException("Invalid Email Address: " + PATTERN)
+            when
+            {
+                email.isNullOrEmpty() -> invalid("Email is null or empty")
+                !PATTERN.matches(email) -> invalid("Invalid Email Address: {}", PATTERN)
+                else -> valid()
+            }
         }
     }
-}
\ No newline at end of file
+}
+
+private val VALID_EMAIL_ADDRESS_ASSERTION = Canonical()
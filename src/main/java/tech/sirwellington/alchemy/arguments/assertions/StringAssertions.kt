@@ -20,6 +20,9 @@ package tech.sirwellington.alchemy.arguments.assertions
 
 import tech.sirwellington.alchemy.annotations.arguments.NonEmpty
 import tech.sirwellington.alchemy.arguments.*
+import tech.sirwellington.alchemy.arguments.AssertionDescriptor.StringLengthBounds
+import tech.sirwellington.alchemy.arguments.ValidationResult.invalid
+import tech.sirwellington.alchemy.arguments.ValidationResult.valid
 import java.util.UUID
 import java.util.regex.Pattern
 
@@ -42,13 +45,13 @@ fun stringThatMatches(pattern: Pattern): AlchemyAssertion<String>
 {
     checkNotNull(pattern, "missing pattern")
 
-    return AlchemyAssertion { string ->
+    return evaluating { string ->
 
-        checkString(string)
-
-        if (!pattern.matcher(string).matches())
+        when
         {
-            throw FailedAssertionException("Expected String to match pattern: $pattern")
+            string.isNullOrEmpty() -> EMPTY_STRING
+            !pattern.matcher(string).matches() -> invalid("Expected String to match pattern: {}", pattern)
+            else -> valid()
         }
     }
 }
@@ -61,11 +64,10 @@ fun stringThatMatches(pattern: Pattern): AlchemyAssertion<String>
 
 fun emptyString(): AlchemyAssertion<String>
 {
-    return AlchemyAssertion { string ->
+    return EMPTY_STRING_ASSERTION.get {
+        evaluating { string ->
 
-        if (!isNullOrEmpty(string))
-        {
-            throw FailedAssertionException("Expected empty string but got: $string")
+            if (!string.isNullOrEmpty()) invalid("Expected empty string but got: {}", string) else valid()
         }
     }
 }
@@ -83,13 +85,15 @@ fun stringWithLengthGreaterThanOrEqualTo(minimumLength: Int): AlchemyAssertion<S
 {
     checkThat(minimumLength >= 0)
 
-    return AlchemyAssertion { string ->
-
-        checkString(string)
+    return STRING_WITH_LENGTH_GREATER_THAN_OR_EQUAL_TO_ASSERTIONS.get(minimumLength) {
+        evaluating(StringLengthBounds(maxOf(1, minimumLength), Int.MAX_VALUE)) { string ->
 
-        if (string.length < minimumLength)
-        {
-            throw FailedAssertionException("Expecting a String with length >= $minimumLength")
+            when
+            {
+                string.isNullOrEmpty() -> EMPTY_STRING
+                string.length < minimumLength -> invalid("Expecting a String with length >= {}", minimumLength)
+                else -> valid()
+            }
         }
     }
 }
@@ -102,13 +106,16 @@ fun stringWithLengthGreaterThanOrEqualTo(minimumLength: Int): AlchemyAssertion<S
 
 fun stringWithNoWhitespace(): AlchemyAssertion<String>
 {
-    return AlchemyAssertion { string ->
-
-        checkString(string)
+    return STRING_WITH_NO_WHITESPACE_ASSERTION.get {
+        evaluating { string ->
 
-        string.toCharArray()
-                .filter { it.isWhitespace() }
-                .forEach { throw FailedAssertionException("Argument should not have whitespace: [$string]") }
+            when
+            {
+                string.isNullOrEmpty() -> EMPTY_STRING
+                string.any { it.isWhitespace() } -> invalid("Argument should not have whitespace: [{}]", string)
+                else -> valid()
+            }
+        }
     }
 }
 
@@ -125,13 +132,15 @@ fun stringWithLength(expectedLength: Int): AlchemyAssertion<String>
 {
     checkThat(expectedLength >= 0, "expectedLength must be >= 0")
 
-    return AlchemyAssertion { string ->
+    return STRING_WITH_LENGTH_ASSERTIONS.get(expectedLength) {
+        evaluating(StringLengthBounds(maxOf(1, expectedLength), expectedLength)) { string ->
 
-        checkString(string)
-
-        if (string.length != expectedLength)
-        {
-            throw FailedAssertionException("Expecting a String with length $expectedLength")
+            when
+            {
+                string.isNullOrEmpty() -> EMPTY_STRING
+                string.length != expectedLength -> invalid("Expecting a String with length {}", expectedLength)
+                else -> valid()
+            }
         }
     }
 }
@@ -149,13 +158,15 @@ fun stringWithLengthLessThan(upperBound: Int): AlchemyAssertion<String>
 {
     checkThat(upperBound > 0, "upperBound must be > 0")
 
-    return AlchemyAssertion { string ->
-
-        checkString(string)
+    return STRING_WITH_LENGTH_LESS_THAN_ASSERTIONS.get(upperBound) {
+        evaluating(StringLengthBounds(1, upperBound - 1)) { string ->
 
-        if (string.length >= upperBound)
-        {
-            throw FailedAssertionException("Expecting a String with length < $upperBound")
+            when
+            {
+                string.isNullOrEmpty() -> EMPTY_STRING
+                string.length >= upperBound -> invalid("Expecting a String with length < {}", upperBound)
+                else -> valid()
+            }
         }
     }
 }
@@ -173,13 +184,13 @@ fun stringBeginningWith(prefix: String): AlchemyAssertion<String>
 {
     checkThat(!isNullOrEmpty(prefix), "missing prefix")
 
-    return AlchemyAssertion { string ->
+    return evaluating { string ->
 
-        checkString(string)
-
-        if (!string.startsWith(prefix))
+        when
         {
-            throw FailedAssertionException("Expected \"$string\" to start with \"$prefix\"")
+            string.isNullOrEmpty() -> EMPTY_STRING
+            !string.startsWith(prefix) -> invalid("Expected \"{}\" to start with \"{}\"", string, prefix)
+            else -> valid()
         }
     }
 }
@@ -197,13 +208,15 @@ fun stringWithLengthLessThanOrEqualTo(maximumLength: Int): AlchemyAssertion<Stri
 {
     checkThat(maximumLength >= 0)
 
-    return AlchemyAssertion { string ->
-
-        checkString(string)
+    return STRING_WITH_LENGTH_LESS_THAN_OR_EQUAL_TO_ASSERTIONS.get(maximumLength) {
+        evaluating(StringLengthBounds(1, maximumLength)) { string ->
 
-        if (string.length > maximumLength)
-        {
-            throw FailedAssertionException("Argument exceeds the maximum string length of: $maximumLength")
+            when
+            {
+                string.isNullOrEmpty() -> EMPTY_STRING
+                string.length > maximumLength -> invalid("Argument exceeds the maximum string length of: {}", maximumLength)
+                else -> valid()
+            }
         }
     }
 }
@@ -222,13 +235,15 @@ fun stringWithLengthGreaterThan(minimumLength: Int): AlchemyAssertion<String>
     checkThat(minimumLength > 0, "minimumLength must be > 0")
     checkThat(minimumLength < Integer.MAX_VALUE, "not possible to have a String larger than ${Integer.MAX_VALUE}")
 
-    return AlchemyAssertion { string ->
+    return STRING_WITH_LENGTH_GREATER_THAN_ASSERTIONS.get(minimumLength) {
+        evaluating(StringLengthBounds(minimumLength + 1, Int.MAX_VALUE)) { string ->
 
-        checkString(string)
-
-        if (string.length <= minimumLength)
-        {
-            throw FailedAssertionException("Expected a String with length > $minimumLength")
+            when
+            {
+                string.isNullOrEmpty() -> EMPTY_STRING
+                string.length <= minimumLength -> invalid("Expected a String with length > {}", minimumLength)
+                else -> valid()
+            }
         }
     }
 }
@@ -241,10 +256,11 @@ fun stringWithLengthGreaterThan(minimumLength: Int): AlchemyAssertion<String>
 
 fun nonEmptyString(): AlchemyAssertion<String>
 {
-    return AlchemyAssertion { string ->
-
-        checkString(string)
+    return NON_EMPTY_STRING_ASSERTION.get {
+        evaluating(StringLengthBounds(1, Int.MAX_VALUE)) { string ->
 
+            if (string.isNullOrEmpty()) EMPTY_STRING else valid()
+        }
     }
 }
 
@@ -263,13 +279,13 @@ fun stringWithLengthBetween(minimumLength: Int, maximumLength: Int): AlchemyAsse
     checkThat(minimumLength >= 0, "Minimum length must be at least 0")
     checkThat(minimumLength < maximumLength, "Minimum length must be < maximum length.")
 
-    return AlchemyAssertion { string ->
-
-        checkString(string)
+    return evaluating(StringLengthBounds(maxOf(1, minimumLength), maximumLength)) { string ->
 
-        if (string.length < minimumLength || string.length > maximumLength)
+        when
         {
-            throw FailedAssertionException("Argument size is not between acceptable range of [$minimumLength -> $maximumLength]")
+            string.isNullOrEmpty() -> EMPTY_STRING
+            string.length < minimumLength || string.length > maximumLength -> invalid("Argument size is not between acceptable range of [{} -> {}]", minimumLength, maximumLength)
+            else -> valid()
         }
     }
 }
@@ -287,13 +303,13 @@ fun stringContaining(@NonEmpty substring: String): AlchemyAssertion<String>
 {
     checkNotNullOrEmpty(substring, "substring cannot be empty")
 
-    return AlchemyAssertion { string ->
+    return evaluating { string ->
 
-        checkString(string)
-
-        if (!string.contains(substring))
+        when
         {
-            throw FailedAssertionException("Expected $string to contain $substring")
+            string.isNullOrEmpty() -> EMPTY_STRING
+            !string.contains(substring) -> invalid("Expected {} to contain {}", string, substring)
+            else -> valid()
         }
     }
 }
@@ -306,13 +322,15 @@ fun stringContaining(@NonEmpty substring: String): AlchemyAssertion<String>
 
 fun allUpperCaseString(): AlchemyAssertion<String>
 {
-    return AlchemyAssertion { string ->
-
-        checkString(string)
+    return ALL_UPPER_CASE_STRING_ASSERTION.get {
+        evaluating { string ->
 
-        if (string.any { !it.isUpperCase() })
-        {
-            throw FailedAssertionException("Expected string to be all upper-case, but $string isn't")
+            when
+            {
+                string.isNullOrEmpty() -> EMPTY_STRING
+                string.any { !it.isUpperCase() } -> invalid("Expected string to be all upper-case, but {} isn't", string)
+                else -> valid()
+            }
         }
     }
 }
@@ -325,13 +343,15 @@ fun allUpperCaseString(): AlchemyAssertion<String>
 
 fun allLowerCaseString(): AlchemyAssertion<String>
 {
-    return AlchemyAssertion { string ->
+    return ALL_LOWER_CASE_STRING_ASSERTION.get {
+        evaluating { string ->
 
-        checkString(string)
-
-        if (!string.all { it.isLowerCase() })
-        {
-            throw FailedAssertionException("Expected string to be all lower-case, but $string isn't")
+            when
+            {
+                string.isNullOrEmpty() -> EMPTY_STRING
+                !string.all { it.isLowerCase() } -> invalid("Expected string to be all lower-case, but {} isn't", string)
+                else -> valid()
+            }
         }
     }
 }
@@ -352,12 +372,13 @@ fun stringEndingWith(@NonEmpty suffix: String): AlchemyAssertion<String>
 {
     checkNotNullOrEmpty(suffix, "string should not be empty")
 
-    return AlchemyAssertion { string ->
-        checkString(string)
+    return evaluating { string ->
 
-        if (!string.endsWith(suffix))
+        when
         {
-            throw FailedAssertionException("Expected $string to end with $suffix")
+            string.isNullOrEmpty() -> EMPTY_STRING
+            !string.endsWith(suffix) -> invalid("Expected {} to end with {}", string, suffix)
+            else -> valid()
         }
     }
 }
@@ -371,15 +392,16 @@ fun stringEndingWith(@NonEmpty suffix: String): AlchemyAssertion<String>
 
 fun alphabeticString(): AlchemyAssertion<String>
 {
-    return AlchemyAssertion { string ->
+    return ALPHABETIC_STRING_ASSERTION.get {
+        evaluating { string ->
 
-        checkString(string)
-
-        if (string.any { it.isNotAlphabetic() })
-        {
-            throw FailedAssertionException("Expected alphabetic string, but '$string' is not entirely alphabetic")
+            when
+            {
+                string.isNullOrEmpty() -> EMPTY_STRING
+                string.any { it.isNotAlphabetic() } -> invalid("Expected alphabetic string, but '{}' is not entirely alphabetic", string)
+                else -> valid()
+            }
         }
-
     }
 }
 
@@ -392,15 +414,16 @@ fun alphabeticString(): AlchemyAssertion<String>
 
 fun alphanumericString(): AlchemyAssertion<String>
 {
-    return AlchemyAssertion { string ->
+    return ALPHANUMERIC_STRING_ASSERTION.get {
+        evaluating { string ->
 
-        checkString(string)
-
-        if (string.any { it.isNotLetterOrDigit() })
-        {
-            throw FailedAssertionException("Expected alphanumeric string, but '$string' is not")
+            when
+            {
+                string.isNullOrEmpty() -> EMPTY_STRING
+                string.any { it.isNotLetterOrDigit() } -> invalid("Expected alphanumeric string, but '{}' is not", string)
+                else -> valid()
+            }
         }
-
     }
 }
 
@@ -413,13 +436,15 @@ fun alphanumericString(): AlchemyAssertion<String>
 
 fun integerString(): AlchemyAssertion<String>
 {
-    return AlchemyAssertion { string ->
+    return INTEGER_STRING_ASSERTION.get {
+        evaluating { string ->
 
-        checkString(string)
-
-        if (string.toIntOrNull() == null)
-        {
-            throw FailedAssertionException("Expecting a number, instead: $string")
+            when
+            {
+                string.isNullOrEmpty() -> EMPTY_STRING
+                !string.isIntString() -> invalid("Expecting a number, instead: {}", string)
+                else -> valid()
+            }
         }
     }
 }
@@ -432,14 +457,15 @@ fun integerString(): AlchemyAssertion<String>
 
 fun decimalString(): AlchemyAssertion<String>
 {
-    return AlchemyAssertion()
-    { string ->
-
-        checkString(string)
+    return DECIMAL_STRING_ASSERTION.get {
+        evaluating { string ->
 
-        if (string.toDoubleOrNull() == null)
-        {
-            throw FailedAssertionException("Expecting a decimal number, instead: $string")
+            when
+            {
+                string.isNullOrEmpty() -> EMPTY_STRING
+                !string.isDecimalString() -> invalid("Expecting a decimal number, instead: {}", string)
+                else -> valid()
+            }
         }
     }
 }
@@ -452,16 +478,15 @@ fun decimalString(): AlchemyAssertion<String>
 
 fun validUUID(): AlchemyAssertion<String>
 {
-    return AlchemyAssertion()
-    { string ->
-
-        checkString(string)
-
-        val pattern = Pattern.compile("[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}").toRegex()
+    return VALID_UUID_ASSERTION.get {
+        evaluating { string ->
 
-        if(!pattern.matches(string))
-        {
-            throw FailedAssertionException("String is not a valid UUID: $string")
+            when
+            {
+                string.isNullOrEmpty() -> EMPTY_STRING
+                !UUID_PATTERN.matches(string) -> invalid("String is not a valid UUID: {}", string)
+                else -> valid()
+            }
         }
     }
 }
@@ -486,24 +511,31 @@ fun validUUID(): AlchemyAssertion<String>
 
 fun stringRepresentingInteger(): AlchemyAssertion<String>
 {
-    return AlchemyAssertion { string ->
-
-        checkString(string)
-
-        for (i in 0..string.length - 1)
-        {
-            val character = string[i]
+    return STRING_REPRESENTING_INTEGER_ASSERTION.get {
+        evaluating block@ { string ->
 
-            //The first character is allowed to be a sign character '-' or '+'
-            if (i == 0 && character.isNumericalSign())
+            if (string.isNullOrEmpty())
             {
-                continue
+                return@block EMPTY_STRING
             }
 
-            if (!character.isDigit())
+            for (i in 0..string.length - 1)
             {
-                throw FailedAssertionException("Expected an Integer String, but $character is not a digit in [$string]")
+                val character = string[i]
+
+                //The first character is allowed to be a sign character '-' or '+'
+                if (i == 0 && character.isNumericalSign())
+                {
+                    continue
+                }
+
+                if (!character.isDigit())
+                {
+                    return@block invalid("Expected an Integer String, but {} is not a digit in [{}]", character, string)
+                }
             }
+
+            valid()
         }
     }
 }
@@ -528,11 +560,196 @@ private fun Char.isNotLetterOrDigit(): Boolean
     return !this.isLetterOrDigit()
 }
 
-@Throws(FailedAssertionException::class)
-private fun checkString(string: String?)
+/**
+ * Whether [String.toIntOrNull] would return a number, without boxing it.
+ */
+private fun String.isIntString(): Boolean
 {
-    if (isNullOrEmpty(string))
+    if (isEmpty())
     {
-        throw FailedAssertionException("string argument is empty")
+        return false
     }
+
+    val first = this[0]
+    val start: Int
+    val limit: Int
+
+    if (first < '0')
+    {
+        if (length == 1)
+        {
+            return false
+        }
+
+        start = 1
+        limit = when (first)
+        {
+            '-' -> Int.MIN_VALUE
+            '+' -> -Int.MAX_VALUE
+            else -> return false
+        }
+    }
+    else
+    {
+        start = 0
+        limit = -Int.MAX_VALUE
+    }
+
+    //Accumulates negatively, so that Int.MIN_VALUE fits
+    val limitBeforeMultiplying = limit / 10
+    var result = 0
+
+    for (i in start until length)
+    {
+        val digit = Character.digit(this[i], 10)
+
+        if (digit < 0 || result < limitBeforeMultiplying)
+        {
+            return false
+        }
+
+        result *= 10
+
+        if (result < limit + digit)
+        {
+            return false
+        }
+
+        result -= digit
+    }
+
+    return true
 }
+
+/**
+ * Whether [String.toDoubleOrNull] would return a number, without parsing it. This follows the grammar
+ * in [java.lang.Double.valueOf].
+ */
+private fun String.isDecimalString(): Boolean
+{
+    var start = 0
+    var end = length
+
+    while (start < end && this[start] <= ' ')
+    {
+        start += 1
+    }
+
+    while (end > start && this[end - 1] <= ' ')
+    {
+        end -= 1
+    }
+
+    if (start < end && (this[start] == '+' || this[start] == '-'))
+    {
+        start += 1
+    }
+
+    if (isRegion(start, end, "NaN") || isRegion(start, end, "Infinity"))
+    {
+        return true
+    }
+
+    if (end > start && this[end - 1] in "fFdD")
+    {
+        end -= 1
+    }
+
+    if (end - start > 2 && this[start] == '0' && (this[start + 1] == 'x' || this[start + 1] == 'X'))
+    {
+        var i = skipDigits(start + 2, end, 16)
+        var digits = i - start - 2
+
+        if (i < end && this[i] == '.')
+        {
+            val fractionStart = i + 1
+            i = skipDigits(fractionStart, end, 16)
+            digits += i - fractionStart
+        }
+
+        if (digits == 0 || i >= end || (this[i] != 'p' && this[i] != 'P'))
+        {
+            return false
+        }
+
+        return isExponent(i + 1, end)
+    }
+
+    var i = skipDigits(start, end, 10)
+    var digits = i - start
+
+    if (i < end && this[i] == '.')
+    {
+        val fractionStart = i + 1
+        i = skipDigits(fractionStart, end, 10)
+        digits += i - fractionStart
+    }
+
+    if (digits == 0)
+    {
+        return false
+    }
+
+    if (i == end)
+    {
+        return true
+    }
+
+    return (this[i] == 'e' || this[i] == 'E') && isExponent(i + 1, end)
+}
+
+private fun String.isRegion(start: Int, end: Int, expected: String): Boolean
+{
+    return end - start == expected.length && regionMatches(start, expected, 0, expected.length)
+}
+
+/**
+ * Skips past the ASCII digits in the [radix], and returns the index after the last one.
+ */
+private fun String.skipDigits(start: Int, end: Int, radix: Int): Int
+{
+    var i = start
+
+    while (i < end && this[i] < '\u0080' && Character.digit(this[i], radix) >= 0)
+    {
+        i += 1
+    }
+
+    return i
+}
+
+/**
+ * Whether the characters from [start] to [end] are an exponent: an optional sign, followed by digits.
+ */
+private fun String.isExponent(start: Int, end: Int): Boolean
+{
+    var i = start
+
+    if (i < end && (this[i] == '+' || this[i] == '-'))
+    {
+        i += 1
+    }
+
+    return i < end && skipDigits(i, end, 10) == end
+}
+
+private val EMPTY_STRING = invalid("string argument is empty")
+
+private val UUID_PATTERN = ReusableMatcher(Pattern.compile("[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}"))
+
+private val EMPTY_STRING_ASSERTION = Canonical()
+private val STRING_WITH_NO_WHITESPACE_ASSERTION = Canonical()
+private val NON_EMPTY_STRING_ASSERTION = Canonical()
+private val ALL_UPPER_CASE_STRING_ASSERTION = Canonical()
+private val ALL_LOWER_CASE_STRING_ASSERTION = Canonical()
+private val ALPHABETIC_STRING_ASSERTION = Canonical()
+private val ALPHANUMERIC_STRING_ASSERTION = Canonical()
+private val INTEGER_STRING_ASSERTION = Canonical()
+private val DECIMAL_STRING_ASSERTION = Canonical()
+private val VALID_UUID_ASSERTION = Canonical()
+private val STRING_REPRESENTING_INTEGER_ASSERTION = Canonical()
+private val STRING_WITH_LENGTH_GREATER_THAN_OR_EQUAL_TO_ASSERTIONS = CanonicalByValue()
+private val STRING_WITH_LENGTH_ASSERTIONS = CanonicalByValue()
+private val STRING_WITH_LENGTH_LESS_THAN_ASSERTIONS = CanonicalByValue()
+private val STRING_WITH_LENGTH_LESS_THAN_OR_EQUAL_TO_ASSERTIONS = CanonicalByValue()
+private val STRING_WITH_LENGTH_GREATER_THAN_ASSERTIONS = CanonicalByValue()
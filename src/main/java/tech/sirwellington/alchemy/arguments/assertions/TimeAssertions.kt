@@ -19,7 +19,8 @@ package tech.sirwellington.alchemy.arguments.assertions
 
 import tech.sirwellington.alchemy.annotations.arguments.Required
 import tech.sirwellington.alchemy.arguments.AlchemyAssertion
-import tech.sirwellington.alchemy.arguments.FailedAssertionException
+import tech.sirwellington.alchemy.arguments.ValidationResult.invalid
+import tech.sirwellington.alchemy.arguments.ValidationResult.valid
 import tech.sirwellington.alchemy.arguments.checkNotNull
 import tech.sirwellington.alchemy.arguments.checkThat
 import java.time.Instant
@@ -38,13 +39,24 @@ import java.time.Instant
 
 fun inThePast(): AlchemyAssertion<Instant>
 {
-    return AlchemyAssertion { argument ->
+    return IN_THE_PAST_ASSERTION.get {
+        evaluating block@ { argument ->
 
-        //Recalculate the present on each call to stay current
-        val present = Instant.now()
-        if (!argument.isBefore(present))
-        {
-            throw FailedAssertionException("Expected Timestamp [$argument] to be in the past. Now: [$present]")
+            if (argument == null)
+            {
+                return@block NULL_ARGUMENT
+            }
+
+            //Recalculate the present on each call to stay current.
+            //Instants outside of the current second are decided without creating an Instant.
+            if (argument.epochSecond < currentEpochSecond())
+            {
+                return@block valid()
+            }
+
+            val present = Instant.now()
+
+            if (argument.isBefore(present)) valid() else invalid("Expected Timestamp [{}] to be in the past. Now: [{}]", argument, present)
         }
     }
 }
@@ -54,13 +66,13 @@ fun before(@Required expected: Instant): AlchemyAssertion<Instant>
 {
     checkNotNull(expected, "time cannot be null")
 
-    return AlchemyAssertion { argument ->
+    return evaluating { argument ->
 
-        notNull<Any>().check(argument)
-
-        if (!argument.isBefore(expected))
+        when
         {
-            throw FailedAssertionException("Expected Timestamp to be before $expected")
+            argument == null -> NULL_ARGUMENT
+            argument.isBefore(expected) -> valid()
+            else -> invalid("Expected Timestamp to be before {}", expected)
         }
     }
 }
@@ -68,13 +80,24 @@ fun before(@Required expected: Instant): AlchemyAssertion<Instant>
 
 fun inTheFuture(): AlchemyAssertion<Instant>
 {
-    return AlchemyAssertion { argument ->
+    return IN_THE_FUTURE_ASSERTION.get {
+        evaluating block@ { argument ->
 
-        //Recalculate the present on each call to stay current
-        val present = Instant.now()
-        if (!argument.isAfter(present))
-        {
-            throw FailedAssertionException("Expected Timestamp [$argument] to be in the future. Now: [$present]")
+            if (argument == null)
+            {
+                return@block NULL_ARGUMENT
+            }
+
+            //Recalculate the present on each call to stay current.
+            //Instants outside of the current second are decided without creating an Instant.
+            if (argument.epochSecond > currentEpochSecond())
+            {
+                return@block valid()
+            }
+
+            val present = Instant.now()
+
+            if (argument.isAfter(present)) valid() else invalid("Expected Timestamp [{}] to be in the future. Now: [{}]", argument, present)
         }
     }
 }
@@ -84,13 +107,13 @@ fun after(@Required expected: Instant): AlchemyAssertion<Instant>
 {
     checkNotNull(expected, "time cannot be null")
 
-    return AlchemyAssertion { argument ->
-
-        notNull<Any>().check(argument)
+    return evaluating { argument ->
 
-        if (!argument.isAfter(expected))
+        when
         {
-            throw FailedAssertionException("Expected Timestamp to be after [$expected]")
+            argument == null -> NULL_ARGUMENT
+            argument.isAfter(expected) -> valid()
+            else -> invalid("Expected Timestamp to be after [{}]", expected)
         }
     }
 }
@@ -129,20 +152,26 @@ fun nowWithinDelta(marginOfErrorInMillis: Long): AlchemyAssertion<Instant>
 {
     checkThat(marginOfErrorInMillis >= 0, "millis must be non-negative.")
 
-    return AlchemyAssertion { instant ->
+    return NOW_WITHIN_DELTA_ASSERTIONS.get(marginOfErrorInMillis) {
+        evaluating block@ { instant ->
 
-        val now = Instant.now().toEpochMilli()
-        notNull<Any>().check(instant)
+            val now = System.currentTimeMillis()
 
-        val epoch = instant.toEpochMilli()
-        val difference = Math.abs(epoch - now)
+            if (instant == null)
+            {
+                return@block NULL_ARGUMENT
+            }
 
-        if (difference > marginOfErrorInMillis)
-        {
-            throw FailedAssertionException(
-                    "Time difference of $difference ms exceeded margin-of-error of $marginOfErrorInMillis ms")
-        }
+            val epoch = instant.toEpochMilli()
+            val difference = Math.abs(epoch - now)
+
+            if (difference > marginOfErrorInMillis)
+            {
+                return@block invalid("Time difference of {} ms exceeded margin-of-error of {} ms", difference, marginOfErrorInMillis)
+            }
 
+            valid()
+        }
     }
 }
 
@@ -161,17 +190,22 @@ fun equalToInstantWithinDelta(@Required instant: Instant, deltaMillis: Long): Al
     checkNotNull(instant, "instant cannot be null")
     val delta = Math.abs(deltaMillis)
 
-    return AlchemyAssertion { argument ->
+    return evaluating block@ { argument ->
 
-        notNull<Any>().check(argument)
+        if (argument == null)
+        {
+            return@block NULL_ARGUMENT
+        }
 
         var difference = argument.toEpochMilli() - instant.toEpochMilli()
         difference = Math.abs(difference)
 
         if (difference > delta)
         {
-            throw FailedAssertionException("Delta should not exceed $delta ms, but is $difference ms")
+            return@block invalid("Delta should not exceed {} ms, but is {} ms", delta, difference)
         }
+
+        valid()
     }
 }
 
@@ -202,17 +236,37 @@ fun epochNowWithinDelta(marginOfErrorInMillis: Long): AlchemyAssertion<Long>
 {
     checkThat(marginOfErrorInMillis >= 0, "millis must be non-negative.")
 
-    return AlchemyAssertion { epoch ->
+    val positiveEpoch = greaterThan(0L)
 
-        val now = Instant.now().toEpochMilli()
-        greaterThan(0L).check(epoch)
+    return EPOCH_NOW_WITHIN_DELTA_ASSERTIONS.get(marginOfErrorInMillis) {
+        evaluating block@ { epoch ->
 
-        val difference = Math.abs(epoch!! - now)
+            val now = System.currentTimeMillis()
 
-        if (difference > marginOfErrorInMillis)
-        {
-            throw FailedAssertionException("Time difference of $difference ms exceeded margin-of-error of $marginOfErrorInMillis ms")
-        }
+            val result = positiveEpoch.evaluate(epoch)
+            if (epoch == null || result.isInvalid)
+            {
+                return@block result
+            }
+
+            val difference = Math.abs(epoch - now)
 
+            if (difference > marginOfErrorInMillis)
+            {
+                return@block invalid("Time difference of {} ms exceeded margin-of-error of {} ms", difference, marginOfErrorInMillis)
+            }
+
+            valid()
+        }
     }
 }
+
+private val IN_THE_PAST_ASSERTION = Canonical()
+private val IN_THE_FUTURE_ASSERTION = Canonical()
+private val NOW_WITHIN_DELTA_ASSERTIONS = CanonicalByValue()
+private val EPOCH_NOW_WITHIN_DELTA_ASSERTIONS = CanonicalByValue()
+
+private fun currentEpochSecond(): Long
+{
+    return Math.floorDiv(System.currentTimeMillis(), 1000L)
+}
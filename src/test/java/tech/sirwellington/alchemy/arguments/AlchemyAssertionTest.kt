@@ -15,6 +15,9 @@
 package tech.sirwellington.alchemy.arguments
 
 import com.nhaarman.mockito_kotlin.spy
+import org.hamcrest.Matchers.equalTo
+import org.hamcrest.Matchers.sameInstance
+import org.junit.Assert.assertThat
 import org.junit.Before
 import org.junit.Test
 import org.junit.runner.RunWith
@@ -23,12 +26,15 @@ import org.mockito.Mockito.verify
 import org.mockito.Spy
 import tech.sirwellington.alchemy.arguments.assertions.and
 import tech.sirwellington.alchemy.arguments.assertions.combine
+import tech.sirwellington.alchemy.arguments.assertions.or
 import tech.sirwellington.alchemy.generator.AlchemyGenerator
 import tech.sirwellington.alchemy.generator.CollectionGenerators
 import tech.sirwellington.alchemy.test.junit.ThrowableAssertion.assertThrows
 import tech.sirwellington.alchemy.test.junit.runners.AlchemyTestRunner
 import tech.sirwellington.alchemy.test.junit.runners.GenerateString
 import java.util.Arrays.asList
+import java.util.Optional
+import java.util.concurrent.atomic.AtomicInteger
 
 /**
 
@@ -107,6 +113,100 @@ class AlchemyAssertionTest
                 .forEach { a -> verify(a, never()).check(argument) }
     }
 
+    @Test
+    fun testEvaluateWhenCheckPasses()
+    {
+        val assertion = AlchemyAssertion<Any> { }
+
+        val result = assertion.evaluate(argument)
+        assertThat(result.isValid, equalTo(true))
+    }
+
+    @Test
+    fun testEvaluateWhenCheckFails()
+    {
+        val exception = FailedAssertionException(argument)
+        val assertion = AlchemyAssertion<Any> { throw exception }
+
+        val result = assertion.evaluate(argument)
+        assertThat(result.isInvalid, equalTo(true))
+        assertThat(result.message, equalTo(argument))
+        assertThat(result.toException(), sameInstance(exception))
+    }
+
+    @Test
+    fun testEvaluateWithCombinedAssertions()
+    {
+        val failing = AlchemyAssertion<Any> { throw FailedAssertionException(argument) }
+
+        assertThat(first.and(failing).evaluate(argument).isInvalid, equalTo(true))
+        assertThat(combine(first, *otherAssertions).evaluate(argument).isValid, equalTo(true))
+        assertThat(combine(first, failing).evaluate(argument).message, equalTo(argument))
+    }
+
+    @Test
+    fun testOrStopsAtFirstPass()
+    {
+        val other = otherAssertions.first()
+
+        first.or(other).check(argument)
+
+        verify(first).evaluate(argument)
+        verify(other, never()).evaluate(argument)
+        verify(other, never()).check(argument)
+    }
+
+    @Test
+    fun testOrWhenFirstFails()
+    {
+        val failing = AlchemyAssertion<Any> { throw FailedAssertionException(argument) }
+        val other = otherAssertions.first()
+
+        failing.or(other).check(argument)
+        verify(other).evaluate(argument)
+    }
+
+    @Test
+    fun testOrWhenBothFail()
+    {
+        val failing = AlchemyAssertion<Any> { throw FailedAssertionException(argument) }
+        val alsoFailing = AlchemyAssertion<Any> { throw FailedAssertionException("also failed") }
+
+        val assertion = failing.or(alsoFailing)
+
+        assertThrows { assertion.check(argument) }
+                .failedAssertion()
+                .hasMessage("Expected $argument to pass at least one of 2 assertions, but: [$argument, also failed]")
+
+        assertThat(assertion.test(argument), equalTo(false))
+        assertThat(assertion.evaluate(argument).isInvalid, equalTo(true))
+    }
+
+    @Test
+    fun testOrRunsEachAssertionOnce()
+    {
+        val runs = AtomicInteger()
+        val failing = AlchemyAssertion<Any> { runs.incrementAndGet(); throw FailedAssertionException(argument) }
+
+        val assertion = failing.or(failing)
+
+        assertThrows { assertion.check(argument) }
+        assertThat(runs.get(), equalTo(2))
+
+        runs.set(0)
+        assertion.evaluate(argument)
+        assertThat(runs.get(), equalTo(2))
+    }
+
+    @Test
+    fun testOrWithBadArgs()
+    {
+        //Java callers can still pass a null
+        val missing = Optional.empty<AlchemyAssertion<Any>>().orElse(null)
+
+        assertThrows { first.or(missing) }
+    }
+
     internal open class FakeAssertion<T> : AlchemyAssertion<T>
     {
 
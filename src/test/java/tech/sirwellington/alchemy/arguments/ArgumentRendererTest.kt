@@ -0,0 +1,176 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments
+
+import org.hamcrest.Matchers.equalTo
+import org.hamcrest.Matchers.lessThan
+import org.junit.After
+import org.junit.Assert.assertThat
+import org.junit.Test
+import org.junit.runner.RunWith
+import tech.sirwellington.alchemy.arguments.ArgumentRenderer.DEFAULT_MAX_DEPTH
+import tech.sirwellington.alchemy.arguments.ArgumentRenderer.DEFAULT_MAX_ELEMENTS
+import tech.sirwellington.alchemy.arguments.ArgumentRenderer.DEFAULT_MAX_LENGTH
+import tech.sirwellington.alchemy.test.junit.ThrowableAssertion.assertThrows
+import tech.sirwellington.alchemy.test.junit.runners.AlchemyTestRunner
+import tech.sirwellington.alchemy.test.junit.runners.DontRepeat
+import tech.sirwellington.alchemy.test.junit.runners.GenerateString
+import tech.sirwellington.alchemy.test.junit.runners.GenerateString.Type.ALPHABETIC
+import tech.sirwellington.alchemy.test.junit.runners.Repeat
+
+/**
+ *
+ * @author SirWellington
+ */
+@Repeat(50)
+@RunWith(AlchemyTestRunner::class)
+class ArgumentRendererTest
+{
+
+    @GenerateString(ALPHABETIC)
+    private lateinit var argument: String
+
+    @After
+    fun tearDown()
+    {
+        ArgumentRenderer.setMaxLength(DEFAULT_MAX_LENGTH)
+        ArgumentRenderer.setMaxElements(DEFAULT_MAX_ELEMENTS)
+        ArgumentRenderer.setMaxDepth(DEFAULT_MAX_DEPTH)
+    }
+
+    @Test
+    fun testRenderMatchesToStringWhenSmall()
+    {
+        val list = listOf(argument, 1, null)
+        val map = mapOf(argument to listOf(1, 2))
+
+        assertThat(ArgumentRenderer.render(argument), equalTo(argument))
+        assertThat(ArgumentRenderer.render(list), equalTo(list.toString()))
+        assertThat(ArgumentRenderer.render(map), equalTo(map.toString()))
+        assertThat(ArgumentRenderer.render(null), equalTo("null"))
+        assertThat(ArgumentRenderer.render(42), equalTo("42"))
+    }
+
+    @DontRepeat
+    @Test
+    fun testRenderArrays()
+    {
+        assertThat(ArgumentRenderer.render(arrayOf("a", arrayOf("b"))), equalTo("[a, [b]]"))
+        assertThat(ArgumentRenderer.render(intArrayOf(1, 2)), equalTo("[1, 2]"))
+        assertThat(ArgumentRenderer.render(booleanArrayOf(true)), equalTo("[true]"))
+        assertThat(ArgumentRenderer.render(charArrayOf('a', 'b')), equalTo("[a, b]"))
+    }
+
+    @Test
+    fun testLongStringsAreCut()
+    {
+        ArgumentRenderer.setMaxLength(argument.length)
+        val longString = argument.repeat(1_000)
+
+        assertThat(ArgumentRenderer.render(longString), equalTo("$argument... (${longString.length} chars)"))
+    }
+
+    @DontRepeat
+    @Test
+    fun testLargeCollectionsAreCut()
+    {
+        ArgumentRenderer.setMaxElements(3)
+        val list = (1..1_000_000).toList()
+
+        assertThat(ArgumentRenderer.render(list), equalTo("[1, 2, 3, ... (1000000 elements)]"))
+        assertThat(ArgumentRenderer.render(list.toIntArray()), equalTo("[1, 2, 3, ... (1000000 elements)]"))
+    }
+
+    @DontRepeat
+    @Test
+    fun testLargeMapsAreCut()
+    {
+        ArgumentRenderer.setMaxElements(2)
+        val map = (1..1_000).associateWith { it }.toSortedMap()
+
+        assertThat(ArgumentRenderer.render(map), equalTo("{1=1, 2=2, ... (1000 elements)}"))
+    }
+
+    @DontRepeat
+    @Test
+    fun testCollectionsStopAtMaxLength()
+    {
+        ArgumentRenderer.setMaxLength(10)
+        val list = List(1_000) { "abcd" }
+
+        val rendered = ArgumentRenderer.render(list)
+        assertThat(rendered, equalTo("[abcd, abc... (4 chars), ... (1000 elements)]"))
+    }
+
+    @DontRepeat
+    @Test
+    fun testDeepNestingIsCut()
+    {
+        ArgumentRenderer.setMaxDepth(2)
+
+        assertThat(ArgumentRenderer.render(listOf(listOf(listOf(1)))), equalTo("[[[...]]]"))
+        assertThat(ArgumentRenderer.render(mapOf(1 to mapOf(2 to mapOf(3 to 4)))), equalTo("{1={2={...}}}"))
+    }
+
+    @DontRepeat
+    @Test
+    fun testSelfReferences()
+    {
+        val list = mutableListOf<Any>()
+        list.add(list)
+
+        val map = mutableMapOf<Any, Any>()
+        map[1] = map
+
+        assertThat(ArgumentRenderer.render(list), equalTo("[(this Collection)]"))
+        assertThat(ArgumentRenderer.render(map), equalTo("{1=(this Map)}"))
+    }
+
+    @DontRepeat
+    @Test
+    fun testFailureMessagesAreBounded()
+    {
+        val body = "x".repeat(20 * 1024 * 1024)
+
+        val message = FailedAssertionException("Expected {} to be empty", body).message!!
+        assertThat(message.length, lessThan(DEFAULT_MAX_LENGTH + 100))
+
+        val result = ValidationResult.invalid("Expected {} to be empty", (1..1_000_000).toList())
+        assertThat(result.message.length, lessThan(DEFAULT_MAX_LENGTH + 100))
+    }
+
+    @DontRepeat
+    @Test
+    fun testSettersWithBadArguments()
+    {
+        assertThrows { ArgumentRenderer.setMaxLength(0) }.isInstanceOf(IllegalArgumentException::class.java)
+        assertThrows { ArgumentRenderer.setMaxElements(-1) }.isInstanceOf(IllegalArgumentException::class.java)
+        assertThrows { ArgumentRenderer.setMaxDepth(0) }.isInstanceOf(IllegalArgumentException::class.java)
+    }
+
+    @DontRepeat
+    @Test
+    fun testGetters()
+    {
+        ArgumentRenderer.setMaxLength(10)
+        ArgumentRenderer.setMaxElements(11)
+        ArgumentRenderer.setMaxDepth(12)
+
+        assertThat(ArgumentRenderer.getMaxLength(), equalTo(10))
+        assertThat(ArgumentRenderer.getMaxElements(), equalTo(11))
+        assertThat(ArgumentRenderer.getMaxDepth(), equalTo(12))
+    }
+
+}
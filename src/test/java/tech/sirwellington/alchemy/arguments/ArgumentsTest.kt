@@ -14,12 +14,15 @@
  */
 package tech.sirwellington.alchemy.arguments
 
+import org.hamcrest.Matchers.instanceOf
 import org.hamcrest.Matchers.notNullValue
 import org.junit.Assert.assertThat
 import org.junit.Test
 import org.junit.runner.RunWith
 import tech.sirwellington.alchemy.arguments.Arguments.checkThat
 import tech.sirwellington.alchemy.arguments.assertions.nonEmptyString
+import tech.sirwellington.alchemy.arguments.assertions.positiveInteger
+import tech.sirwellington.alchemy.arguments.assertions.validPort
 import tech.sirwellington.alchemy.test.junit.ThrowableAssertion.assertThrows
 import tech.sirwellington.alchemy.test.junit.runners.*
 import tech.sirwellington.alchemy.test.junit.runners.GenerateString.Type.ALPHABETIC
@@ -53,6 +56,34 @@ class ArgumentsTest
         assertThat(instance, notNullValue())
     }
 
+    @Test
+    fun testCheckThatWithPrimitives()
+    {
+        assertThat(checkThat(1), instanceOf(IntAssertionBuilder::class.java))
+        assertThat(checkThat(1L), instanceOf(LongAssertionBuilder::class.java))
+        assertThat(checkThat(1.0), instanceOf(DoubleAssertionBuilder::class.java))
+
+        checkThat(80).isA(validPort())
+        assertThrows { checkThat(-1).isA(validPort()) }.failedAssertion()
+    }
+
+    @Test
+    fun testCheckThatWithPrimitivesAndBoxedAssertions()
+    {
+        val even = AlchemyAssertion<Int> { if (it % 2 != 0) throw FailedAssertionException("odd") }
+
+        checkThat(4).isA(even)
+        checkThat(5).isA(positiveInteger())
+        checkThat(5).usingMessage("bad").throwing(IllegalStateException::class.java).isA(positiveInteger())
+
+        assertThrows { checkThat(5).isA(even) }.failedAssertion()
+        assertThrows { checkThat(-5).throwing(IllegalStateException::class.java).isA(positiveInteger()) }
+                .isInstanceOf(IllegalStateException::class.java)
+        assertThrows { checkThat(-5).usingMessage("bad").isA(positiveInteger()) }
+                .failedAssertion()
+                .containsInMessage("bad")
+    }
+
     @Test
     fun testCheckThatWithMultipleArguments()
     {
@@ -77,4 +108,21 @@ class ArgumentsTest
         assertThrows { instance.are(nonEmptyString()) }.failedAssertion()
     }
 
+    @Test
+    fun testCheckThatWithFixedNumberOfArguments()
+    {
+        checkThat(argument, argument).are(nonEmptyString())
+        checkThat(argument, argument, argument).are(nonEmptyString())
+        checkThat(argument, argument, argument, argument).are(nonEmptyString())
+    }
+
+    @Test
+    fun testCheckThatWithFixedNumberOfArgumentsWithFailure()
+    {
+        assertThrows { checkThat(argument, "").are(nonEmptyString()) }.failedAssertion()
+        assertThrows { checkThat(argument, argument, "").are(nonEmptyString()) }.failedAssertion()
+        assertThrows { checkThat("", argument, argument, argument).are(nonEmptyString()) }.failedAssertion()
+        assertThrows { checkThat(argument, argument, argument, "").are(nonEmptyString()) }.failedAssertion()
+    }
+
 }
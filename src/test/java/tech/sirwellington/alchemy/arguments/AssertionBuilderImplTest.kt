@@ -17,6 +17,7 @@ package tech.sirwellington.alchemy.arguments
 import com.nhaarman.mockito_kotlin.doNothing
 import com.nhaarman.mockito_kotlin.doThrow
 import com.nhaarman.mockito_kotlin.whenever
+import org.hamcrest.Matchers.lessThan
 import org.hamcrest.Matchers.notNullValue
 import org.junit.Assert.assertThat
 import org.junit.Before
@@ -24,6 +25,7 @@ import org.junit.Test
 import org.junit.runner.RunWith
 import org.mockito.Mock
 import org.mockito.Mockito.mock
+import org.mockito.Mockito.times
 import org.mockito.Mockito.verify
 import org.mockito.Mockito.verifyZeroInteractions
 import tech.sirwellington.alchemy.arguments.AssertionBuilderImpl.checkThat
@@ -33,6 +35,7 @@ import tech.sirwellington.alchemy.generator.StringGenerators.Companion.alphabeti
 import tech.sirwellington.alchemy.generator.one
 import tech.sirwellington.alchemy.test.junit.ThrowableAssertion.assertThrows
 import tech.sirwellington.alchemy.test.junit.runners.AlchemyTestRunner
+import tech.sirwellington.alchemy.test.junit.runners.DontRepeat
 import tech.sirwellington.alchemy.test.junit.runners.GenerateString
 import tech.sirwellington.alchemy.test.junit.runners.GenerateString.Type.ALPHABETIC
 import tech.sirwellington.alchemy.test.junit.runners.Repeat
@@ -208,6 +211,58 @@ class AssertionBuilderImplTest
         assertThrows { AssertionBuilderImpl.checkThat(arguments).are(nonEmptyString()) }.failedAssertion()
     }
 
+    @Test
+    fun testChecksFixedNumberOfArguments()
+    {
+        val first = argument + 1
+        val second = argument + 2
+        val third = argument + 3
+        val fourth = argument + 4
+
+        AssertionBuilderImpl.checkThat<Any>(first, second).isA(assertion)
+        AssertionBuilderImpl.checkThat<Any>(first, second, third).isA(assertion)
+        AssertionBuilderImpl.checkThat<Any>(first, second, third, fourth).isA(assertion)
+
+        verify(assertion, times(3)).check(first)
+        verify(assertion, times(3)).check(second)
+        verify(assertion, times(2)).check(third)
+        verify(assertion, times(1)).check(fourth)
+    }
+
+    @Test
+    fun testChecksFixedNumberOfArgumentsWithFailure()
+    {
+        doThrow(assertException)
+                .whenever(assertion)
+                .check(argument)
+
+        assertThrows { AssertionBuilderImpl.checkThat<Any>(errorMessage, argument).isA(assertion) }
+                .failedAssertion()
+                .hasMessage(assertException.message)
+
+        assertThrows { AssertionBuilderImpl.checkThat<Any>(errorMessage, errorMessage, errorMessage, argument).isA(assertion) }
+                .failedAssertion()
+                .hasMessage(assertException.message)
+    }
+
+    @DontRepeat
+    @Test
+    fun testFixedNumberOfArgumentsAllocatesLessThanVarargs()
+    {
+        val assertion = nonEmptyString()
+        val iterations = 10_000
+        val others = arrayOf(argument, argument)
+
+        //Warm up, so that class-loading is not measured
+        allocatedBytes(iterations) { Arguments.checkThat(argument, argument, argument).are(assertion) }
+        allocatedBytes(iterations) { Arguments.checkThat(argument, *others).are(assertion) }
+
+        val bytesWhenFixed = allocatedBytes(iterations) { Arguments.checkThat(argument, argument, argument).are(assertion) }
+        val bytesWhenVarargs = allocatedBytes(iterations) { Arguments.checkThat(argument, *others).are(assertion) }
+
+        assertThat(bytesWhenFixed, lessThan(bytesWhenVarargs))
+    }
+
     @Test
     fun testOverrideMessagePreservedWithCustomException()
     {
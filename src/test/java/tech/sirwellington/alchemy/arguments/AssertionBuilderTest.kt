@@ -15,6 +15,8 @@
 package tech.sirwellington.alchemy.arguments
 
 import com.nhaarman.mockito_kotlin.whenever
+import org.hamcrest.Matchers.sameInstance
+import org.junit.Assert.assertThat
 import org.junit.Before
 import org.junit.Test
 import org.junit.runner.RunWith
@@ -60,6 +62,13 @@ class AssertionBuilderTest
         verify(instance).isA(assertion)
     }
 
+    @Test
+    fun testWithoutStackTracesDefaultsToSameBuilder()
+    {
+        val fake = FakeInstance<Any>()
+        assertThat(fake.withoutStackTraces(), sameInstance<AssertionBuilder<Any, Throwable>>(fake))
+    }
+
     private open class FakeInstance<A> : AssertionBuilder<A, Throwable>
     {
         override fun isA(assertion: AlchemyAssertion<A>?): AssertionBuilder<A, Throwable>
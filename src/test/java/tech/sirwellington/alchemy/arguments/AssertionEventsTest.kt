@@ -0,0 +1,189 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments
+
+import jdk.jfr.Recording
+import jdk.jfr.consumer.RecordedClass
+import jdk.jfr.consumer.RecordedEvent
+import jdk.jfr.consumer.RecordingFile
+import org.hamcrest.Matchers.equalTo
+import org.hamcrest.Matchers.greaterThanOrEqualTo
+import org.junit.After
+import org.junit.Assert.assertThat
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import tech.sirwellington.alchemy.arguments.assertions.nonEmptyString
+import tech.sirwellington.alchemy.test.junit.ThrowableAssertion.assertThrows
+import tech.sirwellington.alchemy.test.junit.runners.AlchemyTestRunner
+import tech.sirwellington.alchemy.test.junit.runners.GenerateString
+import tech.sirwellington.alchemy.test.junit.runners.GenerateString.Type.ALPHABETIC
+import java.nio.file.Files
+import java.util.concurrent.TimeUnit
+
+/**
+ *
+ * @author SirWellington
+ */
+@RunWith(AlchemyTestRunner::class)
+class AssertionEventsTest
+{
+
+    @GenerateString(ALPHABETIC)
+    private lateinit var argument: String
+
+    private lateinit var recording: Recording
+
+    @Before
+    fun setUp()
+    {
+        recording = Recording()
+        recording.enable(AssertionFailureEvent.NAME)
+        recording.enable(SlowAssertionEvent.NAME)
+    }
+
+    @After
+    fun tearDown()
+    {
+        recording.close()
+    }
+
+    @Test
+    fun testIsAvailable()
+    {
+        assertThat(AssertionEvents.AVAILABLE, equalTo(true))
+    }
+
+    @Test
+    fun testEventsAreEnabledOnlyWhileRecording()
+    {
+        assertThat(AssertionEvents.isFailureEnabled(), equalTo(false))
+        assertThat(AssertionEvents.isSlowCheckEnabled(), equalTo(false))
+
+        recording.start()
+
+        assertThat(AssertionEvents.isFailureEnabled(), equalTo(true))
+        assertThat(AssertionEvents.isSlowCheckEnabled(), equalTo(true))
+    }
+
+    @Test
+    fun testFailureEvent()
+    {
+        recording.start()
+
+        assertThrows { Arguments.checkThat("").throwing(IllegalStateException::class.java).isA(nonEmptyString()) }
+                .isInstanceOf(IllegalStateException::class.java)
+
+        val events = stopAndRead(AssertionFailureEvent.NAME)
+        assertThat(events.size, equalTo(1))
+
+        val event = events.first()
+        assertThat(event.getString("assertion"), equalTo("StringAssertions.nonEmptyString"))
+        assertThat(event.getValue<RecordedClass>("exceptionType").name, equalTo(IllegalStateException::class.java.name))
+    }
+
+    @Test
+    fun testFailureEventWithCustomAssertion()
+    {
+        recording.start()
+        val assertion = AlchemyAssertion<String> { throw FailedAssertionException() }
+
+        assertThrows { Arguments.checkThat(argument).isA(assertion) }.failedAssertion()
+
+        val event = stopAndRead(AssertionFailureEvent.NAME).single()
+        assertThat(event.getString("assertion"), equalTo(assertion.javaClass.name))
+        assertThat(event.getValue<RecordedClass>("exceptionType").name, equalTo(FailedAssertionException::class.java.name))
+    }
+
+    @Test
+    fun testSlowAssertionEvent()
+    {
+        recording.start()
+        val threshold = TimeUnit.NANOSECONDS.toMillis(AssertionEvents.SLOW_CHECK_THRESHOLD_NANOS)
+        val slowAssertion = AlchemyAssertion<String> { Thread.sleep(threshold + 1) }
+
+        Arguments.checkThat(argument).isA(slowAssertion)
+        Arguments.checkThat(argument).isA(nonEmptyString())
+
+        val event = stopAndRead(SlowAssertionEvent.NAME).single()
+        assertThat(event.getString("assertion"), equalTo(slowAssertion.javaClass.name))
+        assertThat(event.getLong("elapsed"), greaterThanOrEqualTo(AssertionEvents.SLOW_CHECK_THRESHOLD_NANOS))
+    }
+
+    @Test
+    fun testSlowAssertionEventWithValidator()
+    {
+        recording.start()
+        val threshold = TimeUnit.NANOSECONDS.toMillis(AssertionEvents.SLOW_CHECK_THRESHOLD_NANOS)
+        val slowAssertion = AlchemyAssertion<String> { Thread.sleep(threshold + 1) }
+
+        Arguments.validator<String>().isA(slowAssertion).build().check(argument)
+
+        val event = stopAndRead(SlowAssertionEvent.NAME).single()
+        assertThat(event.getString("assertion"), equalTo(slowAssertion.javaClass.name))
+    }
+
+    @Test
+    fun testTimedAssertionsAreReportedOnce()
+    {
+        recording.start()
+        val threshold = TimeUnit.NANOSECONDS.toMillis(AssertionEvents.SLOW_CHECK_THRESHOLD_NANOS)
+        val slowAssertion = AlchemyAssertion<String> { Thread.sleep(threshold + 1) }
+
+        Arguments.checkThat(argument).isA(AssertionMetrics.timed(slowAssertion, argument))
+
+        val event = stopAndRead(SlowAssertionEvent.NAME).single()
+        assertThat(event.getString("assertion"), equalTo(slowAssertion.javaClass.name))
+    }
+
+    @Test
+    fun testNoSlowAssertionEventsWhileNotRecording()
+    {
+        val threshold = TimeUnit.NANOSECONDS.toMillis(AssertionEvents.SLOW_CHECK_THRESHOLD_NANOS)
+        val slowAssertion = AlchemyAssertion<String> { Thread.sleep(threshold + 1) }
+
+        Arguments.checkThat(argument).isA(slowAssertion)
+        recording.start()
+
+        assertThat(stopAndRead(SlowAssertionEvent.NAME).size, equalTo(0))
+    }
+
+    @Test
+    fun testNoEventsWhenPassing()
+    {
+        recording.start()
+
+        Arguments.checkThat(argument).isA(nonEmptyString())
+
+        assertThat(stopAndRead(AssertionFailureEvent.NAME).size, equalTo(0))
+    }
+
+    private fun stopAndRead(eventName: String): List<RecordedEvent>
+    {
+        recording.stop()
+
+        val file = Files.createTempFile("assertion-events", ".jfr")
+        try
+        {
+            recording.dump(file)
+            return RecordingFile.readAllEvents(file).filter { it.eventType.name == eventName }
+        }
+        finally
+        {
+            Files.delete(file)
+        }
+    }
+
+}
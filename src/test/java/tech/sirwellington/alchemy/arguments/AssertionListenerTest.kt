@@ -0,0 +1,264 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments
+
+import org.hamcrest.Matchers.equalTo
+import org.junit.After
+import org.junit.Assert.assertThat
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import tech.sirwellington.alchemy.arguments.assertions.nonEmptyString
+import tech.sirwellington.alchemy.arguments.assertions.positiveInteger
+import tech.sirwellington.alchemy.test.junit.ThrowableAssertion.assertThrows
+import tech.sirwellington.alchemy.test.junit.runners.AlchemyTestRunner
+import tech.sirwellington.alchemy.test.junit.runners.GenerateString
+import tech.sirwellington.alchemy.test.junit.runners.GenerateString.Type.ALPHABETIC
+import tech.sirwellington.alchemy.test.junit.runners.Repeat
+
+/**
+ * The [RecordingListener] is registered in `src/test/resources/META-INF/services`.
+ *
+ * @author SirWellington
+ */
+@Repeat(50)
+@RunWith(AlchemyTestRunner::class)
+class AssertionListenerTest
+{
+
+    @GenerateString(ALPHABETIC)
+    private lateinit var argument: String
+
+    @Before
+    fun setUp()
+    {
+        RecordingListener.events.get().clear()
+    }
+
+    @After
+    fun tearDown()
+    {
+        RecordingListener.watched.remove()
+        RecordingListener.watchedValidator.remove()
+        RecordingListener.throwing.remove()
+    }
+
+    @Test
+    fun testListenersAreEnabled()
+    {
+        assertThat(AssertionListeners.ENABLED, equalTo(true))
+    }
+
+    @Test
+    fun testPass()
+    {
+        val assertion = watch(AlchemyAssertion<String> { })
+
+        Arguments.checkThat(argument).isA(assertion)
+
+        assertThat(events(), equalTo(listOf("check", "pass", "complete")))
+    }
+
+    @Test
+    fun testFail()
+    {
+        val assertion = watch(AlchemyAssertion<String> { throw FailedAssertionException(argument) })
+
+        assertThrows { Arguments.checkThat(argument).isA(assertion) }
+                .failedAssertion()
+
+        assertThat(events(), equalTo(listOf("check", "fail: $argument", "complete")))
+    }
+
+    @Test
+    fun testFailWithBuiltInAssertion()
+    {
+        val assertion = watch(nonEmptyString())
+
+        assertThrows { Arguments.checkThat("").throwing(IllegalStateException::class.java).isA(assertion) }
+                .isInstanceOf(IllegalStateException::class.java)
+
+        assertThat(events(), equalTo(listOf("check", "fail: ${assertion.evaluate("").message}", "complete")))
+    }
+
+    @Test
+    fun testUnexpectedException()
+    {
+        val assertion = watch(AlchemyAssertion<String> { throw RuntimeException() })
+
+        assertThrows { Arguments.checkThat(argument).isA(assertion) }
+                .failedAssertion()
+
+        assertThat(events(), equalTo(listOf("check", "unexpected", "complete")))
+    }
+
+    @Test
+    fun testWithValidator()
+    {
+        val assertion = watch(nonEmptyString())
+        val validator = Arguments.validator<String>().isA(assertion).build()
+
+        validator.check(argument)
+        assertThrows { validator.check("") }.failedAssertion()
+
+        assertThat(events(), equalTo(listOf("check", "pass", "complete", "check", "fail: ${assertion.evaluate("").message}", "complete")))
+    }
+
+    @Test
+    fun testWithPrimitives()
+    {
+        val assertion = positiveInteger()
+        RecordingListener.watched.set(assertion)
+
+        Arguments.checkThat(1).isA(assertion)
+
+        assertThat(events(), equalTo(listOf("check", "pass", "complete")))
+    }
+
+    @Test
+    fun testWithNamedValidator()
+    {
+        val validator = Arguments.validator<String>().named(argument).isA(nonEmptyString()).build()
+        RecordingListener.watchedValidator.set(argument)
+
+        validator.check(argument)
+        assertThrows { validator.check("") }.failedAssertion()
+
+        assertThat(events(), equalTo(listOf("validation: true", "validation: false")))
+    }
+
+    @Test
+    fun testWithNamedValidatorThatSwallowsFailures()
+    {
+        val validator = Arguments.validator<String>()
+                .named(argument)
+                .throwing(ExceptionMapper<FailedAssertionException> { null })
+                .isA(nonEmptyString())
+                .build()
+        RecordingListener.watchedValidator.set(argument)
+
+        validator.check("")
+
+        assertThat(events(), equalTo(listOf("validation: false")))
+    }
+
+    @Test
+    fun testWithSampledValidator()
+    {
+        val validator = Arguments.validator<String>()
+                .named(argument)
+                .sampled(1, Int.MAX_VALUE)
+                .isA(nonEmptyString())
+                .build()
+        RecordingListener.watchedValidator.set(argument)
+
+        validator.check("")
+        validator.check("")
+
+        assertThat(events(), equalTo(listOf("skipped", "skipped")))
+    }
+
+    @Test
+    fun testListenerExceptionsAreIgnored()
+    {
+        val assertion = watch(AlchemyAssertion<String> { })
+        RecordingListener.throwing.set(true)
+
+        Arguments.checkThat(argument).isA(assertion)
+    }
+
+    private fun <A> watch(assertion: AlchemyAssertion<A>): AlchemyAssertion<A>
+    {
+        RecordingListener.watched.set(assertion)
+        return assertion
+    }
+
+    private fun events(): List<String>
+    {
+        return RecordingListener.events.get()
+    }
+
+    /**
+     * Records the events for the assertion being watched on the current thread.
+     */
+    class RecordingListener : AssertionListener
+    {
+
+        companion object
+        {
+            val watched = ThreadLocal<AlchemyAssertion<*>>()
+            val watchedValidator = ThreadLocal<String>()
+            val throwing = ThreadLocal<Boolean>()
+            val events: ThreadLocal<MutableList<String>> = ThreadLocal.withInitial { mutableListOf<String>() }
+        }
+
+        override fun onCheck(assertion: AlchemyAssertion<*>)
+        {
+            record(assertion, "check")
+        }
+
+        override fun onPass(assertion: AlchemyAssertion<*>)
+        {
+            record(assertion, "pass")
+        }
+
+        override fun onFail(assertion: AlchemyAssertion<*>, failure: ValidationResult)
+        {
+            record(assertion, "fail: ${failure.message}")
+        }
+
+        override fun onUnexpectedException(assertion: AlchemyAssertion<*>, ex: RuntimeException)
+        {
+            record(assertion, "unexpected")
+        }
+
+        override fun onComplete(assertion: AlchemyAssertion<*>, elapsedNanos: Long)
+        {
+            record(assertion, "complete")
+        }
+
+        override fun onValidation(validatorName: String, passed: Boolean, elapsedNanos: Long)
+        {
+            if (validatorName == watchedValidator.get())
+            {
+                events.get().add("validation: $passed")
+            }
+        }
+
+        override fun onSkippedValidation(validatorName: String)
+        {
+            if (validatorName == watchedValidator.get())
+            {
+                events.get().add("skipped")
+            }
+        }
+
+        private fun record(assertion: AlchemyAssertion<*>, event: String)
+        {
+            if (assertion !== watched.get())
+            {
+                return
+            }
+
+            if (throwing.get() == true)
+            {
+                throw RuntimeException("Listener failed")
+            }
+
+            events.get().add(event)
+        }
+    }
+
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments
+
+import org.hamcrest.Matchers.equalTo
+import org.hamcrest.Matchers.greaterThanOrEqualTo
+import org.hamcrest.Matchers.instanceOf
+import org.hamcrest.Matchers.nullValue
+import org.junit.Assert.assertThat
+import org.junit.Test
+import org.junit.runner.RunWith
+import tech.sirwellington.alchemy.arguments.assertions.greaterThan
+import tech.sirwellington.alchemy.arguments.assertions.nonEmptyString
+import tech.sirwellington.alchemy.test.junit.ThrowableAssertion.assertThrows
+import tech.sirwellington.alchemy.test.junit.runners.AlchemyTestRunner
+import tech.sirwellington.alchemy.test.junit.runners.DontRepeat
+import tech.sirwellington.alchemy.test.junit.runners.GenerateString
+import tech.sirwellington.alchemy.test.junit.runners.GenerateString.Type.ALPHABETIC
+import tech.sirwellington.alchemy.test.junit.runners.Repeat
+import java.lang.management.ManagementFactory
+import java.util.ServiceLoader
+import java.util.concurrent.TimeUnit
+
+/**
+ * [AssertionMetrics] is registered in `src/test/resources/META-INF/services`.
+ *
+ * @author SirWellington
+ */
+@Repeat(50)
+@RunWith(AlchemyTestRunner::class)
+class AssertionMetricsTest
+{
+
+    @GenerateString(ALPHABETIC)
+    private lateinit var argument: String
+
+    @DontRepeat
+    @Test
+    fun testIsLoaded()
+    {
+        val listeners = ServiceLoader.load(AssertionListener::class.java).toList()
+        assertThat(listeners.any { it is AssertionMetrics }, equalTo(true))
+    }
+
+    @DontRepeat
+    @Test
+    fun testKindOf()
+    {
+        assertThat(AssertionMetrics.kindOf(nonEmptyString()), equalTo("StringAssertions.nonEmptyString"))
+        assertThat(AssertionMetrics.kindOf(greaterThan(1)), equalTo("NumberAssertions.greaterThan"))
+
+        val lambda = AlchemyAssertion<String> { }
+        assertThat(AssertionMetrics.kindOf(lambda), equalTo(lambda.javaClass.name))
+    }
+
+    @Test
+    fun testCountsChecksAndFailures()
+    {
+        val assertion = nonEmptyString()
+        val kind = AssertionMetrics.kindOf(assertion)
+
+        val counter = AssertionMetrics.getCounter(kind)!!
+        val checks = counter.checks
+        val failures = counter.failures
+
+        Arguments.checkThat(argument).isA(assertion)
+        assertThrows { Arguments.checkThat("").isA(assertion) }.failedAssertion()
+
+        assertThat(counter.checks - checks, equalTo(2L))
+        assertThat(counter.failures - failures, equalTo(1L))
+        assertThat(AssertionMetrics.getCounters().containsKey(kind), equalTo(true))
+    }
+
+    @Test
+    fun testCountsUnexpectedExceptions()
+    {
+        val assertion = AlchemyAssertion<String> { throw RuntimeException() }
+        val counter = AssertionMetrics.getCounter(AssertionMetrics.kindOf(assertion))!!
+        val unexpectedExceptions = counter.unexpectedExceptions
+
+        assertThrows { Arguments.checkThat(argument).isA(assertion) }.failedAssertion()
+
+        assertThat(counter.unexpectedExceptions - unexpectedExceptions, equalTo(1L))
+    }
+
+    @DontRepeat
+    @Test
+    fun testReset()
+    {
+        val assertion = nonEmptyString()
+        Arguments.checkThat(argument).isA(assertion)
+
+        AssertionMetrics.reset()
+
+        val counter = AssertionMetrics.getCounter(AssertionMetrics.kindOf(assertion))!!
+        assertThat(counter.checks, equalTo(0L))
+        assertThat(counter.failures, equalTo(0L))
+    }
+
+    @DontRepeat
+    @Test
+    fun testGetCounterWhenNoneRan()
+    {
+        assertThat(AssertionMetrics.getCounter(argument), nullValue())
+    }
+
+    @DontRepeat
+    @Test
+    fun testToString()
+    {
+        assertThat(AssertionMetrics().toString(), instanceOf(String::class.java))
+    }
+
+    @DontRepeat
+    @Test
+    fun testRecordsLatency()
+    {
+        val assertion = AlchemyAssertion<String> { Thread.sleep(1) }
+        val counter = AssertionMetrics.getCounter(AssertionMetrics.kindOf(assertion))!!
+
+        Arguments.checkThat(argument).isA(assertion)
+
+        assertThat(counter.latencyP50Nanos, greaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(1)))
+        assertThat(counter.latencyP999Nanos, greaterThanOrEqualTo(counter.latencyP50Nanos))
+    }
+
+    @Test
+    fun testCountsNamedValidators()
+    {
+        val validator = Arguments.validator<String>()
+                .named(argument)
+                .isA(nonEmptyString())
+                .build()
+
+        validator.check(argument)
+        assertThrows { validator.check("") }.failedAssertion()
+
+        val counter = AssertionMetrics.getValidatorCounter(argument)!!
+        assertThat(counter.name, equalTo(argument))
+        assertThat(counter.checks, equalTo(2L))
+        assertThat(counter.failures, equalTo(1L))
+        assertThat(counter.latencyP99Nanos, greaterThanOrEqualTo(counter.latencyP50Nanos))
+        assertThat(AssertionMetrics.getValidatorCounters().containsKey(argument), equalTo(true))
+    }
+
+    @Test
+    fun testCountsSkippedValidations()
+    {
+        val validator = Arguments.validator<String>()
+                .named(argument)
+                .sampled(1, Int.MAX_VALUE)
+                .isA(nonEmptyString())
+                .build()
+
+        repeat(10) { validator.check("") }
+
+        val counter = AssertionMetrics.getValidatorCounter(argument)!!
+        assertThat(counter.skipped, equalTo(10L))
+        assertThat(counter.checks, equalTo(0L))
+    }
+
+    @Test
+    fun testRegisterMBeans()
+    {
+        AssertionMetrics.registerMBeans()
+        AssertionMetrics.registerMBeans()
+
+        val validator = Arguments.validator<String>()
+                .named(argument)
+                .isA(nonEmptyString())
+                .build()
+
+        validator.check(argument)
+
+        val server = ManagementFactory.getPlatformMBeanServer()
+
+        val validatorName = AssertionMetricsMBeans.objectNameFor(AssertionMetrics.VALIDATORS, argument)
+        assertThat(server.getAttribute(validatorName, "Checks"), equalTo<Any>(1L))
+
+        val kind = AssertionMetrics.kindOf(nonEmptyString())
+        val assertionName = AssertionMetricsMBeans.objectNameFor(AssertionMetrics.ASSERTIONS, kind)
+        assertThat(server.getAttribute(assertionName, "Name"), equalTo<Any>(kind))
+    }
+
+}
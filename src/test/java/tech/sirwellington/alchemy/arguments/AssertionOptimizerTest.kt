@@ -0,0 +1,218 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments
+
+import org.hamcrest.Matchers.equalTo
+import org.hamcrest.Matchers.instanceOf
+import org.hamcrest.Matchers.sameInstance
+import org.junit.Assert.assertThat
+import org.junit.Test
+import org.junit.runner.RunWith
+import tech.sirwellington.alchemy.arguments.AssertionDescriptor.AllOf
+import tech.sirwellington.alchemy.arguments.assertions.and
+import tech.sirwellington.alchemy.arguments.assertions.combine
+import tech.sirwellington.alchemy.arguments.assertions.greaterThan
+import tech.sirwellington.alchemy.arguments.assertions.greaterThanOrEqualTo
+import tech.sirwellington.alchemy.arguments.assertions.lessThan
+import tech.sirwellington.alchemy.arguments.assertions.lessThanOrEqualTo
+import tech.sirwellington.alchemy.arguments.assertions.nonEmptyString
+import tech.sirwellington.alchemy.arguments.assertions.notNull
+import tech.sirwellington.alchemy.arguments.assertions.numberBetween
+import tech.sirwellington.alchemy.arguments.assertions.positiveInteger
+import tech.sirwellington.alchemy.arguments.assertions.positiveLong
+import tech.sirwellington.alchemy.arguments.assertions.stringWithLength
+import tech.sirwellington.alchemy.arguments.assertions.stringWithLengthGreaterThan
+import tech.sirwellington.alchemy.arguments.assertions.stringWithLengthLessThan
+import tech.sirwellington.alchemy.generator.NumberGenerators.Companion.integers
+import tech.sirwellington.alchemy.generator.NumberGenerators.Companion.longs
+import tech.sirwellington.alchemy.generator.StringGenerators.Companion.alphabeticStrings
+import tech.sirwellington.alchemy.generator.one
+import tech.sirwellington.alchemy.test.junit.ThrowableAssertion.assertThrows
+import tech.sirwellington.alchemy.test.junit.runners.AlchemyTestRunner
+import tech.sirwellington.alchemy.test.junit.runners.DontRepeat
+import tech.sirwellington.alchemy.test.junit.runners.Repeat
+
+/**
+ *
+ * @author SirWellington
+ */
+@Repeat(100)
+@RunWith(AlchemyTestRunner::class)
+class AssertionOptimizerTest
+{
+
+    @Test
+    fun testFusesAdjacentNumberBounds()
+    {
+        val assertions = listOf<AlchemyAssertion<Int>>(greaterThanOrEqualTo(0), lessThan(100), lessThanOrEqualTo(50))
+        val optimized = optimize(assertions)
+
+        assertThat(optimized.size, equalTo(1))
+        assertSameOutcome(optimized, assertions, one(integers(-200, 200)))
+        assertSameOutcome(optimized, assertions, null)
+    }
+
+    @Test
+    fun testFusesAdjacentLongBounds()
+    {
+        val assertions = listOf<AlchemyAssertion<Long>>(notNull(), positiveLong(), numberBetween(-10L, 100L))
+        val optimized = optimize(assertions)
+
+        assertThat(optimized.size, equalTo(1))
+        assertSameOutcome(optimized, assertions, one(longs(-200, 200)))
+        assertSameOutcome(optimized, assertions, null)
+    }
+
+    @Test
+    fun testFusesStringLengths()
+    {
+        val assertions = listOf<AlchemyAssertion<String>>(notNull(),
+                                                          nonEmptyString(),
+                                                          stringWithLengthGreaterThan(2),
+                                                          stringWithLengthLessThan(10))
+        val optimized = optimize(assertions)
+
+        assertThat(optimized.size, equalTo(1))
+
+        val string = one(alphabeticStrings()).take(one(integers(0, 15)))
+        assertSameOutcome(optimized, assertions, string)
+        assertSameOutcome(optimized, assertions, "")
+        assertSameOutcome(optimized, assertions, null)
+    }
+
+    @DontRepeat
+    @Test
+    fun testFusesBoundsThatCannotBeMet()
+    {
+        val assertions = listOf<AlchemyAssertion<String>>(stringWithLength(0), nonEmptyString())
+        val optimized = optimize(assertions)
+
+        assertThat(optimized.size, equalTo(1))
+        assertSameOutcome(optimized, assertions, "")
+        assertSameOutcome(optimized, assertions, "a")
+    }
+
+    @Test
+    fun testDropsRedundantNotNull()
+    {
+        val assertions = listOf<AlchemyAssertion<Int>>(notNull(), notNull(), positiveInteger())
+        val optimized = optimize(assertions)
+
+        assertThat(optimized.size, equalTo(1))
+        assertThat(optimized[0].test(null), equalTo(false))
+
+        assertThrows { optimized[0].check(null) }
+                .failedAssertion()
+                .hasMessage(notNull<Int>().evaluate(null).message)
+    }
+
+    @Test
+    fun testDoesNotFuseAcrossOtherAssertions()
+    {
+        val other = AlchemyAssertion<Int> { }
+        val assertions = listOf(greaterThan(0), other, lessThan(100))
+
+        val optimized = optimize(assertions)
+
+        assertThat(optimized.size, equalTo(3))
+        assertThat(optimized[1], sameInstance(other))
+    }
+
+    @Test
+    fun testLeavesSingleAssertionsAlone()
+    {
+        val assertion = positiveInteger()
+
+        assertThat(optimize(listOf<AlchemyAssertion<Int>>(assertion))[0], sameInstance<AlchemyAssertion<Int>>(assertion))
+        assertThat(allOf(listOf<AlchemyAssertion<Int>>(assertion)), sameInstance<AlchemyAssertion<Int>>(assertion))
+    }
+
+    @Test
+    fun testFlattensNestedAssertions()
+    {
+        val first = AlchemyAssertion<String> { }
+        val second = AlchemyAssertion<String> { }
+        val third = AlchemyAssertion<String> { }
+
+        val assertion = first.and(second).and(combine(third, first))
+
+        assertThat(assertion, instanceOf(DescribedAssertion::class.java))
+
+        val descriptor = (assertion as DescribedAssertion).descriptor as AllOf
+        assertThat(descriptor.parts, equalTo(listOf<AlchemyAssertion<*>>(first, second, third, first)))
+    }
+
+    @Test
+    fun testCombineFusesBounds()
+    {
+        val number = one(integers(-200, 200))
+        val assertion = combine(greaterThan(0), lessThan(100))
+
+        assertThat(assertion.test(number), equalTo(number in 1..99))
+
+        if (number <= 0)
+        {
+            assertThrows { assertion.check(number) }
+                    .failedAssertion()
+                    .hasMessage("Number must be > 0")
+        }
+        else if (number >= 100)
+        {
+            assertThrows { assertion.check(number) }
+                    .failedAssertion()
+                    .hasMessage("Number must be < 100")
+        }
+    }
+
+    @Test
+    fun testFusingAgainStartsFromTheOriginals()
+    {
+        val range = combine(greaterThan(0), lessThan(100))
+        val assertions = listOf(range, AlchemyAssertion { }, range.and(lessThan(50)))
+
+        val optimized = optimize(assertions)
+        assertThat(optimized.size, equalTo(3))
+
+        assertSameOutcome(optimized, assertions, one(integers(-200, 200)))
+    }
+
+    private fun <A> assertSameOutcome(optimized: List<AlchemyAssertion<A>>, originals: List<AlchemyAssertion<A>>, argument: A?)
+    {
+        val expected = originals.map { it.evaluate(argument) }.firstOrNull { it.isInvalid }
+        val actual = optimized.map { it.evaluate(argument) }.firstOrNull { it.isInvalid }
+
+        assertThat(actual?.message, equalTo(expected?.message))
+        assertThat(optimized.all { it.test(argument) }, equalTo(expected == null))
+
+        val expectedException = originals.map { catchFailure { it.check(argument) } }.firstOrNull { it != null }
+        val actualException = optimized.map { catchFailure { it.check(argument) } }.firstOrNull { it != null }
+
+        assertThat(actualException?.message, equalTo(expectedException?.message))
+    }
+
+    private fun catchFailure(block: () -> Unit): FailedAssertionException?
+    {
+        return try
+        {
+            block()
+            null
+        }
+        catch (ex: FailedAssertionException)
+        {
+            ex
+        }
+    }
+
+}
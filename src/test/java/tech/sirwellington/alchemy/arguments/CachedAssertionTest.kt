@@ -0,0 +1,244 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments
+
+import org.hamcrest.Matchers.containsString
+import org.hamcrest.Matchers.equalTo
+import org.hamcrest.Matchers.lessThanOrEqualTo
+import org.hamcrest.Matchers.not
+import org.hamcrest.Matchers.nullValue
+import org.hamcrest.Matchers.sameInstance
+import org.junit.Assert.assertThat
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import tech.sirwellington.alchemy.arguments.assertions.nonEmptyString
+import tech.sirwellington.alchemy.test.junit.ThrowableAssertion.assertThrows
+import tech.sirwellington.alchemy.test.junit.runners.AlchemyTestRunner
+import tech.sirwellington.alchemy.test.junit.runners.DontRepeat
+import tech.sirwellington.alchemy.test.junit.runners.GenerateString
+import tech.sirwellington.alchemy.test.junit.runners.GenerateString.Type.ALPHABETIC
+import tech.sirwellington.alchemy.test.junit.runners.Repeat
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ *
+ * @author SirWellington
+ */
+@Repeat(50)
+@RunWith(AlchemyTestRunner::class)
+class CachedAssertionTest
+{
+
+    @GenerateString(ALPHABETIC)
+    private lateinit var argument: String
+
+    private lateinit var calls: AtomicInteger
+    private lateinit var instance: CachedAssertion<String>
+
+    @Before
+    fun setUp()
+    {
+        calls = AtomicInteger()
+        instance = CachedAssertion(counting(nonEmptyString()), 4, 4096)
+    }
+
+    @Test
+    fun testCheck()
+    {
+        instance.check(argument)
+        instance.check(argument)
+
+        assertThrows { instance.check("") }.failedAssertion()
+        assertThrows { instance.check("") }.failedAssertion()
+
+        assertThat(calls.get(), equalTo(2))
+        assertThat(instance.hits, equalTo(2L))
+        assertThat(instance.misses, equalTo(2L))
+        assertThat(instance.size, equalTo(2))
+    }
+
+    @Test
+    fun testEvaluate()
+    {
+        val first = instance.evaluate("")
+        val second = instance.evaluate("")
+
+        assertThat(first.isValid, equalTo(false))
+        assertThat(second.message, equalTo(first.message))
+        assertThat(instance.evaluate(""), sameInstance(second))
+
+        assertThat(instance.evaluate(argument).isValid, equalTo(true))
+        assertThat(instance.test(argument), equalTo(true))
+        assertThat(instance.test(""), equalTo(false))
+        assertThat(calls.get(), equalTo(2))
+    }
+
+    @Test
+    fun testCachedFailuresThrowNewExceptions()
+    {
+        val cause = RuntimeException()
+        val assertion = CachedAssertion(AlchemyAssertion<String> { throw FailedAssertionException("failed", cause) }, 4, 4096)
+
+        val first = catchException { assertion.check(argument) }
+        val second = catchException { assertion.check(argument) }
+        val third = catchException { assertion.check(argument) }
+
+        assertThat(first.cause, sameInstance<Throwable>(cause))
+        assertThat(second, not(sameInstance(first)))
+        assertThat(third, not(sameInstance(second)))
+        assertThat(second.message, equalTo("failed"))
+        assertThat(second.cause, nullValue())
+        assertThat(assertion.hits, equalTo(2L))
+    }
+
+    @Test
+    fun testCachedFailuresAreRenderedWhenRead()
+    {
+        val renders = AtomicInteger()
+        val detail = object : Any()
+        {
+            override fun toString(): String
+            {
+                renders.incrementAndGet()
+                return "detail"
+            }
+        }
+
+        val assertion = CachedAssertion(AlchemyAssertion<String> { throw FailedAssertionException("failed with {}", detail) }, 4, 4096)
+
+        assertion.evaluate(argument)
+        val cached = assertion.evaluate(argument)
+        assertThat(renders.get(), equalTo(0))
+
+        assertThat(cached.toException().message, equalTo("failed with detail"))
+        assertThat(renders.get(), equalTo(1))
+    }
+
+    @Test
+    fun testNullIsNotCached()
+    {
+        assertThrows { instance.check(null) }.failedAssertion()
+        assertThrows { instance.check(null) }.failedAssertion()
+
+        assertThat(calls.get(), equalTo(2))
+        assertThat(instance.size, equalTo(0))
+        assertThat(instance.hits, equalTo(0L))
+    }
+
+    @DontRepeat
+    @Test
+    fun testEvictsWhenFull()
+    {
+        (1..10).forEach { instance.check("value-$it") }
+
+        assertThat(instance.size, equalTo(4))
+        assertThat(instance.evictions, equalTo(6L))
+        assertThat(instance.misses, equalTo(10L))
+    }
+
+    @DontRepeat
+    @Test
+    fun testKeepsValuesThatAreUsedAgain()
+    {
+        instance.check("hot")
+
+        (1..20).forEach {
+            instance.check("cold-$it")
+            instance.check("hot")
+        }
+
+        assertThat(calls.get(), equalTo(21))
+        assertThat(instance.hits, equalTo(20L))
+    }
+
+    @DontRepeat
+    @Test
+    fun testBoundsBytes()
+    {
+        val maxBytes = 3 * CachedAssertion.bytesOf("a".repeat(100))
+        instance = CachedAssertion(counting(nonEmptyString()), 100, maxBytes)
+
+        (1..10).forEach { instance.check("%0100d".format(it)) }
+
+        assertThat(instance.bytes, equalTo(maxBytes))
+        assertThat(instance.size, equalTo(3))
+        assertThat(instance.evictions, equalTo(7L))
+    }
+
+    @DontRepeat
+    @Test
+    fun testDoesNotCacheValuesLargerThanMaxBytes()
+    {
+        instance = CachedAssertion(counting(nonEmptyString()), 10, 100)
+        val value = "a".repeat(100)
+
+        instance.check(value)
+        instance.check(value)
+
+        assertThat(calls.get(), equalTo(2))
+        assertThat(instance.size, equalTo(0))
+        assertThat(instance.bytes, equalTo(0L))
+    }
+
+    @DontRepeat
+    @Test
+    fun testConcurrentUse()
+    {
+        val executor = Executors.newFixedThreadPool(8)
+
+        (1..8).forEach { thread ->
+            executor.submit {
+                (1..1000).forEach { instance.test("value-${(it + thread) % 16}") }
+            }
+        }
+
+        executor.shutdown()
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS), equalTo(true))
+
+        assertThat(instance.hits + instance.misses, equalTo(8000L))
+        assertThat(instance.size, lessThanOrEqualTo(4))
+        assertThat(instance.evictions, lessThanOrEqualTo(instance.misses))
+    }
+
+    @DontRepeat
+    @Test
+    fun testConstructorWithBadArgs()
+    {
+        assertThrows { CachedAssertion(nonEmptyString(), 0, 10) }.illegalArgument()
+        assertThrows { CachedAssertion(nonEmptyString(), 10, 0) }.illegalArgument()
+    }
+
+    @Test
+    fun testToString()
+    {
+        assertThat(instance.toString(), containsString("cached("))
+    }
+
+    private fun counting(assertion: AlchemyAssertion<String>): AlchemyAssertion<String>
+    {
+        return object : AlchemyAssertion<String>
+        {
+            override fun check(argument: String?)
+            {
+                calls.incrementAndGet()
+                assertion.check(argument)
+            }
+        }
+    }
+
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments
+
+import org.hamcrest.Matchers.equalTo
+import org.hamcrest.Matchers.lessThan
+import org.hamcrest.Matchers.notNullValue
+import org.hamcrest.Matchers.sameInstance
+import org.junit.Assert.assertThat
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import tech.sirwellington.alchemy.arguments.assertions.greaterThan
+import tech.sirwellington.alchemy.arguments.assertions.greaterThanOrEqualTo
+import tech.sirwellington.alchemy.arguments.assertions.lessThanOrEqualTo
+import tech.sirwellington.alchemy.arguments.assertions.notNull
+import tech.sirwellington.alchemy.generator.StringGenerators.Companion.alphabeticStrings
+import tech.sirwellington.alchemy.generator.one
+import tech.sirwellington.alchemy.test.junit.ThrowableAssertion.assertThrows
+import tech.sirwellington.alchemy.test.junit.runners.AlchemyTestRunner
+import tech.sirwellington.alchemy.test.junit.runners.DontRepeat
+import tech.sirwellington.alchemy.test.junit.runners.GenerateDouble
+import tech.sirwellington.alchemy.test.junit.runners.GenerateString
+import tech.sirwellington.alchemy.test.junit.runners.GenerateString.Type.ALPHABETIC
+import tech.sirwellington.alchemy.test.junit.runners.Repeat
+import java.io.IOException
+import java.sql.SQLException
+
+/**
+ *
+ * @author SirWellington
+ */
+@Repeat(100)
+@RunWith(AlchemyTestRunner::class)
+class DoubleAssertionBuilderImplTest
+{
+
+    @GenerateDouble(GenerateDouble.Type.POSITIVE)
+    private var argument: Double = 0.0
+
+    @GenerateString(ALPHABETIC)
+    private lateinit var errorMessage: String
+
+    private lateinit var passingAssertion: DoubleAssertion
+    private lateinit var failingAssertion: DoubleAssertion
+
+    private lateinit var instance: DoubleAssertionBuilderImpl<FailedAssertionException>
+
+    @Before
+    fun setUp()
+    {
+        passingAssertion = DoubleAssertion { }
+        failingAssertion = DoubleAssertion { throw FailedAssertionException(errorMessage) }
+
+        instance = DoubleAssertionBuilderImpl.checkThat(argument)
+    }
+
+    @Test
+    fun testCheckThat()
+    {
+        assertThat(instance, notNullValue())
+    }
+
+    @Test
+    fun testIsWhenAssertionPasses()
+    {
+        var checkedArgument = 0.0
+        val assertion = DoubleAssertion { checkedArgument = it }
+
+        val result = instance.isA(assertion)
+
+        assertThat(result, sameInstance(instance))
+        assertThat(checkedArgument, equalTo(argument))
+    }
+
+    @Test
+    fun testIsWhenAssertionFails()
+    {
+        assertThrows { instance.isA(failingAssertion) }
+                .failedAssertion()
+                .hasMessage(errorMessage)
+    }
+
+    @Test
+    fun testIsWhenAssertionThrowsUnexpectedException()
+    {
+        val assertion = DoubleAssertion { throw RuntimeException() }
+
+        assertThrows { instance.isA(assertion) }
+                .failedAssertion()
+                .hasCauseInstanceOf(RuntimeException::class.java)
+    }
+
+    @Test
+    fun testIsWithBoxedAssertion()
+    {
+        var checkedArgument: Double? = null
+        val assertion = AlchemyAssertion<Double> { checkedArgument = it }
+
+        val result = instance.isA(assertion)
+
+        assertThat(result, sameInstance(instance))
+        assertThat(checkedArgument, equalTo(argument))
+
+        instance.isA(notNull())
+
+        assertThrows { instance.isA(AlchemyAssertion { throw FailedAssertionException(errorMessage) }) }
+                .failedAssertion()
+                .hasMessage(errorMessage)
+    }
+
+    @Test
+    fun testIsWithRealAssertions()
+    {
+        instance.isA(greaterThan(0.0))
+                .isA(greaterThanOrEqualTo(argument))
+                .isA(lessThanOrEqualTo(argument))
+
+        assertThrows { DoubleAssertionBuilderImpl.checkThat(-argument).isA(greaterThan(0.0)) }
+                .failedAssertion()
+    }
+
+    @Test
+    fun testThrowingExceptionMapper()
+    {
+        val mapper = ExceptionMapper { ex -> SQLException(errorMessage, ex) }
+
+        assertThrows { instance.throwing(mapper).isA(failingAssertion) }
+                .isInstanceOf(SQLException::class.java)
+                .hasCauseInstanceOf(FailedAssertionException::class.java)
+
+        instance.throwing(mapper).isA(passingAssertion)
+    }
+
+    @Test
+    fun testThrowingExceptionClass()
+    {
+        assertThrows { instance.throwing(SQLException::class.java).isA(failingAssertion) }
+                .isInstanceOf(SQLException::class.java)
+                .hasCauseInstanceOf(FailedAssertionException::class.java)
+    }
+
+    @Test
+    fun testUsingMessage()
+    {
+        val overrideMessage = one(alphabeticStrings())
+
+        assertThrows { instance.usingMessage(overrideMessage).isA(failingAssertion) }
+                .failedAssertion()
+                .hasMessage(overrideMessage)
+
+        assertThrows { instance.throwing(IOException::class.java).usingMessage(overrideMessage).isA(failingAssertion) }
+                .isInstanceOf(IOException::class.java)
+                .hasMessage(overrideMessage)
+    }
+
+    @Test
+    fun testWithoutStackTraces()
+    {
+        val exception = catchException { instance.withoutStackTraces().isA(failingAssertion) }
+        assertThat(exception.stackTrace.size, equalTo(0))
+    }
+
+    @Test
+    fun testIsWithNullAssertion()
+    {
+        assertThrows { instance.isA(null as DoubleAssertion?) }
+                .illegalArgument()
+    }
+
+    @DontRepeat
+    @Test
+    fun testIsDoesNotBoxTheArgument()
+    {
+        val value = argument
+        val assertion = greaterThan(0.0)
+        val iterations = 10_000
+
+        //Warm up, so that class-loading is not measured
+        allocatedBytes(iterations) { Arguments.checkThat(value).isA(assertion) }
+        allocatedBytes(iterations) { Arguments.checkThat<Double>(value).isA(assertion) }
+
+        val bytesWhenPrimitive = allocatedBytes(iterations) { Arguments.checkThat(value).isA(assertion) }
+        val bytesWhenBoxed = allocatedBytes(iterations) { Arguments.checkThat<Double>(value).isA(assertion) }
+
+        assertThat(bytesWhenPrimitive, lessThan(bytesWhenBoxed))
+    }
+
+}
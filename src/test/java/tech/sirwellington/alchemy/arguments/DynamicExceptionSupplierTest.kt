@@ -160,6 +160,104 @@ class DynamicExceptionSupplierTest
         assertThat(result, nullValue())
     }
 
+    @Test
+    fun testApplyWithoutStackTraces()
+    {
+        val instance = DynamicExceptionSupplier(FakeExceptionWithStacklessConstructor::class.java, overrideMessage, false)
+
+        val result = instance.apply(assertionException)
+        assertThat(result, notNullValue())
+        assertThat(result.message, equalTo(overrideMessage))
+        assertThat<Throwable>(result.cause, equalTo(assertionException))
+        assertThat(result.stackTrace.size, equalTo(0))
+    }
+
+    @Test
+    fun testApplyWithoutStackTracesWhenNotSupported()
+    {
+        val instance = DynamicExceptionSupplier(FakeExceptionWithBoth::class.java, overrideMessage, false)
+
+        val result = instance.apply(assertionException)
+        assertThat(result, notNullValue())
+        assertThat(result.message, equalTo(overrideMessage))
+        assertThat<Throwable>(result.cause, equalTo(assertionException))
+    }
+
+    @Test
+    fun testApplyWithStackTracesIgnoresStacklessConstructor()
+    {
+        val instance = DynamicExceptionSupplier(FakeExceptionWithStacklessConstructor::class.java, overrideMessage, true)
+
+        val result = instance.apply(assertionException)
+        assertThat(result, notNullValue())
+        assertThat(result.stackTrace.size, greaterThan(0))
+    }
+
+    @Test
+    fun testMap()
+    {
+        val failure = ValidationResult.invalid(assertionException.message!!)
+
+        var instance = DynamicExceptionSupplier(FakeExceptionWithBoth::class.java, overrideMessage)
+        var result = instance.map(failure)
+        assertThat(result.message, equalTo(overrideMessage))
+        assertThat(result.cause, instanceOf(FailedAssertionException::class.java))
+        assertThat(result.cause!!.message, equalTo(failure.message))
+        assertThat(result.cause!!.stackTrace.size, equalTo(0))
+
+        instance = DynamicExceptionSupplier(FakeExceptionWithBoth::class.java, null)
+        result = instance.map(failure)
+        assertThat(result.message, containsString(failure.message))
+        assertThat(result.cause!!.message, equalTo(failure.message))
+    }
+
+    @Test
+    fun testMapWithoutCauseConstructor()
+    {
+        val failure = ValidationResult.invalid(assertionException.message!!)
+
+        val instance = DynamicExceptionSupplier(FakeExceptionWithMessage::class.java, null)
+        val result = instance.map(failure)
+        assertThat(result.message, equalTo(failure.message))
+        assertThat(result.cause, nullValue())
+    }
+
+    @Test
+    fun testMapWithoutStackTraces()
+    {
+        val failure = ValidationResult.invalid(assertionException.message!!)
+
+        val instance = DynamicExceptionSupplier(FakeExceptionWithStacklessConstructor::class.java, null, false)
+        val result = instance.map(failure)
+        assertThat(result.message, equalTo(failure.message))
+        assertThat(result.stackTrace.size, equalTo(0))
+        assertThat(result.cause!!.stackTrace.size, equalTo(0))
+    }
+
+    @Test
+    fun testConstructorsAreLookedUpOncePerClass()
+    {
+        val constructors = DynamicExceptionSupplier.constructorsOf(FakeExceptionWithMessage::class.java)
+        assertThat(DynamicExceptionSupplier.constructorsOf(FakeExceptionWithMessage::class.java), sameInstance(constructors))
+
+        assertThat(constructors.message, notNullValue())
+        assertThat(constructors.noArguments, notNullValue())
+        assertThat(constructors.cause, nullValue())
+        assertThat(constructors.messageAndCause, nullValue())
+        assertThat(constructors.stackless, nullValue())
+    }
+
+    @Test
+    fun testApplyWithExceptionFromAnotherPackage()
+    {
+        val instance = DynamicExceptionSupplier(IllegalStateException::class.java, overrideMessage)
+
+        val result = instance.apply(assertionException)
+        assertThat(result, instanceOf(IllegalStateException::class.java))
+        assertThat(result.message, equalTo(overrideMessage))
+        assertThat<Throwable>(result.cause, equalTo(assertionException))
+    }
+
     @Test
     fun testGetExceptionClass()
     {
@@ -213,6 +311,17 @@ class DynamicExceptionSupplierTest
 
     }
 
+    @Internal
+    private class FakeExceptionWithStacklessConstructor : Exception
+    {
+
+        constructor(message: String, cause: Throwable) : super(message, cause)
+
+        constructor(message: String?, cause: Throwable?, enableSuppression: Boolean, writableStackTrace: Boolean)
+                : super(message, cause, enableSuppression, writableStackTrace)
+
+    }
+
     @Internal
     private class FakeExceptionThatThrowsOnConstruct : Exception()
     {
@@ -0,0 +1,187 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments
+
+import org.hamcrest.Matchers.equalTo
+import org.hamcrest.Matchers.greaterThan
+import org.hamcrest.Matchers.sameInstance
+import org.junit.After
+import org.junit.Assert.assertThat
+import org.junit.Test
+import org.junit.runner.RunWith
+import tech.sirwellington.alchemy.generator.StringGenerators.Companion.alphabeticStrings
+import tech.sirwellington.alchemy.generator.one
+import tech.sirwellington.alchemy.test.junit.runners.AlchemyTestRunner
+
+/**
+ *
+ * @author SirWellington
+ */
+@RunWith(AlchemyTestRunner::class)
+class FailedAssertionExceptionTest
+{
+
+    @After
+    fun tearDown()
+    {
+        FailedAssertionException.setStackTracesEnabled(true)
+    }
+
+    @Test
+    fun testStackTracesAreEnabledByDefault()
+    {
+        assertThat(FailedAssertionException.areStackTracesEnabled(), equalTo(true))
+
+        val exception = FailedAssertionException(one(alphabeticStrings()))
+        assertThat(exception.stackTrace.size, greaterThan(0))
+    }
+
+    @Test
+    fun testSetStackTracesEnabled()
+    {
+        FailedAssertionException.setStackTracesEnabled(false)
+        assertThat(FailedAssertionException.areStackTracesEnabled(), equalTo(false))
+
+        val message = one(alphabeticStrings())
+        val exception = FailedAssertionException(message)
+        assertThat(exception.stackTrace.size, equalTo(0))
+        assertThat(exception.message, equalTo(message))
+
+        FailedAssertionException.setStackTracesEnabled(true)
+        assertThat(FailedAssertionException(message).stackTrace.size, greaterThan(0))
+    }
+
+    @Test
+    fun testSuppressStackTraces()
+    {
+        val previous = FailedAssertionException.suppressStackTraces()
+        assertThat(previous, equalTo(false))
+
+        try
+        {
+            assertThat(FailedAssertionException().stackTrace.size, equalTo(0))
+            assertThat(FailedAssertionException.suppressStackTraces(), equalTo(true))
+        }
+        finally
+        {
+            FailedAssertionException.restoreStackTraces(previous)
+        }
+
+        assertThat(FailedAssertionException().stackTrace.size, greaterThan(0))
+    }
+
+    @Test
+    fun testMessageTemplate()
+    {
+        val first = one(alphabeticStrings())
+        val second = one(alphabeticStrings())
+
+        val exception = FailedAssertionException("Expected {} to contain {}", first, second)
+        assertThat(exception.message, equalTo("Expected $first to contain $second"))
+    }
+
+    @Test
+    fun testMessageTemplateWithNullArgument()
+    {
+        val exception = FailedAssertionException("Argument is {}", null as Any?)
+        assertThat(exception.message, equalTo("Argument is null"))
+    }
+
+    @Test
+    fun testMessageTemplateWithArray()
+    {
+        val exception = FailedAssertionException("one of {} or {}", arrayOf("a", "b"), intArrayOf(1, 2))
+        assertThat(exception.message, equalTo("one of [a, b] or [1, 2]"))
+    }
+
+    @Test
+    fun testMessageTemplateWithMissingArguments()
+    {
+        val argument = one(alphabeticStrings())
+
+        val exception = FailedAssertionException("{} and {}", argument)
+        assertThat(exception.message, equalTo("$argument and {}"))
+    }
+
+    @Test
+    fun testMessageTemplateWithExtraArguments()
+    {
+        val argument = one(alphabeticStrings())
+
+        val exception = FailedAssertionException("Argument: {}", argument, one(alphabeticStrings()))
+        assertThat(exception.message, equalTo("Argument: $argument"))
+    }
+
+    @Test
+    fun testMessageTemplateIsRenderedLazily()
+    {
+        val argument = CountingArgument()
+
+        val exception = FailedAssertionException("Argument: {}", argument)
+        assertThat(argument.timesRendered, equalTo(0))
+
+        assertThat(exception.message, equalTo("Argument: counting"))
+        assertThat(exception.message, equalTo("Argument: counting"))
+        assertThat(argument.timesRendered, equalTo(1))
+    }
+
+    @Test
+    fun testMessageTemplateWithCause()
+    {
+        val cause = RuntimeException()
+        val argument = one(alphabeticStrings())
+
+        val exception = FailedAssertionException(cause, "Invalid: {}", argument)
+        assertThat(exception.message, equalTo("Invalid: $argument"))
+        assertThat<Throwable>(exception.cause, equalTo(cause))
+    }
+
+    @Test
+    fun testWithMessageOverridesTemplate()
+    {
+        val newMessage = one(alphabeticStrings())
+        val argument = one(alphabeticStrings())
+
+        val exception = FailedAssertionException("Argument: {}", argument)
+        val result = exception.withMessage(newMessage)
+        assertThat(result.message, equalTo(newMessage))
+
+        //The original is left unchanged
+        assertThat(exception.message, equalTo("Argument: $argument"))
+    }
+
+    @Test
+    fun testWithMessageKeepsCauseAndStackTrace()
+    {
+        val cause = RuntimeException()
+        val exception = FailedAssertionException(one(alphabeticStrings()), cause)
+
+        val result = exception.withMessage(one(alphabeticStrings()))
+        assertThat<Throwable>(result.cause, sameInstance<Throwable>(cause))
+        assertThat(result.stackTrace.toList(), equalTo(exception.stackTrace.toList()))
+    }
+
+    private class CountingArgument
+    {
+        var timesRendered = 0
+
+        override fun toString(): String
+        {
+            timesRendered += 1
+            return "counting"
+        }
+    }
+
+}
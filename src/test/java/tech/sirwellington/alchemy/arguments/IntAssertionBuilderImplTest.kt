@@ -0,0 +1,202 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments
+
+import org.hamcrest.Matchers.equalTo
+import org.hamcrest.Matchers.lessThan
+import org.hamcrest.Matchers.notNullValue
+import org.hamcrest.Matchers.sameInstance
+import org.junit.Assert.assertThat
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import tech.sirwellington.alchemy.arguments.assertions.greaterThan
+import tech.sirwellington.alchemy.arguments.assertions.notNull
+import tech.sirwellington.alchemy.arguments.assertions.numberBetween
+import tech.sirwellington.alchemy.arguments.assertions.positiveInteger
+import tech.sirwellington.alchemy.generator.StringGenerators.Companion.alphabeticStrings
+import tech.sirwellington.alchemy.generator.one
+import tech.sirwellington.alchemy.test.junit.ThrowableAssertion.assertThrows
+import tech.sirwellington.alchemy.test.junit.runners.AlchemyTestRunner
+import tech.sirwellington.alchemy.test.junit.runners.DontRepeat
+import tech.sirwellington.alchemy.test.junit.runners.GenerateInteger
+import tech.sirwellington.alchemy.test.junit.runners.GenerateString
+import tech.sirwellington.alchemy.test.junit.runners.GenerateString.Type.ALPHABETIC
+import tech.sirwellington.alchemy.test.junit.runners.Repeat
+import java.io.IOException
+import java.sql.SQLException
+
+/**
+ *
+ * @author SirWellington
+ */
+@Repeat(100)
+@RunWith(AlchemyTestRunner::class)
+class IntAssertionBuilderImplTest
+{
+
+    @GenerateInteger(GenerateInteger.Type.POSITIVE)
+    private var argument: Int = 0
+
+    @GenerateString(ALPHABETIC)
+    private lateinit var errorMessage: String
+
+    private lateinit var passingAssertion: IntAssertion
+    private lateinit var failingAssertion: IntAssertion
+
+    private lateinit var instance: IntAssertionBuilderImpl<FailedAssertionException>
+
+    @Before
+    fun setUp()
+    {
+        passingAssertion = IntAssertion { }
+        failingAssertion = IntAssertion { throw FailedAssertionException(errorMessage) }
+
+        instance = IntAssertionBuilderImpl.checkThat(argument)
+    }
+
+    @Test
+    fun testCheckThat()
+    {
+        assertThat(instance, notNullValue())
+    }
+
+    @Test
+    fun testIsWhenAssertionPasses()
+    {
+        var checkedArgument = 0
+        val assertion = IntAssertion { checkedArgument = it }
+
+        val result = instance.isA(assertion)
+
+        assertThat(result, sameInstance(instance))
+        assertThat(checkedArgument, equalTo(argument))
+    }
+
+    @Test
+    fun testIsWhenAssertionFails()
+    {
+        assertThrows { instance.isA(failingAssertion) }
+                .failedAssertion()
+                .hasMessage(errorMessage)
+    }
+
+    @Test
+    fun testIsWhenAssertionThrowsUnexpectedException()
+    {
+        val assertion = IntAssertion { throw RuntimeException() }
+
+        assertThrows { instance.isA(assertion) }
+                .failedAssertion()
+                .hasCauseInstanceOf(RuntimeException::class.java)
+    }
+
+    @Test
+    fun testIsWithBoxedAssertion()
+    {
+        var checkedArgument: Int? = null
+        val assertion = AlchemyAssertion<Int> { checkedArgument = it }
+
+        val result = instance.isA(assertion)
+
+        assertThat(result, sameInstance(instance))
+        assertThat(checkedArgument, equalTo(argument))
+
+        instance.isA(notNull())
+
+        assertThrows { instance.isA(AlchemyAssertion { throw FailedAssertionException(errorMessage) }) }
+                .failedAssertion()
+                .hasMessage(errorMessage)
+    }
+
+    @Test
+    fun testIsWithRealAssertions()
+    {
+        instance.isA(positiveInteger())
+                .isA(greaterThan(argument - 1))
+                .isA(numberBetween(argument - 1, argument + 1))
+
+        assertThrows { IntAssertionBuilderImpl.checkThat(-argument).isA(positiveInteger()) }
+                .failedAssertion()
+    }
+
+    @Test
+    fun testThrowingExceptionMapper()
+    {
+        val mapper = ExceptionMapper { ex -> SQLException(errorMessage, ex) }
+
+        assertThrows { instance.throwing(mapper).isA(failingAssertion) }
+                .isInstanceOf(SQLException::class.java)
+                .hasCauseInstanceOf(FailedAssertionException::class.java)
+
+        instance.throwing(mapper).isA(passingAssertion)
+    }
+
+    @Test
+    fun testThrowingExceptionClass()
+    {
+        assertThrows { instance.throwing(SQLException::class.java).isA(failingAssertion) }
+                .isInstanceOf(SQLException::class.java)
+                .hasCauseInstanceOf(FailedAssertionException::class.java)
+    }
+
+    @Test
+    fun testUsingMessage()
+    {
+        val overrideMessage = one(alphabeticStrings())
+
+        assertThrows { instance.usingMessage(overrideMessage).isA(failingAssertion) }
+                .failedAssertion()
+                .hasMessage(overrideMessage)
+
+        assertThrows { instance.throwing(IOException::class.java).usingMessage(overrideMessage).isA(failingAssertion) }
+                .isInstanceOf(IOException::class.java)
+                .hasMessage(overrideMessage)
+    }
+
+    @Test
+    fun testWithoutStackTraces()
+    {
+        val exception = catchException { instance.withoutStackTraces().isA(failingAssertion) }
+        assertThat(exception.stackTrace.size, equalTo(0))
+    }
+
+    @Test
+    fun testIsWithNullAssertion()
+    {
+        assertThrows { instance.isA(null as IntAssertion?) }
+                .illegalArgument()
+    }
+
+    @DontRepeat
+    @Test
+    fun testIsDoesNotBoxTheArgument()
+    {
+        //Outside of the Integer cache, so that boxing allocates
+        val value = 1_000_000 + argument
+        val assertion = greaterThan(0)
+        val iterations = 10_000
+
+        //Warm up, so that class-loading is not measured
+        allocatedBytes(iterations) { Arguments.checkThat(value).isA(assertion) }
+        allocatedBytes(iterations) { Arguments.checkThat<Int>(value).isA(assertion) }
+
+        val bytesWhenPrimitive = allocatedBytes(iterations) { Arguments.checkThat(value).isA(assertion) }
+        val bytesWhenBoxed = allocatedBytes(iterations) { Arguments.checkThat<Int>(value).isA(assertion) }
+
+        assertThat(bytesWhenPrimitive, lessThan(bytesWhenBoxed))
+    }
+
+}
@@ -24,6 +24,7 @@ import tech.sirwellington.alchemy.test.junit.runners.*;
 
 import static org.mockito.Mockito.*;
 import static tech.sirwellington.alchemy.arguments.Arguments.*;
+import static tech.sirwellington.alchemy.arguments.assertions.Assertions.notNull;
 import static tech.sirwellington.alchemy.arguments.assertions.CollectionAssertions.*;
 import static tech.sirwellington.alchemy.arguments.assertions.NumberAssertions.negativeInteger;
 import static tech.sirwellington.alchemy.arguments.assertions.NumberAssertions.positiveInteger;
@@ -67,6 +68,64 @@ public class JavaCodeTest
                 .isA(positiveInteger());
     }
 
+    @Test
+    public void testPrimitiveIntWithBoxedAssertions() throws Exception
+    {
+        AlchemyAssertion<Integer> even = number ->
+        {
+            if (number % 2 != 0)
+            {
+                throw new FailedAssertionException("odd");
+            }
+        };
+
+        checkThat(4).is(even);
+        checkThat(5).isA(positiveInteger());
+        checkThat(5)
+                .usingMessage("bad")
+                .throwing(IllegalStateException.class)
+                .is(positiveInteger());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testPrimitiveIntThrowingWithBadArg() throws Exception
+    {
+        checkThat(-5)
+                .throwing(IllegalStateException.class)
+                .is(positiveInteger());
+    }
+
+    @Test
+    public void testBoxedIntStillUsesTheGenericBuilder() throws Exception
+    {
+        AssertionBuilder<Integer, FailedAssertionException> builder = checkThat(positiveNumber);
+        builder.is(positiveInteger());
+    }
+
+    @Test
+    public void testNarrowPrimitivesAreBoxed() throws Exception
+    {
+        AlchemyAssertion<Character> letter = c ->
+        {
+            if (!Character.isLetter(c))
+            {
+                throw new FailedAssertionException("not a letter");
+            }
+        };
+
+        AssertionBuilder<Character, FailedAssertionException> characters = checkThat('a');
+        characters.is(letter);
+
+        AssertionBuilder<Short, FailedAssertionException> shorts = checkThat((short) 1);
+        shorts.is(notNull());
+
+        AssertionBuilder<Byte, FailedAssertionException> bytes = checkThat((byte) 1);
+        bytes.is(notNull());
+
+        AssertionBuilder<Float, FailedAssertionException> floats = checkThat(1.0f);
+        floats.is(notNull());
+    }
+
     @Test
     public void testNegativeInt() throws Exception
     {
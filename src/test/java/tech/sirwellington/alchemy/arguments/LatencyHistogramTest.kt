@@ -0,0 +1,154 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments
+
+import org.hamcrest.Matchers.equalTo
+import org.hamcrest.Matchers.greaterThanOrEqualTo
+import org.hamcrest.Matchers.lessThanOrEqualTo
+import org.junit.Assert.assertThat
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import tech.sirwellington.alchemy.test.junit.ThrowableAssertion.assertThrows
+import tech.sirwellington.alchemy.test.junit.runners.AlchemyTestRunner
+import tech.sirwellington.alchemy.test.junit.runners.DontRepeat
+import tech.sirwellington.alchemy.test.junit.runners.GenerateLong
+import tech.sirwellington.alchemy.test.junit.runners.Repeat
+
+/**
+ *
+ * @author SirWellington
+ */
+@Repeat(100)
+@RunWith(AlchemyTestRunner::class)
+class LatencyHistogramTest
+{
+
+    @GenerateLong(GenerateLong.Type.POSITIVE)
+    private var value: Long = 0L
+
+    private lateinit var instance: LatencyHistogram
+
+    @Before
+    fun setUp()
+    {
+        instance = LatencyHistogram()
+    }
+
+    @Test
+    fun testBucketsHoldTheirValues()
+    {
+        val index = LatencyHistogram.indexOf(value)
+
+        assertThat(LatencyHistogram.lowestValueIn(index), lessThanOrEqualTo(value))
+        assertThat(LatencyHistogram.highestValueIn(index), greaterThanOrEqualTo(value))
+    }
+
+    @Test
+    fun testBucketsAreWithinPrecision()
+    {
+        val index = LatencyHistogram.indexOf(value)
+        val lowest = LatencyHistogram.lowestValueIn(index)
+        val width = LatencyHistogram.highestValueIn(index) - lowest
+
+        assertThat(width, lessThanOrEqualTo(maxOf(lowest / LatencyHistogram.SUB_BUCKETS, 0L)))
+    }
+
+    @DontRepeat
+    @Test
+    fun testExtremes()
+    {
+        assertThat(LatencyHistogram.indexOf(0), equalTo(0))
+        assertThat(LatencyHistogram.highestValueIn(LatencyHistogram.indexOf(Long.MAX_VALUE)), equalTo(Long.MAX_VALUE))
+    }
+
+    @Test
+    fun testRecord()
+    {
+        instance.record(value)
+
+        assertThat(instance.count, equalTo(1L))
+        assertThat(instance.getValueAtPercentile(50.0), greaterThanOrEqualTo(value))
+    }
+
+    @DontRepeat
+    @Test
+    fun testRecordNegativeValue()
+    {
+        instance.record(-1)
+
+        assertThat(instance.getValueAtPercentile(100.0), equalTo(0L))
+    }
+
+    @DontRepeat
+    @Test
+    fun testGetValueAtPercentile()
+    {
+        for (i in 1..10_000L)
+        {
+            instance.record(i)
+        }
+
+        assertWithinPrecision(instance.getValueAtPercentile(50.0), 5_000)
+        assertWithinPrecision(instance.getValueAtPercentile(99.0), 9_900)
+        assertWithinPrecision(instance.getValueAtPercentile(99.9), 9_990)
+        assertWithinPrecision(instance.getValueAtPercentile(100.0), 10_000)
+        assertThat(instance.getValueAtPercentile(0.0), equalTo(1L))
+    }
+
+    @DontRepeat
+    @Test
+    fun testGetValueAtPercentileWhenEmpty()
+    {
+        assertThat(instance.getValueAtPercentile(99.0), equalTo(0L))
+    }
+
+    @DontRepeat
+    @Test
+    fun testGetValueAtPercentileWithBadPercentile()
+    {
+        assertThrows { instance.getValueAtPercentile(-1.0) }.isInstanceOf(IllegalArgumentException::class.java)
+        assertThrows { instance.getValueAtPercentile(101.0) }.isInstanceOf(IllegalArgumentException::class.java)
+    }
+
+    @Test
+    fun testReset()
+    {
+        instance.record(value)
+        instance.reset()
+
+        assertThat(instance.count, equalTo(0L))
+    }
+
+    @DontRepeat
+    @Test
+    fun testRecordDoesNotAllocate()
+    {
+        val iterations = 10_000
+
+        //Warm up
+        allocatedBytes(iterations) { instance.record(value) }
+
+        val bytes = allocatedBytes(iterations) { instance.record(value) }
+        assertThat(bytes, lessThanOrEqualTo(iterations.toLong()))
+    }
+
+    private fun assertWithinPrecision(actual: Long, expected: Long)
+    {
+        assertThat(actual, greaterThanOrEqualTo(expected))
+        assertThat(actual, lessThanOrEqualTo(expected + expected / LatencyHistogram.SUB_BUCKETS))
+    }
+
+}
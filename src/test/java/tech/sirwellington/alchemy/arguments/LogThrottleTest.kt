@@ -0,0 +1,125 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments
+
+import com.nhaarman.mockito_kotlin.whenever
+import org.hamcrest.Matchers.equalTo
+import org.junit.Assert.assertThat
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.mockito.ArgumentMatchers.any
+import org.mockito.ArgumentMatchers.anyString
+import org.mockito.Mock
+import org.mockito.Mockito.never
+import org.mockito.Mockito.verify
+import org.slf4j.Logger
+import tech.sirwellington.alchemy.test.junit.ThrowableAssertion.assertThrows
+import tech.sirwellington.alchemy.test.junit.runners.AlchemyTestRunner
+import tech.sirwellington.alchemy.test.junit.runners.Repeat
+import java.util.concurrent.TimeUnit.NANOSECONDS
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ *
+ * @author SirWellington
+ */
+@Repeat(10)
+@RunWith(AlchemyTestRunner::class)
+class LogThrottleTest
+{
+
+    @Mock
+    private lateinit var log: Logger
+
+    private val burst = 3
+    private val interval = 1_000L
+    private lateinit var clock: AtomicLong
+
+    private lateinit var instance: LogThrottle
+
+    @Before
+    fun setUp()
+    {
+        clock = AtomicLong()
+        instance = LogThrottle(burst, interval, NANOSECONDS) { clock.get() }
+    }
+
+    @Test
+    fun testAllowsFirstBurst()
+    {
+        repeat(burst) { assertThat(instance.tryAcquire(String::class.java), equalTo(0L)) }
+
+        assertThat(instance.tryAcquire(String::class.java), equalTo(-1L))
+        assertThat(instance.tryAcquire(String::class.java), equalTo(-1L))
+    }
+
+    @Test
+    fun testCountsEachSourceSeparately()
+    {
+        repeat(burst) { instance.tryAcquire(String::class.java) }
+        assertThat(instance.tryAcquire(String::class.java), equalTo(-1L))
+
+        assertThat(instance.tryAcquire(Int::class.java), equalTo(0L))
+    }
+
+    @Test
+    fun testReportsSuppressedAfterInterval()
+    {
+        repeat(burst + 5) { instance.tryAcquire(String::class.java) }
+
+        clock.addAndGet(interval)
+
+        assertThat(instance.tryAcquire(String::class.java), equalTo(5L))
+
+        //The new interval starts with a new burst
+        repeat(burst - 1) { assertThat(instance.tryAcquire(String::class.java), equalTo(0L)) }
+        assertThat(instance.tryAcquire(String::class.java), equalTo(-1L))
+    }
+
+    @Test
+    fun testShouldLog()
+    {
+        whenever(log.isWarnEnabled).thenReturn(true)
+
+        repeat(burst) { assertThat(instance.shouldLog(log, String::class.java), equalTo(true)) }
+        assertThat(instance.shouldLog(log, String::class.java), equalTo(false))
+        verify(log, never()).warn(anyString(), any<Any>(), any<Any>())
+
+        clock.addAndGet(interval)
+
+        assertThat(instance.shouldLog(log, String::class.java), equalTo(true))
+        verify(log).warn(anyString(), any<Any>(), any<Any>())
+    }
+
+    @Test
+    fun testShouldLogWhenWarningsAreDisabled()
+    {
+        whenever(log.isWarnEnabled).thenReturn(false)
+
+        assertThat(instance.shouldLog(log, String::class.java), equalTo(false))
+    }
+
+    @Test
+    fun testWithBadArgs()
+    {
+        assertThrows { LogThrottle(0, interval, NANOSECONDS) { 0L } }
+                .illegalArgument()
+
+        assertThrows { LogThrottle(burst, 0, NANOSECONDS) { 0L } }
+                .illegalArgument()
+    }
+
+}
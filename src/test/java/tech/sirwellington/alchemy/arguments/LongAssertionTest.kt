@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments
+
+import org.hamcrest.Matchers.equalTo
+import org.junit.Assert.assertThat
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import tech.sirwellington.alchemy.test.junit.ThrowableAssertion.assertThrows
+import tech.sirwellington.alchemy.test.junit.runners.AlchemyTestRunner
+import tech.sirwellington.alchemy.test.junit.runners.GenerateLong
+import tech.sirwellington.alchemy.test.junit.runners.Repeat
+
+/**
+ *
+ * @author SirWellington
+ */
+@Repeat(50)
+@RunWith(AlchemyTestRunner::class)
+class LongAssertionTest
+{
+
+    @GenerateLong(GenerateLong.Type.POSITIVE)
+    private var argument: Long = 0L
+
+    private lateinit var instance: LongAssertion
+
+    @Before
+    fun setUp()
+    {
+        instance = LongAssertion { if (it < 0) throw FailedAssertionException("negative") }
+    }
+
+    @Test
+    fun testBoxedCheckUsesCheckLong()
+    {
+        val boxed: AlchemyAssertion<Long> = instance
+
+        boxed.check(argument)
+        assertThrows { boxed.check(-argument) }
+                .failedAssertion()
+                .hasMessage("negative")
+    }
+
+    @Test
+    fun testBoxedCheckWithNull()
+    {
+        assertThrows { instance.check(null) }
+                .failedAssertion()
+
+        assertThat(instance.evaluate(null).isInvalid, equalTo(true))
+        assertThat(instance.test(null), equalTo(false))
+    }
+
+    @Test
+    fun testEvaluateLong()
+    {
+        assertThat(instance.evaluateLong(argument).isValid, equalTo(true))
+
+        val result = instance.evaluateLong(-argument)
+        assertThat(result.isInvalid, equalTo(true))
+        assertThat(result.message, equalTo("negative"))
+
+        assertThat(instance.evaluate(argument).isValid, equalTo(true))
+        assertThat(instance.evaluate(-argument).isInvalid, equalTo(true))
+    }
+
+    @Test
+    fun testTestLong()
+    {
+        assertThat(instance.testLong(argument), equalTo(true))
+        assertThat(instance.testLong(-argument), equalTo(false))
+
+        assertThat(instance.test(argument), equalTo(true))
+        assertThat(instance.test(-argument), equalTo(false))
+    }
+
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments
+
+import org.hamcrest.Matchers.containsString
+import org.hamcrest.Matchers.equalTo
+import org.hamcrest.Matchers.greaterThanOrEqualTo
+import org.hamcrest.Matchers.notNullValue
+import org.hamcrest.Matchers.nullValue
+import org.hamcrest.Matchers.sameInstance
+import org.junit.Assert.assertThat
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import tech.sirwellington.alchemy.arguments.assertions.nonEmptyString
+import tech.sirwellington.alchemy.test.junit.ThrowableAssertion.assertThrows
+import tech.sirwellington.alchemy.test.junit.runners.AlchemyTestRunner
+import tech.sirwellington.alchemy.test.junit.runners.DontRepeat
+import tech.sirwellington.alchemy.test.junit.runners.GenerateString
+import tech.sirwellington.alchemy.test.junit.runners.GenerateString.Type.ALPHABETIC
+import tech.sirwellington.alchemy.test.junit.runners.Repeat
+import java.time.Instant
+
+/**
+ *
+ * @author SirWellington
+ */
+@Repeat(50)
+@RunWith(AlchemyTestRunner::class)
+class RecentFailuresTest
+{
+
+    @GenerateString(ALPHABETIC)
+    private lateinit var name: String
+
+    @GenerateString(ALPHABETIC)
+    private lateinit var argument: String
+
+    private lateinit var validator: Validator<String, FailedAssertionException>
+
+    @Before
+    fun setUp()
+    {
+        validator = Arguments.validator<String>()
+                .named(name)
+                .isA(nonEmptyString())
+                .build()
+    }
+
+    @Test
+    fun testRecordsFailuresOfNamedValidators()
+    {
+        val before = Instant.now()
+        validator.check(argument)
+        val exception = catchException { validator.check("") }
+
+        val recentFailures = RecentFailures.of(name)!!
+        assertThat(recentFailures.validatorName, equalTo(name))
+        assertThat(recentFailures.totalRecorded, equalTo(1L))
+
+        val failure = recentFailures.failures.single()
+        assertThat(failure.assertion, equalTo("StringAssertions.nonEmptyString"))
+        assertThat(failure.message, equalTo(exception.message))
+        assertThat(failure.exceptionType, equalTo(exception.javaClass.name))
+        assertThat(failure.argumentPreview, equalTo(""))
+        assertThat(failure.timestamp, greaterThanOrEqualTo(before.minusMillis(1)))
+        assertThat(failure.toString(), containsString("StringAssertions.nonEmptyString"))
+        assertThat(RecentFailures.all()[name], sameInstance(recentFailures))
+    }
+
+    @Test
+    fun testKeepsOnlyTheLatestFailures()
+    {
+        val recentFailures = RecentFailures(name, 4)
+        val assertion = nonEmptyString()
+
+        for (i in 1..10)
+        {
+            recentFailures.record(assertion, i, FailedAssertionException())
+        }
+
+        val previews = recentFailures.failures.map { it.argumentPreview }
+        assertThat(previews, equalTo(listOf("7", "8", "9", "10")))
+        assertThat(recentFailures.totalRecorded, equalTo(10L))
+    }
+
+    @Test
+    fun testArgumentIsRenderedWhenRecorded()
+    {
+        val recentFailures = RecentFailures(name, 1)
+        val mutableArgument = StringBuilder(argument)
+
+        recentFailures.record(nonEmptyString(), mutableArgument, FailedAssertionException())
+        mutableArgument.append("changed")
+
+        assertThat(recentFailures.failures.single().argumentPreview, equalTo(argument))
+    }
+
+    @Test
+    fun testMessageIsRenderedWhenRead()
+    {
+        val recentFailures = RecentFailures(name, 1)
+        var renders = 0
+        val exception = object : FailedAssertionException("Expected {} to be {}", argument, 5)
+        {
+            override val message: String?
+                get()
+                {
+                    renders += 1
+                    return super.message
+                }
+        }
+
+        recentFailures.record(nonEmptyString(), argument, exception)
+        assertThat(renders, equalTo(0))
+
+        assertThat(recentFailures.failures.single().message, equalTo("Expected $argument to be 5"))
+        assertThat(renders, equalTo(0))
+    }
+
+    @Test
+    fun testMessageArgumentsAreSnapshotWhenRecorded()
+    {
+        val recentFailures = RecentFailures(name, 1)
+        val mutableArgument = StringBuilder(argument)
+        val longArgument = argument.repeat(RecentFailures.MAX_PREVIEW_LENGTH)
+
+        recentFailures.record(nonEmptyString(), argument, FailedAssertionException("{} {}", mutableArgument, longArgument))
+        mutableArgument.append("changed")
+
+        val message = recentFailures.failures.single().message
+        assertThat(message, equalTo("$argument ${longArgument.substring(0, RecentFailures.MAX_PREVIEW_LENGTH)}... (${longArgument.length} chars)"))
+    }
+
+    @Test
+    fun testSnapshotOf()
+    {
+        assertThat(RecentFailures.snapshotOf(argument), sameInstance<Any>(argument))
+        assertThat(RecentFailures.snapshotOf(5), equalTo<Any>(5))
+        assertThat(RecentFailures.snapshotOf(null), nullValue())
+        assertThat(RecentFailures.snapshotOf(listOf(argument)), equalTo<Any>("[$argument]"))
+    }
+
+    @Test
+    fun testArgumentPreviewIsTruncated()
+    {
+        val recentFailures = RecentFailures(name, 1)
+        val longArgument = argument.repeat(RecentFailures.MAX_PREVIEW_LENGTH)
+
+        recentFailures.record(nonEmptyString(), longArgument, FailedAssertionException())
+
+        val preview = recentFailures.failures.single().argumentPreview
+        assertThat(preview, equalTo(longArgument.substring(0, RecentFailures.MAX_PREVIEW_LENGTH) + "... (${longArgument.length} chars)"))
+    }
+
+    @DontRepeat
+    @Test
+    fun testUnnamedValidatorsAreNotRecorded()
+    {
+        val unnamed = Arguments.validator<String>().isA(nonEmptyString()).build()
+        assertThrows { unnamed.check("") }.failedAssertion()
+
+        assertThat(RecentFailures.of(argument), nullValue())
+    }
+
+    @DontRepeat
+    @Test
+    fun testCapacityFor()
+    {
+        assertThat(RecentFailures.capacityFor(0), equalTo(0))
+        assertThat(RecentFailures.capacityFor(-1), equalTo(0))
+        assertThat(RecentFailures.capacityFor(1), equalTo(1))
+        assertThat(RecentFailures.capacityFor(5), equalTo(8))
+        assertThat(RecentFailures.capacityFor(16), equalTo(16))
+        assertThat(RecentFailures.capacityFor(Int.MAX_VALUE), equalTo(RecentFailures.MAX_CAPACITY))
+    }
+
+    @DontRepeat
+    @Test
+    fun testBadCapacity()
+    {
+        assertThrows { RecentFailures(name, 3) }.isInstanceOf(IllegalArgumentException::class.java)
+    }
+
+    @Test
+    fun testDumpAll()
+    {
+        assertThrows { validator.check("") }.failedAssertion()
+
+        RecentFailures.dumpAll()
+        assertThat(RecentFailures.of(name), notNullValue())
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments
+
+import org.hamcrest.Matchers.equalTo
+import org.hamcrest.Matchers.greaterThan
+import org.hamcrest.Matchers.lessThan
+import org.hamcrest.Matchers.nullValue
+import org.junit.Assert.assertThat
+import org.junit.Test
+import org.junit.runner.RunWith
+import tech.sirwellington.alchemy.test.junit.ThrowableAssertion.assertThrows
+import tech.sirwellington.alchemy.test.junit.runners.AlchemyTestRunner
+import tech.sirwellington.alchemy.test.junit.runners.DontRepeat
+import tech.sirwellington.alchemy.test.junit.runners.Repeat
+
+/**
+ *
+ * @author SirWellington
+ */
+@Repeat(10)
+@RunWith(AlchemyTestRunner::class)
+class SamplingTest
+{
+
+    @Test
+    fun testShouldCheck()
+    {
+        val instance = Sampling.of(1, 4)!!
+        val checked = (1..20_000).count { instance.shouldCheck() }
+
+        assertThat(checked, greaterThan(4_000))
+        assertThat(checked, lessThan(6_000))
+    }
+
+    @Test
+    fun testShouldCheckRarely()
+    {
+        val instance = Sampling.of(1, Int.MAX_VALUE)!!
+
+        assertThat((1..1_000).count { instance.shouldCheck() }, equalTo(0))
+    }
+
+    @DontRepeat
+    @Test
+    fun testOfWhenEveryArgumentIsChecked()
+    {
+        assertThat(Sampling.of(1, 1), nullValue())
+        assertThat(Sampling.of(100, 100), nullValue())
+    }
+
+    @DontRepeat
+    @Test
+    fun testOfWithBadArgs()
+    {
+        assertThrows { Sampling.of(0, 10) }.isInstanceOf(IllegalArgumentException::class.java)
+        assertThrows { Sampling.of(-1, 10) }.isInstanceOf(IllegalArgumentException::class.java)
+        assertThrows { Sampling.of(10, 1) }.isInstanceOf(IllegalArgumentException::class.java)
+    }
+
+    @Test
+    fun testToString()
+    {
+        assertThat(Sampling.of(1, 1000).toString(), equalTo("1/1000"))
+    }
+
+}
@@ -0,0 +1,300 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments
+
+import org.hamcrest.Matchers.equalTo
+import org.hamcrest.Matchers.greaterThan
+import org.hamcrest.Matchers.instanceOf
+import org.hamcrest.Matchers.lessThan
+import org.hamcrest.Matchers.notNullValue
+import org.hamcrest.Matchers.nullValue
+import org.hamcrest.Matchers.sameInstance
+import org.junit.Assert.assertThat
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import tech.sirwellington.alchemy.arguments.assertions.nonEmptyString
+import tech.sirwellington.alchemy.generator.StringGenerators.Companion.alphabeticStrings
+import tech.sirwellington.alchemy.generator.one
+import tech.sirwellington.alchemy.test.junit.ThrowableAssertion.assertThrows
+import tech.sirwellington.alchemy.test.junit.runners.AlchemyTestRunner
+import tech.sirwellington.alchemy.test.junit.runners.DontRepeat
+import tech.sirwellington.alchemy.test.junit.runners.GenerateString
+import tech.sirwellington.alchemy.test.junit.runners.GenerateString.Type.ALPHABETIC
+import tech.sirwellington.alchemy.test.junit.runners.Repeat
+import java.io.IOException
+import java.sql.SQLException
+
+/**
+ *
+ * @author SirWellington
+ */
+@Repeat(100)
+@RunWith(AlchemyTestRunner::class)
+class SingleArgumentAssertionBuilderTest
+{
+
+    @GenerateString(ALPHABETIC)
+    private lateinit var argument: String
+
+    @GenerateString(ALPHABETIC)
+    private lateinit var errorMessage: String
+
+    private lateinit var passingAssertion: AlchemyAssertion<String>
+    private lateinit var failingAssertion: AlchemyAssertion<String>
+
+    private lateinit var instance: SingleArgumentAssertionBuilder<String, FailedAssertionException>
+
+    @Before
+    fun setUp()
+    {
+        passingAssertion = AlchemyAssertion { }
+        failingAssertion = AlchemyAssertion { throw FailedAssertionException(errorMessage) }
+
+        instance = SingleArgumentAssertionBuilder.checkThat(argument)
+    }
+
+    @Test
+    fun testCheckThat()
+    {
+        assertThat(instance, notNullValue())
+
+        val instanceWithNull = SingleArgumentAssertionBuilder.checkThat<String?>(null)
+        assertThat(instanceWithNull, notNullValue())
+    }
+
+    @Test
+    fun testIsWhenAssertionPasses()
+    {
+        var checkedArgument: String? = null
+        val assertion = AlchemyAssertion<String> { checkedArgument = it }
+
+        val result = instance.isA(assertion)
+
+        assertThat(result, sameInstance(instance))
+        assertThat(checkedArgument, sameInstance(argument))
+    }
+
+    @Test
+    fun testIsWhenAssertionFails()
+    {
+        assertThrows { instance.isA(failingAssertion) }
+                .failedAssertion()
+                .hasMessage(errorMessage)
+    }
+
+    @Test
+    fun testIsWhenAssertionThrowsUnexpectedException()
+    {
+        val assertion = AlchemyAssertion<String> { throw RuntimeException() }
+
+        assertThrows { instance.isA(assertion) }
+                .failedAssertion()
+                .hasCauseInstanceOf(RuntimeException::class.java)
+    }
+
+    @Test
+    fun testIsWithRealAssertions()
+    {
+        instance.isA(nonEmptyString())
+
+        assertThrows { SingleArgumentAssertionBuilder.checkThat("").isA(nonEmptyString()) }
+                .failedAssertion()
+    }
+
+    @Test
+    fun testThrowingExceptionMapper()
+    {
+        val mapper = ExceptionMapper { ex -> SQLException(errorMessage, ex) }
+
+        assertThrows { instance.throwing(mapper).isA(failingAssertion) }
+                .isInstanceOf(SQLException::class.java)
+                .hasCauseInstanceOf(FailedAssertionException::class.java)
+
+        instance.throwing(mapper).isA(passingAssertion)
+    }
+
+    @Test
+    fun testThrowingWhenMapperReturnsNull()
+    {
+        val mapper = ExceptionMapper<SQLException> { null }
+
+        instance.throwing(mapper).isA(failingAssertion)
+    }
+
+    @Test
+    fun testThrowingExceptionClass()
+    {
+        assertThrows { instance.throwing(SQLException::class.java).isA(failingAssertion) }
+                .isInstanceOf(SQLException::class.java)
+                .hasCauseInstanceOf(FailedAssertionException::class.java)
+    }
+
+    @Test
+    fun testThrowingExceptionClassWithBuiltInAssertion()
+    {
+        val exception = catchException { SingleArgumentAssertionBuilder.checkThat("").throwing(SQLException::class.java).isA(nonEmptyString()) }
+
+        assertThat(exception, instanceOf(SQLException::class.java))
+        assertThat(exception.stackTrace.size, greaterThan(0))
+        assertThat(exception.cause, instanceOf(FailedAssertionException::class.java))
+        assertThat(exception.cause!!.message, equalTo(nonEmptyString().evaluate("").message))
+
+        //The exception already has the stack trace, so its cause does not need one
+        assertThat(exception.cause!!.stackTrace.size, equalTo(0))
+    }
+
+    @Test
+    fun testThrowingExceptionMapperWithBuiltInAssertion()
+    {
+        val mapper = ExceptionMapper { ex -> SQLException(errorMessage, ex) }
+
+        assertThrows { SingleArgumentAssertionBuilder.checkThat("").throwing(mapper).isA(nonEmptyString()) }
+                .isInstanceOf(SQLException::class.java)
+                .hasMessage(errorMessage)
+                .hasCauseInstanceOf(FailedAssertionException::class.java)
+    }
+
+    @Test
+    fun testThrowingExceptionMapperThatMapsFailures()
+    {
+        val mapper = object : ExceptionMapper<SQLException>
+        {
+            override fun apply(cause: FailedAssertionException?): SQLException
+            {
+                throw AssertionError("Failure should have been mapped without an exception")
+            }
+
+            override fun map(failure: ValidationResult): SQLException
+            {
+                return SQLException(failure.message)
+            }
+        }
+
+        assertThrows { SingleArgumentAssertionBuilder.checkThat("").throwing(mapper).isA(nonEmptyString()) }
+                .isInstanceOf(SQLException::class.java)
+                .hasMessage(nonEmptyString().evaluate("").message)
+
+        assertThrows { SingleArgumentAssertionBuilder.checkThat("").throwing(mapper).usingMessage(errorMessage).isA(nonEmptyString()) }
+                .isInstanceOf(SQLException::class.java)
+                .hasMessage(errorMessage)
+    }
+
+    @Test
+    fun testUsingMessage()
+    {
+        val overrideMessage = one(alphabeticStrings())
+
+        assertThrows { instance.usingMessage(overrideMessage).isA(failingAssertion) }
+                .failedAssertion()
+                .hasMessage(overrideMessage)
+
+        assertThrows { instance.usingMessage(overrideMessage).throwing(IOException::class.java).isA(failingAssertion) }
+                .isInstanceOf(IOException::class.java)
+                .hasMessage(overrideMessage)
+
+        assertThrows { instance.throwing(IOException::class.java).usingMessage(overrideMessage).isA(failingAssertion) }
+                .isInstanceOf(IOException::class.java)
+                .hasMessage(overrideMessage)
+    }
+
+    @Test
+    fun testUsingMessageDoesNotChangeTheOriginalException()
+    {
+        val overrideMessage = one(alphabeticStrings())
+        val sharedException = FailedAssertionException(errorMessage)
+        val assertion = AlchemyAssertion<String> { throw sharedException }
+
+        assertThrows { instance.usingMessage(overrideMessage).isA(assertion) }
+                .failedAssertion()
+                .hasMessage(overrideMessage)
+
+        assertThat(sharedException.message, equalTo(errorMessage))
+    }
+
+    @Test
+    fun testUsingMessageWithEmptyMessage()
+    {
+        assertThrows { instance.usingMessage("") }
+                .illegalArgument()
+    }
+
+    @Test
+    fun testWithoutStackTraces()
+    {
+        val stackless = instance.withoutStackTraces()
+
+        val exception = catchException { stackless.isA(failingAssertion) }
+        assertThat(exception.stackTrace.size, equalTo(0))
+
+        //Other builders are not affected
+        val exceptionWithStackTrace = catchException { instance.isA(failingAssertion) }
+        assertThat(exceptionWithStackTrace.stackTrace.size, greaterThan(0))
+    }
+
+    @Test
+    fun testWithoutStackTracesWithUnexpectedException()
+    {
+        val assertion = AlchemyAssertion<String> { throw RuntimeException() }
+
+        val exception = catchException { instance.withoutStackTraces().isA(assertion) }
+        assertThat(exception, instanceOf(FailedAssertionException::class.java))
+        assertThat(exception.stackTrace.size, equalTo(0))
+    }
+
+    @Test
+    fun testWithoutStackTracesKeepsMessageAndExceptionClass()
+    {
+        val overrideMessage = one(alphabeticStrings())
+
+        assertThrows { instance.throwing(IOException::class.java).usingMessage(overrideMessage).withoutStackTraces().isA(failingAssertion) }
+                .isInstanceOf(IOException::class.java)
+                .hasMessage(overrideMessage)
+
+        assertThrows { instance.withoutStackTraces().usingMessage(overrideMessage).isA(failingAssertion) }
+                .failedAssertion()
+                .hasMessage(overrideMessage)
+    }
+
+    @DontRepeat
+    @Test
+    fun testIsDoesNotAllocateWhenAssertionsPass()
+    {
+        val assertion = nonEmptyString()
+        val iterations = 10_000
+
+        //Warm up, so that class-loading is not measured
+        allocatedBytes(iterations) { instance.isA(assertion).isA(passingAssertion) }
+
+        val bytes = allocatedBytes(iterations) { instance.isA(assertion).isA(passingAssertion) }
+
+        //Allocating even a single object per iteration would amount to far more than this
+        assertThat(bytes, lessThan(iterations.toLong()))
+    }
+
+    @DontRepeat
+    @Test
+    fun testSkipsListenersWhenNoneAreRegistered()
+    {
+        //Listeners are only registered for the tests in the listener-tests execution
+        assertThat(AssertionListeners.ENABLED, equalTo(false))
+
+        instance.isA(nonEmptyString())
+        assertThrows { instance.isA(failingAssertion) }
+
+        assertThat(AssertionMetrics.getCounter("StringAssertions.nonEmptyString"), nullValue())
+    }
+
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments
+
+import org.hamcrest.Matchers.containsString
+import org.hamcrest.Matchers.equalTo
+import org.hamcrest.Matchers.not
+import org.hamcrest.Matchers.nullValue
+import org.hamcrest.Matchers.sameInstance
+import org.junit.Assert.assertThat
+import org.junit.Assert.assertTrue
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import tech.sirwellington.alchemy.arguments.assertions.greaterThan
+import tech.sirwellington.alchemy.arguments.assertions.nonEmptyString
+import tech.sirwellington.alchemy.test.junit.ThrowableAssertion.assertThrows
+import tech.sirwellington.alchemy.test.junit.runners.AlchemyTestRunner
+import tech.sirwellington.alchemy.test.junit.runners.DontRepeat
+import tech.sirwellington.alchemy.test.junit.runners.GenerateString
+import tech.sirwellington.alchemy.test.junit.runners.GenerateString.Type.ALPHABETIC
+import tech.sirwellington.alchemy.test.junit.runners.Repeat
+
+/**
+ *
+ * @author SirWellington
+ */
+@Repeat(50)
+@RunWith(AlchemyTestRunner::class)
+class StacklessExceptionMapperTest
+{
+
+    @GenerateString(ALPHABETIC)
+    private lateinit var message: String
+
+    private lateinit var instance: StacklessExceptionMapper
+
+    @Before
+    fun setUp()
+    {
+        instance = StacklessExceptionMapper()
+    }
+
+    @Test
+    fun testMap()
+    {
+        val result = instance.map(ValidationResult.invalid(message))
+
+        assertThat(result.message, equalTo(message))
+        assertThat(result.cause, nullValue())
+        assertThat(result.stackTrace.size, equalTo(0))
+
+        val shared = instance.map(ValidationResult.invalid("Expected {} to be short", message))
+        assertThat(instance.map(ValidationResult.invalid("Expected {} to be short", message)), sameInstance(shared))
+    }
+
+    @Test
+    fun testMapKeepsOnlyTheTemplate()
+    {
+        val result = instance.map(ValidationResult.invalid("Expected {} to be short", message))
+
+        assertThat(result.message, equalTo("Expected {} to be short"))
+    }
+
+    @Test
+    fun testApply()
+    {
+        val result = instance.apply(FailedAssertionException(message))
+        assertThat(result.message, equalTo(message))
+        assertThat(result.stackTrace.size, equalTo(0))
+
+        val templated = instance.apply(FailedAssertionException("Expected {} to be short", message))
+        assertThat(templated.message, equalTo("Expected {} to be short"))
+
+        val withCause = instance.apply(FailedAssertionException(message, RuntimeException()))
+        assertThat(withCause.cause, nullValue())
+    }
+
+    @Test
+    fun testApplyWithNullCause()
+    {
+        val result = instance.apply(null)
+        assertThat(result.message, equalTo(""))
+    }
+
+    @Test
+    fun testSharedExceptionsCannotBeChanged()
+    {
+        val result = instance.map(ValidationResult.invalid(message))
+
+        assertThrows { result.initCause(RuntimeException()) }.isInstanceOf(IllegalStateException::class.java)
+
+        result.stackTrace = Thread.currentThread().stackTrace
+        assertThat(result.stackTrace.size, equalTo(0))
+    }
+
+    @DontRepeat
+    @Test
+    fun testTemplatesAreBounded()
+    {
+        val assertion = AlchemyAssertion<Any> { }
+        val templates = (0..StacklessExceptionMapper.MAX_TEMPLATES_PER_KIND).map { "$message-$it" }
+        templates.forEach { StacklessExceptionMapper.exceptionFor(assertion, it) }
+
+        val first = templates.first()
+        assertThat(StacklessExceptionMapper.exceptionFor(assertion, first), sameInstance(StacklessExceptionMapper.exceptionFor(assertion, first)))
+
+        val last = templates.last()
+        assertThat(StacklessExceptionMapper.exceptionFor(assertion, last), not(sameInstance(StacklessExceptionMapper.exceptionFor(assertion, last))))
+        assertThat(StacklessExceptionMapper.exceptionFor(assertion, last).message, containsString(last))
+    }
+
+    @DontRepeat
+    @Test
+    fun testSharedExceptionsDoNotAllocate()
+    {
+        val assertion = nonEmptyString()
+        val iterations = 10_000
+
+        //Warm up
+        allocatedBytes(iterations) { StacklessExceptionMapper.exceptionFor(assertion, "Expected {}") }
+
+        val bytes = allocatedBytes(iterations) { StacklessExceptionMapper.exceptionFor(assertion, "Expected {}") }
+        assertTrue(bytes < iterations)
+    }
+
+    @Test
+    fun testWithAssertionBuilder()
+    {
+        val failure = catchException { Arguments.checkThat("").throwing(ExceptionMapper.STACKLESS).isA(nonEmptyString()) }
+
+        assertThat(failure.message, equalTo("StringAssertions.nonEmptyString: " + nonEmptyString().evaluate("").message))
+        assertThat(failure.stackTrace.size, equalTo(0))
+
+        val again = catchException { Arguments.checkThat("").throwing(ExceptionMapper.STACKLESS).isA(nonEmptyString()) }
+        assertThat(again, sameInstance(failure))
+
+        val overridden = catchException { Arguments.checkThat("").throwing(ExceptionMapper.STACKLESS).usingMessage(message).isA(nonEmptyString()) }
+        assertThat(overridden.message, equalTo("StringAssertions.nonEmptyString: $message"))
+    }
+
+    @Test
+    fun testArgumentIsNotInMessage()
+    {
+        val failure = catchException { Arguments.checkThat(123_456_789).throwing(ExceptionMapper.STACKLESS).isA(greaterThan(Int.MAX_VALUE - 1)) }
+
+        assertThat(failure.message, not(containsString("123456789")))
+    }
+
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments
+
+import org.hamcrest.Matchers.equalTo
+import org.hamcrest.Matchers.lessThan
+import org.hamcrest.Matchers.sameInstance
+import org.junit.Assert.assertThat
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import tech.sirwellington.alchemy.arguments.assertions.nonEmptyString
+import tech.sirwellington.alchemy.arguments.assertions.stringWithLengthGreaterThanOrEqualTo
+import tech.sirwellington.alchemy.arguments.assertions.stringWithLengthLessThan
+import tech.sirwellington.alchemy.test.junit.ThrowableAssertion.assertThrows
+import tech.sirwellington.alchemy.test.junit.runners.AlchemyTestRunner
+import tech.sirwellington.alchemy.test.junit.runners.DontRepeat
+import tech.sirwellington.alchemy.test.junit.runners.GenerateString
+import tech.sirwellington.alchemy.test.junit.runners.GenerateString.Type.ALPHABETIC
+import tech.sirwellington.alchemy.test.junit.runners.Repeat
+
+/**
+ *
+ * @author SirWellington
+ */
+@Repeat(50)
+@RunWith(AlchemyTestRunner::class)
+class TestBuilderImplTest
+{
+
+    @GenerateString(ALPHABETIC)
+    private lateinit var argument: String
+
+    private lateinit var instance: TestBuilderImpl<String>
+
+    private lateinit var failingAssertion: AlchemyAssertion<String>
+
+    @Before
+    fun setUp()
+    {
+        instance = TestBuilderImpl.test(argument)
+
+        failingAssertion = AlchemyAssertion { throw FailedAssertionException(it) }
+    }
+
+    @Test
+    fun testIsWhenValid()
+    {
+        val result = instance.isA(nonEmptyString())
+                .isA(stringWithLengthGreaterThanOrEqualTo(1))
+
+        assertThat(result, sameInstance<TestBuilder<String>>(instance))
+        assertThat(result.isValid, equalTo(true))
+        assertThat(result.result(), sameInstance(ValidationResult.valid()))
+    }
+
+    @Test
+    fun testIsWhenInvalid()
+    {
+        val result = TestBuilderImpl.test("")
+                .isA(nonEmptyString())
+
+        assertThat(result.isValid, equalTo(false))
+        assertThat(result.result().isInvalid, equalTo(true))
+    }
+
+    @Test
+    fun testIsWhenNull()
+    {
+        val result = TestBuilderImpl.test<String>(null)
+                .isA(nonEmptyString())
+
+        assertThat(result.isValid, equalTo(false))
+    }
+
+    @Test
+    fun testIsStopsAtFirstFailure()
+    {
+        var timesCalled = 0
+        val countingAssertion = AlchemyAssertion<String> { timesCalled += 1 }
+
+        val result = instance.isA(stringWithLengthLessThan(1))
+                .isA(countingAssertion)
+
+        assertThat(timesCalled, equalTo(0))
+        assertThat(result.result().message, equalTo("Expecting a String with length < 1"))
+    }
+
+    @Test
+    fun testIsWithCustomAssertion()
+    {
+        val result = instance.isA(failingAssertion)
+
+        assertThat(result.isValid, equalTo(false))
+        assertThat(result.result().message, equalTo(argument))
+    }
+
+    @Test
+    fun testIsWhenAssertionThrowsUnexpectedException()
+    {
+        val assertion = AlchemyAssertion<String> { throw RuntimeException() }
+
+        val result = instance.isA(assertion)
+        assertThat(result.isValid, equalTo(false))
+
+        assertThrows { throw result.result().toException() }
+                .failedAssertion()
+                .hasCauseInstanceOf(RuntimeException::class.java)
+    }
+
+    @DontRepeat
+    @Test
+    fun testIsWithBadArgs()
+    {
+        assertThrows { instance.`is`(null) }.illegalArgument()
+    }
+
+    @Test
+    fun testTestDoesNotChangeTheArgument()
+    {
+        val result = Arguments.test(argument)
+                .`is`(nonEmptyString())
+                .isValid
+
+        assertThat(result, equalTo(true))
+    }
+
+    @DontRepeat
+    @Test
+    fun testFailuresDoNotCreateExceptions()
+    {
+        val assertion = stringWithLengthLessThan(1)
+        val iterations = 10_000
+
+        val bytesWhenTesting = allocatedBytes(iterations) {
+            TestBuilderImpl.test(argument).isA(assertion).isA(assertion)
+        }
+
+        val bytesWhenThrowing = allocatedBytes(iterations) {
+            try
+            {
+                assertion.check(argument)
+            }
+            catch (ex: FailedAssertionException)
+            {
+            }
+        }
+
+        assertThat(bytesWhenTesting * 4, lessThan(bytesWhenThrowing))
+    }
+
+}
@@ -18,6 +18,7 @@ package tech.sirwellington.alchemy.arguments
 import tech.sirwellington.alchemy.generator.NumberGenerators
 import tech.sirwellington.alchemy.generator.one
 import tech.sirwellington.alchemy.test.junit.ThrowableAssertion
+import java.lang.management.ManagementFactory
 
 
 /**
@@ -46,4 +47,40 @@ fun <E> Collection<E>.whichever(): E
     val index = one(NumberGenerators.integers(0, list.size - 1))
 
     return list[index]
-}
\ No newline at end of file
+}
+
+/**
+ * Runs [block], and returns the exception it throws.
+ */
+fun catchException(block: () -> Unit): Throwable
+{
+    try
+    {
+        block()
+    }
+    catch (ex: Throwable)
+    {
+        return ex
+    }
+
+    throw AssertionError("Expected an exception to be thrown")
+}
+
+/**
+ * Measures the number of bytes allocated by the current thread while running [block] `iterations` times.
+ * The block is inlined, so it does not add any allocations of its own.
+ */
+inline fun allocatedBytes(iterations: Int, block: () -> Unit): Long
+{
+    val threads = ManagementFactory.getThreadMXBean() as com.sun.management.ThreadMXBean
+    val threadId = Thread.currentThread().id
+
+    val before = threads.getThreadAllocatedBytes(threadId)
+
+    for (i in 1..iterations)
+    {
+        block()
+    }
+
+    return threads.getThreadAllocatedBytes(threadId) - before
+}
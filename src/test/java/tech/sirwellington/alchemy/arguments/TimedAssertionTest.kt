@@ -0,0 +1,160 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments
+
+import org.hamcrest.Matchers.containsString
+import org.hamcrest.Matchers.equalTo
+import org.hamcrest.Matchers.greaterThanOrEqualTo
+import org.hamcrest.Matchers.lessThan
+import org.hamcrest.Matchers.sameInstance
+import org.junit.Assert.assertThat
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import tech.sirwellington.alchemy.arguments.assertions.nonEmptyString
+import tech.sirwellington.alchemy.test.junit.ThrowableAssertion.assertThrows
+import tech.sirwellington.alchemy.test.junit.runners.AlchemyTestRunner
+import tech.sirwellington.alchemy.test.junit.runners.DontRepeat
+import tech.sirwellington.alchemy.test.junit.runners.GenerateString
+import tech.sirwellington.alchemy.test.junit.runners.GenerateString.Type.ALPHABETIC
+import tech.sirwellington.alchemy.test.junit.runners.Repeat
+import java.util.concurrent.TimeUnit
+
+/**
+ *
+ * @author SirWellington
+ */
+@Repeat(50)
+@RunWith(AlchemyTestRunner::class)
+class TimedAssertionTest
+{
+
+    @GenerateString(ALPHABETIC)
+    private lateinit var argument: String
+
+    @GenerateString(ALPHABETIC)
+    private lateinit var name: String
+
+    private lateinit var instance: AlchemyAssertion<String>
+    private lateinit var counter: AssertionMetrics.Counter
+
+    @Before
+    fun setUp()
+    {
+        instance = AssertionMetrics.timed(nonEmptyString(), name)
+        counter = AssertionMetrics.getTimedCounter(name)!!
+    }
+
+    @Test
+    fun testCheck()
+    {
+        instance.check(argument)
+        assertThrows { instance.check("") }.failedAssertion()
+
+        assertThat(counter.checks, equalTo(2L))
+        assertThat(counter.failures, equalTo(1L))
+        assertThat(counter.unexpectedExceptions, equalTo(0L))
+    }
+
+    @Test
+    fun testEvaluate()
+    {
+        assertThat(instance.evaluate(argument).isValid, equalTo(true))
+        assertThat(instance.evaluate("").isValid, equalTo(false))
+
+        assertThat(counter.checks, equalTo(2L))
+        assertThat(counter.failures, equalTo(1L))
+    }
+
+    @Test
+    fun testTest()
+    {
+        assertThat(instance.test(argument), equalTo(true))
+        assertThat(instance.test(""), equalTo(false))
+
+        assertThat(counter.checks, equalTo(2L))
+        assertThat(counter.failures, equalTo(1L))
+    }
+
+    @Test
+    fun testWithUnexpectedException()
+    {
+        val instance = AssertionMetrics.timed(AlchemyAssertion<String> { throw IllegalStateException() }, name)
+
+        assertThrows { instance.check(argument) }.isInstanceOf(IllegalStateException::class.java)
+        assertThrows { instance.evaluate(argument) }.isInstanceOf(IllegalStateException::class.java)
+        assertThrows { instance.test(argument) }.isInstanceOf(IllegalStateException::class.java)
+
+        assertThat(counter.unexpectedExceptions, equalTo(3L))
+    }
+
+    @Test
+    fun testWithBuilder()
+    {
+        Arguments.checkThat(argument).isA(instance)
+        assertThrows { Arguments.checkThat("").isA(instance) }.failedAssertion()
+
+        assertThat(counter.checks, equalTo(2L))
+        assertThat(counter.failures, equalTo(1L))
+    }
+
+    @DontRepeat
+    @Test
+    fun testRecordsLatency()
+    {
+        val instance = AssertionMetrics.timed(AlchemyAssertion<String> { Thread.sleep(1) }, name)
+
+        instance.check(argument)
+
+        assertThat(counter.latencyP50Nanos, greaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(1)))
+        assertThat(counter.latencyP999Nanos, greaterThanOrEqualTo(counter.latencyP50Nanos))
+    }
+
+    @Test
+    fun testSameNameSharesCounter()
+    {
+        AssertionMetrics.timed(nonEmptyString(), name).check(argument)
+
+        assertThat(AssertionMetrics.getTimedCounter(name), sameInstance(counter))
+        assertThat(counter.checks, equalTo(1L))
+    }
+
+    @DontRepeat
+    @Test
+    fun testTimedWithBadArguments()
+    {
+        assertThrows { AssertionMetrics.timed(nonEmptyString(), "") }.isInstanceOf(IllegalArgumentException::class.java)
+    }
+
+    @DontRepeat
+    @Test
+    fun testCheckDoesNotAllocateWhenPassing()
+    {
+        val iterations = 10_000
+
+        //Warm up
+        allocatedBytes(iterations) { instance.check(argument) }
+
+        val bytes = allocatedBytes(iterations) { instance.check(argument) }
+        assertThat(bytes, lessThan(iterations.toLong()))
+    }
+
+    @Test
+    fun testToString()
+    {
+        assertThat(instance.toString(), containsString(name))
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments
+
+import org.hamcrest.Matchers.equalTo
+import org.junit.Assert.assertThat
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import tech.sirwellington.alchemy.test.junit.runners.AlchemyTestRunner
+import tech.sirwellington.alchemy.test.junit.runners.DontRepeat
+import tech.sirwellington.alchemy.test.junit.runners.GenerateString
+import tech.sirwellington.alchemy.test.junit.runners.GenerateString.Type.ALPHABETIC
+import tech.sirwellington.alchemy.test.junit.runners.Repeat
+import java.lang.ref.WeakReference
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+/**
+ *
+ * @author SirWellington
+ */
+@Repeat(50)
+@RunWith(AlchemyTestRunner::class)
+class ValidatedInstancesTest
+{
+
+    @GenerateString(ALPHABETIC)
+    private lateinit var argument: String
+
+    private lateinit var instance: ValidatedInstances
+
+    @Before
+    fun setUp()
+    {
+        instance = ValidatedInstances()
+    }
+
+    @Test
+    fun testAdd()
+    {
+        assertThat(instance.contains(argument), equalTo(false))
+
+        instance.add(argument)
+
+        assertThat(instance.contains(argument), equalTo(true))
+        assertThat(instance.size(), equalTo(1))
+    }
+
+    @Test
+    fun testComparesByIdentity()
+    {
+        val copy = String(argument.toCharArray())
+        instance.add(argument)
+
+        assertThat(instance.contains(copy), equalTo(false))
+    }
+
+    @Test
+    fun testNull()
+    {
+        instance.add(null)
+
+        assertThat(instance.contains(null), equalTo(false))
+        assertThat(instance.size(), equalTo(0))
+    }
+
+    @DontRepeat
+    @Test
+    fun testDoesNotKeepInstancesAlive()
+    {
+        var value: Any? = Any()
+        val reference = WeakReference(value)
+        instance.add(value)
+        value = null
+
+        for (attempt in 1..50)
+        {
+            System.gc()
+
+            if (reference.get() == null && instance.size() == 0)
+            {
+                break
+            }
+
+            Thread.sleep(10)
+        }
+
+        assertThat(reference.get() == null, equalTo(true))
+        assertThat(instance.size(), equalTo(0))
+    }
+
+    @DontRepeat
+    @Test
+    fun testConcurrentUse()
+    {
+        val values = (1..100).map { Any() }
+        val executor = Executors.newFixedThreadPool(8)
+
+        (1..8).forEach {
+            executor.submit {
+                values.forEach { value -> instance.add(value) }
+            }
+        }
+
+        executor.shutdown()
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS), equalTo(true))
+
+        assertThat(instance.size(), equalTo(100))
+        assertThat(values.all { instance.contains(it) }, equalTo(true))
+    }
+
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments
+
+import org.hamcrest.Matchers.equalTo
+import org.hamcrest.Matchers.greaterThan
+import org.hamcrest.Matchers.isEmptyOrNullString
+import org.hamcrest.Matchers.not
+import org.hamcrest.Matchers.notNullValue
+import org.hamcrest.Matchers.nullValue
+import org.hamcrest.Matchers.sameInstance
+import org.junit.Assert.assertThat
+import org.junit.Test
+import org.junit.runner.RunWith
+import tech.sirwellington.alchemy.generator.StringGenerators.Companion.alphabeticStrings
+import tech.sirwellington.alchemy.generator.one
+import tech.sirwellington.alchemy.test.junit.ThrowableAssertion.assertThrows
+import tech.sirwellington.alchemy.test.junit.runners.AlchemyTestRunner
+import tech.sirwellington.alchemy.test.junit.runners.DontRepeat
+import tech.sirwellington.alchemy.test.junit.runners.GenerateString
+import tech.sirwellington.alchemy.test.junit.runners.GenerateString.Type.ALPHABETIC
+import tech.sirwellington.alchemy.test.junit.runners.Repeat
+
+/**
+ *
+ * @author SirWellington
+ */
+@Repeat(50)
+@RunWith(AlchemyTestRunner::class)
+class ValidationResultTest
+{
+
+    @GenerateString(ALPHABETIC)
+    private lateinit var message: String
+
+    @DontRepeat
+    @Test
+    fun testValid()
+    {
+        val result = ValidationResult.valid()
+
+        assertThat(result.isValid, equalTo(true))
+        assertThat(result.isInvalid, equalTo(false))
+        assertThat(result.message, isEmptyOrNullString())
+        assertThat(result, sameInstance(ValidationResult.valid()))
+    }
+
+    @DontRepeat
+    @Test
+    fun testToExceptionWhenValid()
+    {
+        assertThrows { ValidationResult.valid().toException() }
+                .isInstanceOf(IllegalStateException::class.java)
+    }
+
+    @Test
+    fun testInvalid()
+    {
+        val result = ValidationResult.invalid(message)
+
+        assertThat(result.isValid, equalTo(false))
+        assertThat(result.isInvalid, equalTo(true))
+        assertThat(result.message, equalTo(message))
+
+        val exception = result.toException()
+        assertThat(exception.message, equalTo(message))
+    }
+
+    @Test
+    fun testInvalidWithArguments()
+    {
+        val argument = one(alphabeticStrings())
+
+        val result = ValidationResult.invalid("{} is not {}", argument, message)
+        assertThat(result.isInvalid, equalTo(true))
+        assertThat(result.message, equalTo("$argument is not $message"))
+
+        val exception = result.toException()
+        assertThat(exception.message, equalTo("$argument is not $message"))
+    }
+
+    @Test
+    fun testInvalidWithCause()
+    {
+        val cause = RuntimeException()
+
+        val result = ValidationResult.invalid(cause, "Invalid: {}", message)
+        assertThat(result.message, equalTo("Invalid: $message"))
+
+        val exception = result.toException()
+        assertThat(exception.message, equalTo("Invalid: $message"))
+        assertThat<Throwable>(exception.cause, sameInstance<Throwable>(cause))
+    }
+
+    @Test
+    fun testFailedWith()
+    {
+        val exception = FailedAssertionException(message)
+
+        val result = ValidationResult.failedWith(exception)
+        assertThat(result.isInvalid, equalTo(true))
+        assertThat(result.message, equalTo(message))
+        assertThat(result.toException(), sameInstance(exception))
+    }
+
+    @DontRepeat
+    @Test
+    fun testWithBadArgs()
+    {
+        assertThrows { ValidationResult.invalid(null as String?) }.illegalArgument()
+        assertThrows { ValidationResult.failedWith(null) }.illegalArgument()
+    }
+
+    @Test
+    fun testToExceptionWithoutStackTrace()
+    {
+        val exception = ValidationResult.invalid(message).toExceptionWithoutStackTrace()
+
+        assertThat(exception.message, equalTo(message))
+        assertThat(exception.stackTrace.size, equalTo(0))
+
+        //Stack traces are restored afterwards
+        assertThat(ValidationResult.invalid(message).toException().stackTrace.size, greaterThan(0))
+    }
+
+    @Test
+    fun testWithMessage()
+    {
+        val newMessage = one(alphabeticStrings())
+
+        val result = ValidationResult.invalid("{} is bad", message).withMessage(newMessage)
+        assertThat(result.isInvalid, equalTo(true))
+        assertThat(result.message, equalTo(newMessage))
+        assertThat(result.toException().message, equalTo(newMessage))
+
+        val failedWith = ValidationResult.failedWith(FailedAssertionException(message)).withMessage(newMessage)
+        assertThat(failedWith.message, equalTo(newMessage))
+
+        assertThrows { ValidationResult.valid().withMessage(newMessage) }
+                .isInstanceOf(IllegalStateException::class.java)
+    }
+
+    @Test
+    fun testWithoutException()
+    {
+        val exception = FailedAssertionException(RuntimeException(), "{} is bad", message)
+
+        val result = ValidationResult.failedWith(exception).withoutException()
+        assertThat(result.message, equalTo("$message is bad"))
+        assertThat(result.toException(), not(sameInstance(exception)))
+        assertThat(result.toException().cause, nullValue())
+
+        val valid = ValidationResult.valid()
+        assertThat(valid.withoutException(), sameInstance(valid))
+
+        val invalid = ValidationResult.invalid("{} is bad", message)
+        assertThat(invalid.withoutException(), sameInstance(invalid))
+    }
+
+    @Test
+    fun testToString()
+    {
+        val result = ValidationResult.invalid(message)
+        assertThat(result.toString(), notNullValue())
+    }
+
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments
+
+import org.hamcrest.Matchers.containsString
+import org.hamcrest.Matchers.equalTo
+import org.hamcrest.Matchers.greaterThan
+import org.hamcrest.Matchers.instanceOf
+import org.hamcrest.Matchers.lessThan
+import org.hamcrest.Matchers.notNullValue
+import org.hamcrest.Matchers.not
+import org.hamcrest.Matchers.sameInstance
+import org.junit.Assert.assertThat
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import tech.sirwellington.alchemy.arguments.assertions.nonEmptyString
+import tech.sirwellington.alchemy.test.junit.ThrowableAssertion.assertThrows
+import tech.sirwellington.alchemy.test.junit.runners.AlchemyTestRunner
+import tech.sirwellington.alchemy.test.junit.runners.DontRepeat
+import tech.sirwellington.alchemy.test.junit.runners.GenerateString
+import tech.sirwellington.alchemy.test.junit.runners.GenerateString.Type.ALPHABETIC
+import tech.sirwellington.alchemy.test.junit.runners.Repeat
+import java.io.IOException
+import java.sql.SQLException
+
+/**
+ *
+ * @author SirWellington
+ */
+@Repeat(50)
+@RunWith(AlchemyTestRunner::class)
+class ValidatorBuilderImplTest
+{
+
+    @GenerateString(ALPHABETIC)
+    private lateinit var argument: String
+
+    @GenerateString(ALPHABETIC)
+    private lateinit var message: String
+
+    private lateinit var failingAssertion: AlchemyAssertion<String>
+
+    private lateinit var instance: ValidatorBuilder<String, FailedAssertionException>
+
+    @Before
+    fun setUp()
+    {
+        failingAssertion = AlchemyAssertion { throw FailedAssertionException() }
+
+        instance = ValidatorBuilderImpl.newInstance()
+    }
+
+    @Test
+    fun testBuild()
+    {
+        val validator = instance.isA(nonEmptyString()).build()
+        assertThat(validator, notNullValue())
+
+        validator.check(argument)
+        assertThrows { validator.check("") }.failedAssertion()
+    }
+
+    @Test
+    fun testBuildWithNoAssertions()
+    {
+        assertThrows { instance.build() }
+                .isInstanceOf(IllegalStateException::class.java)
+    }
+
+    @Test
+    fun testIsWithNullAssertion()
+    {
+        assertThrows { instance.isA(null!!) }
+    }
+
+    @Test
+    fun testIsReturnsNewBuilder()
+    {
+        val result = instance.isA(nonEmptyString())
+        assertThat(result, not(sameInstance(instance)))
+
+        //The original builder is unaffected
+        assertThrows { instance.build() }
+                .isInstanceOf(IllegalStateException::class.java)
+    }
+
+    @Test
+    fun testAssertionsAreRunInOrder()
+    {
+        val checked = mutableListOf<Int>()
+
+        val validator = instance
+                .isA(AlchemyAssertion { checked.add(1) })
+                .isA(AlchemyAssertion { checked.add(2) })
+                .isA(AlchemyAssertion { checked.add(3) })
+                .build()
+
+        validator.check(argument)
+        assertThat(checked, equalTo(listOf(1, 2, 3)))
+    }
+
+    @Test
+    fun testUsingMessage()
+    {
+        val validator = instance.usingMessage(message)
+                .isA(failingAssertion)
+                .build()
+
+        assertThrows { validator.check(argument) }
+                .failedAssertion()
+                .hasMessage(message)
+    }
+
+    @Test
+    fun testThrowingExceptionClass()
+    {
+        val validator = instance.throwing(SQLException::class.java)
+                .isA(failingAssertion)
+                .build()
+
+        assertThrows { validator.check(argument) }
+                .isInstanceOf(SQLException::class.java)
+                .hasCauseInstanceOf(FailedAssertionException::class.java)
+    }
+
+    @Test
+    fun testThrowingExceptionClassWithMessage()
+    {
+        val validator = instance.throwing(IOException::class.java)
+                .usingMessage(message)
+                .isA(failingAssertion)
+                .build()
+
+        assertThrows { validator.check(argument) }
+                .isInstanceOf(IOException::class.java)
+                .hasMessage(message)
+    }
+
+    @Test
+    fun testThrowingExceptionMapper()
+    {
+        val validator = instance.throwing { ex -> SQLException(message, ex) }
+                .isA(failingAssertion)
+                .build()
+
+        assertThrows { validator.check(argument) }
+                .isInstanceOf(SQLException::class.java)
+                .hasMessage(message)
+    }
+
+    @Test
+    fun testWithoutStackTraces()
+    {
+        val validator = instance.withoutStackTraces()
+                .isA(failingAssertion)
+                .build()
+
+        val exception = catchException { validator.check(argument) }
+        assertThat(exception, instanceOf(FailedAssertionException::class.java))
+        assertThat(exception.stackTrace.size, equalTo(0))
+    }
+
+    @Test
+    fun testNamed()
+    {
+        val validator = instance.named(message)
+                .isA(failingAssertion)
+                .build()
+
+        assertThrows { validator.check(argument) }.failedAssertion()
+        assertThat(validator.toString(), containsString(message))
+    }
+
+    @Test
+    fun testRememberingValidInstances()
+    {
+        var calls = 0
+        val validator = instance.rememberingValidInstances()
+                .isA(AlchemyAssertion { calls += 1 })
+                .build()
+
+        validator.check(argument)
+        validator.check(argument)
+
+        assertThat(calls, equalTo(1))
+    }
+
+    @Test
+    fun testNotRememberingValidInstancesByDefault()
+    {
+        var calls = 0
+        val validator = instance.isA(AlchemyAssertion { calls += 1 }).build()
+
+        validator.check(argument)
+        validator.check(argument)
+
+        assertThat(calls, equalTo(2))
+    }
+
+    @Test
+    fun testSampled()
+    {
+        var calls = 0
+        val validator = instance.sampled(1, 2)
+                .isA(AlchemyAssertion { calls += 1 })
+                .build()
+
+        repeat(10_000) { validator.check(argument) }
+
+        assertThat(calls, greaterThan(4_000))
+        assertThat(calls, lessThan(6_000))
+    }
+
+    @Test
+    fun testSampledStillThrows()
+    {
+        val validator = instance.sampled(1, 1)
+                .isA(failingAssertion)
+                .build()
+
+        assertThrows { validator.check(argument) }.failedAssertion()
+    }
+
+    @DontRepeat
+    @Test
+    fun testSampledWithBadArgs()
+    {
+        assertThrows { instance.sampled(0, 1) }.isInstanceOf(IllegalArgumentException::class.java)
+        assertThrows { instance.sampled(2, 1) }.isInstanceOf(IllegalArgumentException::class.java)
+    }
+
+    @DontRepeat
+    @Test
+    fun testNamedWithEmptyName()
+    {
+        assertThrows { instance.named("") }.isInstanceOf(IllegalArgumentException::class.java)
+    }
+
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments
+
+import org.hamcrest.Matchers.equalTo
+import org.hamcrest.Matchers.lessThan
+import org.hamcrest.Matchers.notNullValue
+import org.hamcrest.Matchers.nullValue
+import org.junit.Assert.assertThat
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import tech.sirwellington.alchemy.arguments.assertions.nonEmptyString
+import tech.sirwellington.alchemy.arguments.assertions.stringWithLengthGreaterThanOrEqualTo
+import tech.sirwellington.alchemy.test.junit.ThrowableAssertion.assertThrows
+import tech.sirwellington.alchemy.test.junit.runners.AlchemyTestRunner
+import tech.sirwellington.alchemy.test.junit.runners.DontRepeat
+import tech.sirwellington.alchemy.test.junit.runners.GenerateString
+import tech.sirwellington.alchemy.test.junit.runners.GenerateString.Type.ALPHABETIC
+import tech.sirwellington.alchemy.test.junit.runners.Repeat
+import java.sql.SQLException
+
+/**
+ *
+ * @author SirWellington
+ */
+@Repeat(50)
+@RunWith(AlchemyTestRunner::class)
+class ValidatorImplTest
+{
+
+    @GenerateString(ALPHABETIC)
+    private lateinit var argument: String
+
+    private lateinit var instance: ValidatorImpl<String, FailedAssertionException>
+
+    @Before
+    fun setUp()
+    {
+        instance = ValidatorImpl(AssertionRunner.DEFAULT, arrayOf(nonEmptyString(), stringWithLengthGreaterThanOrEqualTo(1)), null)
+    }
+
+    @Test
+    fun testCheck()
+    {
+        instance.check(argument)
+
+        assertThrows { instance.check("") }.failedAssertion()
+        assertThrows { instance.check(null) }.failedAssertion()
+    }
+
+    @Test
+    fun testCheckWhenAssertionThrowsUnexpectedException()
+    {
+        val instance = ValidatorImpl<String, FailedAssertionException>(AssertionRunner.DEFAULT, arrayOf(AlchemyAssertion { throw RuntimeException() }), null)
+
+        assertThrows { instance.check(argument) }
+                .failedAssertion()
+                .hasCauseInstanceOf(RuntimeException::class.java)
+    }
+
+    @Test
+    fun testCheckWithExceptionMapper()
+    {
+        val runner = AssertionRunner.DEFAULT.throwing(SQLException::class.java)
+        val instance = ValidatorImpl(runner, arrayOf(nonEmptyString()), null)
+
+        instance.check(argument)
+
+        assertThrows { instance.check("") }
+                .isInstanceOf(SQLException::class.java)
+    }
+
+    @DontRepeat
+    @Test
+    fun testCheckDoesNotAllocateWhenAssertionsPass()
+    {
+        val iterations = 10_000
+
+        //Warm up
+        allocatedBytes(iterations) { instance.check(argument) }
+
+        val bytes = allocatedBytes(iterations) { instance.check(argument) }
+        assertThat(bytes, lessThan(iterations.toLong()))
+    }
+
+    @DontRepeat
+    @Test
+    fun testNamedValidatorDoesNotAllocateWithoutListeners()
+    {
+        val instance = ValidatorImpl(AssertionRunner.DEFAULT, arrayOf(nonEmptyString()), argument)
+        val iterations = 10_000
+
+        assertThat(AssertionListeners.ENABLED, equalTo(false))
+
+        //Warm up
+        allocatedBytes(iterations) { instance.check(argument) }
+
+        val bytes = allocatedBytes(iterations) { instance.check(argument) }
+        assertThat(bytes, lessThan(iterations.toLong()))
+        assertThat(AssertionMetrics.getValidatorCounter(argument), nullValue())
+    }
+
+    @Test
+    fun testCheckWhenRememberingValidInstances()
+    {
+        var calls = 0
+        val counting = AlchemyAssertion<String> { calls += 1; nonEmptyString().check(it) }
+        val instance = ValidatorImpl(AssertionRunner.DEFAULT, arrayOf(counting), null, ValidatedInstances(), null)
+
+        instance.check(argument)
+        instance.check(argument)
+        assertThat(calls, equalTo(1))
+
+        assertThrows { instance.check("") }.failedAssertion()
+        assertThrows { instance.check("") }.failedAssertion()
+        assertThat(calls, equalTo(3))
+    }
+
+    @Test
+    fun testSwallowedFailuresAreNotRemembered()
+    {
+        var calls = 0
+        val counting = AlchemyAssertion<String> { calls += 1; nonEmptyString().check(it) }
+        val runner = AssertionRunner.DEFAULT.throwing(ExceptionMapper<FailedAssertionException> { null })
+        val instance = ValidatorImpl(runner, arrayOf(counting, nonEmptyString()), null, ValidatedInstances(), null)
+
+        instance.check("")
+        instance.check("")
+        assertThat(calls, equalTo(2))
+
+        instance.check(argument)
+        instance.check(argument)
+        assertThat(calls, equalTo(3))
+    }
+
+    @Test
+    fun testSwallowedFailuresAreRecorded()
+    {
+        val runner = AssertionRunner.DEFAULT.throwing(ExceptionMapper<FailedAssertionException> { null })
+        val instance = ValidatorImpl(runner, arrayOf(nonEmptyString()), argument)
+
+        instance.check("")
+
+        val failure = RecentFailures.of(argument)!!.failures.single()
+        assertThat(failure.assertion, equalTo("StringAssertions.nonEmptyString"))
+        assertThat(failure.exceptionType, nullValue())
+    }
+
+    @Test
+    fun testCheckWhenSampled()
+    {
+        var calls = 0
+        val failing = AlchemyAssertion<String> { calls += 1; throw FailedAssertionException() }
+        val instance = ValidatorImpl(AssertionRunner.DEFAULT, arrayOf(failing), null, null, Sampling.of(1, Int.MAX_VALUE))
+
+        repeat(100) { instance.check(argument) }
+
+        assertThat(calls, equalTo(0))
+    }
+
+    @Test
+    fun testCountsCheckedAndSkippedArguments()
+    {
+        val sampled = ValidatorImpl(AssertionRunner.DEFAULT, arrayOf(nonEmptyString()), null, null, Sampling.of(1, Int.MAX_VALUE))
+        repeat(100) { sampled.check(argument) }
+
+        assertThat(sampled.skippedCount, equalTo(100L))
+        assertThat(sampled.checkedCount, equalTo(0L))
+
+        instance.check(argument)
+        assertThrows { instance.check("") }.failedAssertion()
+
+        assertThat(instance.checkedCount, equalTo(2L))
+        assertThat(instance.skippedCount, equalTo(0L))
+    }
+
+    @Test
+    fun testToString()
+    {
+        assertThat(instance.toString(), notNullValue())
+    }
+
+}
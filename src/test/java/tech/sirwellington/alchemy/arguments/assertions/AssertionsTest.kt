@@ -15,19 +15,24 @@
 
 package tech.sirwellington.alchemy.arguments.assertions
 
-import com.nhaarman.mockito_kotlin.doNothing
-import com.nhaarman.mockito_kotlin.doThrow
 import com.nhaarman.mockito_kotlin.mock
 import com.nhaarman.mockito_kotlin.whenever
+import org.hamcrest.Matchers.containsString
+import org.hamcrest.Matchers.lessThan
 import org.hamcrest.Matchers.notNullValue
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
 import org.junit.Assert.assertThat
+import org.junit.Assert.assertTrue
 import org.junit.Before
 import org.junit.Test
 import org.junit.runner.RunWith
 import org.mockito.ArgumentMatchers
 import org.mockito.Mockito.verifyZeroInteractions
 import tech.sirwellington.alchemy.arguments.AlchemyAssertion
+import tech.sirwellington.alchemy.arguments.AssertionMetrics
 import tech.sirwellington.alchemy.arguments.FailedAssertionException
+import tech.sirwellington.alchemy.arguments.allocatedBytes
 import tech.sirwellington.alchemy.arguments.failedAssertion
 import tech.sirwellington.alchemy.generator.StringGenerators.Companion.strings
 import tech.sirwellington.alchemy.generator.one
@@ -149,19 +154,140 @@ class AssertionsTest
     {
         val assertion = mock<AlchemyAssertion<Any>>()
 
-        doThrow(FailedAssertionException())
-                .whenever(assertion)
-                .check(ArgumentMatchers.any())
+        whenever(assertion.test(ArgumentMatchers.any()))
+                .thenReturn(false)
 
         val instance = not(assertion)
 
         instance.check("")
+        assertTrue(instance.test(""))
 
-        doNothing()
-                .whenever(assertion)
-                .check(ArgumentMatchers.any())
+        whenever(assertion.test(ArgumentMatchers.any()))
+                .thenReturn(true)
 
         assertThrows { instance.check("") }.failedAssertion()
+        assertFalse(instance.test(""))
+    }
+
+    @Test
+    fun testNotWithLambda()
+    {
+        val failing = AlchemyAssertion<Any> { throw FailedAssertionException() }
+        val passing = AlchemyAssertion<Any> { }
+
+        not(failing).check(string)
+        assertThrows { not(passing).check(string) }.failedAssertion()
+
+        assertTrue(not(failing).evaluate(string).isValid)
+        assertFalse(not(passing).evaluate(string).isValid)
+    }
+
+    @DontRepeat
+    @Test
+    fun testNotDoesNotThrowInternally()
+    {
+        val instance = not(stringWithLengthLessThan(1))
+        val iterations = 10_000
+
+        val bytesWhenNegating = allocatedBytes(iterations) {
+            instance.check(string)
+        }
+
+        val bytesWhenThrowing = allocatedBytes(iterations) {
+            try
+            {
+                stringWithLengthLessThan(1).check(string)
+            }
+            catch (ex: FailedAssertionException)
+            {
+            }
+        }
+
+        assertThat(bytesWhenNegating * 4, lessThan(bytesWhenThrowing))
+    }
+
+    @Test
+    fun testTest()
+    {
+        assertTrue(notNull<Any>().test(string))
+        assertFalse(notNull<Any>().test(null))
+
+        assertTrue(equalTo(string).test(string))
+        assertFalse(equalTo(string).test(string + one(strings())))
+    }
+
+    @Test
+    fun testAnyOf()
+    {
+        val instance = anyOf(nullObject<String>(), equalTo(string))
+
+        instance.check(null)
+        instance.check(string)
+        assertTrue(instance.test(string))
+
+        val other = string + one(strings())
+        assertThrows { instance.check(other) }.failedAssertion()
+        assertFalse(instance.test(other))
+        assertTrue(instance.evaluate(other).isInvalid)
+    }
+
+    @Test
+    fun testTimed()
+    {
+        val name = string
+        val instance = timed(nonEmptyString(), name)
+
+        instance.check(string)
+        assertThrows { instance.check("") }.failedAssertion()
+
+        val counter = AssertionMetrics.getTimedCounter(name)!!
+        assertEquals(2L, counter.checks)
+        assertEquals(1L, counter.failures)
+    }
+
+    @Test
+    fun testCached()
+    {
+        val instance = cached(nonEmptyString(), 10)
+
+        instance.check(string)
+        instance.check(string)
+        assertThrows { instance.check("") }.failedAssertion()
+
+        assertEquals(1L, instance.hits)
+        assertEquals(2L, instance.misses)
+        assertEquals(10 * 1024L, instance.maxBytes)
+
+        assertThrows { cached(nonEmptyString(), 0) }.illegalArgument()
+    }
+
+    @Test
+    fun testAnyOfWithLambdas()
+    {
+        val failing = AlchemyAssertion<String> { throw FailedAssertionException() }
+        val passing = AlchemyAssertion<String> { }
+
+        anyOf(failing, failing, passing).check(string)
+        anyOf(passing).check(string)
+        assertThrows { anyOf(failing, failing).check(string) }.failedAssertion()
+    }
+
+    @Test
+    fun testAnyOfListsEveryFailure()
+    {
+        val instance = anyOf(stringWithLengthLessThan(1), equalTo(""))
+
+        val result = instance.evaluate(string)
+        assertThat(result.message, containsString("to pass at least one of 2 assertions"))
+        assertThat(result.message, containsString(stringWithLengthLessThan(1).evaluate(string).message))
+        assertThat(result.message, containsString(equalTo("").evaluate(string).message))
+    }
+
+    @DontRepeat
+    @Test
+    fun testAnyOfEdgeCases()
+    {
+        assertThrows { anyOf<Any>(null!!) }
     }
 
     @Test
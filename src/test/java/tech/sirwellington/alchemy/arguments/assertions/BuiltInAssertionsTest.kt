@@ -0,0 +1,157 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments.assertions
+
+import org.hamcrest.Matchers.instanceOf
+import org.hamcrest.Matchers.not
+import org.hamcrest.Matchers.notNullValue
+import org.hamcrest.Matchers.sameInstance
+import org.junit.Assert.assertThat
+import org.junit.Assert.assertTrue
+import org.junit.Test
+import org.junit.runner.RunWith
+import tech.sirwellington.alchemy.arguments.AlchemyAssertion
+import tech.sirwellington.alchemy.arguments.DoubleAssertion
+import tech.sirwellington.alchemy.arguments.IntAssertion
+import tech.sirwellington.alchemy.arguments.LongAssertion
+import tech.sirwellington.alchemy.arguments.allocatedBytes
+import tech.sirwellington.alchemy.test.junit.runners.AlchemyTestRunner
+import tech.sirwellington.alchemy.test.junit.runners.DontRepeat
+import tech.sirwellington.alchemy.test.junit.runners.Repeat
+import java.lang.reflect.Method
+import java.lang.reflect.Modifier
+
+/**
+ *
+ * @author SirWellington
+ */
+@Repeat(10)
+@RunWith(AlchemyTestRunner::class)
+class BuiltInAssertionsTest
+{
+
+    @Test
+    fun testCanonical()
+    {
+        val instance = Canonical()
+        val first = instance.get { Any() }
+        val second = instance.get { Any() }
+
+        assertThat(second, sameInstance(first))
+    }
+
+    @Test
+    fun testCanonicalByValue()
+    {
+        val instance = CanonicalByValue()
+
+        assertThat(instance.get(0) { Any() }, sameInstance(instance.get(0) { Any() }))
+        assertThat(instance.get(0L) { Any() }, sameInstance(instance.get(0) { Any() }))
+        assertThat(instance.get(CanonicalByValue.MIN_VALUE) { Any() }, sameInstance(instance.get(CanonicalByValue.MIN_VALUE) { Any() }))
+        assertThat(instance.get(CanonicalByValue.MAX_VALUE) { Any() }, sameInstance(instance.get(CanonicalByValue.MAX_VALUE) { Any() }))
+
+        assertThat(instance.get(0) { Any() }, not(sameInstance(instance.get(1) { Any() })))
+    }
+
+    @Test
+    fun testCanonicalByValueWithUncommonValues()
+    {
+        val instance = CanonicalByValue()
+
+        val tooLow = CanonicalByValue.MIN_VALUE - 1
+        val tooHigh = CanonicalByValue.MAX_VALUE + 1
+
+        assertThat(instance.get(tooLow) { Any() }, not(sameInstance(instance.get(tooLow) { Any() })))
+        assertThat(instance.get(tooHigh) { Any() }, not(sameInstance(instance.get(tooHigh) { Any() })))
+        assertThat(instance.get(Long.MAX_VALUE) { Any() }, not(sameInstance(instance.get(Long.MAX_VALUE) { Any() })))
+    }
+
+    @Test
+    fun testFactoriesWithoutParametersAreCanonical()
+    {
+        assertThat(nonEmptyString(), sameInstance(nonEmptyString()))
+        assertThat(notNull<String>(), sameInstance(notNull<Any>()))
+        assertThat(validUUID(), sameInstance(validUUID()))
+        assertThat(positiveInteger(), sameInstance(positiveInteger()))
+        assertThat(validPort(), sameInstance(validPort()))
+        assertThat(trueStatement(), sameInstance(trueStatement()))
+        assertThat(nonEmptyList<String>(), sameInstance(nonEmptyList<String>()))
+    }
+
+    @Test
+    fun testFactoriesWithCommonValuesAreCanonical()
+    {
+        assertThat(greaterThan(0), sameInstance(greaterThan(0)))
+        assertThat(greaterThan(0L), sameInstance(greaterThan(0L)))
+        assertThat(lessThanOrEqualTo(16), sameInstance(lessThanOrEqualTo(16)))
+        assertThat(stringWithLength(8), sameInstance(stringWithLength(8)))
+        assertThat(negativeInteger(), sameInstance(negativeInteger()))
+
+        assertThat(greaterThan(0), not(sameInstance(greaterThan(1))))
+        assertThat(greaterThan(1_000), not(sameInstance(greaterThan(1_000))))
+    }
+
+    @DontRepeat
+    @Test
+    fun testFactoriesDoNotAllocate()
+    {
+        val iterations = 10_000
+
+        //Warm up
+        allocatedBytes(iterations) { nonEmptyString(); greaterThan(0); stringWithLength(8) }
+
+        val bytes = allocatedBytes(iterations) { nonEmptyString(); greaterThan(0); stringWithLength(8) }
+        assertTrue(bytes < iterations)
+    }
+
+    @DontRepeat
+    @Test
+    fun testPrimitiveAssertionsKeepTheirOldSignatures()
+    {
+        val primitives = listOf(IntAssertion::class.java, LongAssertion::class.java, DoubleAssertion::class.java)
+        val catalogs = listOf("NumberAssertions", "GeolocationAssertions", "NetworkAssertions")
+                .map { Class.forName("tech.sirwellington.alchemy.arguments.assertions.$it") }
+
+        for (catalog in catalogs)
+        {
+            val methods = catalog.methods.filter { Modifier.isStatic(it.modifiers) }
+
+            for (method in methods.filter { it.returnType in primitives })
+            {
+                val old = methods.find {
+                    it.name == method.name &&
+                    it.returnType == AlchemyAssertion::class.java &&
+                    it.parameterTypes.contentEquals(method.parameterTypes)
+                }
+
+                assertThat("${catalog.simpleName}.${method.name}", old, notNullValue())
+                assertThat(old!!.invoke(null, *defaultsFor(old)), instanceOf(method.returnType))
+            }
+        }
+    }
+
+    private fun defaultsFor(method: Method): Array<Any>
+    {
+        return method.parameterTypes.mapIndexed { i, type ->
+            when (type)
+            {
+                Int::class.javaPrimitiveType -> i
+                Long::class.javaPrimitiveType -> i.toLong()
+                else -> i.toDouble()
+            }
+        }.toTypedArray()
+    }
+
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.arguments.assertions
+
+import org.junit.Assert.assertTrue
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import tech.sirwellington.alchemy.arguments.AlchemyAssertion
+import tech.sirwellington.alchemy.arguments.allocatedBytes
+import tech.sirwellington.alchemy.test.junit.runners.AlchemyTestRunner
+import java.time.Instant
+import java.util.Date
+
+/**
+ * Checks that every assertion in the catalog allocates nothing when an argument passes it.
+ *
+ * `validURL()` is left out, since it has to create a [java.net.URL] to check the argument,
+ * and so is `stringThatMatches()`, which creates a [java.util.regex.Matcher] for its caller's pattern.
+ * Assertions that combine others, like `not()` and `anyOf()`, are only allocation-free when
+ * the assertions they run do not fail.
+ *
+ * @author SirWellington
+ */
+@RunWith(AlchemyTestRunner::class)
+class CatalogAllocationTest
+{
+
+    private val iterations = 10_000
+
+    private lateinit var failures: MutableList<String>
+
+    @Before
+    fun setUp()
+    {
+        failures = mutableListOf()
+    }
+
+    @Test
+    fun testObjectAssertions()
+    {
+        val argument = "abc"
+
+        passes("notNull", notNull(), argument)
+        passes("nonNullReference", nonNullReference(), argument)
+        passes("nullObject", nullObject(), null)
+        passes("sameInstanceAs", sameInstanceAs(argument), argument)
+        passes("instanceOf", instanceOf(String::class.java), argument)
+        passes("equalTo", equalTo(argument), argument)
+        passes("not", not(nonEmptyString()), "")
+        passes("combine", combine(nonEmptyString(), alphabeticString()), argument)
+        passes("and", nonEmptyString().and(alphabeticString()), argument)
+        passes("anyOf", anyOf(nonEmptyString(), emptyString()), argument)
+        passes("or", nonEmptyString().or(emptyString()), argument)
+        passes("timed", timed(nonEmptyString(), "CatalogAllocationTest.timed"), argument)
+        passes("cached", cached(nonEmptyString(), 10), argument)
+
+        assertNoFailures()
+    }
+
+    @Test
+    fun testStringAssertions()
+    {
+        val argument = "abc"
+
+        passes("nonEmptyString", nonEmptyString(), argument)
+        passes("emptyString", emptyString(), "")
+        passes("stringWithLength", stringWithLength(3), argument)
+        passes("stringWithLengthGreaterThan", stringWithLengthGreaterThan(1), argument)
+        passes("stringWithLengthGreaterThanOrEqualTo", stringWithLengthGreaterThanOrEqualTo(3), argument)
+        passes("stringWithLengthLessThan", stringWithLengthLessThan(5), argument)
+        passes("stringWithLengthLessThanOrEqualTo", stringWithLengthLessThanOrEqualTo(3), argument)
+        passes("stringWithLengthBetween", stringWithLengthBetween(1, 5), argument)
+        passes("stringWithNoWhitespace", stringWithNoWhitespace(), argument)
+        passes("stringBeginningWith", stringBeginningWith("ab"), argument)
+        passes("stringEndingWith", stringEndingWith("bc"), argument)
+        passes("stringContaining", stringContaining("b"), argument)
+        passes("allUpperCaseString", allUpperCaseString(), "ABC")
+        passes("allLowerCaseString", allLowerCaseString(), argument)
+        passes("alphabeticString", alphabeticString(), argument)
+        passes("alphanumericString", alphanumericString(), "abc123")
+        passes("integerString", integerString(), "-2147483648")
+        passes("decimalString", decimalString(), "-12.5e3")
+        passes("stringRepresentingInteger", stringRepresentingInteger(), "-054")
+        passes("validUUID", validUUID(), "f81d4fae-7dec-11d0-a765-00a0c91e6bf6")
+        passes("validEmailAddress", validEmailAddress(), "someone@example.com")
+        passes("validZipCode", validZipCode(), "90012")
+        passes("validZipCodeString", validZipCodeString(), "90012")
+
+        assertNoFailures()
+    }
+
+    @Test
+    fun testNumberAssertions()
+    {
+        val greaterThanInt = greaterThan(0)
+        val greaterThanOrEqualToInt = greaterThanOrEqualTo(5)
+        val lessThanInt = lessThan(10)
+        val lessThanOrEqualToInt = lessThanOrEqualTo(5)
+        val positiveInteger = positiveInteger()
+        val negativeInteger = negativeInteger()
+        val numberBetweenInt = numberBetween(0, 10)
+        val validPort = validPort()
+
+        measure("greaterThan(Int)") { greaterThanInt.checkInt(5) }
+        measure("greaterThanOrEqualTo(Int)") { greaterThanOrEqualToInt.checkInt(5) }
+        measure("lessThan(Int)") { lessThanInt.checkInt(5) }
+        measure("lessThanOrEqualTo(Int)") { lessThanOrEqualToInt.checkInt(5) }
+        measure("positiveInteger") { positiveInteger.checkInt(5) }
+        measure("negativeInteger") { negativeInteger.checkInt(-5) }
+        measure("numberBetween(Int)") { numberBetweenInt.checkInt(5) }
+        measure("validPort") { validPort.checkInt(8080) }
+
+        val greaterThanLong = greaterThan(0L)
+        val greaterThanOrEqualToLong = greaterThanOrEqualTo(5L)
+        val lessThanLong = lessThan(10L)
+        val lessThanOrEqualToLong = lessThanOrEqualTo(5L)
+        val positiveLong = positiveLong()
+        val negativeLong = negativeLong()
+        val numberBetweenLong = numberBetween(0L, 10L)
+
+        measure("greaterThan(Long)") { greaterThanLong.checkLong(5L) }
+        measure("greaterThanOrEqualTo(Long)") { greaterThanOrEqualToLong.checkLong(5L) }
+        measure("lessThan(Long)") { lessThanLong.checkLong(5L) }
+        measure("lessThanOrEqualTo(Long)") { lessThanOrEqualToLong.checkLong(5L) }
+        measure("positiveLong") { positiveLong.checkLong(5L) }
+        measure("negativeLong") { negativeLong.checkLong(-5L) }
+        measure("numberBetween(Long)") { numberBetweenLong.checkLong(5L) }
+
+        val greaterThanDouble = greaterThan(0.0)
+        val greaterThanOrEqualToDouble = greaterThanOrEqualTo(5.0)
+        val lessThanDouble = lessThan(10.0)
+        val lessThanOrEqualToDouble = lessThanOrEqualTo(5.0)
+        val validLatitude = validLatitude()
+        val validLongitude = validLongitude()
+
+        measure("greaterThan(Double)") { greaterThanDouble.checkDouble(5.0) }
+        measure("greaterThanOrEqualTo(Double)") { greaterThanOrEqualToDouble.checkDouble(5.0) }
+        measure("lessThan(Double)") { lessThanDouble.checkDouble(5.0) }
+        measure("lessThanOrEqualTo(Double)") { lessThanOrEqualToDouble.checkDouble(5.0) }
+        measure("validLatitude") { validLatitude.checkDouble(45.0) }
+        measure("validLongitude") { validLongitude.checkDouble(-120.0) }
+
+        assertNoFailures()
+    }
+
+    @Test
+    fun testBooleanAssertions()
+    {
+        passes("trueStatement", trueStatement(), true)
+        passes("falseStatement", falseStatement(), false)
+
+        assertNoFailures()
+    }
+
+    @Test
+    fun testCollectionAssertions()
+    {
+        val list = listOf("a", "b", "c")
+        val set = setOf("a", "b", "c")
+        val map = mapOf("a" to 1, "b" to 2)
+
+        passes("nonEmptyCollection", nonEmptyCollection(), list)
+        passes("nonEmptyList", nonEmptyList(), list)
+        passes("nonEmptySet", nonEmptySet(), set)
+        passes("nonEmptyMap", nonEmptyMap(), map)
+        passes("nonEmptyArray", nonEmptyArray(), arrayOf("a"))
+        passes("emptyCollection", emptyCollection(), listOf<String>())
+        passes("emptyList", emptyList(), listOf<String>())
+        passes("emptySet", emptySet(), setOf<String>())
+        passes("emptyMap", emptyMap(), mapOf<String, Int>())
+        passes("listContaining", listContaining("b"), list)
+        passes("collectionContaining", collectionContaining("b"), set)
+        passes("collectionContainingAll", collectionContainingAll("a", "b", "c"), set)
+        passes("collectionContainingAtLeastOneOf", collectionContainingAtLeastOneOf("x", "y", "c"), set)
+        passes("mapWithKey", mapWithKey("a"), map)
+        passes("mapWithKeyValue", mapWithKeyValue("b", 2), map)
+        passes("keyInMap", keyInMap(map), "a")
+        passes("valueInMap", valueInMap(map), 2)
+        passes("elementInCollection", elementInCollection(list), "c")
+        passes("collectionOfSize", collectionOfSize(3), list)
+
+        assertNoFailures()
+    }
+
+    @Test
+    fun testTimeAssertions()
+    {
+        val now = Instant.now()
+        val past = now.minusSeconds(60)
+        val future = now.plusSeconds(3600)
+        val epoch: Long? = now.toEpochMilli()
+
+        passes("inThePast", inThePast(), past)
+        passes("inTheFuture", inTheFuture(), future)
+        passes("before", before(future), now)
+        passes("after", after(past), now)
+        passes("nowWithinDelta", nowWithinDelta(60_000), now)
+        passes("equalToInstantWithinDelta", equalToInstantWithinDelta(now, 10), now)
+        passes("epochNowWithinDelta", epochNowWithinDelta(60_000), epoch)
+
+        //These only accept the current time, so the argument is replaced once a millisecond has passed
+        val rightNow = rightNow()
+        var current = Instant.now()
+        measure("rightNow") {
+            if (System.currentTimeMillis() - current.toEpochMilli() >= 1) current = Instant.now()
+            rightNow.check(current)
+        }
+
+        val epochRightNow = epochRightNow()
+        var currentEpoch: Long? = System.currentTimeMillis()
+        measure("epochRightNow") {
+            if (System.currentTimeMillis() - currentEpoch!! >= 1) currentEpoch = System.currentTimeMillis()
+            epochRightNow.check(currentEpoch)
+        }
+
+        passes("DateAssertions.inThePast", DateAssertions.inThePast(), Date(0))
+        passes("DateAssertions.inTheFuture", DateAssertions.inTheFuture(), Date(future.toEpochMilli()))
+        passes("DateAssertions.before", DateAssertions.before(Date(future.toEpochMilli())), Date(0))
+        passes("DateAssertions.after", DateAssertions.after(Date(0)), Date(future.toEpochMilli()))
+
+        assertNoFailures()
+    }
+
+    private fun <A> passes(name: String, assertion: AlchemyAssertion<A>, argument: A?)
+    {
+        measure(name) { assertion.check(argument) }
+    }
+
+    private fun measure(name: String, block: () -> Unit)
+    {
+        //Warm up
+        allocatedBytes(iterations, block)
+
+        val bytes = allocatedBytes(iterations, block)
+
+        if (bytes >= iterations)
+        {
+            failures.add("$name: $bytes bytes")
+        }
+    }
+
+    private fun assertNoFailures()
+    {
+        assertTrue("Allocated while passing: $failures", failures.isEmpty())
+    }
+
+}
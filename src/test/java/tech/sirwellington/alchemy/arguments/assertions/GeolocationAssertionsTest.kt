@@ -21,6 +21,7 @@ import org.junit.runner.RunWith
 import tech.sirwellington.alchemy.arguments.failedAssertion
 import tech.sirwellington.alchemy.test.junit.ThrowableAssertion.assertThrows
 import tech.sirwellington.alchemy.test.junit.runners.AlchemyTestRunner
+import tech.sirwellington.alchemy.test.junit.runners.DontRepeat
 import tech.sirwellington.alchemy.test.junit.runners.GenerateDouble
 import tech.sirwellington.alchemy.test.junit.runners.GenerateDouble.Type.RANGE
 import tech.sirwellington.alchemy.test.junit.runners.Repeat
@@ -81,4 +82,29 @@ class GeolocationAssertionsTest
         assertThrows { assertion.check(badLongitude) }.failedAssertion()
     }
 
+    @Test
+    fun testValidLatitudeMessage()
+    {
+        val assertion = validLatitude()
+        assertThrows { assertion.check(badLatitude) }
+                .failedAssertion()
+                .hasMessage("Latitude must be between -90 and 90, but was $badLatitude")
+    }
+
+    @DontRepeat
+    @Test
+    fun testValidLatitudeWithNull()
+    {
+        val assertion = validLatitude()
+        assertThrows { assertion.check(null) }.failedAssertion()
+    }
+
+    @DontRepeat
+    @Test
+    fun testValidLongitudeWithNull()
+    {
+        val assertion = validLongitude()
+        assertThrows { assertion.check(null) }.failedAssertion()
+    }
+
 }
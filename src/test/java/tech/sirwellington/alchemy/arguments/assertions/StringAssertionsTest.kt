@@ -40,6 +40,7 @@ import tech.sirwellington.alchemy.generator.StringGenerators.Companion.stringsFr
 import tech.sirwellington.alchemy.generator.one
 import tech.sirwellington.alchemy.test.junit.ThrowableAssertion.assertThrows
 import tech.sirwellington.alchemy.test.junit.runners.AlchemyTestRunner
+import tech.sirwellington.alchemy.test.junit.runners.DontRepeat
 import tech.sirwellington.alchemy.test.junit.runners.Repeat
 import java.lang.String.format
 import java.util.regex.Pattern
@@ -535,6 +536,18 @@ class StringAssertionsTest
         assertThrows { assertion.check(decimalString) }.failedAssertion()
     }
 
+    @DontRepeat
+    @Test
+    fun testIntegerStringAtTheLimits()
+    {
+        val assertion = integerString()
+
+        listOf("2147483647", "-2147483648", "+1", "-0", "0000000000001").forEach { assertion.check(it) }
+        listOf("2147483648", "-2147483649", "+", "-", "1 ", "1.0").forEach { string ->
+            assertThrows { assertion.check(string) }.failedAssertion()
+        }
+    }
+
     @Test
     fun testDecimalString()
     {
@@ -555,4 +568,18 @@ class StringAssertionsTest
         assertThrows { assertion.check(value) }.failedAssertion()
     }
 
+    @DontRepeat
+    @Test
+    fun testDecimalStringInEveryForm()
+    {
+        val assertion = decimalString()
+
+        listOf("1", "-1.", ".5", "+1.5e-10", "1E5d", "2.5f", " 3 ", "NaN", "-Infinity", "0x1p3", "0X.8P-1", "0x1.fp1D")
+                .forEach { assertion.check(it) }
+
+        listOf(".", "1e", "1e+", "e5", "0x1", "0xp1", "NaNd", "nan", "1.5.5", "1 5", "f").forEach { string ->
+            assertThrows { assertion.check(string) }.failedAssertion()
+        }
+    }
+
 }